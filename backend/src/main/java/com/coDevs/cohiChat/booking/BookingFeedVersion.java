@@ -0,0 +1,12 @@
+package com.coDevs.cohiChat.booking;
+
+import java.time.Instant;
+
+/**
+ * ICS 피드 버전 판별용 집계: 피드 구간 예약 수와 예약/타임슬롯의 마지막 수정 시각
+ */
+public interface BookingFeedVersion {
+	long getBookingCount();
+	Instant getLastBookingUpdatedAt();
+	Instant getLastTimeSlotUpdatedAt();
+}
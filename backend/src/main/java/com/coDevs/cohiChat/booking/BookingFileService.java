@@ -4,11 +4,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,12 +19,16 @@ import com.coDevs.cohiChat.booking.entity.Booking;
 import com.coDevs.cohiChat.booking.entity.BookingFile;
 import com.coDevs.cohiChat.booking.request.ConfirmUploadRequestDTO;
 import com.coDevs.cohiChat.booking.response.BookingFileResponseDTO;
+import com.coDevs.cohiChat.booking.response.FileAccessCookieResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedDownloadUrlResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedUploadUrlResponseDTO;
+import com.coDevs.cohiChat.global.common.file.CloudFrontSignedCookieService;
 import com.coDevs.cohiChat.global.common.file.CloudFrontUrlService;
 import com.coDevs.cohiChat.global.common.file.FileStorageResult;
 import com.coDevs.cohiChat.global.common.file.FileStorageService;
 import com.coDevs.cohiChat.global.common.file.S3PresignedUrlService;
+import com.coDevs.cohiChat.global.common.file.SignedUrlCache;
+import com.coDevs.cohiChat.global.common.file.SignedUrlCache.SignedUrl;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 
@@ -34,6 +40,7 @@ public class BookingFileService {
 
     private static final Duration PRESIGNED_URL_EXPIRATION = Duration.ofMinutes(15);
     private static final int PRESIGNED_URL_EXPIRATION_SECONDS = (int) PRESIGNED_URL_EXPIRATION.toSeconds();
+    private static final String BOOKING_FILE_PREFIX = "bookings/";
 
     private final BookingRepository bookingRepository;
     private final BookingFileRepository bookingFileRepository;
@@ -41,6 +48,8 @@ public class BookingFileService {
     private final FileUploadValidator fileUploadValidator;
     private final S3PresignedUrlService s3PresignedUrlService;
     private final CloudFrontUrlService cloudFrontUrlService;
+    private final SignedUrlCache signedUrlCache;
+    private final CloudFrontSignedCookieService cloudFrontSignedCookieService;
     private final Map<String, PendingUploadRequest> pendingUploads = new ConcurrentHashMap<>();
 
     @Transactional
@@ -91,6 +100,7 @@ public class BookingFileService {
         BookingFile bookingFile = getBookingFileWithAccessCheck(bookingId, fileId, requesterId);
 
         fileStorageService.delete(bookingFile.getFilePath());
+        signedUrlCache.evict(bookingFile.getFilePath());
         bookingFileRepository.delete(bookingFile);
     }
 
@@ -138,7 +148,7 @@ public class BookingFileService {
         String normalizedContentType = fileUploadValidator.normalizeContentType(contentType);
         cleanupExpiredPendingUploads();
 
-        String objectKey = generateObjectKey(fileName);
+        String objectKey = generateObjectKey(bookingId, fileName);
         String presignedUrl = s3PresignedUrlService.generateUploadUrl(
             objectKey, PRESIGNED_URL_EXPIRATION, normalizedContentType
         );
@@ -160,10 +170,44 @@ public class BookingFileService {
             Long bookingId, Long fileId, UUID requesterId) {
         BookingFile bookingFile = getBookingFileWithAccessCheck(bookingId, fileId, requesterId);
 
-        String presignedUrl = s3PresignedUrlService.generateDownloadUrl(bookingFile.getFilePath());
-        String downloadUrl = cloudFrontUrlService.toCloudFrontUrl(presignedUrl);
+        // 같은 파일에 대한 반복 요청은 만료 직전까지 기존 서명 URL 재사용
+        SignedUrl signedUrl = signedUrlCache.getOrSign(bookingFile.getFilePath(), this::signDownloadUrl);
 
-        return PresignedDownloadUrlResponseDTO.of(downloadUrl, PRESIGNED_URL_EXPIRATION_SECONDS);
+        return PresignedDownloadUrlResponseDTO.of(signedUrl.url(), signedUrlCache.expiresInSeconds(signedUrl));
+    }
+
+    /**
+     * CloudFront Signed Cookie 발급 (예약 파일 prefix 전체에 대해 서명 1회)
+     * 쿠키로 접근 가능한 파일의 CloudFront URL 목록을 함께 반환한다.
+     * prefix 밖에 저장된 기존 파일은 목록에서 제외되며 presigned-download-url로 다운로드해야 한다.
+     */
+    @Transactional(readOnly = true)
+    public FileAccessCookieResult issueFileAccessCookies(Long bookingId, UUID requesterId) {
+        if (!cloudFrontSignedCookieService.isEnabled()) {
+            throw new CustomException(ErrorCode.FILE_ACCESS_COOKIE_DISABLED);
+        }
+
+        Booking booking = bookingRepository.findByIdWithTimeSlot(bookingId)
+            .orElseThrow(() -> new CustomException(ErrorCode.BOOKING_NOT_FOUND));
+        validateBookingAccess(booking, requesterId);
+
+        String keyPrefix = bookingKeyPrefix(bookingId);
+        Map<Long, String> fileUrls = new LinkedHashMap<>();
+        for (BookingFile file : bookingFileRepository.findByBookingIdOrderByCreatedAtDesc(bookingId)) {
+            if (file.getFilePath().startsWith(keyPrefix)) {
+                fileUrls.put(file.getId(), cloudFrontSignedCookieService.fileUrl(file.getFilePath()));
+            }
+        }
+
+        List<ResponseCookie> cookies = cloudFrontSignedCookieService.createCookies(keyPrefix);
+        int expiresIn = (int) cloudFrontSignedCookieService.getValidity().toSeconds();
+        return new FileAccessCookieResult(cookies, FileAccessCookieResponseDTO.of(fileUrls, expiresIn));
+    }
+
+    private SignedUrl signDownloadUrl(String objectKey) {
+        Instant expiresAt = Instant.now().plus(PRESIGNED_URL_EXPIRATION);
+        String presignedUrl = s3PresignedUrlService.generateDownloadUrl(objectKey, PRESIGNED_URL_EXPIRATION);
+        return new SignedUrl(cloudFrontUrlService.toCloudFrontUrl(presignedUrl), expiresAt);
     }
 
     @Transactional
@@ -230,11 +274,15 @@ public class BookingFileService {
         }
     }
 
-    private String generateObjectKey(String fileName) {
+    private String generateObjectKey(Long bookingId, String fileName) {
         String datePath = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM"));
         String extension = getExtension(fileName);
         String storedFileName = UUID.randomUUID().toString() + extension;
-        return datePath + "/" + storedFileName;
+        return bookingKeyPrefix(bookingId) + datePath + "/" + storedFileName;
+    }
+
+    private String bookingKeyPrefix(Long bookingId) {
+        return BOOKING_FILE_PREFIX + bookingId + "/";
     }
 
     private String getExtension(String fileName) {
@@ -262,6 +310,11 @@ public class BookingFileService {
         s3PresignedUrlService.deleteObjectQuietly(objectKey);
     }
 
+    public record FileAccessCookieResult(
+        List<ResponseCookie> cookies,
+        FileAccessCookieResponseDTO response
+    ) {}
+
     private record PendingUploadRequest(
         Long bookingId,
         UUID requesterId,
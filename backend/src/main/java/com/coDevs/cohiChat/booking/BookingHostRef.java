@@ -0,0 +1,8 @@
+package com.coDevs.cohiChat.booking;
+
+import java.util.UUID;
+
+public interface BookingHostRef {
+	Long getBookingId();
+	UUID getHostId();
+}
@@ -0,0 +1,24 @@
+package com.coDevs.cohiChat.booking;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.coDevs.cohiChat.booking.entity.BookingReminder;
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+
+public interface BookingReminderRepository extends JpaRepository<BookingReminder, Long> {
+
+    @Query("""
+        SELECT r.bookingId FROM BookingReminder r
+        WHERE r.reminderType = :type
+          AND r.bookingId IN :bookingIds
+        """)
+    List<Long> findSentBookingIds(
+        @Param("type") ReminderType type,
+        @Param("bookingIds") Collection<Long> bookingIds
+    );
+}
@@ -1,6 +1,8 @@
 package com.coDevs.cohiChat.booking;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -10,9 +12,11 @@ import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.QueryHint;
 
@@ -41,6 +45,33 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b JOIN FETCH b.timeSlot t WHERE t.userId = :hostId ORDER BY b.bookingDate DESC")
     Stream<Booking> streamByHostIdOrderByBookingDateDesc(@Param("hostId") UUID hostId);
 
+    /**
+     * ICS 피드용 호스트 예약 스트림 조회 (fromDate 이후, 예약 날짜 오름차순)
+     * FETCH JOIN으로 N+1 문제 방지, 100개 단위 배치 조회
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT b FROM Booking b
+        JOIN FETCH b.timeSlot t
+        WHERE t.userId = :hostId
+          AND b.bookingDate >= :fromDate
+        ORDER BY b.bookingDate, t.startTime
+        """)
+    Stream<Booking> streamFeedBookingsByHostId(@Param("hostId") UUID hostId, @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * ICS 피드 버전 집계: 예약을 렌더링하지 않고 집계 쿼리 한 번으로 피드 변경 여부를 판별
+     */
+    @Query("""
+        SELECT COUNT(b) AS bookingCount,
+               MAX(b.updatedAt) AS lastBookingUpdatedAt,
+               MAX(t.updatedAt) AS lastTimeSlotUpdatedAt
+        FROM Booking b JOIN b.timeSlot t
+        WHERE t.userId = :hostId
+          AND b.bookingDate >= :fromDate
+        """)
+    BookingFeedVersion findFeedVersionByHostId(@Param("hostId") UUID hostId, @Param("fromDate") LocalDate fromDate);
+
     /**
      * 게스트 ID로 예약 페이지 조회 (예약 날짜 내림차순)
      */
@@ -155,6 +186,141 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         @Param("status") AttendanceStatus status
     );
 
+    /**
+     * 리마인더 대상 조회: 특정 날짜, 시작 시각 범위 [fromTime, toTime)의 예약을 id 기준 keyset 페이지로 조회
+     * (booking_date, attendance_status) 인덱스로 날짜 범위를 좁힌 뒤 time_slot 시작 시각으로 필터링
+     */
+    @Query("""
+        SELECT b FROM Booking b
+        JOIN FETCH b.timeSlot t
+        WHERE b.bookingDate = :bookingDate
+          AND b.attendanceStatus = :status
+          AND t.startTime >= :fromTime
+          AND t.startTime < :toTime
+          AND b.id > :afterId
+        ORDER BY b.id
+        """)
+    List<Booking> findByDateAndStartTimeRange(
+        @Param("bookingDate") LocalDate bookingDate,
+        @Param("status") AttendanceStatus status,
+        @Param("fromTime") LocalTime fromTime,
+        @Param("toTime") LocalTime toTime,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * 자동 종료 대상 조회: cutoffDate 이전 날짜에 머물러 있는 예약을 id 기준 keyset 페이지로 조회
+     * (booking_date, attendance_status) 인덱스 범위 스캔
+     */
+    @Query("""
+        SELECT b.id AS bookingId, t.userId AS hostId
+        FROM Booking b JOIN b.timeSlot t
+        WHERE b.bookingDate < :cutoffDate
+          AND b.attendanceStatus = :status
+          AND b.id > :afterId
+        ORDER BY b.id
+        """)
+    List<BookingHostRef> findStaleBookingRefs(
+        @Param("cutoffDate") LocalDate cutoffDate,
+        @Param("status") AttendanceStatus status,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * id 목록 중 아직 status 상태인 예약을 행 잠금(FOR UPDATE)하고 그 id를 반환한다.
+     * 같은 트랜잭션의 뒤이은 UPDATE 대상과 정확히 일치하므로, 실제로 변경되는 id만 이벤트로 전달할 수 있다.
+     */
+    @Query(value = """
+        SELECT b.id FROM booking b
+        WHERE b.id IN (:ids)
+          AND b.attendance_status = :status
+        ORDER BY b.id
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockIdsByStatus(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") String status
+    );
+
+    /**
+     * id 목록의 예약 상태를 한 번의 UPDATE로 변경
+     * 조회 이후 호스트가 먼저 상태를 바꾼 예약은 fromStatus 조건으로 제외된다
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Booking b
+        SET b.attendanceStatus = :toStatus, b.updatedAt = :now
+        WHERE b.id IN :ids
+          AND b.attendanceStatus = :fromStatus
+        """)
+    int updateStatusByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("fromStatus") AttendanceStatus fromStatus,
+        @Param("toStatus") AttendanceStatus toStatus,
+        @Param("now") Instant now
+    );
+
+    /**
+     * 호스트 통계 보정용: 날짜 범위 [fromDate, toDate)의 예약을 (호스트, 예약 날짜, 상태, 주제)별로 집계
+     * (booking_date, attendance_status) 인덱스 범위 스캔
+     */
+    @Query("""
+        SELECT t.userId AS hostId, b.bookingDate AS bookingDate,
+               b.attendanceStatus AS attendanceStatus, b.topic AS topic, COUNT(b) AS count
+        FROM Booking b JOIN b.timeSlot t
+        WHERE b.bookingDate >= :fromDate
+          AND b.bookingDate < :toDate
+        GROUP BY t.userId, b.bookingDate, b.attendanceStatus, b.topic
+        """)
+    List<BookingStatRow> countStatRowsByDateRange(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate
+    );
+
+    /**
+     * 호스트 통계 증분 반영용: id 목록 중 해당 상태인 예약을 (호스트, 예약 날짜, 상태, 주제)별로 집계
+     */
+    @Query("""
+        SELECT t.userId AS hostId, b.bookingDate AS bookingDate,
+               b.attendanceStatus AS attendanceStatus, b.topic AS topic, COUNT(b) AS count
+        FROM Booking b JOIN b.timeSlot t
+        WHERE b.id IN :ids
+          AND b.attendanceStatus = :status
+        GROUP BY t.userId, b.bookingDate, b.attendanceStatus, b.topic
+        """)
+    List<BookingStatRow> countStatRowsByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") AttendanceStatus status
+    );
+
+    /**
+     * 대기열에서 늦게 생성된 Google Calendar 이벤트를 예약에 연결한다.
+     * 그 사이 다른 경로로 이벤트가 연결되었거나 예약이 사라졌으면 0을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Booking b
+        SET b.googleEventId = :googleEventId
+        WHERE b.id = :bookingId
+          AND b.googleEventId IS NULL
+        """)
+    int updateGoogleEventIdIfAbsent(@Param("bookingId") Long bookingId, @Param("googleEventId") String googleEventId);
+
+    /**
+     * 호스트 예약으로 만든 Google Calendar 이벤트 ID 목록 (바쁜 시간 동기화에서 자기 예약 제외용)
+     */
+    @Query("""
+        SELECT b.googleEventId FROM Booking b
+        JOIN b.timeSlot t
+        WHERE t.userId = :hostId
+          AND b.bookingDate >= :fromDate
+          AND b.googleEventId IS NOT NULL
+        """)
+    List<String> findGoogleEventIdsByHostId(@Param("hostId") UUID hostId, @Param("fromDate") LocalDate fromDate);
+
     /**
      * 단건 조회 시 timeSlot을 함께 로드 (지연 로딩 방지)
      */
@@ -33,15 +33,21 @@ import com.coDevs.cohiChat.booking.request.BookingStatusUpdateRequestDTO;
 import com.coDevs.cohiChat.booking.request.BookingUpdateRequestDTO;
 import com.coDevs.cohiChat.booking.response.BookingPublicResponseDTO;
 import com.coDevs.cohiChat.booking.response.BookingResponseDTO;
+import com.coDevs.cohiChat.booking.response.BusyTimeResponseDTO;
 import com.coDevs.cohiChat.booking.response.NoShowHistoryResponseDTO;
 import com.coDevs.cohiChat.booking.response.PaginatedBookingResponseDTO;
 import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.CalendarTopicCache;
 import com.coDevs.cohiChat.calendar.entity.Calendar;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
-import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestScheduler;
+import com.coDevs.cohiChat.google.calendar.busy.GoogleBusyTimeStore;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatKey;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder;
 import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.timeslot.TimeSlotRepository;
 import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
@@ -61,10 +67,14 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final TimeSlotRepository timeSlotRepository;
     private final CalendarRepository calendarRepository;
+    private final CalendarTopicCache calendarTopicCache;
     private final MemberRepository memberRepository;
+    private final SessionRegistry sessionRegistry;
     private final NoShowHistoryRepository noShowHistoryRepository;
-    private final GoogleCalendarService googleCalendarService;
+    private final GoogleCalendarRequestScheduler googleCalendarRequestScheduler;
     private final GoogleCalendarProperties googleCalendarProperties;
+    private final GoogleBusyTimeStore googleBusyTimeStore;
+    private final HostBookingStatRecorder hostBookingStatRecorder;
     private final EntityManager entityManager;
 
     private volatile ZoneId calendarZoneId;
@@ -99,6 +109,7 @@ public class BookingService {
         validateDateInRange(timeSlot, request.getBookingDate());
         validateNotDuplicateBooking(timeSlot, request.getBookingDate(), null);
         validateTopic(timeSlot.getUserId(), request.getTopic());
+        validateHostNotBusy(timeSlot, request.getBookingDate());
 
         Booking booking = Booking.create(
             timeSlot,
@@ -112,6 +123,7 @@ public class BookingService {
         );
 
         Booking savedBooking = bookingRepository.save(booking);
+        hostBookingStatRecorder.recordCreated(savedBooking);
 
         upsertGoogleCalendarEvent(savedBooking, timeSlot, savedBooking.getBookingDate(), savedBooking.getDescription(), guest);
 
@@ -176,6 +188,18 @@ public class BookingService {
         }
     }
 
+    /**
+     * 호스트 Google Calendar의 바쁜 시간과 겹치는지 검증.
+     * 요청 경로에서는 Google API를 호출하지 않고 동기화 배치가 저장한 구간만 확인한다.
+     */
+    private void validateHostNotBusy(TimeSlot timeSlot, LocalDate bookingDate) {
+        Instant start = toInstant(bookingDate, timeSlot.getStartTime());
+        Instant end = toInstant(bookingDate, timeSlot.getEndTime());
+        if (googleBusyTimeStore.isBusy(timeSlot.getUserId(), start, end)) {
+            throw new CustomException(ErrorCode.HOST_BUSY);
+        }
+    }
+
     private void validateNotDuplicateBooking(TimeSlot timeSlot, LocalDate bookingDate, Long excludedId) {
         boolean exists = bookingRepository.existsDuplicateBooking(
             timeSlot.getId(),
@@ -189,15 +213,13 @@ public class BookingService {
     }
 
     /**
-     * 예약 주제(topic)가 호스트 캘린더에 정의된 topics 목록에 포함되는지 검증
+     * 예약 주제(topic)가 호스트 캘린더에 정의된 topics 목록에 포함되는지 검증.
+     * 캘린더를 조회하지 않고 호스트별 topic 캐시로 확인하며, 비교는 정규화된 값으로 한다.
      * @param hostId 호스트 ID
      * @param topic 검증할 주제
      */
     private void validateTopic(UUID hostId, String topic) {
-        Calendar calendar = calendarRepository.findByMemberId(hostId)
-            .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
-
-        if (!calendar.getTopics().contains(topic)) {
+        if (!calendarTopicCache.getTopics(hostId).contains(CalendarTopicCache.normalize(topic))) {
             throw new CustomException(ErrorCode.INVALID_TOPIC);
         }
     }
@@ -337,7 +359,9 @@ public class BookingService {
         validateDateInRange(newTimeSlot, request.getBookingDate());
         validateNotDuplicateBooking(newTimeSlot, request.getBookingDate(), bookingId);
 
+        HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
         booking.updateSchedule(newTimeSlot, request.getBookingDate());
+        hostBookingStatRecorder.recordTransition(statBefore, booking);
 
         Member guest = memberRepository.findById(booking.getGuestId()).orElse(null);
         upsertGoogleCalendarEvent(booking, newTimeSlot, request.getBookingDate(), booking.getDescription(), guest);
@@ -360,8 +384,8 @@ public class BookingService {
             String summary = buildEventSummary(guest);
 
             if (booking.getGoogleEventId() == null) {
-                String eventId = googleCalendarService.createEvent(
-                    summary, description, startDateTime, endDateTime, calendar.getGoogleCalendarId()
+                String eventId = googleCalendarRequestScheduler.createEvent(
+                    booking.getId(), summary, description, startDateTime, endDateTime, calendar.getGoogleCalendarId()
                 );
                 if (eventId != null) {
                     booking.setGoogleEventId(eventId);
@@ -369,8 +393,8 @@ public class BookingService {
                 return;
             }
 
-            googleCalendarService.updateEvent(
-                booking.getGoogleEventId(), summary, description,
+            googleCalendarRequestScheduler.updateEvent(
+                booking.getId(), booking.getGoogleEventId(), summary, description,
                 startDateTime, endDateTime, calendar.getGoogleCalendarId()
             );
         } catch (Exception e) {
@@ -400,7 +424,9 @@ public class BookingService {
             throw new CustomException(ErrorCode.INVALID_BOOKING_STATUS);
         }
 
+        HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
         booking.updateStatus(request.getStatus());
+        hostBookingStatRecorder.recordTransition(statBefore, booking);
 
         return toBookingResponseDTO(booking);
     }
@@ -418,19 +444,24 @@ public class BookingService {
 
         deleteGoogleCalendarEvent(booking);
 
+        HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
         booking.cancel();
+        hostBookingStatRecorder.recordTransition(statBefore, booking);
 
         log.info("[cancelBooking] [SUCCESS] bookingId={}", bookingId);
     }
 
     private void deleteGoogleCalendarEvent(Booking booking) {
         if (booking.getGoogleEventId() == null) {
+            // 쿼터 초과로 이벤트 생성이 대기 중일 수 있다
+            googleCalendarRequestScheduler.discardPending(booking.getId());
             return;
         }
 
         UUID hostId = booking.getTimeSlot().getUserId();
         calendarRepository.findByMemberId(hostId).ifPresent(calendar -> {
-            googleCalendarService.deleteEvent(
+            googleCalendarRequestScheduler.deleteEvent(
+                booking.getId(),
                 booking.getGoogleEventId(),
                 calendar.getGoogleCalendarId()
             );
@@ -457,7 +488,9 @@ public class BookingService {
         validateDateInRange(newTimeSlot, request.getBookingDate());
         validateNotDuplicateBooking(newTimeSlot, request.getBookingDate(), bookingId);
         validateTopic(newTimeSlot.getUserId(), request.getTopic());
+        validateHostNotBusy(newTimeSlot, request.getBookingDate());
 
+        HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
         booking.update(
             request.getTopic(),
             request.getDescription(),
@@ -467,6 +500,7 @@ public class BookingService {
             request.getLocation(),
             request.getMeetingLink()
         );
+        hostBookingStatRecorder.recordTransition(statBefore, booking);
 
         Member guest = memberRepository.findById(guestId).orElse(null);
         upsertGoogleCalendarEvent(booking, newTimeSlot, request.getBookingDate(), request.getDescription(), guest);
@@ -484,7 +518,8 @@ public class BookingService {
             Instant startDateTime = toInstant(request.getBookingDate(), timeSlot.getStartTime());
             Instant endDateTime = toInstant(request.getBookingDate(), timeSlot.getEndTime());
 
-            googleCalendarService.updateEvent(
+            googleCalendarRequestScheduler.updateEvent(
+                booking.getId(),
                 booking.getGoogleEventId(),
                 request.getTopic(),
                 request.getDescription(),
@@ -507,7 +542,9 @@ public class BookingService {
             throw new CustomException(ErrorCode.NOSHOW_NOT_REPORTABLE);
         }
 
+        HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
         booking.reportHostNoShow(Instant.now());
+        hostBookingStatRecorder.recordTransition(statBefore, booking);
 
         UUID hostId = booking.getTimeSlot().getUserId();
         NoShowHistory history = NoShowHistory.create(booking, hostId, guestId, reason);
@@ -521,6 +558,8 @@ public class BookingService {
             long reportCount = noShowHistoryRepository.countByHostId(hostId);
             if (reportCount >= NO_SHOW_BAN_THRESHOLD) {
                 host.ban();
+                // 정지된 호스트의 모든 기기 세션과 발급된 Access Token 무효화 (커밋 후)
+                sessionRegistry.revokeAll(host.getUsername());
             }
         });
 
@@ -573,6 +612,21 @@ public class BookingService {
             .toList();
     }
 
+    /**
+     * 호스트 Google Calendar 바쁜 시간 중 해당 월과 겹치는 구간 조회 (동기화된 구간만 사용)
+     */
+    public List<BusyTimeResponseDTO> getBusyTimesByHostAndDate(UUID hostId, int year, int month) {
+        validateYearMonth(year, month);
+
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        Instant from = startDate.atStartOfDay(calendarZoneId).toInstant();
+        Instant to = startDate.plusMonths(1).atStartOfDay(calendarZoneId).toInstant();
+
+        return googleBusyTimeStore.getIntervals(hostId).between(from, to).stream()
+            .map(interval -> BusyTimeResponseDTO.of(interval[0], interval[1]))
+            .toList();
+    }
+
     private void validateYearMonth(int year, int month) {
         if (month < 1 || month > 12) {
             throw new CustomException(ErrorCode.INVALID_YEAR_MONTH);
@@ -0,0 +1,14 @@
+package com.coDevs.cohiChat.booking;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+
+public interface BookingStatRow {
+	UUID getHostId();
+	LocalDate getBookingDate();
+	AttendanceStatus getAttendanceStatus();
+	String getTopic();
+	Long getCount();
+}
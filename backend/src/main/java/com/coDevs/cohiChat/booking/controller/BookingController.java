@@ -1,10 +1,17 @@
 package com.coDevs.cohiChat.booking.controller;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,8 +23,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.coDevs.cohiChat.booking.BookingService;
+import com.coDevs.cohiChat.booking.export.BookingExportFormat;
+import com.coDevs.cohiChat.booking.export.BookingExportRenderer;
 import com.coDevs.cohiChat.booking.request.BookingCreateRequestDTO;
 import com.coDevs.cohiChat.booking.request.BookingScheduleUpdateRequestDTO;
 import com.coDevs.cohiChat.booking.request.BookingStatusUpdateRequestDTO;
@@ -27,6 +37,8 @@ import com.coDevs.cohiChat.booking.response.BookingResponseDTO;
 import com.coDevs.cohiChat.booking.response.NoShowHistoryResponseDTO;
 import com.coDevs.cohiChat.booking.response.PaginatedBookingResponseDTO;
 import com.coDevs.cohiChat.global.response.ApiResponseDTO;
+import com.coDevs.cohiChat.global.security.auth.CurrentMember;
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
 import com.coDevs.cohiChat.member.MemberService;
 import com.coDevs.cohiChat.member.entity.Member;
 
@@ -44,6 +56,7 @@ import lombok.RequiredArgsConstructor;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingExportRenderer bookingExportRenderer;
     private final MemberService memberService;
 
     @Operation(summary = "예약 생성", description = "호스트의 타임슬롯에 게스트가 예약을 생성합니다.")
@@ -74,10 +87,9 @@ public class BookingController {
     })
     @GetMapping("/{bookingId}")
     public ResponseEntity<ApiResponseDTO<BookingResponseDTO>> getBookingById(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingResponseDTO response = bookingService.getBookingById(bookingId, member.getId());
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -89,11 +101,10 @@ public class BookingController {
     })
     @GetMapping("/guest/me")
     public ResponseEntity<ApiResponseDTO<PaginatedBookingResponseDTO>> getMyBookingsAsGuest(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         PaginatedBookingResponseDTO response = bookingService.getBookingsByGuestIdPaginated(member.getId(), page, size);
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -105,15 +116,46 @@ public class BookingController {
     })
     @GetMapping("/host/me")
     public ResponseEntity<ApiResponseDTO<PaginatedBookingResponseDTO>> getMyBookingsAsHost(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         PaginatedBookingResponseDTO response = bookingService.getBookingsByHostIdPaginated(member.getId(), page, size);
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
 
+    @Operation(
+        summary = "내 예약 내역 내보내기 (호스트)",
+        description = "내가 호스트로 받은 전체 예약 내역을 CSV 또는 XLSX 파일로 내려받습니다. 예약 날짜 내림차순으로 정렬됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "호스트 권한 필요")
+    })
+    @PreAuthorize("hasRole('HOST')")
+    @GetMapping("/host/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyBookingsAsHost(
+            @CurrentMember MemberPrincipal member,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        UUID hostId = member.getId();
+
+        StreamingResponseBody stream = (OutputStream outputStream) ->
+            bookingExportRenderer.render(hostId, exportFormat, outputStream);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("bookings-" + LocalDate.now() + "." + exportFormat.getExtension(), StandardCharsets.UTF_8)
+            .build();
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .body(stream);
+    }
+
     @Operation(summary = "예약 일정 수정", description = "호스트가 예약의 일정(날짜, 타임슬롯)을 수정합니다. 호스트만 수정 가능합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -126,11 +168,10 @@ public class BookingController {
     })
     @PatchMapping("/{bookingId}/schedule")
     public ResponseEntity<ApiResponseDTO<BookingResponseDTO>> updateBookingSchedule(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody BookingScheduleUpdateRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingResponseDTO response = bookingService.updateBookingSchedule(bookingId, member.getId(), request);
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -146,11 +187,10 @@ public class BookingController {
     })
     @PatchMapping("/{bookingId}/status")
     public ResponseEntity<ApiResponseDTO<BookingResponseDTO>> updateBookingStatus(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody BookingStatusUpdateRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingResponseDTO response = bookingService.updateBookingStatus(bookingId, member.getId(), request);
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -165,10 +205,9 @@ public class BookingController {
     })
     @DeleteMapping("/{bookingId}")
     public ResponseEntity<Void> cancelBooking(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         bookingService.cancelBooking(bookingId, member.getId());
         return ResponseEntity.noContent().build();
     }
@@ -184,11 +223,10 @@ public class BookingController {
     })
     @PostMapping("/{bookingId}/report-noshow")
     public ResponseEntity<ApiResponseDTO<BookingResponseDTO>> reportHostNoShow(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody NoShowReportRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingResponseDTO response = bookingService.reportHostNoShow(bookingId, member.getId(), request.getReason());
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -221,11 +259,10 @@ public class BookingController {
     })
     @PatchMapping("/{bookingId}")
     public ResponseEntity<ApiResponseDTO<BookingResponseDTO>> updateBooking(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody BookingUpdateRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingResponseDTO response = bookingService.updateBooking(bookingId, member.getId(), request);
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
@@ -8,8 +8,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,16 +25,18 @@ import com.coDevs.cohiChat.booking.FileUploadValidator.FileUploadLimits;
 import com.coDevs.cohiChat.booking.request.ConfirmUploadRequestDTO;
 import com.coDevs.cohiChat.booking.request.PresignedUploadUrlRequestDTO;
 import com.coDevs.cohiChat.booking.response.BookingFileResponseDTO;
+import com.coDevs.cohiChat.booking.response.FileAccessCookieResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedDownloadUrlResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedUploadUrlResponseDTO;
 import com.coDevs.cohiChat.global.response.ApiResponseDTO;
-import com.coDevs.cohiChat.member.MemberService;
-import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.global.security.auth.CurrentMember;
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -47,7 +47,6 @@ import lombok.RequiredArgsConstructor;
 public class BookingFileController {
 
     private final BookingFileService bookingFileService;
-    private final MemberService memberService;
     private final FileUploadValidator fileUploadValidator;
 
     @Operation(summary = "파일 업로드", description = "예약에 파일을 업로드합니다. 게스트 또는 호스트만 업로드 가능합니다.")
@@ -60,11 +59,10 @@ public class BookingFileController {
     })
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponseDTO<BookingFileResponseDTO>> uploadFile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @RequestParam("file") MultipartFile file
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingFileResponseDTO response = bookingFileService.uploadFile(bookingId, member.getId(), file);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(response));
     }
@@ -78,10 +76,9 @@ public class BookingFileController {
     })
     @GetMapping
     public ResponseEntity<ApiResponseDTO<List<BookingFileResponseDTO>>> getFiles(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         List<BookingFileResponseDTO> responses = bookingFileService.getFiles(bookingId, member.getId());
         return ResponseEntity.ok(ApiResponseDTO.success(responses));
     }
@@ -95,11 +92,10 @@ public class BookingFileController {
     })
     @DeleteMapping("/{fileId}")
     public ResponseEntity<Void> deleteFile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @PathVariable Long fileId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         bookingFileService.deleteFile(bookingId, fileId, member.getId());
         return ResponseEntity.noContent().build();
     }
@@ -113,11 +109,10 @@ public class BookingFileController {
     })
     @GetMapping("/{fileId}/download")
     public ResponseEntity<byte[]> downloadFile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @PathVariable Long fileId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         FileDownloadResult result = bookingFileService.downloadFile(bookingId, fileId, member.getId());
 
         HttpHeaders headers = new HttpHeaders();
@@ -159,11 +154,10 @@ public class BookingFileController {
     })
     @PostMapping("/presigned-upload-url")
     public ResponseEntity<ApiResponseDTO<PresignedUploadUrlResponseDTO>> getPresignedUploadUrl(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody PresignedUploadUrlRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         PresignedUploadUrlResponseDTO response = bookingFileService.generatePresignedUploadUrl(
             bookingId, member.getId(), request.getFileName(), request.getContentType()
         );
@@ -180,11 +174,10 @@ public class BookingFileController {
     })
     @PostMapping("/confirm-upload")
     public ResponseEntity<ApiResponseDTO<BookingFileResponseDTO>> confirmUpload(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @Valid @RequestBody ConfirmUploadRequestDTO request
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         BookingFileResponseDTO response = bookingFileService.confirmUpload(bookingId, member.getId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(response));
     }
@@ -198,14 +191,33 @@ public class BookingFileController {
     })
     @GetMapping("/{fileId}/presigned-download-url")
     public ResponseEntity<ApiResponseDTO<PresignedDownloadUrlResponseDTO>> getPresignedDownloadUrl(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentMember MemberPrincipal member,
             @PathVariable Long bookingId,
             @PathVariable Long fileId
     ) {
-        Member member = memberService.getMember(userDetails.getUsername());
         PresignedDownloadUrlResponseDTO response = bookingFileService.generatePresignedDownloadUrl(
             bookingId, fileId, member.getId()
         );
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
+
+    @Operation(summary = "파일 접근 쿠키 발급", description = "예약 파일 전체에 접근 가능한 CloudFront Signed Cookie를 발급합니다. signed cookie 모드가 활성화된 경우에만 사용 가능합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 필요"),
+        @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+        @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없거나 쿠키 모드 비활성화")
+    })
+    @PostMapping("/access-cookies")
+    public ResponseEntity<ApiResponseDTO<FileAccessCookieResponseDTO>> issueFileAccessCookies(
+            @CurrentMember MemberPrincipal member,
+            @PathVariable Long bookingId,
+            HttpServletResponse httpResponse
+    ) {
+        BookingFileService.FileAccessCookieResult result = bookingFileService.issueFileAccessCookies(
+            bookingId, member.getId()
+        );
+        result.cookies().forEach(cookie -> httpResponse.addHeader(HttpHeaders.SET_COOKIE, cookie.toString()));
+        return ResponseEntity.ok(ApiResponseDTO.success(result.response()));
+    }
 }
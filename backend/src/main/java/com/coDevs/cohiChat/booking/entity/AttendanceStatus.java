@@ -11,6 +11,7 @@ import java.util.List;
  * - CANCELLED: 취소
  * - SAME_DAY_CANCEL: 당일 취소
  * - LATE: 지각
+ * - UNREPORTED: 호스트가 결과를 기록하지 않아 유예 기간 후 자동 종료됨 (참석/노쇼 통계에서 제외)
  */
 public enum AttendanceStatus {
     SCHEDULED,
@@ -19,7 +20,8 @@ public enum AttendanceStatus {
     HOST_NO_SHOW,
     CANCELLED,
     SAME_DAY_CANCEL,
-    LATE;
+    LATE,
+    UNREPORTED;
 
     /**
      * 취소된 상태 목록 반환
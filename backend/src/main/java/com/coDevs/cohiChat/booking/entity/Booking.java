@@ -23,6 +23,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -32,7 +33,13 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "booking")
+@Table(name = "booking",
+    indexes = {
+        @Index(name = "idx_booking_date_status", columnList = "booking_date, attendance_status"),
+        @Index(name = "idx_booking_time_slot_date_status", columnList = "time_slot_id, booking_date, attendance_status"),
+        @Index(name = "idx_booking_guest_date", columnList = "guest_id, booking_date DESC")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Booking {
@@ -0,0 +1,62 @@
+package com.coDevs.cohiChat.booking.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리마인더 발송 완료 표시(sent-marker).
+ * (booking_id, reminder_type) 유니크 제약으로 재시작/다중 노드 환경에서도 한 번만 발송되도록 보장한다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "booking_reminder",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_booking_reminder_booking_type", columnNames = {"booking_id", "reminder_type"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookingReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reminder_type", nullable = false, length = 20)
+    private ReminderType reminderType;
+
+    @CreatedDate
+    @Column(name = "sent_at", updatable = false)
+    private Instant sentAt;
+
+    public static BookingReminder create(Long bookingId, ReminderType reminderType) {
+        Objects.requireNonNull(bookingId, "bookingId must not be null");
+        Objects.requireNonNull(reminderType, "reminderType must not be null");
+
+        BookingReminder reminder = new BookingReminder();
+        reminder.bookingId = bookingId;
+        reminder.reminderType = reminderType;
+        return reminder;
+    }
+}
@@ -0,0 +1,18 @@
+package com.coDevs.cohiChat.booking.entity;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 리마인더 종류. lead는 미팅 시작 시각 기준 발송 시점까지의 간격이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReminderType {
+    DAY_BEFORE(Duration.ofHours(24)),
+    HOUR_BEFORE(Duration.ofHours(1));
+
+    private final Duration lead;
+}
@@ -0,0 +1,27 @@
+package com.coDevs.cohiChat.booking.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지난 예약 자동 종료 시 청크 단위로 발행되는 이벤트.
+ * bookingIds는 이번 UPDATE로 실제 상태가 바뀐 예약만 담는다.
+ * 예약 상태에서 파생된 데이터(호스트 커피챗 횟수 등)를 호스트 단위로 갱신할 때 사용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookingsAutoClosedEvent {
+
+    private final List<Long> bookingIds;
+    private final Set<UUID> hostIds;
+    private final AttendanceStatus closedStatus;
+    private final int updatedCount;
+    private final Instant closedAt;
+}
@@ -0,0 +1,31 @@
+package com.coDevs.cohiChat.booking.export;
+
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호스트 예약 내역 내보내기 형식
+ * - CSV: UTF-8(BOM 포함), RFC 4180
+ * - XLSX: SXSSF로 행 단위 스트리밍 작성
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookingExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    public static BookingExportFormat from(String value) {
+        for (BookingExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
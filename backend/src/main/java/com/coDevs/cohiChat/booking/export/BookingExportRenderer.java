@@ -0,0 +1,148 @@
+package com.coDevs.cohiChat.booking.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트의 전체 예약 내역을 DB 커서로 읽으며 CSV/XLSX 행을 바로 출력 스트림에 쓴다.
+ * <p>{@value #CHUNK_SIZE}건 단위로 게스트 정보를 한 번에 조회하고, 청크를 쓴 뒤 영속성 컨텍스트를 비워
+ * 예약 내역이 아무리 길어도 힙 사용량이 일정하다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingExportRenderer {
+
+    static final int CHUNK_SIZE = 100;
+    static final List<String> HEADER = List.of(
+        "예약 ID", "예약일", "시작 시간", "종료 시간", "상태", "미팅 방식", "장소/링크",
+        "주제", "설명", "게스트 아이디", "게스트 이름", "신청 일시"
+    );
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BookingRepository bookingRepository;
+    private final MemberRepository memberRepository;
+    private final GoogleCalendarProperties googleCalendarProperties;
+    private final EntityManager entityManager;
+
+    private volatile ZoneId calendarZoneId;
+
+    @PostConstruct
+    void initZoneId() {
+        String timezone = googleCalendarProperties.getTimezone();
+        if (timezone == null || timezone.isBlank()) {
+            calendarZoneId = DEFAULT_ZONE;
+            return;
+        }
+        try {
+            calendarZoneId = ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            log.warn("Invalid timezone '{}' in GoogleCalendarProperties, falling back to Asia/Seoul: {}", timezone, e.getMessage());
+            calendarZoneId = DEFAULT_ZONE;
+        }
+    }
+
+    /**
+     * @return 출력한 예약 행 수 (헤더 제외)
+     */
+    @Transactional(readOnly = true)
+    public int render(UUID hostId, BookingExportFormat format, OutputStream outputStream) throws IOException {
+        int rowCount = 0;
+        try (BookingExportWriter writer = createWriter(format, outputStream);
+             Stream<Booking> bookings = bookingRepository.streamByHostIdOrderByBookingDateDesc(hostId)) {
+            writer.writeRow(HEADER);
+
+            List<Booking> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= CHUNK_SIZE) {
+                    rowCount += writeChunk(writer, chunk);
+                }
+            }
+            rowCount += writeChunk(writer, chunk);
+
+            writer.finish();
+        }
+        log.info("[exportHostBookings] [SUCCESS] format={}, rowCount={}", format, rowCount);
+        return rowCount;
+    }
+
+    private BookingExportWriter createWriter(BookingExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvBookingExportWriter(outputStream);
+            case XLSX -> new XlsxBookingExportWriter(outputStream);
+        };
+    }
+
+    /**
+     * 청크의 게스트를 한 번에 조회해 행을 쓰고, 예약/타임슬롯/회원을 영속성 컨텍스트에서 비운다.
+     * 읽기 전용 트랜잭션이라 비워도 잃는 변경이 없다.
+     */
+    private int writeChunk(BookingExportWriter writer, List<Booking> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<UUID> guestIds = chunk.stream().map(Booking::getGuestId).distinct().toList();
+        Map<UUID, Member> guests = memberRepository.findAllById(guestIds).stream()
+            .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        for (Booking booking : chunk) {
+            writer.writeRow(toRow(booking, guests.get(booking.getGuestId())));
+        }
+
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+
+    private List<Object> toRow(Booking booking, Member guest) {
+        TimeSlot timeSlot = booking.getTimeSlot();
+        return Arrays.asList(
+            booking.getId(),
+            booking.getBookingDate().toString(),
+            timeSlot.getStartTime().format(TIME_FORMAT),
+            timeSlot.getEndTime().format(TIME_FORMAT),
+            booking.getAttendanceStatus().name(),
+            booking.getMeetingType().name(),
+            booking.getMeetingType() == MeetingType.OFFLINE ? booking.getLocation() : booking.getMeetingLink(),
+            booking.getTopic(),
+            booking.getDescription(),
+            guest != null ? guest.getUsername() : null,
+            guest != null ? guest.getDisplayName() : null,
+            booking.getCreatedAt() != null ? DATE_TIME_FORMAT.format(booking.getCreatedAt().atZone(calendarZoneId)) : null
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.coDevs.cohiChat.booking.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보내기 행을 출력 스트림에 바로 쓰는 Writer. 행을 메모리에 모아두지 않는다.
+ * <p>{@link #finish()}로 남은 내용을 내보내고, {@link #close()}는 실패했을 때도 임시 자원을 정리한다.
+ * 응답 스트림 자체는 닫지 않는다.</p>
+ */
+interface BookingExportWriter extends Closeable {
+
+    /**
+     * 숫자는 숫자 셀로, 그 외 값은 문자열로 쓴다. null은 빈 칸이다.
+     */
+    void writeRow(List<?> values) throws IOException;
+
+    void finish() throws IOException;
+}
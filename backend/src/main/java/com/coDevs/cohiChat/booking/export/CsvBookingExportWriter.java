@@ -0,0 +1,64 @@
+package com.coDevs.cohiChat.booking.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV Writer.
+ * <p>엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 쓰고, 줄 끝은 CRLF를 사용한다.
+ * 스프레드시트에서 수식으로 실행되지 않도록 {@code = + - @}로 시작하는 문자열 앞에 작은따옴표를 붙인다.</p>
+ */
+class CsvBookingExportWriter implements BookingExportWriter {
+
+    private static final char BOM = '\uFEFF';
+    private static final String CRLF = "\r\n";
+
+    private final Writer writer;
+
+    CsvBookingExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(BOM);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof Number) {
+                writer.write(value.toString());
+            } else if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write(CRLF);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() {
+        // 응답 스트림은 컨테이너가 닫는다
+    }
+
+    static String escape(String value) {
+        String text = value;
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,62 @@
+package com.coDevs.cohiChat.booking.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * SXSSF 기반 XLSX Writer.
+ * <p>최근 {@value #ROW_ACCESS_WINDOW}행만 메모리에 두고 나머지는 압축된 임시 파일로 내려보내므로
+ * 행 수와 관계없이 힙 사용량이 일정하다. 임시 파일은 {@link #close()}에서 삭제한다.</p>
+ */
+class XlsxBookingExportWriter implements BookingExportWriter {
+
+    static final int ROW_ACCESS_WINDOW = 100;
+    private static final String SHEET_NAME = "예약 내역";
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowIndex;
+
+    XlsxBookingExportWriter(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(SHEET_NAME);
+    }
+
+    @Override
+    public void writeRow(List<?> values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.coDevs.cohiChat.booking.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.booking-lifecycle")
+public class BookingLifecycleProperties {
+
+	/**
+	 * 예약 날짜가 지난 뒤 자동 종료까지 기다리는 일수.
+	 * 이 기간 동안 호스트는 출석/노쇼를 기록하고, 게스트는 호스트 노쇼를 신고할 수 있다.
+	 */
+	@Min(0)
+	private int graceDays = 3;
+
+	/** 한 번의 UPDATE로 처리하는 예약 수 */
+	@Min(1)
+	private int chunkSize = 500;
+
+	/** 한 번의 실행에서 처리하는 최대 청크 수 (나머지는 다음 실행에서 처리) */
+	@Min(1)
+	private int maxChunksPerRun = 200;
+
+	/** 클러스터 락 만료 시간. 한 번의 실행 시간보다 충분히 길어야 한다 */
+	@Min(1)
+	private int leaseSeconds = 600;
+}
@@ -0,0 +1,107 @@
+package com.coDevs.cohiChat.booking.lifecycle;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.booking.BookingHostRef;
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 예약 자동 종료 배치.
+ * <ul>
+ *     <li>클러스터 락을 획득한 한 노드만 실행한다.</li>
+ *     <li>(booking_date, attendance_status) 인덱스로 대상을 keyset 페이지 조회하고,
+ *     청크마다 {@code UPDATE ... WHERE id IN (...)} 한 번으로 종료한다.</li>
+ *     <li>청크는 각각 별도 트랜잭션이므로 중간에 실패해도 이미 처리한 청크는 유지되고, 나머지는 다음 실행에서 처리된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.booking-lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingLifecycleScheduler {
+
+    private static final String LOCK_NAME = "booking-lifecycle";
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final BookingLifecycleService bookingLifecycleService;
+    private final BookingLifecycleProperties properties;
+    private final ClusterLock clusterLock;
+    private final GoogleCalendarProperties googleCalendarProperties;
+    private final Clock clock;
+
+    private ZoneId zoneId;
+
+    @PostConstruct
+    void initZoneId() {
+        try {
+            zoneId = ZoneId.of(googleCalendarProperties.getTimezone());
+        } catch (DateTimeException | NullPointerException e) {
+            zoneId = DEFAULT_ZONE;
+        }
+    }
+
+    @Scheduled(cron = "${app.booking-lifecycle.cron:0 30 * * * *}")
+    public void run() {
+        boolean executed = clusterLock.runIfAcquired(
+            LOCK_NAME, Duration.ofSeconds(properties.getLeaseSeconds()), this::closeStaleBookings);
+        if (!executed) {
+            log.debug("Booking lifecycle job skipped: lock held by another node");
+        }
+    }
+
+    void closeStaleBookings() {
+        LocalDate cutoffDate = LocalDate.now(clock.withZone(zoneId)).minusDays(properties.getGraceDays());
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int chunks = 0;
+        int closed = 0;
+
+        try {
+            while (chunks < properties.getMaxChunksPerRun()) {
+                List<BookingHostRef> chunk = bookingLifecycleService.findStaleBookings(
+                    cutoffDate, afterId, properties.getChunkSize());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                closed += bookingLifecycleService.closeChunk(chunk);
+                chunks++;
+                afterId = chunk.get(chunk.size() - 1).getBookingId();
+                if (chunk.size() < properties.getChunkSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error(StructuredLogMessage.of("booking-lifecycle", "FAILED")
+                .add("cutoffDate", cutoffDate)
+                .add("chunks", chunks)
+                .add("closed", closed)
+                .add("error", e.getMessage())
+                .build(), e);
+            return;
+        }
+
+        if (closed > 0) {
+            log.info(StructuredLogMessage.of("booking-lifecycle", "SUCCESS")
+                .add("cutoffDate", cutoffDate)
+                .add("chunks", chunks)
+                .add("closed", closed)
+                .add("elapsedMs", System.currentTimeMillis() - start)
+                .build());
+        }
+    }
+}
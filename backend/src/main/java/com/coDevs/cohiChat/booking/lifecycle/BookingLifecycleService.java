@@ -0,0 +1,76 @@
+package com.coDevs.cohiChat.booking.lifecycle;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingHostRef;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.event.BookingsAutoClosedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유예 기간이 지나도록 SCHEDULED로 남아 있는 예약을 청크 단위 UPDATE로 종료한다.
+ * 호스트가 결과를 기록하지 않은 지난 예약은 참석 여부를 알 수 없으므로 UNREPORTED로 전환하여
+ * 참석률/커피챗 횟수를 부풀리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingLifecycleService {
+
+    static final AttendanceStatus CLOSED_STATUS = AttendanceStatus.UNREPORTED;
+
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public List<BookingHostRef> findStaleBookings(LocalDate cutoffDate, Long afterId, int chunkSize) {
+        return bookingRepository.findStaleBookingRefs(
+            cutoffDate, AttendanceStatus.SCHEDULED, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    /**
+     * 한 청크를 단일 UPDATE로 종료하고, 청크당 하나의 이벤트를 발행한다.
+     * 조회 이후 호스트가 먼저 상태를 바꾼 예약은 제외해야 하므로, 아직 SCHEDULED인 행을 먼저 잠가
+     * 실제로 변경되는 id만 UPDATE하고 이벤트로 전달한다.
+     *
+     * @return 실제로 상태가 변경된 예약 수
+     */
+    @Transactional
+    public int closeChunk(List<BookingHostRef> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> lockedIds = bookingRepository.lockIdsByStatus(
+            chunk.stream().map(BookingHostRef::getBookingId).toList(), AttendanceStatus.SCHEDULED.name());
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = clock.instant();
+        int updated = bookingRepository.updateStatusByIds(
+            lockedIds, AttendanceStatus.SCHEDULED, CLOSED_STATUS, now);
+
+        Set<Long> closedIds = Set.copyOf(lockedIds);
+        Set<UUID> hostIds = new LinkedHashSet<>();
+        chunk.stream()
+            .filter(ref -> closedIds.contains(ref.getBookingId()))
+            .forEach(ref -> hostIds.add(ref.getHostId()));
+        eventPublisher.publishEvent(
+            new BookingsAutoClosedEvent(lockedIds, hostIds, CLOSED_STATUS, updated, now));
+        return updated;
+    }
+}
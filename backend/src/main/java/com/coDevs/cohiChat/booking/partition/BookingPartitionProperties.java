@@ -0,0 +1,26 @@
+package com.coDevs.cohiChat.booking.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.booking-partition")
+public class BookingPartitionProperties {
+
+	/**
+	 * 이번 달 이후 미리 만들어 둘 월 파티션 수.
+	 * 예약 가능한 가장 먼 날짜보다 넉넉해야 default 파티션에 행이 쌓이지 않는다.
+	 */
+	@Min(1)
+	private int monthsAhead = 3;
+
+	/** 클러스터 락 만료 시간 */
+	@Min(1)
+	private int leaseSeconds = 300;
+}
@@ -0,0 +1,123 @@
+package com.coDevs.cohiChat.booking.partition;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * booking 월 파티션 사전 생성 작업.
+ * <p>booking이 booking_date 기준 RANGE 파티션 테이블(Flyway V5)인 경우에만 동작하며,
+ * 이번 달부터 {@code months-ahead}개월 뒤까지의 파티션이 없으면 만든다.
+ * 파티션 테이블이 아닌 환경(H2)에서는 아무것도 하지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.booking-partition.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingPartitionScheduler {
+
+    private static final String LOCK_NAME = "booking-partition";
+    private static final String PARENT_TABLE = "booking";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONED_CHECK_SQL = """
+        SELECT COUNT(*) FROM pg_partitioned_table pt
+        JOIN pg_class c ON c.oid = pt.partrelid
+        WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingPartitionProperties properties;
+    private final ClusterLock clusterLock;
+    private final Clock clock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    @Scheduled(cron = "${app.booking-partition.cron:0 0 4 * * *}")
+    public void run() {
+        clusterLock.runIfAcquired(LOCK_NAME, Duration.ofSeconds(properties.getLeaseSeconds()), this::ensurePartitions);
+    }
+
+    void ensurePartitions() {
+        if (!isPartitioned()) {
+            log.debug("booking is not a partitioned table, skipping partition maintenance");
+            return;
+        }
+
+        // 월 경계의 시간대 차이(UTC/KST)는 months-ahead 여유분으로 흡수된다
+        YearMonth current = YearMonth.now(clock);
+        int created = 0;
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            if (createPartitionIfAbsent(current.plusMonths(i))) {
+                created++;
+            }
+        }
+
+        if (created > 0) {
+            log.info(StructuredLogMessage.of("booking-partition", "CREATED")
+                .add("created", created)
+                .add("until", current.plusMonths(properties.getMonthsAhead()))
+                .build());
+        }
+    }
+
+    private boolean isPartitioned() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(PARTITIONED_CHECK_SQL, Integer.class, PARENT_TABLE);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            // PostgreSQL이 아닌 DB
+            return false;
+        }
+    }
+
+    private boolean createPartitionIfAbsent(YearMonth month) {
+        String partition = partitionName(month);
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_class WHERE relname = ? AND relnamespace = current_schema()::regnamespace",
+            Integer.class, partition);
+        if (exists != null && exists > 0) {
+            return false;
+        }
+
+        try {
+            jdbcTemplate.execute(partitionDdl(month));
+            return true;
+        } catch (DataAccessException e) {
+            // default 파티션에 이미 해당 월의 행이 있으면 생성이 거부된다: 행을 옮긴 뒤 수동으로 생성 필요
+            log.error(StructuredLogMessage.of("booking-partition", "FAILED")
+                .add("partition", partition)
+                .add("error", e.getMostSpecificCause().getMessage())
+                .build(), e);
+            return false;
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(SUFFIX_FORMAT);
+    }
+
+    static String partitionDdl(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month)
+            + " PARTITION OF " + PARENT_TABLE
+            + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,47 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.booking-reminder")
+public class BookingReminderProperties {
+
+	/** 타이밍 휠 tick 간격 (발송 정밀도) */
+	@Min(1)
+	private int tickSeconds = 10;
+
+	@Min(2)
+	private int wheelSize = 512;
+
+	/** DB 스캔 주기 */
+	@Min(1)
+	private int scanIntervalSeconds = 60;
+
+	/** 한 번의 스캔에서 휠에 올리는 발송 시각 범위 (now ~ now + horizon) */
+	@Min(1)
+	private int horizonMinutes = 10;
+
+	/** 서버 중단 등으로 놓친 리마인더를 미팅 시작 전까지 늦게라도 보내는 범위 */
+	@Min(0)
+	private int catchUpMinutes = 30;
+
+	/** keyset 페이지 크기 */
+	@Min(1)
+	private int batchSize = 200;
+
+	/** 리더 락 만료 시간. tick 간격보다 충분히 길어야 한다 */
+	@Min(1)
+	private int leaseSeconds = 60;
+
+	/** 리마인더 메일 본문 링크의 기준 URL (프론트엔드 주소) */
+	@NotBlank
+	private String baseUrl = "http://localhost:3000";
+}
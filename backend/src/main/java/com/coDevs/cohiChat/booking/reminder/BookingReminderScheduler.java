@@ -0,0 +1,157 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 리마인더 엔진.
+ * <ul>
+ *     <li>리더 락을 보유한 한 노드만 동작한다. 리더가 바뀌면 새 리더가 스캔으로 휠을 다시 채운다.</li>
+ *     <li>scan-interval마다 리마인더 종류별로 좁은 시작 시각 범위를 인덱스 스캔해 타이밍 휠에 올린다.</li>
+ *     <li>tick마다 휠을 진행시켜 발송 시각이 된 작업을 배치로 outbox에 적재한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.booking-reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingReminderScheduler {
+
+    private static final String LOCK_NAME = "booking-reminder";
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final BookingReminderService bookingReminderService;
+    private final BookingReminderProperties properties;
+    private final ClusterLock clusterLock;
+    private final GoogleCalendarProperties googleCalendarProperties;
+    private final Clock clock;
+    private final ReminderTimingWheel wheel;
+
+    private ZoneId zoneId;
+    private boolean leader;
+    private Instant lastScanAt;
+
+    public BookingReminderScheduler(
+            BookingReminderService bookingReminderService,
+            BookingReminderProperties properties,
+            ClusterLock clusterLock,
+            GoogleCalendarProperties googleCalendarProperties,
+            Clock clock
+    ) {
+        this.bookingReminderService = bookingReminderService;
+        this.properties = properties;
+        this.clusterLock = clusterLock;
+        this.googleCalendarProperties = googleCalendarProperties;
+        this.clock = clock;
+        this.wheel = new ReminderTimingWheel(
+            Duration.ofSeconds(properties.getTickSeconds()).toMillis(), properties.getWheelSize());
+    }
+
+    @PostConstruct
+    void initZoneId() {
+        try {
+            zoneId = ZoneId.of(googleCalendarProperties.getTimezone());
+        } catch (DateTimeException | NullPointerException e) {
+            zoneId = DEFAULT_ZONE;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking-reminder.tick-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void tick() {
+        boolean nowLeader = clusterLock.holdLeadership(LOCK_NAME, Duration.ofSeconds(properties.getLeaseSeconds()));
+        if (!nowLeader) {
+            if (leader) {
+                // 리더를 잃으면 메모리 상태를 버리고 새 리더에게 맡긴다
+                wheel.clear();
+                lastScanAt = null;
+            }
+            leader = false;
+            return;
+        }
+        leader = true;
+
+        Instant now = clock.instant();
+        if (lastScanAt == null
+            || !now.isBefore(lastScanAt.plusSeconds(properties.getScanIntervalSeconds()))) {
+            scan(now);
+            lastScanAt = now;
+        }
+
+        List<ReminderTask> due = wheel.advance(now);
+        if (!due.isEmpty()) {
+            dispatch(due);
+        }
+    }
+
+    private void scan(Instant now) {
+        Duration horizon = Duration.ofMinutes(properties.getHorizonMinutes());
+        Duration catchUp = Duration.ofMinutes(properties.getCatchUpMinutes());
+        int added = 0;
+        for (ReminderType type : ReminderType.values()) {
+            // 발송 시각(start - lead)이 [now - catchUp, now + horizon) 이면서 아직 시작하지 않은 미팅
+            Instant startFrom = max(now.plus(type.getLead()).minus(catchUp), now);
+            Instant startTo = now.plus(type.getLead()).plus(horizon);
+            for (ReminderTask task : bookingReminderService.findPendingTasks(type, startFrom, startTo, zoneId)) {
+                if (wheel.schedule(task)) {
+                    added++;
+                }
+            }
+        }
+        if (added > 0) {
+            log.info(StructuredLogMessage.of("reminder", "SCAN")
+                .add("added", added)
+                .add("wheelSize", wheel.size())
+                .build());
+        }
+    }
+
+    private void dispatch(List<ReminderTask> due) {
+        int sent;
+        try {
+            sent = bookingReminderService.send(due, zoneId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 일부를 먼저 기록한 경우: 건별로 다시 시도하여 나머지는 발송
+            sent = 0;
+            for (ReminderTask task : due) {
+                try {
+                    sent += bookingReminderService.send(List.of(task), zoneId);
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("Reminder already sent. bookingId: {}, type: {}", task.bookingId(), task.type());
+                }
+            }
+        } catch (Exception e) {
+            log.error(StructuredLogMessage.of("reminder", "FAILED")
+                .add("count", due.size())
+                .add("error", e.getMessage())
+                .build(), e);
+            // 다음 스캔에서 sent-marker가 없는 작업이 다시 휠에 올라간다
+            lastScanAt = null;
+            return;
+        }
+        log.info(StructuredLogMessage.of("reminder", "DISPATCH")
+            .add("due", due.size())
+            .add("sent", sent)
+            .build());
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,163 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import com.coDevs.cohiChat.booking.BookingReminderRepository;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.BookingReminder;
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+import com.coDevs.cohiChat.global.email.EmailTemplateRegistry;
+import com.coDevs.cohiChat.global.service.EmailService;
+import com.coDevs.cohiChat.global.util.TimeUtils;
+import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.entity.Member;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리마인더 대상 스캔과 발송(sent-marker 기록 + email outbox 적재)을 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingReminderService {
+
+    private static final DateTimeFormatter START_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final BookingRepository bookingRepository;
+    private final BookingReminderRepository bookingReminderRepository;
+    private final MemberRepository memberRepository;
+    private final EmailService emailService;
+    private final EmailTemplateRegistry emailTemplateRegistry;
+    private final BookingReminderProperties properties;
+
+    /**
+     * 미팅 시작 시각이 [startFrom, startTo) 범위인 SCHEDULED 예약 중 아직 발송하지 않은 리마인더 작업을 찾는다.
+     * 범위는 날짜 단위로 나누고, 각 날짜는 id 기준 keyset 페이지로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ReminderTask> findPendingTasks(ReminderType type, Instant startFrom, Instant startTo, ZoneId zoneId) {
+        LocalDateTime from = LocalDateTime.ofInstant(startFrom, zoneId);
+        LocalDateTime to = LocalDateTime.ofInstant(startTo, zoneId);
+        List<ReminderTask> tasks = new ArrayList<>();
+
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            LocalTime fromTime = date.equals(from.toLocalDate()) ? from.toLocalTime() : LocalTime.MIN;
+            if (!date.equals(to.toLocalDate())) {
+                // 날짜 경계를 넘는 범위: 당일 남은 시간 전체 (LocalTime.MAX를 exclusive 상한으로 사용)
+                collectTasks(tasks, type, date, fromTime, LocalTime.MAX, zoneId);
+            } else if (fromTime.isBefore(to.toLocalTime())) {
+                collectTasks(tasks, type, date, fromTime, to.toLocalTime(), zoneId);
+            }
+        }
+        return tasks;
+    }
+
+    private void collectTasks(List<ReminderTask> tasks, ReminderType type, LocalDate date,
+                              LocalTime fromTime, LocalTime toTime, ZoneId zoneId) {
+        long afterId = 0L;
+        while (true) {
+            List<Booking> page = bookingRepository.findByDateAndStartTimeRange(
+                date, AttendanceStatus.SCHEDULED, fromTime, toTime, afterId,
+                PageRequest.of(0, properties.getBatchSize()));
+            if (page.isEmpty()) {
+                return;
+            }
+
+            Set<Long> sent = new HashSet<>(bookingReminderRepository.findSentBookingIds(
+                type, page.stream().map(Booking::getId).toList()));
+            for (Booking booking : page) {
+                if (sent.contains(booking.getId())) {
+                    continue;
+                }
+                Instant startAt = TimeUtils.toUtcInstant(date, booking.getTimeSlot().getStartTime(), zoneId);
+                tasks.add(new ReminderTask(booking.getId(), type, startAt, startAt.minus(type.getLead())));
+            }
+
+            afterId = page.get(page.size() - 1).getId();
+            if (page.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 발송 시각이 된 작업 묶음을 처리한다.
+     * 한 트랜잭션에서 sent-marker와 outbox 행을 함께 기록하므로, 재시작 후 재스캔되어도 중복 발송되지 않는다.
+     * 실제 SMTP 발송은 EmailOutboxDispatcher가 배치로 수행한다.
+     *
+     * @return 발송 처리된 작업 수
+     */
+    @Transactional
+    public int send(List<ReminderTask> tasks, ZoneId zoneId) {
+        Map<Long, Booking> bookings = bookingRepository.findAllById(
+                tasks.stream().map(ReminderTask::bookingId).toList()).stream()
+            .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Set<UUID> memberIds = new HashSet<>();
+        bookings.values().forEach(booking -> {
+            memberIds.add(booking.getGuestId());
+            memberIds.add(booking.getTimeSlot().getUserId());
+        });
+        Map<UUID, Member> members = memberRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        int sentCount = 0;
+        for (ReminderTask task : tasks) {
+            Booking booking = bookings.get(task.bookingId());
+            // 휠에 올라간 뒤 취소/변경된 예약은 건너뜀
+            if (booking == null || booking.getAttendanceStatus() != AttendanceStatus.SCHEDULED) {
+                continue;
+            }
+            Instant startAt = TimeUtils.toUtcInstant(
+                booking.getBookingDate(), booking.getTimeSlot().getStartTime(), zoneId);
+            if (!startAt.equals(task.startAt())) {
+                continue;
+            }
+
+            bookingReminderRepository.save(BookingReminder.create(booking.getId(), task.type()));
+
+            Member guest = members.get(booking.getGuestId());
+            Member host = members.get(booking.getTimeSlot().getUserId());
+            String startAtText = LocalDateTime.ofInstant(startAt, zoneId).format(START_AT_FORMAT);
+            enqueue(guest, host, booking, startAtText);
+            enqueue(host, guest, booking, startAtText);
+            sentCount++;
+        }
+        bookingReminderRepository.flush();
+        return sentCount;
+    }
+
+    private void enqueue(Member recipient, Member counterpart, Booking booking, String startAtText) {
+        if (recipient == null || !recipient.isActive() || recipient.getEmail() == null) {
+            return;
+        }
+        String html = emailTemplateRegistry.render("booking-reminder", Map.of(
+            "baseUrl", properties.getBaseUrl(),
+            "displayName", HtmlUtils.htmlEscape(recipient.getDisplayName()),
+            "counterpartName", counterpart != null ? HtmlUtils.htmlEscape(counterpart.getDisplayName()) : "",
+            "topic", HtmlUtils.htmlEscape(booking.getTopic()),
+            "startAt", startAtText
+        ));
+        emailService.sendHtmlEmail(recipient.getEmail(), "[cohiChat] 커피챗 일정 알림", html);
+    }
+}
@@ -0,0 +1,18 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import java.time.Instant;
+
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+
+/**
+ * 타이밍 휠에 등록되는 리마인더 발송 작업.
+ *
+ * @param startAt 미팅 시작 시각
+ * @param fireAt  리마인더 발송 시각 (startAt - lead)
+ */
+public record ReminderTask(Long bookingId, ReminderType type, Instant startAt, Instant fireAt) {
+
+    public String key() {
+        return bookingId + ":" + type.name();
+    }
+}
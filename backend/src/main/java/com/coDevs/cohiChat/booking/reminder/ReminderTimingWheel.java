@@ -0,0 +1,96 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 리마인더용 해시드 타이밍 휠.
+ * <p>시간을 tick 단위 슬롯으로 나누고 발송 시각의 tick 번호를 슬롯 수로 나눈 나머지 슬롯에 작업을 넣는다.
+ * 등록은 O(1), 진행(advance)은 지나간 tick의 슬롯만 훑으므로 대기 작업 수와 무관하게 일정하다.
+ * 한 바퀴보다 먼 작업은 같은 슬롯에 머물다가 자신의 tick에 도달했을 때 꺼내진다.</p>
+ * <p>동일 key의 중복 등록은 무시하며, 스레드 안전을 위해 모든 연산은 동기화된다.</p>
+ */
+public class ReminderTimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Entry>[] slots;
+    private final Set<String> scheduledKeys = new HashSet<>();
+    private long lastProcessedTick = -1;
+
+    @SuppressWarnings("unchecked")
+    public ReminderTimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * @return 새로 등록되었으면 true, 이미 등록된 key면 false
+     */
+    public synchronized boolean schedule(ReminderTask task) {
+        if (!scheduledKeys.add(task.key())) {
+            return false;
+        }
+        long tick = tickOf(task.fireAt());
+        // 이미 처리한 tick보다 이전이면 다음 advance에서 바로 꺼내지도록 당겨 넣는다
+        if (lastProcessedTick >= 0 && tick <= lastProcessedTick) {
+            tick = lastProcessedTick + 1;
+        }
+        slots[(int) (tick & mask)].add(new Entry(tick, task));
+        return true;
+    }
+
+    /**
+     * now까지 도달한 tick들을 처리하고 발송 시각이 된 작업을 반환한다.
+     */
+    public synchronized List<ReminderTask> advance(Instant now) {
+        long currentTick = tickOf(now);
+        List<ReminderTask> due = new ArrayList<>();
+        // 첫 진행이거나 한 바퀴 이상 밀린 경우에도 모든 슬롯을 한 번씩만 훑으면 충분하다
+        long from = Math.max(lastProcessedTick + 1, currentTick - mask);
+        for (long tick = from; tick <= currentTick; tick++) {
+            Iterator<Entry> iterator = slots[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.deadlineTick <= currentTick) {
+                    iterator.remove();
+                    scheduledKeys.remove(entry.task.key());
+                    due.add(entry.task);
+                }
+            }
+        }
+        lastProcessedTick = Math.max(lastProcessedTick, currentTick);
+        return due;
+    }
+
+    public synchronized int size() {
+        return scheduledKeys.size();
+    }
+
+    public synchronized void clear() {
+        for (ArrayDeque<Entry> slot : slots) {
+            slot.clear();
+        }
+        scheduledKeys.clear();
+        lastProcessedTick = -1;
+    }
+
+    private long tickOf(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), tickMillis);
+    }
+
+    private record Entry(long deadlineTick, ReminderTask task) {}
+}
@@ -0,0 +1,28 @@
+package com.coDevs.cohiChat.booking.response;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 공개 API용 호스트 바쁜 시간 응답 DTO.
+ * 호스트 개인 일정의 제목/내용은 노출하지 않고 구간만 내려준다.
+ * startedAt/endedAt: UTC 기준 Instant (FE에서 로컬 타임존 변환).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BusyTimeResponseDTO {
+
+    private final Instant startedAt;
+    private final Instant endedAt;
+
+    public static BusyTimeResponseDTO of(Instant startedAt, Instant endedAt) {
+        return BusyTimeResponseDTO.builder()
+            .startedAt(startedAt)
+            .endedAt(endedAt)
+            .build();
+    }
+}
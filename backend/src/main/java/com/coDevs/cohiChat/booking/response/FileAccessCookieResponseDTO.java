@@ -0,0 +1,12 @@
+package com.coDevs.cohiChat.booking.response;
+
+import java.util.Map;
+
+public record FileAccessCookieResponseDTO(
+    Map<Long, String> fileUrls,
+    int expiresIn
+) {
+    public static FileAccessCookieResponseDTO of(Map<Long, String> fileUrls, int expiresIn) {
+        return new FileAccessCookieResponseDTO(fileUrls, expiresIn);
+    }
+}
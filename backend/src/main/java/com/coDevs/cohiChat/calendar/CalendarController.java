@@ -4,6 +4,7 @@ import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,12 +18,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.coDevs.cohiChat.booking.response.BookingPublicResponseDTO;
+import com.coDevs.cohiChat.booking.response.BusyTimeResponseDTO;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.calendar.feed.CalendarFeed;
+import com.coDevs.cohiChat.calendar.feed.CalendarFeedService;
 import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.calendar.request.CalendarUpdateRequestDTO;
+import com.coDevs.cohiChat.calendar.response.CalendarFeedTokenResponseDTO;
 import com.coDevs.cohiChat.calendar.response.CalendarPublicResponseDTO;
 import com.coDevs.cohiChat.calendar.response.CalendarResponseDTO;
 import com.coDevs.cohiChat.global.response.ApiResponseDTO;
@@ -44,6 +50,7 @@ import org.springframework.validation.annotation.Validated;
 public class CalendarController {
 
     private final CalendarService calendarService;
+    private final CalendarFeedService calendarFeedService;
     private final MemberService memberService;
     private final ObjectMapper objectMapper;
     private final GoogleCalendarService googleCalendarService;
@@ -83,6 +90,15 @@ public class CalendarController {
         return ResponseEntity.ok(ApiResponseDTO.success(response));
     }
 
+    @PostMapping("/v1/feed-token")
+    public ResponseEntity<ApiResponseDTO<CalendarFeedTokenResponseDTO>> issueFeedToken(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        Member member = memberService.getMember(userDetails.getUsername());
+        CalendarFeedTokenResponseDTO response = calendarFeedService.issueFeedToken(member);
+        return ResponseEntity.ok(ApiResponseDTO.success(response));
+    }
+
     @GetMapping("/{slug}")
     public ResponseEntity<CalendarPublicResponseDTO> getCalendarBySlug(
             @PathVariable @Pattern(regexp = "^[a-zA-Z0-9_-]{1,50}$", message = "유효하지 않은 slug 형식입니다.") String slug
@@ -101,6 +117,16 @@ public class CalendarController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{slug}/busy")
+    public ResponseEntity<List<BusyTimeResponseDTO>> getBusyTimesBySlug(
+            @PathVariable @Pattern(regexp = "^[a-zA-Z0-9_-]{1,50}$", message = "유효하지 않은 slug 형식입니다.") String slug,
+            @RequestParam @Min(1900) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month
+    ) {
+        List<BusyTimeResponseDTO> response = calendarService.getBusyTimesBySlug(slug, year, month);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{slug}/bookings/stream")
     public ResponseEntity<StreamingResponseBody> getBookingsStream(
             @PathVariable @Pattern(regexp = "^[a-zA-Z0-9_-]{1,50}$", message = "유효하지 않은 slug 형식입니다.") String slug,
@@ -122,4 +148,29 @@ public class CalendarController {
             .contentType(MediaType.parseMediaType("application/x-ndjson"))
             .body(stream);
     }
+
+    /**
+     * 캘린더 앱 구독용 ICS 피드.
+     * 캘린더 앱은 헤더를 붙일 수 없으므로 토큰을 쿼리 파라미터로 받는다.
+     * If-None-Match가 현재 버전과 같으면 예약을 읽지 않고 304로 응답한다.
+     */
+    @GetMapping("/{slug}/feed.ics")
+    public ResponseEntity<StreamingResponseBody> getCalendarFeed(
+            @PathVariable @Pattern(regexp = "^[a-zA-Z0-9_-]{1,50}$", message = "유효하지 않은 slug 형식입니다.") String slug,
+            @RequestParam String token,
+            WebRequest webRequest
+    ) {
+        CalendarFeed feed = calendarFeedService.resolveFeed(slug, token);
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;
+        }
+
+        StreamingResponseBody stream = (OutputStream outputStream) -> calendarFeedService.writeFeed(feed, outputStream);
+
+        return ResponseEntity.ok()
+            .eTag(feed.etag())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.parseMediaType("text/calendar; charset=UTF-8"))
+            .body(stream);
+    }
 }
@@ -1,19 +1,43 @@
 package com.coDevs.cohiChat.calendar;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.global.cache.EntityCacheRegions;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CalendarRepository extends JpaRepository<Calendar, UUID> {
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.CALENDAR_BY_MEMBER_QUERY)
+    })
     Optional<Calendar> findByMemberId(UUID memberId);
 
+    List<Calendar> findByMemberIdIn(Collection<UUID> memberIds);
+
     boolean existsByMemberId(UUID memberId);
 
     void deleteByMemberId(UUID memberId);
+
+    /**
+     * 바쁜 시간 동기화 대상 캘린더 (접근 불가로 확인된 캘린더 제외)
+     */
+    @Query("""
+        SELECT c.member.id AS hostId, c.googleCalendarId AS googleCalendarId
+        FROM Calendar c
+        WHERE c.calendarAccessible IS NULL OR c.calendarAccessible = true
+        """)
+    List<CalendarSyncTarget> findGoogleSyncTargets();
 }
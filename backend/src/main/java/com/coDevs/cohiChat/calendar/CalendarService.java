@@ -3,13 +3,16 @@ package com.coDevs.cohiChat.calendar;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.coDevs.cohiChat.booking.BookingService;
 import com.coDevs.cohiChat.booking.response.BookingPublicResponseDTO;
+import com.coDevs.cohiChat.booking.response.BusyTimeResponseDTO;
 import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.event.CalendarTopicsChangedEvent;
 import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.calendar.request.CalendarUpdateRequestDTO;
 import com.coDevs.cohiChat.calendar.response.CalendarPublicResponseDTO;
@@ -35,6 +38,7 @@ public class CalendarService {
     private final MemberService memberService;
     private final BookingService bookingService;
     private final GoogleCalendarService googleCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 캘린더를 생성한다.
@@ -64,6 +68,8 @@ public class CalendarService {
 
         try {
             Calendar savedCalendar = calendarRepository.save(calendar);
+            eventPublisher.publishEvent(new CalendarTopicsChangedEvent(
+                member.getId(), savedCalendar.getId(), savedCalendar.getTopics()));
             int topicCount = request.getTopics() == null ? 0 : request.getTopics().size();
             log.info("[createCalendar] [SUCCESS] topicCount={}", topicCount);
             return CalendarResponseDTO.from(savedCalendar);
@@ -104,6 +110,8 @@ public class CalendarService {
             request.getGoogleCalendarId()
         );
         calendar.setCalendarAccessible(true);
+        eventPublisher.publishEvent(new CalendarTopicsChangedEvent(
+            member.getId(), calendar.getId(), calendar.getTopics()));
 
         return CalendarResponseDTO.from(calendar);
     }
@@ -144,6 +152,24 @@ public class CalendarService {
         return bookingService.getBookingsByHostAndDate(memberOpt.get().getId(), year, month);
     }
 
+    /**
+     * 공개 API용 호스트 바쁜 시간 조회.
+     * 사용자 열거 방지를 위해 Member/Calendar 미존재 모두 동일한 에러 반환.
+     */
+    @Transactional(readOnly = true)
+    public List<BusyTimeResponseDTO> getBusyTimesBySlug(String slug, int year, int month) {
+        Optional<Member> memberOpt = memberService.findMember(slug);
+        if (memberOpt.isEmpty()) {
+            throw new CustomException(ErrorCode.CALENDAR_NOT_FOUND);
+        }
+
+        if (!calendarRepository.existsByMemberId(memberOpt.get().getId())) {
+            throw new CustomException(ErrorCode.CALENDAR_NOT_FOUND);
+        }
+
+        return bookingService.getBusyTimesByHostAndDate(memberOpt.get().getId(), year, month);
+    }
+
     private void validateHostPermission(Member member) {
         if (member.getRole() != Role.HOST) {
             throw new CustomException(ErrorCode.GUEST_ACCESS_DENIED );
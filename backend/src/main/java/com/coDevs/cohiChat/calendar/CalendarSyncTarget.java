@@ -0,0 +1,11 @@
+package com.coDevs.cohiChat.calendar;
+
+import java.util.UUID;
+
+/**
+ * Google Calendar 바쁜 시간 동기화 대상: 호스트 ID와 연동된 캘린더 ID
+ */
+public interface CalendarSyncTarget {
+	UUID getHostId();
+	String getGoogleCalendarId();
+}
@@ -0,0 +1,153 @@
+package com.coDevs.cohiChat.calendar;
+
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.event.CalendarTopicsChangedEvent;
+import com.coDevs.cohiChat.global.cache.RemoteEntityChangedEvent;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+
+/**
+ * 호스트별 예약 주제(topic) 집합 캐시.
+ * <p>주제는 {@link #normalize(String)}로 정규화한 불변 Set으로 보관하므로
+ * 예약 생성/수정 시 캘린더 조회와 JSON 역직렬화 없이 O(1)로 검증한다.</p>
+ * <ul>
+ *     <li>캘린더 생성/수정 커밋 후 갱신하고, 없으면 첫 조회 시 적재한다.</li>
+ *     <li>다른 노드의 캘린더 변경은 2차 캐시 무효화 메시지({@link RemoteEntityChangedEvent})로 비우며,
+ *     메시지를 놓쳐도 TTL이 지나면 다시 적재한다.</li>
+ * </ul>
+ */
+@Component
+public class CalendarTopicCache {
+
+    private final CalendarRepository calendarRepository;
+    private final Clock clock;
+    private final Duration ttl;
+
+    private final Map<UUID, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    public CalendarTopicCache(
+        CalendarRepository calendarRepository,
+        Clock clock,
+        @Value("${app.calendar.topic-cache-ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.calendarRepository = calendarRepository;
+        this.clock = clock;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 주제 비교용 정규화: 유니코드 NFC, 앞뒤 공백 제거, 소문자화.
+     */
+    public static String normalize(String topic) {
+        if (topic == null) {
+            return "";
+        }
+        return Normalizer.normalize(topic, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> compile(List<String> topics) {
+        if (topics == null) {
+            return Set.of();
+        }
+        return topics.stream()
+            .map(CalendarTopicCache::normalize)
+            .filter(topic -> !topic.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 호스트의 정규화된 주제 집합
+     * @throws CustomException 호스트 캘린더가 없으면 CALENDAR_NOT_FOUND
+     */
+    public Set<String> getTopics(UUID hostId) {
+        CacheEntry cached = getIfFresh(hostId);
+        if (cached != null) {
+            return cached.topics();
+        }
+        Calendar calendar = calendarRepository.findByMemberId(hostId)
+            .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+        return put(hostId, calendar.getId(), calendar.getTopics()).topics();
+    }
+
+    /**
+     * 여러 호스트의 주제 집합. 캐시에 없는 호스트는 한 번의 쿼리로 적재하며, 캘린더가 없는 호스트는 결과에서 빠진다.
+     */
+    public Map<UUID, Set<String>> getTopics(Collection<UUID> hostIds) {
+        Map<UUID, Set<String>> result = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID hostId : hostIds) {
+            CacheEntry cached = getIfFresh(hostId);
+            if (cached != null) {
+                result.put(hostId, cached.topics());
+            } else {
+                misses.add(hostId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Calendar calendar : calendarRepository.findByMemberIdIn(misses)) {
+                UUID hostId = calendar.getUserId();
+                result.put(hostId, put(hostId, calendar.getId(), calendar.getTopics()).topics());
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTopicsChanged(CalendarTopicsChangedEvent event) {
+        put(event.getHostId(), event.getCalendarId(), event.getTopics());
+    }
+
+    @EventListener
+    public void handleRemoteEntityChanged(RemoteEntityChangedEvent event) {
+        if (!Calendar.class.getName().equals(event.getEntityName())) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.calendarId().equals(event.getId()));
+    }
+
+    private CacheEntry getIfFresh(UUID hostId) {
+        CacheEntry entry = entries.get(hostId);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isFresh(clock.instant())) {
+            entries.remove(hostId, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private CacheEntry put(UUID hostId, UUID calendarId, List<String> topics) {
+        CacheEntry entry = new CacheEntry(calendarId, compile(topics), clock.instant().plus(ttl));
+        entries.put(hostId, entry);
+        return entry;
+    }
+
+    private record CacheEntry(UUID calendarId, Set<String> topics, Instant expiresAt) {
+        boolean isFresh(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
@@ -22,6 +24,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.FetchType;
 
+import com.coDevs.cohiChat.global.cache.EntityCacheRegions;
 import com.coDevs.cohiChat.member.entity.Member;
 
 import lombok.AccessLevel;
@@ -31,6 +34,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "calendar")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.CALENDAR)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Calendar {
@@ -62,6 +66,9 @@ public class Calendar {
     @Column(name = "calendar_accessible")
     private Boolean calendarAccessible;
 
+    @Column(name = "feed_token_hash", length = 64)
+    private String feedTokenHash;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -103,4 +110,11 @@ public class Calendar {
         this.calendarAccessible = accessible;
     }
 
+    /**
+     * ICS 구독 피드 토큰 교체. 이전 토큰으로 등록된 구독은 더 이상 조회되지 않는다.
+     */
+    public void rotateFeedTokenHash(String feedTokenHash) {
+        this.feedTokenHash = feedTokenHash;
+    }
+
 }
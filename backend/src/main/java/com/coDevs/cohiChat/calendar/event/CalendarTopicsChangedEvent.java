@@ -0,0 +1,20 @@
+package com.coDevs.cohiChat.calendar.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캘린더 생성/수정으로 topics가 바뀐 뒤 발행되는 이벤트.
+ * 트랜잭션 커밋 후 호스트별 topic 캐시 갱신에 사용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CalendarTopicsChangedEvent {
+
+    private final UUID hostId;
+    private final UUID calendarId;
+    private final List<String> topics;
+}
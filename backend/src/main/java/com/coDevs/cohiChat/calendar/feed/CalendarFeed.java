@@ -0,0 +1,10 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 구독 요청 한 건의 피드 식별 정보. etag는 피드 내용이 바뀔 때만 달라진다.
+ */
+public record CalendarFeed(UUID hostId, String hostName, LocalDate fromDate, String etag) {
+}
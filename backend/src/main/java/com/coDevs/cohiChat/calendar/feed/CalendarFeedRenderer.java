@@ -0,0 +1,112 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.global.util.TimeUtils;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 예약을 DB 커서로 읽으며 VEVENT를 바로 출력 스트림에 쓴다.
+ * 예약 목록 전체를 메모리에 올리지 않도록 한 건씩 렌더링한 뒤 영속성 컨텍스트에서 분리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarFeedRenderer {
+
+    private static final String UID_DOMAIN = "@cohi-chat.com";
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final BookingRepository bookingRepository;
+    private final GoogleCalendarProperties googleCalendarProperties;
+    private final EntityManager entityManager;
+
+    private volatile ZoneId calendarZoneId;
+
+    @PostConstruct
+    void initZoneId() {
+        String timezone = googleCalendarProperties.getTimezone();
+        if (timezone == null || timezone.isBlank()) {
+            calendarZoneId = DEFAULT_ZONE;
+            return;
+        }
+        try {
+            calendarZoneId = ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            log.warn("Invalid timezone '{}' in GoogleCalendarProperties, falling back to Asia/Seoul: {}", timezone, e.getMessage());
+            calendarZoneId = DEFAULT_ZONE;
+        }
+    }
+
+    /**
+     * @return 출력한 VEVENT 수
+     */
+    @Transactional(readOnly = true)
+    public int render(UUID hostId, String hostName, LocalDate fromDate, OutputStream outputStream) throws IOException {
+        IcsWriter ics = new IcsWriter(outputStream);
+        ics.property("BEGIN", "VCALENDAR");
+        ics.property("VERSION", "2.0");
+        ics.property("PRODID", "-//cohiChat//Booking Feed//KO");
+        ics.property("CALSCALE", "GREGORIAN");
+        ics.property("METHOD", "PUBLISH");
+        ics.text("X-WR-CALNAME", "cohiChat - " + hostName);
+        ics.property("X-WR-TIMEZONE", calendarZoneId.getId());
+
+        int eventCount = 0;
+        try (Stream<Booking> bookings = bookingRepository.streamFeedBookingsByHostId(hostId, fromDate)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                writeEvent(ics, booking);
+                entityManager.detach(booking);
+                eventCount++;
+            }
+        }
+
+        ics.property("END", "VCALENDAR");
+        ics.flush();
+        return eventCount;
+    }
+
+    private void writeEvent(IcsWriter ics, Booking booking) throws IOException {
+        TimeSlot timeSlot = booking.getTimeSlot();
+        Instant start = TimeUtils.toUtcInstant(booking.getBookingDate(), timeSlot.getStartTime(), calendarZoneId);
+        Instant end = TimeUtils.toUtcInstant(booking.getBookingDate(), timeSlot.getEndTime(), calendarZoneId);
+        Instant stamp = booking.getUpdatedAt() != null ? booking.getUpdatedAt()
+            : booking.getCreatedAt() != null ? booking.getCreatedAt() : start;
+
+        ics.property("BEGIN", "VEVENT");
+        ics.property("UID", "booking-" + booking.getId() + UID_DOMAIN);
+        ics.dateTime("DTSTAMP", stamp);
+        ics.dateTime("DTSTART", start);
+        ics.dateTime("DTEND", end);
+        ics.text("SUMMARY", "[커피챗] " + booking.getTopic());
+        ics.text("DESCRIPTION", booking.getDescription());
+        ics.text("LOCATION", booking.getMeetingType() == MeetingType.OFFLINE
+            ? booking.getLocation() : booking.getMeetingLink());
+        ics.property("STATUS", AttendanceStatus.getCancelledStatuses().contains(booking.getAttendanceStatus())
+            ? "CANCELLED" : "CONFIRMED");
+        ics.property("END", "VEVENT");
+    }
+}
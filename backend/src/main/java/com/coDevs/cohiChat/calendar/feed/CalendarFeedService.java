@@ -0,0 +1,209 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingFeedVersion;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.response.CalendarFeedTokenResponseDTO;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.util.TokenHashUtil;
+import com.coDevs.cohiChat.member.MemberService;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 예약 ICS 구독 피드.
+ * <ul>
+ *     <li>구독 주소는 호스트가 발급한 토큰으로 보호하며, DB에는 토큰 해시만 저장한다.</li>
+ *     <li>요청마다 집계 쿼리 한 번으로 피드 버전(ETag)을 계산하고, 변경이 없으면 304로 응답한다.</li>
+ *     <li>렌더링 결과는 호스트별 최신 버전 하나만 메모리에 보관하고, 버전이 바뀌면 DB 커서로 다시 렌더링한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CalendarFeedService {
+
+    private static final int ETAG_LENGTH = 32;
+
+    private final CalendarRepository calendarRepository;
+    private final BookingRepository bookingRepository;
+    private final MemberService memberService;
+    private final CalendarFeedRenderer calendarFeedRenderer;
+    private final Clock clock;
+    private final int pastDays;
+    private final int cacheMaxEntries;
+    private final int cacheMaxBytes;
+
+    private final Map<UUID, RenderedFeed> renderedFeeds = new ConcurrentHashMap<>();
+
+    public CalendarFeedService(
+        CalendarRepository calendarRepository,
+        BookingRepository bookingRepository,
+        MemberService memberService,
+        CalendarFeedRenderer calendarFeedRenderer,
+        Clock clock,
+        @Value("${app.calendar.feed.past-days:90}") int pastDays,
+        @Value("${app.calendar.feed.cache-max-entries:1000}") int cacheMaxEntries,
+        @Value("${app.calendar.feed.cache-max-bytes:1048576}") int cacheMaxBytes
+    ) {
+        this.calendarRepository = calendarRepository;
+        this.bookingRepository = bookingRepository;
+        this.memberService = memberService;
+        this.calendarFeedRenderer = calendarFeedRenderer;
+        this.clock = clock;
+        this.pastDays = pastDays;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    /**
+     * 구독 피드 토큰을 새로 발급한다. 이전 토큰은 즉시 무효화된다.
+     */
+    @Transactional
+    public CalendarFeedTokenResponseDTO issueFeedToken(Member member) {
+        if (member.getRole() != Role.HOST) {
+            throw new CustomException(ErrorCode.GUEST_ACCESS_DENIED);
+        }
+        Calendar calendar = calendarRepository.findByMemberId(member.getId())
+            .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+
+        String feedToken = UUID.randomUUID().toString();
+        calendar.rotateFeedTokenHash(TokenHashUtil.hash(feedToken));
+        log.info("[issueFeedToken] [SUCCESS]");
+        return CalendarFeedTokenResponseDTO.of(member.getUsername(), feedToken);
+    }
+
+    /**
+     * slug와 토큰을 검증하고 현재 피드 버전을 계산한다.
+     * 사용자 열거 방지를 위해 Member/Calendar 미존재와 토큰 불일치 모두 동일한 에러 반환.
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeed resolveFeed(String slug, String feedToken) {
+        Member host = memberService.findMember(slug)
+            .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+        Calendar calendar = calendarRepository.findByMemberId(host.getId())
+            .orElseThrow(() -> new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+        if (!matchesFeedToken(calendar.getFeedTokenHash(), feedToken)) {
+            throw new CustomException(ErrorCode.CALENDAR_NOT_FOUND);
+        }
+
+        LocalDate fromDate = LocalDate.now(clock).minusDays(pastDays);
+        BookingFeedVersion version = bookingRepository.findFeedVersionByHostId(host.getId(), fromDate);
+        String etag = toEtag(host.getId() + "|" + host.getDisplayName() + "|" + fromDate + "|"
+            + version.getBookingCount() + "|" + version.getLastBookingUpdatedAt() + "|"
+            + version.getLastTimeSlotUpdatedAt());
+        return new CalendarFeed(host.getId(), host.getDisplayName(), fromDate, etag);
+    }
+
+    /**
+     * 같은 버전의 렌더링 결과가 있으면 그대로 쓰고, 없으면 DB 커서로 렌더링하면서 결과를 함께 보관한다.
+     */
+    public void writeFeed(CalendarFeed feed, OutputStream outputStream) throws IOException {
+        RenderedFeed cached = renderedFeeds.get(feed.hostId());
+        if (cached != null && cached.etag().equals(feed.etag())) {
+            outputStream.write(cached.body());
+            return;
+        }
+
+        CappedCopyOutputStream copy = new CappedCopyOutputStream(outputStream, cacheMaxBytes);
+        int eventCount = calendarFeedRenderer.render(feed.hostId(), feed.hostName(), feed.fromDate(), copy);
+        byte[] body = copy.toByteArray();
+        if (body != null) {
+            cache(feed.hostId(), new RenderedFeed(feed.etag(), body));
+        }
+        log.info("[renderCalendarFeed] [SUCCESS] eventCount={}, cached={}", eventCount, body != null);
+    }
+
+    private void cache(UUID hostId, RenderedFeed renderedFeed) {
+        if (!renderedFeeds.containsKey(hostId) && renderedFeeds.size() >= cacheMaxEntries) {
+            Iterator<UUID> iterator = renderedFeeds.keySet().iterator();
+            if (iterator.hasNext()) {
+                renderedFeeds.remove(iterator.next());
+            }
+        }
+        renderedFeeds.put(hostId, renderedFeed);
+    }
+
+    private static boolean matchesFeedToken(String feedTokenHash, String feedToken) {
+        if (feedTokenHash == null || feedToken == null || feedToken.isBlank()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            feedTokenHash.getBytes(StandardCharsets.UTF_8),
+            TokenHashUtil.hash(feedToken).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toEtag(String version) {
+        return "\"" + TokenHashUtil.hash(version).substring(0, ETAG_LENGTH) + "\"";
+    }
+
+    private record RenderedFeed(String etag, byte[] body) {
+    }
+
+    /**
+     * 응답 스트림에 쓰면서 maxBytes까지만 복사본을 남긴다. 넘치면 복사본을 버린다.
+     */
+    private static class CappedCopyOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private final int maxBytes;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        CappedCopyOutputStream(OutputStream delegate, int maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (copy != null) {
+                copy.write(b);
+                discardIfOverflow();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            if (copy != null) {
+                copy.write(b, off, len);
+                discardIfOverflow();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        byte[] toByteArray() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+
+        private void discardIfOverflow() {
+            if (copy.size() > maxBytes) {
+                copy = null;
+            }
+        }
+    }
+}
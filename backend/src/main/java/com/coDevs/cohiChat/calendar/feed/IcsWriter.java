@@ -0,0 +1,89 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 5545 형식으로 iCalendar 속성을 한 줄씩 쓰는 Writer.
+ * <p>줄 끝은 CRLF, 한 줄이 75옥텟을 넘으면 UTF-8 문자 경계에서 접는다(folding).</p>
+ */
+class IcsWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+
+    IcsWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    void property(String name, String value) throws IOException {
+        writeLine(name + ":" + value);
+    }
+
+    /**
+     * TEXT 값 속성. 값이 비어 있으면 속성을 생략한다.
+     */
+    void text(String name, String value) throws IOException {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        property(name, escape(value));
+    }
+
+    void dateTime(String name, Instant instant) throws IOException {
+        property(name, UTC_DATE_TIME.format(instant));
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    static String escape(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace(";", "\\;")
+            .replace(",", "\\,")
+            .replace("\r\n", "\\n")
+            .replace("\n", "\\n")
+            .replace("\r", "");
+    }
+
+    private void writeLine(String line) throws IOException {
+        int lineOctets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int octets = utf8Length(codePoint);
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                // 접힌 줄은 공백 한 칸으로 시작하며, 이 공백도 75옥텟에 포함된다
+                writer.write(CRLF);
+                writer.write(' ');
+                lineOctets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            lineOctets += octets;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,25 @@
+package com.coDevs.cohiChat.calendar.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ICS 구독 피드 토큰 발급 응답 DTO.
+ * 토큰 원문은 이 응답에서만 내려가며, 재발급하면 이전 구독 주소는 무효화된다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CalendarFeedTokenResponseDTO {
+
+    private String feedToken;
+    private String feedPath;
+
+    public static CalendarFeedTokenResponseDTO of(String slug, String feedToken) {
+        return CalendarFeedTokenResponseDTO.builder()
+            .feedToken(feedToken)
+            .feedPath("/calendar/" + slug + "/feed.ics?token=" + feedToken)
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.coDevs.cohiChat.global.cache;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate 2차 캐시(JCache + 로컬 Caffeine) 설정.
+ * <p>리전은 기동 시 TTL/최대 크기를 지정해 미리 만든다. 캐시는 노드마다 따로 있으므로
+ * 다른 노드의 변경은 {@link EntityCacheInvalidator}가 Redis로 전달받아 무효화한다.</p>
+ * <p>리전별 hit/miss/put은 Hibernate 통계를 통해 {@code hibernate.second.level.cache.*} 메트릭으로 노출된다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+
+        long ttlNanos = TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        long queryTtlNanos = TimeUnit.SECONDS.toNanos(properties.getQueryTtlSeconds());
+        EntityCacheRegions.ENTITY_REGIONS
+            .forEach(region -> createIfAbsent(cacheManager, region, ttlNanos, properties.getMaxEntries()));
+        EntityCacheRegions.QUERY_REGIONS
+            .forEach(region -> createIfAbsent(cacheManager, region, queryTtlNanos, properties.getMaxEntries()));
+        // 갱신 타임스탬프는 쿼리 캐시보다 먼저 사라지면 안 되므로 만료/축출 없이 둔다 (테이블 수만큼만 쌓임)
+        createIfAbsent(cacheManager, EntityCacheRegions.UPDATE_TIMESTAMPS, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String region, Long ttlNanos, Integer maxEntries) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (ttlNanos != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttlNanos));
+        }
+        if (maxEntries != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,25 @@
+package com.coDevs.cohiChat.global.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "app.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        EntityCacheInvalidator entityCacheInvalidator,
+        EntityCacheProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(entityCacheInvalidator, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
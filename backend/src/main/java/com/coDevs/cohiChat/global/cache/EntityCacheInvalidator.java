@@ -0,0 +1,147 @@
+package com.coDevs.cohiChat.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 2차 캐시 무효화.
+ * <p>캐시 대상 엔티티의 insert/update/delete가 커밋되면 Redis 채널로 {@code 노드ID|엔티티명|ID}를 보내고,
+ * 다른 노드는 메시지를 받아 해당 엔티티, 그 엔티티가 소유한 컬렉션, 쿼리 캐시를 비우고
+ * 파생 로컬 캐시를 위해 {@link RemoteEntityChangedEvent}를 발행한다.
+ * 자기 노드의 캐시는 Hibernate가 이미 갱신하므로 자신이 보낸 메시지는 무시한다.</p>
+ * <p>Redis 장애로 메시지를 놓치면 {@code app.entity-cache.ttl-seconds} 안에 갱신된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheInvalidator implements MessageListener, PostCommitInsertEventListener,
+    PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final EntityCacheProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    void registerListeners() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 다른 노드에 알릴 필요 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 다른 노드에 알릴 필요 없음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 다른 노드에 알릴 필요 없음
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        String message = String.join(SEPARATOR, nodeId, persister.getEntityName(), String.valueOf(id));
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            log.warn(StructuredLogMessage.of("entity-cache-invalidate", "PUBLISH_FAILED")
+                .add("entity", persister.getEntityName())
+                .add("id", id)
+                .add("error", e.getMessage())
+                .build());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        evict(parts[1], parts[2]);
+    }
+
+    void evict(String entityName, String rawId) {
+        try {
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName);
+            Object id = persister.getIdentifierMapping().getJavaType().fromString(rawId);
+
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(entityName, id);
+            sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+                if (collection.hasCache() && entityName.equals(collection.getOwnerEntityPersister().getEntityName())) {
+                    cache.evictCollectionData(collection.getRole(), id);
+                }
+            });
+            // 다른 노드의 변경은 이 노드의 갱신 타임스탬프에 반영되지 않으므로 쿼리 캐시를 직접 비운다
+            cache.evictQueryRegions();
+
+            eventPublisher.publishEvent(new RemoteEntityChangedEvent(entityName, id));
+        } catch (Exception e) {
+            log.warn(StructuredLogMessage.of("entity-cache-invalidate", "FAILED")
+                .add("entity", entityName)
+                .add("id", rawId)
+                .add("error", e.getMessage())
+                .build());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.coDevs.cohiChat.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.entity-cache")
+public class EntityCacheProperties {
+
+	/** false면 Hibernate 2차 캐시/쿼리 캐시를 사용하지 않는다 */
+	private boolean enabled = true;
+
+	/** 엔티티/컬렉션 캐시 유지 시간. 다른 노드의 무효화 메시지를 놓쳐도 이 시간이 지나면 갱신된다 */
+	@Min(1)
+	private int ttlSeconds = 600;
+
+	@Min(1)
+	private int queryTtlSeconds = 300;
+
+	/** 리전별 최대 항목 수 */
+	@Min(1)
+	private int maxEntries = 10000;
+
+	/** 노드 간 무효화 메시지를 주고받는 Redis Pub/Sub 채널 */
+	@NotBlank
+	private String invalidationChannel = "entity-cache:invalidate";
+}
@@ -0,0 +1,33 @@
+package com.coDevs.cohiChat.global.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전 이름.
+ */
+public final class EntityCacheRegions {
+
+    public static final String MEMBER = "member";
+    public static final String CALENDAR = "calendar";
+    public static final String TIME_SLOT = "time_slot";
+    public static final String TIME_SLOT_WEEKDAY = "time_slot_weekday";
+    public static final String TIME_SLOT_WEEKDAYS = "time_slot.weekdays";
+
+    /** CalendarRepository.findByMemberId 쿼리 캐시 */
+    public static final String CALENDAR_BY_MEMBER_QUERY = "query.calendar_by_member";
+
+    /** Hibernate 기본 리전 */
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+        MEMBER, CALENDAR, TIME_SLOT, TIME_SLOT_WEEKDAY, TIME_SLOT_WEEKDAYS
+    );
+
+    public static final List<String> QUERY_REGIONS = List.of(
+        CALENDAR_BY_MEMBER_QUERY, DEFAULT_QUERY_RESULTS
+    );
+
+    private EntityCacheRegions() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.coDevs.cohiChat.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 노드에서 캐시 대상 엔티티가 변경되어 이 노드의 2차 캐시를 비운 뒤 발행되는 이벤트.
+ * 엔티티에서 파생된 로컬 캐시의 무효화에 사용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RemoteEntityChangedEvent {
+
+    private final String entityName;
+    private final Object id;
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -133,6 +134,42 @@ public class S3PresignedUrlService {
         }
     }
 
+    /**
+     * 서버 측 후처리(이미지 변환 등)를 위한 객체 다운로드
+     *
+     * @param objectKey S3 객체 키
+     * @return 객체 바이트 (객체가 없으면 empty)
+     */
+    public Optional<byte[]> getObjectBytes(String objectKey) {
+        GetObjectRequest request = GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(objectKey)
+            .build();
+
+        try {
+            return Optional.of(s3Client.getObjectAsBytes(request).asByteArray());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 서버에서 생성한 객체 업로드
+     *
+     * @param objectKey   S3 객체 키
+     * @param content     객체 바이트
+     * @param contentType Content-Type
+     */
+    public void putObject(String objectKey, byte[] content, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(objectKey)
+            .contentType(contentType)
+            .build();
+
+        s3Client.putObject(request, RequestBody.fromBytes(content));
+    }
+
     public void deleteObjectQuietly(String objectKey) {
         DeleteObjectRequest request = DeleteObjectRequest.builder()
             .bucket(bucketName)
@@ -0,0 +1,79 @@
+package com.coDevs.cohiChat.global.common.file;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명된 다운로드 URL 캐시.
+ * <p>같은 객체에 대한 반복 요청 시 SigV4 서명을 다시 계산하지 않도록 objectKey 기준으로 URL을 재사용한다.
+ * 만료 직전 URL을 내려주지 않도록 안전 마진 이내로 남은 항목은 새로 서명한다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다(LRU).</p>
+ */
+@Component
+public class SignedUrlCache {
+
+    private final Clock clock;
+    private final Duration safetyMargin;
+    private final Map<String, SignedUrl> cache;
+
+    public SignedUrlCache(
+            Clock clock,
+            @Value("${app.file.signed-url-cache.max-size:1000}") int maxSize,
+            @Value("${app.file.signed-url-cache.safety-margin-seconds:60}") long safetyMarginSeconds
+    ) {
+        this.clock = clock;
+        this.safetyMargin = Duration.ofSeconds(safetyMarginSeconds);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SignedUrl> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 URL이 안전 마진 이상 유효하면 재사용하고, 아니면 signer로 새로 서명한다.
+     *
+     * @param objectKey S3 객체 키
+     * @param signer    objectKey로 새 서명 URL을 만드는 함수
+     * @return 서명 URL과 만료 시각
+     */
+    public SignedUrl getOrSign(String objectKey, Function<String, SignedUrl> signer) {
+        Instant reusableUntil = clock.instant().plus(safetyMargin);
+
+        SignedUrl cached;
+        synchronized (cache) {
+            cached = cache.get(objectKey);
+        }
+        if (cached != null && cached.expiresAt().isAfter(reusableUntil)) {
+            return cached;
+        }
+
+        // 서명은 락 밖에서 수행 (동시 요청 시 중복 서명은 허용)
+        SignedUrl signed = signer.apply(objectKey);
+        synchronized (cache) {
+            cache.put(objectKey, signed);
+        }
+        return signed;
+    }
+
+    public void evict(String objectKey) {
+        synchronized (cache) {
+            cache.remove(objectKey);
+        }
+    }
+
+    public int expiresInSeconds(SignedUrl signedUrl) {
+        long seconds = Duration.between(clock.instant(), signedUrl.expiresAt()).toSeconds();
+        return (int) Math.max(seconds, 0);
+    }
+
+    public record SignedUrl(String url, Instant expiresAt) {}
+}
@@ -0,0 +1,127 @@
+package com.coDevs.cohiChat.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업용 Executor 설정.
+ * <p>ThreadPoolTaskExecutor 빈은 Actuator가 executor.* 메트릭(활성 스레드, 큐 크기, 완료 수)으로 자동 계측한다.</p>
+ * <p>전용 Executor를 하나라도 등록하면 Spring Boot 기본 applicationTaskExecutor가 비활성화되므로,
+ * 기존 {@code @Async} 동작을 유지하기 위해 기본 taskExecutor를 Boot 빌더로 다시 등록한다.</p>
+ */
+@Configuration
+public class AsyncConfig {
+
+	public static final String PROFILE_IMAGE_VARIANT_EXECUTOR = "profileImageVariantExecutor";
+	public static final String SMTP_VALIDATION_EXECUTOR = "smtpValidationExecutor";
+	public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+	public static final String GOOGLE_CALENDAR_DRAIN_EXECUTOR = "googleCalendarDrainExecutor";
+	public static final String GOOGLE_BUSY_SYNC_EXECUTOR = "googleBusySyncExecutor";
+
+	@Value("${app.profile-image.variant.pool-size:2}")
+	private int variantPoolSize;
+
+	@Value("${app.profile-image.variant.queue-capacity:100}")
+	private int variantQueueCapacity;
+
+	@Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+	@Primary
+	public ThreadPoolTaskExecutor taskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	/**
+	 * 프로필 이미지 변환(리사이즈/재인코딩) 전용 Executor.
+	 * CPU 바운드 작업이므로 풀 크기를 작게 고정하고, 큐가 가득 차면 작업을 거절한다.
+	 * 거절된 변환은 원본 이미지로 서빙되므로 기능상 문제는 없다.
+	 */
+	@Bean(name = PROFILE_IMAGE_VARIANT_EXECUTOR)
+	public ThreadPoolTaskExecutor profileImageVariantExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(variantPoolSize);
+		executor.setMaxPoolSize(variantPoolSize);
+		executor.setQueueCapacity(variantQueueCapacity);
+		executor.setThreadNamePrefix("profile-variant-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * SMTP 이메일 검증 전용 Executor.
+	 * 작업 대부분이 DNS/SMTP 응답 대기이므로 스레드 수와 큐를 모두 제한하여
+	 * 가입 폭주 시에도 스레드가 무한정 늘어나지 않도록 한다.
+	 * 큐가 가득 차면 작업을 거절하며, 호출 측에서 검증 생략(통과)으로 처리한다.
+	 */
+	@Bean(name = SMTP_VALIDATION_EXECUTOR)
+	public ThreadPoolTaskExecutor smtpValidationExecutor(SmtpValidationProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getPoolSize());
+		executor.setMaxPoolSize(properties.getPoolSize());
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setThreadNamePrefix("smtp-verify-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		return executor;
+	}
+
+	/**
+	 * 비밀번호 해싱(BCrypt) 전용 Executor.
+	 * 로그인 폭주 시 요청 스레드가 모두 해싱에 묶이지 않도록 스레드 수와 큐를 제한하며,
+	 * 큐가 가득 차면 작업을 거절하고 호출 측에서 503으로 응답한다.
+	 */
+	@Bean(name = PASSWORD_HASHING_EXECUTOR)
+	public ThreadPoolTaskExecutor passwordHashingExecutor(PasswordHashingProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getPoolSize());
+		executor.setMaxPoolSize(properties.getPoolSize());
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+
+	/**
+	 * Google Calendar 대기열 처리 전용 Executor.
+	 * 외부 API 호출이 공유 스케줄러 스레드를 점유하지 않도록 처리 주기를 이 스레드에서 실행한다.
+	 * 이전 주기가 아직 실행 중이면 새 주기는 버린다 (다음 주기에서 이어서 처리).
+	 */
+	@Bean(name = GOOGLE_CALENDAR_DRAIN_EXECUTOR)
+	public ThreadPoolTaskExecutor googleCalendarDrainExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("gcal-drain-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * Google 바쁜 시간 동기화 전용 Executor.
+	 * 호스트마다 events.list를 차례로 호출하는 긴 작업이므로 공유 스케줄러 스레드 대신 이 스레드에서 실행한다.
+	 * 이전 동기화가 아직 실행 중이면 새 주기는 버린다.
+	 */
+	@Bean(name = GOOGLE_BUSY_SYNC_EXECUTOR)
+	public ThreadPoolTaskExecutor googleBusySyncExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("gcal-busy-sync-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		return executor;
+	}
+}
@@ -0,0 +1,111 @@
+package com.coDevs.cohiChat.global.config;
+
+import java.io.IOException;
+import java.net.Socket;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * 외부 API 호출용 공유 HTTP 클라이언트 설정.
+ * <p>Google Calendar 전송 계층과 OAuth RestClient가 하나의 커넥션 풀을 함께 쓴다.
+ * keep-alive 커넥션을 재사용해 호출마다 TCP/TLS 핸드셰이크를 반복하지 않는다.</p>
+ * <p>풀 상태는 httpcomponents.httpclient.pool.* 메트릭으로, 새 커넥션의 TLS 핸드셰이크 시간은
+ * {@value #TLS_HANDSHAKE_METRIC} 타이머로 노출한다.</p>
+ * <p>재시도는 호출하는 쪽(GoogleApiCallGuard)이 담당하므로 클라이언트 자동 재시도는 끈다.
+ * OAuth 인가 코드 교환처럼 한 번만 유효한 요청이 중복 전송되지 않도록 하기 위함이기도 하다.</p>
+ */
+@Configuration
+public class HttpClientConfig {
+
+	public static final String POOL_NAME = "shared";
+	public static final String TLS_HANDSHAKE_METRIC = "http.client.tls.handshake";
+
+	@Bean
+	public CloseableHttpClient sharedHttpClient(HttpClientProperties properties, MeterRegistry meterRegistry) {
+		return createHttpClient(properties, SSLContexts.createSystemDefault(), meterRegistry);
+	}
+
+	/**
+	 * 테스트에서 자체 서명 인증서를 신뢰하는 SSLContext를 넘길 수 있도록 분리한다.
+	 */
+	static CloseableHttpClient createHttpClient(
+		HttpClientProperties properties,
+		SSLContext sslContext,
+		MeterRegistry meterRegistry
+	) {
+		ConnectionConfig connectionConfig = ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+			.setSocketTimeout(Timeout.ofMilliseconds(properties.getSocketTimeoutMs()))
+			.setValidateAfterInactivity(TimeValue.ofMilliseconds(properties.getValidateAfterInactivityMs()))
+			.setTimeToLive(TimeValue.ofSeconds(properties.getTimeToLiveSeconds()))
+			.build();
+
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.getMaxTotal())
+			.setMaxConnPerRoute(properties.getMaxPerRoute())
+			.setDefaultConnectionConfig(connectionConfig)
+			.setTlsSocketStrategy(new TimedTlsSocketStrategy(new DefaultClientTlsStrategy(sslContext), meterRegistry))
+			.build();
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.evictIdleConnections(TimeValue.ofSeconds(properties.getIdleEvictSeconds()))
+			.evictExpiredConnections()
+			.disableAutomaticRetries()
+			.disableRedirectHandling()
+			.build();
+	}
+
+	/**
+	 * 새 커넥션을 TLS로 업그레이드(핸드셰이크)하는 시간을 호스트별로 기록한다.
+	 * 풀에서 재사용한 커넥션은 이 경로를 거치지 않으므로 기록 횟수가 곧 새 TLS 커넥션 수다.
+	 */
+	private static class TimedTlsSocketStrategy implements TlsSocketStrategy {
+
+		private final TlsSocketStrategy delegate;
+		private final MeterRegistry meterRegistry;
+
+		TimedTlsSocketStrategy(TlsSocketStrategy delegate, MeterRegistry meterRegistry) {
+			this.delegate = delegate;
+			this.meterRegistry = meterRegistry;
+		}
+
+		@Override
+		public SSLSocket upgrade(Socket socket, String target, int port, Object attachment, HttpContext context)
+			throws IOException {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String outcome = "failure";
+			try {
+				SSLSocket sslSocket = delegate.upgrade(socket, target, port, attachment, context);
+				outcome = "success";
+				return sslSocket;
+			} finally {
+				sample.stop(Timer.builder(TLS_HANDSHAKE_METRIC)
+					.tag("host", target)
+					.tag("outcome", outcome)
+					.register(meterRegistry));
+			}
+		}
+	}
+}
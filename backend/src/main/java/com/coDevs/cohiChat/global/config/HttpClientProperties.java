@@ -0,0 +1,44 @@
+package com.coDevs.cohiChat.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 외부 API 호출(Google Calendar, OAuth)이 함께 쓰는 커넥션 풀 설정.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientProperties {
+
+	@Min(1)
+	private int maxTotal = 50;
+
+	/** 호스트(라우트)당 최대 커넥션 수. 한 API가 풀 전체를 점유하지 못하게 한다 */
+	@Min(1)
+	private int maxPerRoute = 20;
+
+	@Min(100)
+	private int connectTimeoutMs = 5000;
+
+	/** 요청별 타임아웃을 지정하지 않은 호출(OAuth)의 응답 대기 시간 */
+	@Min(100)
+	private int socketTimeoutMs = 10000;
+
+	/** 이 시간 이상 쉬고 있는 커넥션은 백그라운드에서 닫는다 */
+	@Min(1)
+	private int idleEvictSeconds = 30;
+
+	/** 커넥션 최대 수명. DNS 변경이 반영되도록 오래된 커넥션을 교체한다 */
+	@Min(1)
+	private int timeToLiveSeconds = 300;
+
+	/** 풀에서 꺼낼 때 이 시간 이상 쉬었던 커넥션은 재사용 전에 상태를 확인한다 */
+	@Min(0)
+	private int validateAfterInactivityMs = 2000;
+}
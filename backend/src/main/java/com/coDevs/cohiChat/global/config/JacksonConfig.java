@@ -0,0 +1,20 @@
+package com.coDevs.cohiChat.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Spring Boot는 {@code Module} 빈을 기본 ObjectMapper에 자동 등록한다.
+ * Blackbird는 getter/생성자 접근을 리플렉션 대신 LambdaMetafactory로 만든 람다로 바꿔
+ * 예약 목록처럼 필드가 많은 DTO를 대량 직렬화할 때 CPU를 줄인다. 출력 JSON은 그대로다.
+ */
+@Configuration
+public class JacksonConfig {
+
+	@Bean
+	public BlackbirdModule blackbirdModule() {
+		return new BlackbirdModule();
+	}
+}
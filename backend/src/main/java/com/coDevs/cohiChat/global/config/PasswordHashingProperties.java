@@ -0,0 +1,33 @@
+package com.coDevs.cohiChat.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+	/** BCrypt cost. 올리면 다음 로그인 때 새 cost로 다시 해싱한다 */
+	@Min(4)
+	@Max(31)
+	private int bcryptStrength = 10;
+
+	/** 해싱 전용 Executor 스레드 수. CPU 바운드 작업이므로 코어 수 이하로 둔다 */
+	@Min(1)
+	private int poolSize = 4;
+
+	/** 대기 큐 크기. 초과 시 즉시 503으로 거절 */
+	@Min(0)
+	private int queueCapacity = 32;
+
+	/** 요청 스레드가 해싱 결과를 기다리는 최대 시간 (큐 대기 포함) */
+	@Min(100)
+	private int waitTimeoutMs = 2000;
+}
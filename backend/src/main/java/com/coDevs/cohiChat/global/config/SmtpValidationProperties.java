@@ -0,0 +1,46 @@
+package com.coDevs.cohiChat.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.smtp-validation")
+public class SmtpValidationProperties {
+
+	@Min(1)
+	private int port = 25;
+
+	@Min(100)
+	private int timeoutMs = 5000;
+
+	/** 검증 전용 Executor 스레드 수 */
+	@Min(1)
+	private int poolSize = 4;
+
+	/** 대기 큐 크기. 초과 시 검증을 건너뛰고 통과 처리 */
+	@Min(0)
+	private int queueCapacity = 100;
+
+	/** 같은 도메인(MX)에 동시에 열 수 있는 SMTP 연결 수 */
+	@Min(1)
+	private int perDomainConcurrency = 2;
+
+	/** 도메인별 동시 연결 제한용 세마포어 stripe 수. 해시가 겹치는 도메인은 한도를 공유한다 */
+	@Min(1)
+	private int domainPermitStripes = 64;
+
+	@Min(1)
+	private int mxCacheTtlSeconds = 3600;
+
+	@Min(1)
+	private int resultCacheTtlSeconds = 600;
+
+	@Min(1)
+	private int cacheMaxSize = 10000;
+}
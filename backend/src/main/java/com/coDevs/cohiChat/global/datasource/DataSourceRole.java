@@ -0,0 +1,6 @@
+package com.coDevs.cohiChat.global.datasource;
+
+public enum DataSourceRole {
+	PRIMARY,
+	REPLICA
+}
@@ -0,0 +1,123 @@
+package com.coDevs.cohiChat.global.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * primary/replica 읽기-쓰기 분리 설정.
+ * <p>{@code app.datasource.replica.enabled=true}일 때만 적용되며, 그 외에는 Boot 기본 DataSource를 사용한다.
+ * 각 풀은 이름(primary, replica)별로 hikaricp.* 메트릭이 노출된다.</p>
+ * <p>Open Session In View로 EntityManager가 요청 전체에 열려 있으므로, Hibernate가 트랜잭션마다 커넥션을
+ * 반납하도록 설정한다. 커넥션을 요청 끝까지 쥐고 있으면 readOnly 조회 뒤의 쓰기가 replica 커넥션으로 실행된다.
+ * application.properties에서 전역으로 설정하지만, 라우팅에는 필수이므로 프로퍼티가 바뀌어도 여기서 다시 강제한다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+	public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+	@Bean(name = PRIMARY_DATA_SOURCE)
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean(name = REPLICA_DATA_SOURCE)
+	public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+		if (!StringUtils.hasText(properties.getUrl())) {
+			throw new IllegalStateException("app.datasource.replica.url must be set when replica routing is enabled");
+		}
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("replica");
+		dataSource.setJdbcUrl(properties.getUrl());
+		dataSource.setUsername(properties.getUsername());
+		dataSource.setPassword(properties.getPassword());
+		if (StringUtils.hasText(properties.getDriverClassName())) {
+			dataSource.setDriverClassName(properties.getDriverClassName());
+		}
+		dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+		dataSource.setMinimumIdle(properties.getMinimumIdle());
+		dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+		dataSource.setReadOnly(true);
+		// replica 장애로 애플리케이션 기동이 실패하지 않도록 초기 커넥션을 검사하지 않는다
+		dataSource.setInitializationFailTimeout(-1);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+		ReplicaDataSourceProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		return new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+		@Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor,
+		MeterRegistry meterRegistry
+	) {
+		return routingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry);
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+		return DataSourceRoutingConfig::applyConnectionHandling;
+	}
+
+	/**
+	 * 트랜잭션이 끝날 때마다 커넥션을 반납해, 다음 트랜잭션이 readOnly 여부에 따라 다시 라우팅되도록 한다.
+	 */
+	static void applyConnectionHandling(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+			PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+	/**
+	 * 라우팅 DataSource를 LazyConnectionDataSourceProxy로 감싼다.
+	 * 실제 커넥션은 첫 쿼리 시점에 얻으므로 그때는 트랜잭션의 readOnly 플래그가 설정되어 있다.
+	 */
+	static DataSource routingDataSource(
+		DataSource primaryDataSource,
+		DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor,
+		MeterRegistry meterRegistry
+	) {
+		ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor, meterRegistry);
+		routingDataSource.setTargetDataSources(Map.of(
+			DataSourceRole.PRIMARY, primaryDataSource,
+			DataSourceRole.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,54 @@
+package com.coDevs.cohiChat.global.datasource;
+
+import java.util.Locale;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary로 보내는 라우팅 DataSource.
+ * <p>트랜잭션 매니저는 readOnly 플래그를 설정하기 전에 커넥션을 요청하므로,
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸
+ * 첫 쿼리 시점에 라우팅이 결정되도록 해야 한다.</p>
+ * <p>replica가 복제 지연 한도를 넘었거나 응답하지 않으면 읽기 전용 트랜잭션도 primary를 사용한다.</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	private static final String METRIC_NAME = "datasource.routing";
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final Counter primaryCounter;
+	private final Counter replicaCounter;
+	private final Counter fallbackCounter;
+
+	public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		this.primaryCounter = counter(meterRegistry, DataSourceRole.PRIMARY, "write");
+		this.replicaCounter = counter(meterRegistry, DataSourceRole.REPLICA, "read_only");
+		this.fallbackCounter = counter(meterRegistry, DataSourceRole.PRIMARY, "replica_unavailable");
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			primaryCounter.increment();
+			return DataSourceRole.PRIMARY;
+		}
+		if (!replicaLagMonitor.isAvailable()) {
+			fallbackCounter.increment();
+			return DataSourceRole.PRIMARY;
+		}
+		replicaCounter.increment();
+		return DataSourceRole.REPLICA;
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, DataSourceRole target, String reason) {
+		return Counter.builder(METRIC_NAME)
+			.tag("target", target.name().toLowerCase(Locale.ROOT))
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,54 @@
+package com.coDevs.cohiChat.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+	/** false면 모든 트랜잭션이 primary(spring.datasource.*)를 사용한다 */
+	private boolean enabled = false;
+
+	private String url;
+
+	private String username;
+
+	private String password;
+
+	private String driverClassName;
+
+	@Min(1)
+	private int maximumPoolSize = 10;
+
+	@Min(0)
+	private int minimumIdle = 2;
+
+	@Min(250)
+	private long connectionTimeoutMs = 3000;
+
+	/** 복제 지연이 이 값을 넘으면 읽기 전용 트랜잭션도 primary로 보낸다 */
+	@Min(0)
+	private long maxLagSeconds = 5;
+
+	@Min(100)
+	private long lagCheckIntervalMs = 5000;
+
+	/**
+	 * 복제 지연(초)을 반환하는 쿼리. 기본값은 PostgreSQL 스트리밍 복제 기준이며,
+	 * 수신한 WAL을 모두 재생했으면 쓰기가 없는 동안에도 0을 반환한다.
+	 */
+	private String lagQuery = """
+		SELECT CASE
+		    WHEN NOT pg_is_in_recovery() THEN 0
+		    WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+		    ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+		END
+		""";
+}
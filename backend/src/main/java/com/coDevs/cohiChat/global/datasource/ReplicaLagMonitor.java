@@ -0,0 +1,69 @@
+package com.coDevs.cohiChat.global.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 복제 지연을 주기적으로 측정하여 읽기 라우팅 가능 여부를 판단한다.
+ * 첫 측정이 성공하기 전과 측정 실패 시에는 사용 불가로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final ReplicaDataSourceProperties properties;
+
+	private volatile boolean available;
+	private volatile double lagSeconds = Double.NaN;
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties properties,
+		MeterRegistry meterRegistry) {
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.replicaJdbcTemplate.setQueryTimeout(
+			(int)Math.max(1, properties.getConnectionTimeoutMs() / 1000));
+		this.properties = properties;
+
+		Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+	public void check() {
+		boolean wasAvailable = available;
+		try {
+			Number lag = replicaJdbcTemplate.queryForObject(properties.getLagQuery(), Number.class);
+			lagSeconds = lag == null ? 0 : lag.doubleValue();
+			available = lagSeconds <= properties.getMaxLagSeconds();
+		} catch (Exception e) {
+			lagSeconds = Double.NaN;
+			available = false;
+			if (wasAvailable) {
+				log.warn(StructuredLogMessage.of("replica", "UNREACHABLE")
+					.add("error", e.getMessage())
+					.build());
+			}
+		}
+
+		if (wasAvailable != available) {
+			log.info(StructuredLogMessage.of("replica", available ? "IN_SERVICE" : "OUT_OF_SERVICE")
+				.add("lagSeconds", lagSeconds)
+				.add("maxLagSeconds", properties.getMaxLagSeconds())
+				.build());
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송 대기 이메일.
+ * 요청 스레드는 이 테이블에 적재만 하고, 실제 발송은 {@link EmailOutboxDispatcher}가 배치로 처리한다.
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "email_outbox",
+    indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false, length = 320)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "html_content", nullable = false, columnDefinition = "TEXT")
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    public static EmailOutbox create(String recipient, String subject, String htmlContent, Instant now) {
+        Objects.requireNonNull(recipient, "recipient must not be null");
+        Objects.requireNonNull(subject, "subject must not be null");
+        Objects.requireNonNull(htmlContent, "htmlContent must not be null");
+
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.recipient = recipient;
+        outbox.subject = subject;
+        outbox.htmlContent = htmlContent;
+        outbox.status = EmailOutboxStatus.PENDING;
+        outbox.attempts = 0;
+        outbox.nextAttemptAt = now;
+        return outbox;
+    }
+
+    public void claim(Instant now) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.claimedAt = now;
+    }
+
+    public void markSent(Instant now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.claimedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 처리. 최대 시도 횟수를 넘으면 DEAD(dead-letter)로 전환한다.
+     *
+     * @return DEAD로 전환되었으면 true
+     */
+    public boolean markFailed(String error, Instant nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.claimedAt = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.DEAD;
+            return true;
+        }
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * email_outbox 폴링 발송기.
+ * 한 배치를 {@code JavaMailSender.send(MimeMessage...)}로 보내 SMTP 연결(Transport) 하나를 재사용하며,
+ * 메시지별 실패는 MailSendException의 failedMessages로 구분하여 재시도/dead-letter 처리한다.
+ * 공유 스케줄러 스레드를 독점하지 않도록 한 번의 폴링에서는 최대 {@code max-batches-per-tick}개 배치만 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.email.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender mailSender;
+    private final EmailOutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        emailOutboxService.housekeep();
+
+        for (int i = 0; i < properties.getMaxBatchesPerTick(); i++) {
+            List<EmailOutbox> batch = emailOutboxService.claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            send(batch);
+        }
+    }
+
+    private void send(List<EmailOutbox> batch) {
+        Map<MimeMessage, Long> messageIds = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+
+        for (EmailOutbox outbox : batch) {
+            try {
+                messageIds.put(toMimeMessage(outbox), outbox.getId());
+            } catch (MessagingException e) {
+                failures.put(outbox.getId(), e.getMessage());
+            }
+        }
+
+        if (!messageIds.isEmpty()) {
+            try {
+                mailSender.send(messageIds.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messageIds.values().forEach(id -> failures.put(id, e.getMessage()));
+                } else {
+                    e.getFailedMessages().forEach((message, cause) -> {
+                        Long id = messageIds.get(message);
+                        if (id != null) {
+                            failures.put(id, cause.getMessage());
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                // 인증 실패 등 배치 전체 실패
+                messageIds.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        messageIds.values().stream()
+            .filter(id -> !failures.containsKey(id))
+            .forEach(sentIds::add);
+
+        emailOutboxService.complete(sentIds, failures);
+        log.info(StructuredLogMessage.of("email", "DISPATCH")
+            .add("batch", batch.size())
+            .add("sent", sentIds.size())
+            .add("failed", failures.size())
+            .build());
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getHtmlContent(), true);
+        return message;
+    }
+}
@@ -0,0 +1,40 @@
+package com.coDevs.cohiChat.global.email;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.email.outbox")
+public class EmailOutboxProperties {
+
+	/** 한 번의 SMTP 연결로 발송할 최대 메일 수 */
+	@Min(1)
+	private int batchSize = 20;
+
+	/** 한 번의 폴링에서 처리할 최대 배치 수. 남은 행은 다음 폴링에서 발송하여 스케줄러 스레드를 오래 점유하지 않음 */
+	@Min(1)
+	private int maxBatchesPerTick = 10;
+
+	@Min(1)
+	private int maxAttempts = 5;
+
+	@Min(1)
+	private int initialBackoffSeconds = 30;
+
+	@Min(1)
+	private int maxBackoffSeconds = 3600;
+
+	/** SENDING 상태로 이 시간 이상 머문 행은 재시도 대상으로 되돌림 */
+	@Min(1)
+	private int stuckTimeoutSeconds = 300;
+
+	/** 발송 완료 행 보관 시간 (본문에 재설정 링크 등이 포함되므로 짧게 유지) */
+	@Min(1)
+	private int sentRetentionHours = 24;
+}
@@ -0,0 +1,45 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 대상 조회. lock.timeout=-2는 Hibernate에서 SKIP LOCKED로 변환되어,
+     * 여러 인스턴스가 동시에 폴링해도 같은 행을 중복으로 가져가지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<EmailOutbox> findDispatchable(
+        @Param("status") EmailOutboxStatus status,
+        @Param("now") Instant now,
+        Pageable pageable
+    );
+
+    /**
+     * 발송 도중 인스턴스가 종료되어 SENDING에 머문 행을 재시도 대상으로 되돌린다.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.coDevs.cohiChat.global.email.EmailOutboxStatus.PENDING, "
+        + "o.claimedAt = null WHERE o.status = com.coDevs.cohiChat.global.email.EmailOutboxStatus.SENDING "
+        + "AND o.claimedAt < :threshold")
+    int releaseStuck(@Param("threshold") Instant threshold);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.status = com.coDevs.cohiChat.global.email.EmailOutboxStatus.SENT "
+        + "AND o.sentAt < :threshold")
+    int deleteSentBefore(@Param("threshold") Instant threshold);
+}
@@ -0,0 +1,91 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * email_outbox 상태 전이를 담당한다. 각 메서드는 짧은 트랜잭션으로 실행되며,
+ * SMTP 발송 자체는 트랜잭션 밖({@link EmailOutboxDispatcher})에서 수행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Transactional
+    public Long enqueue(String to, String subject, String htmlContent) {
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.create(to, subject, htmlContent, clock.instant()));
+        return outbox.getId();
+    }
+
+    /**
+     * 발송 대상을 SKIP LOCKED로 가져와 SENDING으로 전환한다.
+     */
+    @Transactional
+    public List<EmailOutbox> claimBatch() {
+        Instant now = clock.instant();
+        List<EmailOutbox> batch = emailOutboxRepository.findDispatchable(
+            EmailOutboxStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()));
+        batch.forEach(outbox -> outbox.claim(now));
+        return batch;
+    }
+
+    @Transactional
+    public void complete(Collection<Long> sentIds, Map<Long, String> failures) {
+        Instant now = clock.instant();
+        emailOutboxRepository.findAllById(sentIds).forEach(outbox -> outbox.markSent(now));
+        meterRegistry.counter("email.outbox", "result", "sent").increment(sentIds.size());
+
+        emailOutboxRepository.findAllById(failures.keySet()).forEach(outbox -> {
+            Instant nextAttemptAt = now.plus(backoff(outbox.getAttempts() + 1));
+            boolean dead = outbox.markFailed(failures.get(outbox.getId()), nextAttemptAt, properties.getMaxAttempts());
+            if (dead) {
+                meterRegistry.counter("email.outbox", "result", "dead").increment();
+                log.error(StructuredLogMessage.of("email", "DEAD_LETTER")
+                    .add("outboxId", outbox.getId())
+                    .add("attempts", outbox.getAttempts())
+                    .add("error", outbox.getLastError())
+                    .build());
+            } else {
+                meterRegistry.counter("email.outbox", "result", "retry").increment();
+            }
+        });
+    }
+
+    @Transactional
+    public void housekeep() {
+        Instant now = clock.instant();
+        int released = emailOutboxRepository.releaseStuck(now.minusSeconds(properties.getStuckTimeoutSeconds()));
+        if (released > 0) {
+            log.warn(StructuredLogMessage.of("email", "RELEASE_STUCK").add("count", released).build());
+        }
+        emailOutboxRepository.deleteSentBefore(now.minus(Duration.ofHours(properties.getSentRetentionHours())));
+    }
+
+    /**
+     * 지수 백오프: initial * 2^(attempt-1), 최대 maxBackoff
+     */
+    Duration backoff(int attempt) {
+        long seconds = (long) properties.getInitialBackoffSeconds() << Math.min(attempt - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxBackoffSeconds()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.coDevs.cohiChat.global.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
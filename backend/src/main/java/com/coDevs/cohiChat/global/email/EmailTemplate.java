@@ -0,0 +1,55 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{name}} 형태의 placeholder를 가진 HTML 템플릿.
+ * 생성 시 한 번만 파싱하여 literal/placeholder 조각으로 나눠 두고, 렌더링 시에는 조각을 이어 붙이기만 한다.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> placeholders = new ArrayList<>();
+    private final int estimatedLength;
+
+    private EmailTemplate(String source) {
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (open < 0 || close < 0) {
+                literals.add(source.substring(cursor));
+                break;
+            }
+            literals.add(source.substring(cursor, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            cursor = close + CLOSE.length();
+        }
+        this.estimatedLength = source.length() + 256;
+    }
+
+    public static EmailTemplate compile(String source) {
+        return new EmailTemplate(source);
+    }
+
+    /**
+     * 값이 없는 placeholder는 빈 문자열로 치환한다. 값의 HTML 이스케이프는 호출 측 책임이다.
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        for (int i = 0; i < placeholders.size(); i++) {
+            sb.append(literals.get(i));
+            String value = variables.get(placeholders.get(i));
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        sb.append(literals.get(literals.size() - 1));
+        return sb.toString();
+    }
+}
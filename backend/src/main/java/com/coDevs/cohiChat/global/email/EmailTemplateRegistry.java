@@ -0,0 +1,49 @@
+package com.coDevs.cohiChat.global.email;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * classpath:/templates/*.html 이메일 템플릿을 기동 시 한 번 로드/컴파일하여 보관한다.
+ * 템플릿 이름은 확장자를 제외한 파일명이다. (예: password-reset)
+ */
+@Slf4j
+@Component
+public class EmailTemplateRegistry {
+
+    private static final String TEMPLATE_LOCATION = "classpath:/templates/*.html";
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    public EmailTemplateRegistry() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            if (fileName == null) {
+                continue;
+            }
+            try (InputStream is = resource.getInputStream()) {
+                String source = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+                templates.put(fileName.substring(0, fileName.lastIndexOf('.')), EmailTemplate.compile(source));
+            }
+        }
+        log.info("Loaded {} email templates: {}", templates.size(), templates.keySet());
+    }
+
+    public String render(String name, Map<String, String> variables) {
+        EmailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("이메일 템플릿을 찾을 수 없습니다: " + name);
+        }
+        return template.render(variables);
+    }
+}
@@ -51,6 +51,7 @@ public enum ErrorCode {
 	 * 500: 서버 내부 오류
 	 */
 	RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수가 초과되었습니다. 잠시 후 다시 시도해주세요."),
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
 
 	/**
@@ -64,6 +65,7 @@ public enum ErrorCode {
 	CALENDAR_ALREADY_EXISTS(HttpStatus.CONFLICT, "캘린더가 이미 존재합니다."),
 	TIMESLOT_OVERLAP(HttpStatus.CONFLICT, "겹치는 시간대가 이미 존재합니다."),
 	BOOKING_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 예약된 시간대입니다."),
+	HOST_BUSY(HttpStatus.CONFLICT, "호스트의 다른 일정과 겹치는 시간대입니다."),
 
 	SELF_BOOKING(HttpStatus.UNPROCESSABLE_ENTITY, "자기 자신에게는 부킹을 할 수 없습니다."),
 	PAST_BOOKING(HttpStatus.UNPROCESSABLE_ENTITY, "과거 일자에는 부킹을 할 수 없습니다."),
@@ -97,6 +99,7 @@ public enum ErrorCode {
 	FILE_MIME_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "파일 형식이 올바르지 않습니다."),
 	FILE_UPLOAD_NOT_CONFIRMED(HttpStatus.BAD_REQUEST, "검증된 Presigned 업로드 요청이 아닌 파일입니다."),
 	FILE_UPLOAD_METADATA_MISMATCH(HttpStatus.BAD_REQUEST, "업로드 파일 메타 정보가 요청값과 일치하지 않습니다."),
+	FILE_ACCESS_COOKIE_DISABLED(HttpStatus.NOT_FOUND, "파일 접근 쿠키 발급이 비활성화되어 있습니다."),
 
 	/**
 	 * 프로필 이미지 관련 예외들.
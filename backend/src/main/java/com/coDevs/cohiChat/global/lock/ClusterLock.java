@@ -0,0 +1,115 @@
+package com.coDevs.cohiChat.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 클러스터 락.
+ * <p>여러 인스턴스 중 한 노드만 배치 작업을 수행하도록 {@code SET NX PX}로 락을 잡고,
+ * 해제/갱신은 소유자 토큰을 비교하는 Lua 스크립트로 원자적으로 처리한다.
+ * Redis 장애 시에는 락을 획득하지 못한 것으로 보고 작업을 건너뛴다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private static final DefaultRedisScript<Long> ACQUIRE_OR_RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+            + "elseif redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 "
+            + "else return 0 end",
+        Long.class
+    );
+
+    /** 인스턴스 식별 토큰 (리더 락 갱신 시 소유자 확인용) */
+    private final String instanceToken = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락을 획득하면 작업을 실행하고 해제한다. 다른 노드가 보유 중이면 실행하지 않는다.
+     *
+     * @param name      락 이름
+     * @param leaseTime 작업이 비정상 종료되어도 락이 자동 해제되는 시간
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runIfAcquired(String name, Duration leaseTime, Runnable task) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime);
+        } catch (Exception e) {
+            log.warn(StructuredLogMessage.of("cluster-lock", "UNAVAILABLE")
+                .add("name", name)
+                .add("error", e.getMessage())
+                .build());
+            return false;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    /**
+     * 리더 락을 획득하거나, 이미 이 인스턴스가 보유 중이면 만료 시간을 갱신한다.
+     * 메모리 상태(타이밍 휠 등)를 유지해야 하는 작업은 해제하지 않고 주기적으로 갱신하여 리더를 유지한다.
+     *
+     * @return 이 인스턴스가 리더이면 true
+     */
+    public boolean holdLeadership(String name, Duration leaseTime) {
+        try {
+            Long result = redisTemplate.execute(
+                ACQUIRE_OR_RENEW_SCRIPT,
+                List.of(KEY_PREFIX + name),
+                instanceToken,
+                String.valueOf(leaseTime.toMillis())
+            );
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn(StructuredLogMessage.of("cluster-lock", "UNAVAILABLE")
+                .add("name", name)
+                .add("error", e.getMessage())
+                .build());
+            return false;
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            // 해제 실패 시 leaseTime 경과 후 자동 만료
+            log.warn(StructuredLogMessage.of("cluster-lock", "RELEASE_FAILED")
+                .add("key", key)
+                .add("error", e.getMessage())
+                .build());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.coDevs.cohiChat.global.security.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 회원 ID가 채워진 {@link MemberPrincipal}을 주입한다.
+ * 인증되지 않은 요청이면 {@code AUTH_NOT_PROVIDED}로 거절한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+}
@@ -0,0 +1,59 @@
+package com.coDevs.cohiChat.global.security.auth;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.member.MemberService;
+import com.coDevs.cohiChat.member.entity.Member;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CurrentMember} 파라미터를 해석한다.
+ * <p>Access Token에 회원 ID 클레임이 있으면 SecurityContext의 주체를 그대로 반환해 DB를 조회하지 않는다.
+ * 클레임이 없는 이전 토큰(또는 테스트의 {@code @WithMockUser})만 회원을 조회해 ID를 채운다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final MemberService memberService;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentMember.class)
+			&& MemberPrincipal.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public MemberPrincipal resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+			|| !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+			throw new CustomException(ErrorCode.AUTH_NOT_PROVIDED);
+		}
+
+		if (userDetails instanceof MemberPrincipal principal && principal.getId() != null) {
+			return principal;
+		}
+
+		log.debug("[currentMember] [LOOKUP] reason=MEMBER_ID_CLAIM_MISSING");
+		Member member = memberService.getMember(userDetails.getUsername());
+		String sessionId = userDetails instanceof MemberPrincipal principal ? principal.getSessionId() : null;
+		return new MemberPrincipal(member.getId(), userDetails.getUsername(), sessionId, userDetails.getAuthorities());
+	}
+}
@@ -0,0 +1,30 @@
+package com.coDevs.cohiChat.global.security.auth;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import lombok.Getter;
+
+/**
+ * Access Token 클레임으로 만든 인증 주체.
+ * <p>회원 ID({@code mid})와 세션 ID({@code sid})를 함께 들고 있어 컨트롤러가 회원 ID만 필요할 때 DB를 조회하지 않는다.
+ * 정지/탈퇴/비밀번호 재설정은 세션 not-before로 이전 토큰을 거절하므로 별도 상태 플래그를 두지 않는다.</p>
+ * <p>{@code mid} 클레임 도입 이전에 발급된 토큰이면 {@link #getId()}가 null이며,
+ * {@link CurrentMemberArgumentResolver}가 회원을 조회해 채운다.</p>
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+	private final UUID id;
+	private final String sessionId;
+
+	public MemberPrincipal(UUID id, String username, String sessionId,
+		Collection<? extends GrantedAuthority> authorities) {
+		super(username, "", authorities);
+		this.id = id;
+		this.sessionId = sessionId;
+	}
+}
@@ -1,6 +1,7 @@
 package com.coDevs.cohiChat.global.security.config;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +13,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,11 +21,13 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.coDevs.cohiChat.global.config.PasswordHashingProperties;
 import com.coDevs.cohiChat.global.security.auth.AuthProperties;
 import com.coDevs.cohiChat.global.security.auth.AuthTokenResolver;
 import com.coDevs.cohiChat.global.security.jwt.JwtAuthenticationFilter;
 import com.coDevs.cohiChat.global.security.jwt.JwtTokenProvider;
 import com.coDevs.cohiChat.member.AccessTokenBlacklistRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +37,8 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+	private static final String BCRYPT_ID = "bcrypt";
+
 	private static final String[] PUBLIC_ENDPOINTS = {
 		"/swagger-ui/**", "/actuator/health", "/actuator/info",
 		"/members/v1/signup", "/members/v1/login", "/members/v1/refresh",
@@ -44,6 +50,7 @@ public class SecurityConfig {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
 	private final AuthTokenResolver authTokenResolver;
+	private final SessionRegistry sessionRegistry;
 	private final AuthProperties authProperties;
 
 	@Bean
@@ -69,11 +76,14 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.GET, "/calendar/*").permitAll()
 				.requestMatchers(HttpMethod.GET, "/calendar/*/bookings").permitAll()
 				.requestMatchers(HttpMethod.GET, "/calendar/*/bookings/stream").permitAll()
+				.requestMatchers(HttpMethod.GET, "/calendar/*/busy").permitAll()
+				// ICS 구독 피드는 JWT 대신 피드 토큰으로 검증한다
+				.requestMatchers(HttpMethod.GET, "/calendar/*/feed.ics").permitAll()
 				.anyRequest().authenticated()
 			)
 
 			.addFilterBefore(
-				new JwtAuthenticationFilter(jwtTokenProvider, accessTokenBlacklistRepository, authTokenResolver),
+				new JwtAuthenticationFilter(jwtTokenProvider, accessTokenBlacklistRepository, authTokenResolver, sessionRegistry),
 				UsernamePasswordAuthenticationFilter.class
 			);
 
@@ -93,8 +103,16 @@ public class SecurityConfig {
 		return source;
 	}
 
+	/**
+	 * 저장 형식은 {@code {bcrypt}해시}이며, 접두사가 없는 기존 해시도 BCrypt로 검증한다.
+	 * cost가 바뀌었거나 접두사가 없는 해시는 {@link PasswordEncoder#upgradeEncoding(String)}이 true를 반환해
+	 * 로그인 성공 시 다시 해싱된다.
+	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+		PasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return encoder;
 	}
 }
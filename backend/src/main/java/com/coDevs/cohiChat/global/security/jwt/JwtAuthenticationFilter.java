@@ -1,6 +1,7 @@
 package com.coDevs.cohiChat.global.security.jwt;
 
 import java.io.IOException;
+import java.time.Instant;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,6 +10,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.coDevs.cohiChat.global.security.auth.AuthTokenResolver;
 import com.coDevs.cohiChat.global.util.TokenHashUtil;
 import com.coDevs.cohiChat.member.AccessTokenBlacklistRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
+
+import io.jsonwebtoken.Claims;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +28,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
 	private final AuthTokenResolver authTokenResolver;
+	private final SessionRegistry sessionRegistry;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -33,18 +38,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (token != null) {
 			try {
-				// getAuthentication() 내부에서 JWT를 파싱하므로 validateToken() 이중 파싱 불필요
+				// parseClaims()에서 서명/만료를 검증하므로 validateToken() 이중 파싱 불필요
 				if (isBlacklisted(token)) {
 					SecurityContextHolder.clearContext();
 				} else {
-					Authentication auth = jwtTokenProvider.getAuthentication(token);
-					SecurityContextHolder.getContext().setAuthentication(auth);
+					Claims claims = jwtTokenProvider.parseClaims(token);
+					if (isRevokedSession(claims)) {
+						log.debug("전체 로그아웃 이전에 발급된 토큰");
+						SecurityContextHolder.clearContext();
+					} else {
+						Authentication auth = jwtTokenProvider.getAuthentication(claims, token);
+						SecurityContextHolder.getContext().setAuthentication(auth);
+					}
 				}
 			} catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
 				log.warn("유효하지 않은 JWT 토큰: {}", e.getMessage());
 				SecurityContextHolder.clearContext();
 			} catch (org.springframework.dao.DataAccessException e) {
-				log.error("Redis 연결 오류 (블랙리스트 확인 실패): {}", e.getMessage());
+				log.error("Redis 연결 오류 (블랙리스트/세션 확인 실패): {}", e.getMessage());
 				SecurityContextHolder.clearContext();
 			} catch (Exception e) {
 				log.error("토큰 검증 중 예상치 못한 오류: {}", e.getMessage(), e);
@@ -59,4 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String tokenHash = TokenHashUtil.hash(token);
 		return accessTokenBlacklistRepository.existsById(tokenHash);
 	}
+
+	private boolean isRevokedSession(Claims claims) {
+		Instant issuedAt = claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+		return sessionRegistry.isRevoked(claims.getSubject(), issuedAt);
+	}
 }
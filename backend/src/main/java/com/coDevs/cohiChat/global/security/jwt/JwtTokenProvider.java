@@ -12,19 +12,27 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
+
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+	/** 로그인 세션(기기) ID 클레임. 같은 로그인에서 발급된 AT/RT는 같은 값을 가진다. */
+	public static final String SESSION_ID_CLAIM = "sid";
+
+	/** 회원 ID 클레임. Access Token에만 담아 컨트롤러가 회원 ID를 얻으려고 DB를 조회하지 않게 한다. */
+	public static final String MEMBER_ID_CLAIM = "mid";
+
 	private SecretKey key;
 
 	@Value("${jwt.secret}")
@@ -41,15 +49,16 @@ public class JwtTokenProvider {
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
 	}
 
-	public String createAccessToken(String username, String role) {
-		return createToken(username, role, accessTokenExpirationMs);
+	public String createAccessToken(String username, String role, String sessionId, UUID memberId) {
+		return createToken(username, role, sessionId, memberId, accessTokenExpirationMs);
 	}
 
-	public String createRefreshToken(String username) {
-		return createToken(username, null, refreshTokenExpirationMs);
+	public String createRefreshToken(String username, String sessionId) {
+		return createToken(username, null, sessionId, null, refreshTokenExpirationMs);
 	}
 
-	private String createToken(String username, String role, long expirationTimeMs) {
+	private String createToken(String username, String role, String sessionId, UUID memberId,
+		long expirationTimeMs) {
 		Date now = new Date();
 
 		var builder = Jwts.builder()
@@ -60,6 +69,12 @@ public class JwtTokenProvider {
 		if (role != null) {
 			builder.claim("role", role);
 		}
+		if (sessionId != null) {
+			builder.claim(SESSION_ID_CLAIM, sessionId);
+		}
+		if (memberId != null) {
+			builder.claim(MEMBER_ID_CLAIM, memberId.toString());
+		}
 
 		return builder.signWith(key).compact();
 	}
@@ -87,7 +102,11 @@ public class JwtTokenProvider {
 		return parseClaims(token).get("role", String.class);
 	}
 
-	private Claims parseClaims(String token) {
+	public String getSessionIdFromToken(String token) {
+		return parseClaims(token).get(SESSION_ID_CLAIM, String.class);
+	}
+
+	public Claims parseClaims(String token) {
 		return Jwts.parser()
 			.verifyWith(key)
 			.build()
@@ -96,9 +115,17 @@ public class JwtTokenProvider {
 	}
 
 	public Authentication getAuthentication(String token) {
+		return getAuthentication(parseClaims(token), token);
+	}
 
-		String username = getUsernameFromToken(token);
-		String roleStr = getRoleFromToken(token);
+	/**
+	 * 이미 검증한 클레임으로 인증 객체를 만든다. 필터에서 토큰을 한 번만 파싱하기 위해 사용한다.
+	 * 주체는 회원 ID/세션 ID를 담은 {@link MemberPrincipal}이며, 회원 ID 클레임이 없는 이전 토큰이면 ID는 null이다.
+	 */
+	public Authentication getAuthentication(Claims claims, String token) {
+
+		String username = claims.getSubject();
+		String roleStr = claims.get("role", String.class);
 
 		String finalRole = (roleStr != null) ? roleStr : "GUEST";
 
@@ -106,7 +133,13 @@ public class JwtTokenProvider {
 			new SimpleGrantedAuthority("ROLE_" + finalRole)
 		);
 
-		UserDetails principal = new User(username, "", authorities);
+		String memberId = claims.get(MEMBER_ID_CLAIM, String.class);
+		UserDetails principal = new MemberPrincipal(
+			memberId == null ? null : UUID.fromString(memberId),
+			username,
+			claims.get(SESSION_ID_CLAIM, String.class),
+			authorities
+		);
 
 		return new UsernamePasswordAuthenticationToken(principal, token, authorities);
 	}
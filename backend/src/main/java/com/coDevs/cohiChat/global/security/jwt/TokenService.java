@@ -4,12 +4,12 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
-import com.coDevs.cohiChat.member.RefreshTokenRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 import com.coDevs.cohiChat.member.entity.Member;
-import com.coDevs.cohiChat.member.entity.RefreshToken;
 import com.coDevs.cohiChat.member.response.LoginResponseDTO;
 
 import lombok.RequiredArgsConstructor;
@@ -19,22 +19,22 @@ import lombok.RequiredArgsConstructor;
 public class TokenService {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final RefreshTokenRepository refreshTokenRepository;
+	private final SessionRegistry sessionRegistry;
 
-	public LoginResponseDTO issueTokens(Member member) {
+	/**
+	 * 로그인마다 새 세션 ID로 AT/RT를 발급하고 세션을 등록한다. 다른 기기의 세션은 유지된다.
+	 */
+	public LoginResponseDTO issueTokens(Member member, String userAgent) {
+		String sessionId = UUID.randomUUID().toString();
 		String accessToken = jwtTokenProvider.createAccessToken(
-			member.getUsername(), member.getRole().name()
+			member.getUsername(), member.getRole().name(), sessionId, member.getId()
 		);
 
-		refreshTokenRepository.deleteById(member.getUsername());
-
-		String refreshTokenValue = jwtTokenProvider.createRefreshToken(member.getUsername());
+		String refreshTokenValue = jwtTokenProvider.createRefreshToken(member.getUsername(), sessionId);
 		long refreshTokenExpirationMs = jwtTokenProvider.getRefreshTokenExpirationMs();
-		String refreshTokenHash = hashToken(refreshTokenValue);
-		RefreshToken refreshToken = RefreshToken.create(
-			refreshTokenHash, member.getUsername(), refreshTokenExpirationMs
+		sessionRegistry.register(
+			member.getUsername(), sessionId, hashToken(refreshTokenValue), userAgent, refreshTokenExpirationMs
 		);
-		refreshTokenRepository.save(refreshToken);
 
 		long expiredInSeconds = jwtTokenProvider.getExpirationSeconds(accessToken);
 
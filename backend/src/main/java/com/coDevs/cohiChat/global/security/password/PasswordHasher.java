@@ -0,0 +1,100 @@
+package com.coDevs.cohiChat.global.security.password;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.config.AsyncConfig;
+import com.coDevs.cohiChat.global.config.PasswordHashingProperties;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해싱/검증을 전용 Executor에서 실행한다.
+ * <p>BCrypt는 의도적으로 느린 CPU 작업이므로 요청 스레드에서 돌리면 로그인 폭주 시 Tomcat 스레드가 모두 묶인다.
+ * 스레드 수와 큐를 제한한 Executor로 넘기고, 큐가 가득 차거나 대기 시간을 넘기면
+ * {@link ErrorCode#PASSWORD_HASHING_BUSY}(503)로 즉시 거절한다.</p>
+ * <p>호출 측은 DB 트랜잭션 밖에서 호출해야 해싱 동안 커넥션을 잡고 있지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final AsyncTaskExecutor executor;
+	private final MeterRegistry meterRegistry;
+	private final long waitTimeoutMs;
+
+	public PasswordHasher(
+		PasswordEncoder passwordEncoder,
+		@Qualifier(AsyncConfig.PASSWORD_HASHING_EXECUTOR) AsyncTaskExecutor executor,
+		MeterRegistry meterRegistry,
+		PasswordHashingProperties properties
+	) {
+		this.passwordEncoder = passwordEncoder;
+		this.executor = executor;
+		this.meterRegistry = meterRegistry;
+		this.waitTimeoutMs = properties.getWaitTimeoutMs();
+	}
+
+	public String encode(String rawPassword) {
+		return execute("encode", () -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		return execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * 저장된 해시가 현재 설정(알고리즘, cost)과 다르면 true. 해시 문자열만 보므로 요청 스레드에서 바로 실행한다.
+	 */
+	public boolean needsRehash(String encodedPassword) {
+		return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T execute(String operation, Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (TaskRejectedException e) {
+			reject(operation, "queue_full");
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		}
+
+		try {
+			return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			reject(operation, "timeout");
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+		}
+	}
+
+	private void reject(String operation, String reason) {
+		log.warn("[passwordHash] [REJECTED] operation={} reason={}", operation, reason);
+		meterRegistry.counter("auth.password.hash.rejected", "operation", operation, "reason", reason).increment();
+	}
+}
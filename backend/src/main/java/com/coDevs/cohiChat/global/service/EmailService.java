@@ -1,34 +1,23 @@
 package com.coDevs.cohiChat.global.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.coDevs.cohiChat.global.email.EmailOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+/**
+ * 이메일 발송 요청을 email_outbox에 적재한다.
+ * 실제 SMTP 발송은 EmailOutboxDispatcher가 배치/재시도로 처리하므로 재시작 시에도 유실되지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
 
-    @Async
     public void sendHtmlEmail(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-            log.info("Email sent successfully");
-        } catch (MessagingException | MailException e) {
-            log.error("Failed to send email", e);
-        }
+        Long outboxId = emailOutboxService.enqueue(to, subject, htmlContent);
+        log.info("Email queued. outboxId: {}", outboxId);
     }
 }
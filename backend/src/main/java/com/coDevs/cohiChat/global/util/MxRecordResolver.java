@@ -0,0 +1,49 @@
+package com.coDevs.cohiChat.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.InitialDirContext;
+import java.util.Hashtable;
+
+/**
+ * JNDI DNS 조회로 도메인의 MX 호스트를 찾는다.
+ */
+@Slf4j
+@Component
+public class MxRecordResolver {
+
+    /**
+     * @return 첫 번째 MX 호스트, 레코드가 없거나 조회 실패 시 null
+     */
+    public String resolve(String domain) {
+        InitialDirContext ctx = null;
+        try {
+            Hashtable<String, String> env = new Hashtable<>();
+            env.put("java.naming.factory.initial", "com.sun.jndi.dns.DnsContextFactory");
+            ctx = new InitialDirContext(env);
+            Attributes attrs = ctx.getAttributes(domain, new String[]{"MX"});
+            Attribute mxAttr = attrs.get("MX");
+            if (mxAttr == null || mxAttr.size() == 0) return null;
+            String mxRecord = mxAttr.get(0).toString();
+            String[] parts = mxRecord.split("\\s+");
+            String host = parts[parts.length - 1];
+            if (host.endsWith(".")) host = host.substring(0, host.length() - 1);
+            return host;
+        } catch (NamingException e) {
+            log.warn("MX lookup failed for domain: {}", domain);
+            return null;
+        } finally {
+            if (ctx != null) {
+                try {
+                    ctx.close();
+                } catch (NamingException e) {
+                    log.debug("Failed to close DirContext", e);
+                }
+            }
+        }
+    }
+}
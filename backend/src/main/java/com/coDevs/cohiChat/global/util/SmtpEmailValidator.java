@@ -1,23 +1,72 @@
 package com.coDevs.cohiChat.global.util;
 
+import com.coDevs.cohiChat.global.config.AsyncConfig;
+import com.coDevs.cohiChat.global.config.SmtpValidationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import javax.naming.NamingException;
-import javax.naming.directory.Attribute;
-import javax.naming.directory.Attributes;
-import javax.naming.directory.InitialDirContext;
 import java.io.*;
+import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.util.Hashtable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * SMTP RCPT TO 응답으로 이메일 주소 존재 여부를 검증한다.
+ * <ul>
+ *     <li>전용 Executor(스레드/큐 제한)에서 실행되며, 포화 시 검증을 생략하고 통과 처리한다.</li>
+ *     <li>도메인별 MX 조회 결과와 주소별 검증 결과를 TTL 동안 캐시한다. 최대 크기에 도달하면 오래 쓰이지 않은 항목부터 밀어낸다.</li>
+ *     <li>같은 도메인에 동시에 여는 SMTP 연결 수를 제한한다. 한도 초과 시 검증을 생략한다.
+ *     세마포어는 도메인 해시로 고정 개수의 stripe에 매핑하므로 도메인 수와 무관하게 메모리가 일정하다.</li>
+ * </ul>
+ */
 @Slf4j
 @Component
 public class SmtpEmailValidator {
 
-    @Async
+    private static final String METRIC_NAME = "smtp.validation";
+
+    private final Executor executor;
+    private final MxRecordResolver mxRecordResolver;
+    private final SmtpValidationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Cache<String, CacheEntry<String>> mxCache;
+    private final Cache<String, CacheEntry<Boolean>> resultCache;
+    private final Semaphore[] domainPermits;
+
+    public SmtpEmailValidator(
+            @Qualifier(AsyncConfig.SMTP_VALIDATION_EXECUTOR) Executor executor,
+            MxRecordResolver mxRecordResolver,
+            SmtpValidationProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.executor = executor;
+        this.mxRecordResolver = mxRecordResolver;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.domainPermits = new Semaphore[properties.getDomainPermitStripes()];
+        for (int i = 0; i < domainPermits.length; i++) {
+            domainPermits[i] = new Semaphore(properties.getPerDomainConcurrency());
+        }
+        this.mxCache = newCache();
+        this.resultCache = newCache();
+    }
+
     public CompletableFuture<Boolean> validateEmailExists(String email) {
         if (email.contains("\r") || email.contains("\n")) {
             log.warn("SMTP injection attempt detected for email input");
@@ -28,51 +77,72 @@ public class SmtpEmailValidator {
             log.warn("Invalid email format");
             return CompletableFuture.completedFuture(false);
         }
+
+        String normalizedEmail = email.toLowerCase(Locale.ROOT);
+        CacheEntry<Boolean> cached = resultCache.getIfPresent(normalizedEmail);
+        if (cached != null) {
+            record("cached");
+            return CompletableFuture.completedFuture(cached.value());
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> validate(normalizedEmail, atIndex), executor);
+        } catch (RejectedExecutionException e) {
+            record("rejected");
+            log.warn("SMTP validation queue full, skipping validation (fallback pass)");
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+
+    private boolean validate(String email, int atIndex) {
         try {
             String domain = email.substring(atIndex + 1);
-            String mxHost = lookupMxRecord(domain);
+            String mxHost = resolveMx(domain);
             if (mxHost == null) {
-                return CompletableFuture.completedFuture(false);
+                putResult(email, false);
+                record("no_mx");
+                return false;
+            }
+
+            Semaphore permits = domainPermits[Math.floorMod(domain.hashCode(), domainPermits.length)];
+            if (!permits.tryAcquire()) {
+                // 같은 도메인에 대한 연결이 이미 한도만큼 열려 있음: 대기하지 않고 통과 처리
+                record("throttled");
+                return true;
+            }
+            try {
+                SmtpResult result = verifyViaSmtp(mxHost, email);
+                if (result != SmtpResult.UNKNOWN) {
+                    putResult(email, result == SmtpResult.VALID);
+                }
+                record(result.name().toLowerCase(Locale.ROOT));
+                return result != SmtpResult.INVALID;
+            } finally {
+                permits.release();
             }
-            boolean result = verifyViaSmtp(mxHost, email);
-            return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
             log.warn("SMTP validation failed for {}, falling back to pass", email, e);
-            return CompletableFuture.completedFuture(true);
+            record("error");
+            return true;
         }
     }
 
-    private String lookupMxRecord(String domain) {
-        InitialDirContext ctx = null;
-        try {
-            Hashtable<String, String> env = new Hashtable<>();
-            env.put("java.naming.factory.initial", "com.sun.jndi.dns.DnsContextFactory");
-            ctx = new InitialDirContext(env);
-            Attributes attrs = ctx.getAttributes(domain, new String[]{"MX"});
-            Attribute mxAttr = attrs.get("MX");
-            if (mxAttr == null || mxAttr.size() == 0) return null;
-            String mxRecord = mxAttr.get(0).toString();
-            String[] parts = mxRecord.split("\\s+");
-            String host = parts[parts.length - 1];
-            if (host.endsWith(".")) host = host.substring(0, host.length() - 1);
-            return host;
-        } catch (NamingException e) {
-            log.warn("MX lookup failed for domain: {}", domain);
-            return null;
-        } finally {
-            if (ctx != null) {
-                try {
-                    ctx.close();
-                } catch (NamingException e) {
-                    log.debug("Failed to close DirContext", e);
-                }
-            }
+    private String resolveMx(String domain) {
+        CacheEntry<String> cached = mxCache.getIfPresent(domain);
+        if (cached != null) {
+            return cached.value();
         }
+        String mxHost = mxRecordResolver.resolve(domain);
+        // MX 없음(또는 조회 실패)은 결과 캐시 TTL만큼만 유지
+        int ttlSeconds = mxHost != null ? properties.getMxCacheTtlSeconds() : properties.getResultCacheTtlSeconds();
+        put(mxCache, domain, mxHost, ttlSeconds);
+        return mxHost;
     }
 
-    private boolean verifyViaSmtp(String mxHost, String email) {
-        try (Socket socket = new Socket(mxHost, 25)) {
-            socket.setSoTimeout(5000);
+    private SmtpResult verifyViaSmtp(String mxHost, String email) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(mxHost, properties.getPort()), properties.getTimeoutMs());
+            socket.setSoTimeout(properties.getTimeoutMs());
             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
 
@@ -85,10 +155,17 @@ public class SmtpEmailValidator {
             String response = readResponse(reader);
             sendCommand(writer, "QUIT");
 
-            return response != null && response.startsWith("250");
+            if (response == null) {
+                return SmtpResult.UNKNOWN;
+            }
+            if (response.startsWith("250")) {
+                return SmtpResult.VALID;
+            }
+            // 5xx는 영구 거절(존재하지 않는 주소), 4xx(그레이리스팅 등)는 판단 보류
+            return response.startsWith("5") ? SmtpResult.INVALID : SmtpResult.UNKNOWN;
         } catch (Exception e) {
             log.warn("SMTP verify failed, treating as valid (fallback)", e);
-            return true;
+            return SmtpResult.UNKNOWN;
         }
     }
 
@@ -100,4 +177,50 @@ public class SmtpEmailValidator {
     private String readResponse(BufferedReader reader) throws IOException {
         return reader.readLine();
     }
+
+    private void putResult(String email, boolean valid) {
+        put(resultCache, email, valid, properties.getResultCacheTtlSeconds());
+    }
+
+    private <T> void put(Cache<String, CacheEntry<T>> cache, String key, T value, int ttlSeconds) {
+        cache.put(key, new CacheEntry<>(value, Duration.ofSeconds(ttlSeconds)));
+    }
+
+    /**
+     * 항목마다 TTL이 다르므로(MX 없음은 짧게) 항목에 담긴 TTL로 만료시키고, 시간은 주입된 Clock을 따른다.
+     */
+    private <T> Cache<String, CacheEntry<T>> newCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(properties.getCacheMaxSize())
+            .expireAfter(new Expiry<String, CacheEntry<T>>() {
+                @Override
+                public long expireAfterCreate(String key, CacheEntry<T> entry, long currentTime) {
+                    return entry.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, CacheEntry<T> entry, long currentTime, long currentDuration) {
+                    return entry.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, CacheEntry<T> entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+            .build();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+
+    private enum SmtpResult {
+        VALID, INVALID, UNKNOWN
+    }
+
+    /** Caffeine은 null 값을 저장하지 않으므로 MX 없음(null)도 감싸서 캐시한다 */
+    private record CacheEntry<T>(T value, Duration ttl) {
+    }
 }
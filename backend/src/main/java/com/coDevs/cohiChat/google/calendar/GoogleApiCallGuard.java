@@ -0,0 +1,250 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponseException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google API 호출 보호 계층. 호출 스레드(예약 요청 등)가 Google 장애에 묶이지 않도록 한다.
+ * <ul>
+ *     <li>벌크헤드: 동시 호출 수를 제한하고, 허용량을 잠깐 기다려도 얻지 못하면 거절한다.</li>
+ *     <li>재시도: 429/5xx 응답과 사용량 한도 초과 403(rateLimitExceeded, userRateLimitExceeded)은 지수 백오프(지터 포함)로 다시 시도한다. 타임아웃 등 네트워크 오류는 중복 생성을 피하려고 재시도하지 않는다.</li>
+ *     <li>서킷 브레이커: 연속 실패가 임계치에 도달하면 일정 시간 호출 없이 바로 거절하고, 이후 한 건의 시험 호출로 복구 여부를 판단한다.</li>
+ * </ul>
+ * 거절은 {@link CallRejectedException}(IOException)으로 알리므로 호출부의 기존 IOException 처리(로그 후 null/false)가 그대로 적용된다.
+ */
+@Slf4j
+@Component
+public class GoogleApiCallGuard {
+
+    private static final int FORBIDDEN = 403;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    // Calendar API는 사용량 한도 초과를 429뿐 아니라 이 reason의 403으로도 알린다
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final GoogleApiResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Semaphore permits;
+
+    private final Object circuitLock = new Object();
+    private volatile CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    public GoogleApiCallGuard(GoogleApiResilienceProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.permits = new Semaphore(properties.getMaxConcurrentCalls());
+
+        Gauge.builder("google.api.circuit.state", this, guard -> guard.circuitState.ordinal())
+            .description("0=closed, 1=open, 2=half-open")
+            .register(meterRegistry);
+        Gauge.builder("google.api.bulkhead.available", permits, Semaphore::availablePermits)
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(String action, GoogleApiCall<T> call) throws IOException {
+        acquireCircuit(action);
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(properties.getBulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseTrial();
+            throw new InterruptedIOException("interrupted while waiting for Google API permit");
+        }
+        if (!acquired) {
+            releaseTrial();
+            reject(action, "BULKHEAD_FULL");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = executeWithRetry(action, call);
+            outcome = "success";
+            onSuccess();
+            return result;
+        } catch (HttpResponseException e) {
+            if (isRetryable(e)) {
+                onFailure(action);
+            } else {
+                // 4xx는 Google이 정상 응답한 것이므로 서킷 판단에서는 성공으로 본다
+                outcome = "client_error";
+                onSuccess();
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            onFailure(action);
+            throw e;
+        } finally {
+            permits.release();
+            sample.stop(meterRegistry.timer("google.api.calls", "action", action, "outcome", outcome));
+        }
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitState == CircuitState.OPEN;
+    }
+
+    private <T> T executeWithRetry(String action, GoogleApiCall<T> call) throws IOException {
+        int attempt = 1;
+        while (true) {
+            try {
+                return call.execute();
+            } catch (HttpResponseException e) {
+                if (!isRetryable(e) || attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                long backoffMs = backoffMillis(attempt);
+                meterRegistry.counter("google.api.retries", "action", action).increment();
+                log.debug("[{}] [RETRY] attempt={} status={} backoffMs={}",
+                    action, attempt, e.getStatusCode(), backoffMs);
+                sleep(backoffMs);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * initial * 2^(attempt-1)을 maxBackoff로 자른 뒤 절반은 고정, 절반은 무작위로 둔다.
+     */
+    long backoffMillis(int attempt) {
+        long exponential = (long) properties.getInitialBackoffMs() << Math.min(attempt - 1, 20);
+        long capped = Math.min(exponential, properties.getMaxBackoffMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted during Google API retry backoff");
+        }
+    }
+
+    /**
+     * 429/5xx 또는 사용량 한도 초과 403이면 잠시 뒤 다시 시도할 수 있는 오류로 본다.
+     */
+    static boolean isRetryable(HttpResponseException e) {
+        int statusCode = e.getStatusCode();
+        if (statusCode == TOO_MANY_REQUESTS || statusCode >= SERVER_ERROR) {
+            return true;
+        }
+        return statusCode == FORBIDDEN && isRateLimited(e);
+    }
+
+    private static boolean isRateLimited(HttpResponseException e) {
+        if (!(e instanceof GoogleJsonResponseException jsonException) || jsonException.getDetails() == null
+            || jsonException.getDetails().getErrors() == null) {
+            return false;
+        }
+        return jsonException.getDetails().getErrors().stream()
+            .map(GoogleJsonError.ErrorInfo::getReason)
+            .anyMatch(RATE_LIMIT_REASONS::contains);
+    }
+
+    private void acquireCircuit(String action) throws CallRejectedException {
+        synchronized (circuitLock) {
+            if (circuitState == CircuitState.OPEN) {
+                Instant retryAt = openedAt.plusSeconds(properties.getOpenDurationSeconds());
+                if (clock.instant().isBefore(retryAt)) {
+                    reject(action, "CIRCUIT_OPEN");
+                }
+                transition(CircuitState.HALF_OPEN);
+            }
+            if (circuitState == CircuitState.HALF_OPEN) {
+                if (trialInFlight) {
+                    reject(action, "CIRCUIT_HALF_OPEN");
+                }
+                trialInFlight = true;
+            }
+        }
+    }
+
+    private void releaseTrial() {
+        synchronized (circuitLock) {
+            trialInFlight = false;
+        }
+    }
+
+    private void onSuccess() {
+        synchronized (circuitLock) {
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            if (circuitState != CircuitState.CLOSED) {
+                transition(CircuitState.CLOSED);
+            }
+        }
+    }
+
+    private void onFailure(String action) {
+        synchronized (circuitLock) {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (circuitState == CircuitState.HALF_OPEN
+                || (circuitState == CircuitState.CLOSED && consecutiveFailures >= properties.getFailureThreshold())) {
+                log.warn(StructuredLogMessage.of("google-api-circuit", "OPEN")
+                    .add("action", action)
+                    .add("consecutiveFailures", consecutiveFailures)
+                    .build());
+                openedAt = clock.instant();
+                consecutiveFailures = 0;
+                transition(CircuitState.OPEN);
+            }
+        }
+    }
+
+    private void transition(CircuitState next) {
+        circuitState = next;
+        meterRegistry.counter("google.api.circuit.transitions", "state", next.name().toLowerCase()).increment();
+        log.info("[googleApiCircuit] [{}]", next);
+    }
+
+    private void reject(String action, String reason) throws CallRejectedException {
+        meterRegistry.counter("google.api.rejected", "action", action, "reason", reason.toLowerCase()).increment();
+        throw new CallRejectedException(reason);
+    }
+
+    private enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @FunctionalInterface
+    public interface GoogleApiCall<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * 서킷이 열려 있거나 벌크헤드가 가득 차 Google API를 호출하지 않고 거절했다.
+     */
+    public static class CallRejectedException extends IOException {
+
+        public CallRejectedException(String reason) {
+            super("Google API call rejected: " + reason);
+        }
+    }
+}
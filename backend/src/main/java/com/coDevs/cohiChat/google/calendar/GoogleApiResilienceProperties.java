@@ -0,0 +1,47 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.google-api")
+public class GoogleApiResilienceProperties {
+
+	@Min(100)
+	private int connectTimeoutMs = 3000;
+
+	@Min(100)
+	private int readTimeoutMs = 5000;
+
+	/** 429/5xx 응답에 대한 최대 시도 횟수 (첫 호출 포함) */
+	@Min(1)
+	private int maxAttempts = 3;
+
+	@Min(1)
+	private int initialBackoffMs = 200;
+
+	@Min(1)
+	private int maxBackoffMs = 2000;
+
+	/** 연속 실패가 이 횟수에 도달하면 서킷을 연다 */
+	@Min(1)
+	private int failureThreshold = 5;
+
+	/** 서킷이 열린 뒤 시험 호출을 허용하기까지 기다리는 시간 */
+	@Min(1)
+	private int openDurationSeconds = 30;
+
+	/** Google API 동시 호출 수 상한 (벌크헤드) */
+	@Min(1)
+	private int maxConcurrentCalls = 10;
+
+	/** 벌크헤드 허용량을 기다리는 최대 시간. 초과 시 호출을 거절한다 */
+	@Min(0)
+	private int bulkheadWaitMs = 100;
+}
@@ -10,10 +10,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v5.Apache5HttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.CalendarScopes;
@@ -42,6 +45,8 @@ public class GoogleCalendarConfig {
     );
 
     private final GoogleCalendarProperties properties;
+    private final GoogleApiResilienceProperties resilienceProperties;
+    private final CloseableHttpClient sharedHttpClient;
 
     private String extractedServiceAccountEmail = null;
 
@@ -55,7 +60,9 @@ public class GoogleCalendarConfig {
         }
 
         try {
-            GoogleCredentials baseCredentials = GoogleCredentials.fromStream(credentialsStream);
+            // API 호출과 액세스 토큰 갱신 모두 공유 커넥션 풀을 사용한다
+            HttpTransport transport = new Apache5HttpTransport(sharedHttpClient);
+            GoogleCredentials baseCredentials = GoogleCredentials.fromStream(credentialsStream, () -> transport);
 
             if (baseCredentials instanceof ServiceAccountCredentials sac) {
                 this.extractedServiceAccountEmail = sac.getClientEmail();
@@ -65,9 +72,9 @@ public class GoogleCalendarConfig {
             GoogleCredentials credentials = baseCredentials.createScoped(SCOPES);
 
             return new Calendar.Builder(
-                GoogleNetHttpTransport.newTrustedTransport(),
+                transport,
                 GsonFactory.getDefaultInstance(),
-                new HttpCredentialsAdapter(credentials)
+                withTimeouts(new HttpCredentialsAdapter(credentials), resilienceProperties)
             )
                 .setApplicationName(APPLICATION_NAME)
                 .build();
@@ -80,6 +87,23 @@ public class GoogleCalendarConfig {
         }
     }
 
+    /**
+     * 라이브러리 기본값(연결/읽기 각 20초) 대신 설정한 타임아웃을 적용한다.
+     * 재시도는 {@link GoogleApiCallGuard}가 담당한다.
+     */
+    static HttpRequestInitializer withTimeouts(
+        HttpRequestInitializer delegate,
+        GoogleApiResilienceProperties resilienceProperties
+    ) {
+        return request -> {
+            if (delegate != null) {
+                delegate.initialize(request);
+            }
+            request.setConnectTimeout(resilienceProperties.getConnectTimeoutMs());
+            request.setReadTimeout(resilienceProperties.getReadTimeoutMs());
+        };
+    }
+
     /**
      * Get credentials InputStream from file or AWS Secrets Manager.
      * Priority: 1. Local file, 2. AWS Secrets Manager
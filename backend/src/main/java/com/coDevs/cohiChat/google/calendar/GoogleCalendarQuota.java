@@ -0,0 +1,140 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TimeMeter;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google Calendar API 쿼터 버킷 (프로젝트 전체 + 캘린더별).
+ * <p>Google 쿼터는 프로젝트 단위로 적용되므로, Redis 버킷(Bucket4j ProxyManager)이 등록되어 있으면 모든 노드가 같은 버킷을 나눠 쓴다.
+ * 노드 수와 관계없이 설정한 분당 요청 수가 전체 한도가 된다.
+ * ProxyManager가 없는 local 프로필(단일 노드)에서는 노드 로컬 버킷을 쓴다.</p>
+ * <p>Redis 오류로 토큰을 확인할 수 없으면 호출하지 않은 것으로 보고 대기열에 맡긴다.</p>
+ */
+@Slf4j
+@Component
+public class GoogleCalendarQuota {
+
+    private static final String KEY_PREFIX = "google-calendar-quota:";
+    private static final String PROJECT_KEY = KEY_PREFIX + "project";
+    private static final String DEFAULT_CALENDAR_KEY = "default";
+
+    private final GoogleCalendarQuotaProperties properties;
+    private final LettuceBasedProxyManager<String> proxyManager;
+    private final TimeMeter timeMeter;
+    private final Bucket projectBucket;
+    private final Map<String, Bucket> calendarBuckets = new ConcurrentHashMap<>();
+
+    public GoogleCalendarQuota(
+        GoogleCalendarQuotaProperties properties,
+        Clock clock,
+        @Autowired(required = false) LettuceBasedProxyManager<String> proxyManager
+    ) {
+        this.properties = properties;
+        this.proxyManager = proxyManager;
+        this.timeMeter = clockTimeMeter(clock);
+        this.projectBucket = newBucket(PROJECT_KEY,
+            properties.getProjectBurst(), properties.getProjectRequestsPerMinute());
+    }
+
+    /**
+     * 캘린더 버킷과 프로젝트 버킷에서 토큰을 하나씩 얻는다. 하나라도 실패하면 얻은 토큰을 돌려준다.
+     */
+    public boolean tryAcquire(String googleCalendarId) {
+        Bucket calendarBucket = calendarBucket(googleCalendarId);
+        try {
+            if (!calendarBucket.tryConsume(1)) {
+                return false;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[googleCalendarQuota] [UNAVAILABLE] error={}", e.getMessage());
+            return false;
+        }
+        try {
+            if (projectBucket.tryConsume(1)) {
+                return true;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[googleCalendarQuota] [UNAVAILABLE] error={}", e.getMessage());
+        }
+        addToken(calendarBucket);
+        return false;
+    }
+
+    /**
+     * 토큰을 얻었지만 호출하지 않은 경우(다른 노드가 요청을 먼저 가져감) 돌려준다.
+     */
+    public void refund(String googleCalendarId) {
+        addToken(calendarBucket(googleCalendarId));
+        addToken(projectBucket);
+    }
+
+    public boolean hasProjectCapacity() {
+        try {
+            return projectBucket.getAvailableTokens() >= 1;
+        } catch (RuntimeException e) {
+            log.warn("[googleCalendarQuota] [UNAVAILABLE] error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void addToken(Bucket bucket) {
+        try {
+            bucket.addTokens(1);
+        } catch (RuntimeException e) {
+            // 돌려주지 못한 토큰은 충전 주기 안에 다시 채워진다
+            log.debug("[googleCalendarQuota] [REFUND_FAILED] error={}", e.getMessage());
+        }
+    }
+
+    private Bucket calendarBucket(String googleCalendarId) {
+        String key = googleCalendarId != null ? googleCalendarId : DEFAULT_CALENDAR_KEY;
+        return calendarBuckets.computeIfAbsent(key, ignored -> newBucket(KEY_PREFIX + "calendar:" + key,
+            properties.getCalendarBurst(), properties.getCalendarRequestsPerMinute()));
+    }
+
+    private Bucket newBucket(String key, int burst, int requestsPerMinute) {
+        Bandwidth limit = Bandwidth.builder()
+            .capacity(burst)
+            .refillGreedy(requestsPerMinute, Duration.ofMinutes(1))
+            .build();
+        if (proxyManager != null) {
+            BucketConfiguration configuration = BucketConfiguration.builder().addLimit(limit).build();
+            return proxyManager.builder().build(key, () -> configuration);
+        }
+        return Bucket.builder()
+            .withCustomTimePrecision(timeMeter)
+            .addLimit(limit)
+            .build();
+    }
+
+    /**
+     * 로컬 버킷 충전 시각을 애플리케이션 Clock에 맞춘다.
+     */
+    private static TimeMeter clockTimeMeter(Clock clock) {
+        return new TimeMeter() {
+            @Override
+            public long currentTimeNanos() {
+                Instant now = clock.instant();
+                return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+            }
+
+            @Override
+            public boolean isWallClockBased() {
+                return true;
+            }
+        };
+    }
+}
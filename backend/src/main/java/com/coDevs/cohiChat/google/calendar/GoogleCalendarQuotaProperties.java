@@ -0,0 +1,58 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Google Calendar API 요청 쿼터. 버킷은 Redis에 두어 모든 노드가 공유하므로({@link GoogleCalendarQuota})
+ * 노드 수와 관계없이 Google 콘솔의 프로젝트 한도를 그대로 설정한다.
+ * 대기열은 google_calendar_request 테이블로 모든 노드가 공유한다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.google-calendar-quota")
+public class GoogleCalendarQuotaProperties {
+
+	/** 프로젝트 전체 분당 요청 수 */
+	@Min(1)
+	private int projectRequestsPerMinute = 600;
+
+	/** 프로젝트 버킷 최대 순간 요청 수 */
+	@Min(1)
+	private int projectBurst = 50;
+
+	/** 캘린더(googleCalendarId)별 분당 요청 수 */
+	@Min(1)
+	private int calendarRequestsPerMinute = 60;
+
+	/** 캘린더 버킷 최대 순간 요청 수 */
+	@Min(1)
+	private int calendarBurst = 10;
+
+	/** 대기열 최대 크기. 초과한 요청은 버리고 로그를 남긴다 */
+	@Min(1)
+	private int maxQueueSize = 10000;
+
+	/** 한 번의 처리 주기에서 조회할 최대 요청 수 */
+	@Min(1)
+	private int drainBatchSize = 50;
+
+	/** 한도 초과/서버 오류 재시도 포함 최대 시도 횟수. 넘으면 DEAD로 남긴다 */
+	@Min(1)
+	private int maxAttempts = 8;
+
+	@Min(1)
+	private int initialBackoffSeconds = 5;
+
+	@Min(1)
+	private int maxBackoffSeconds = 600;
+
+	/** SENDING 상태로 이 시간 이상 머문 요청은 재시도 대상으로 되돌림 */
+	@Min(1)
+	private int stuckTimeoutSeconds = 300;
+}
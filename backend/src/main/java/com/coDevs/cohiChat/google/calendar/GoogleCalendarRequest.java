@@ -0,0 +1,193 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿼터를 넘어 대기 중인 Google Calendar 쓰기 요청.
+ * 테이블에 두어 재시작에도 사라지지 않고, 여러 노드가 같은 대기열을 나누어 처리한다.
+ * 같은 예약의 PENDING 요청은 하나만 두고 새 요청은 기존 요청에 합친다 (V6의 부분 유니크 인덱스).
+ */
+@Entity
+@Table(name = "google_calendar_request",
+    indexes = {
+        @Index(name = "idx_google_calendar_request_dispatch", columnList = "status, priority, next_attempt_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleCalendarRequest {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 10)
+    private GoogleCalendarRequestKind kind;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "event_id", length = 64)
+    private String eventId;
+
+    @Column(name = "google_calendar_id", length = 1024)
+    private String googleCalendarId;
+
+    @Column(name = "summary", length = 255)
+    private String summary;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "start_at")
+    private Instant startAt;
+
+    @Column(name = "end_at")
+    private Instant endAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private GoogleCalendarRequestStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "enqueued_at", nullable = false)
+    private Instant enqueuedAt;
+
+    public static GoogleCalendarRequest create(
+        Long bookingId,
+        GoogleCalendarRequestKind kind,
+        String eventId,
+        String googleCalendarId,
+        String summary,
+        String description,
+        Instant startAt,
+        Instant endAt
+    ) {
+        Objects.requireNonNull(bookingId, "bookingId must not be null");
+        Objects.requireNonNull(kind, "kind must not be null");
+
+        GoogleCalendarRequest request = new GoogleCalendarRequest();
+        request.bookingId = bookingId;
+        request.kind = kind;
+        request.priority = kind.priority();
+        request.eventId = eventId;
+        request.googleCalendarId = googleCalendarId;
+        request.summary = summary;
+        request.description = description;
+        request.startAt = startAt;
+        request.endAt = endAt;
+        request.status = GoogleCalendarRequestStatus.PENDING;
+        request.attempts = 0;
+        return request;
+    }
+
+    /**
+     * 대기열에 넣는다. notBefore 이전에는 처리하지 않는다 (즉시 호출이 한도 초과로 실패한 경우의 백오프).
+     */
+    void enqueue(Instant now, Instant notBefore) {
+        this.enqueuedAt = now;
+        this.nextAttemptAt = notBefore;
+    }
+
+    /**
+     * 같은 예약의 새 요청을 합친다. 대기 순번(id, enqueuedAt)은 먼저 들어온 요청을 따른다.
+     *
+     * @return 호출할 필요가 없어졌으면 false (생성 전에 삭제된 이벤트)
+     */
+    boolean merge(GoogleCalendarRequest next) {
+        if (next.kind == GoogleCalendarRequestKind.DELETE) {
+            if (this.kind == GoogleCalendarRequestKind.CREATE) {
+                return false;
+            }
+            changeKind(GoogleCalendarRequestKind.DELETE);
+            this.eventId = next.eventId != null ? next.eventId : this.eventId;
+            this.googleCalendarId = next.googleCalendarId;
+            this.summary = null;
+            this.description = null;
+            this.startAt = null;
+            this.endAt = null;
+            return true;
+        }
+        if (this.kind == GoogleCalendarRequestKind.DELETE) {
+            return true;
+        }
+        if (this.kind != GoogleCalendarRequestKind.CREATE) {
+            changeKind(GoogleCalendarRequestKind.UPDATE);
+        }
+        this.eventId = next.eventId != null ? next.eventId : this.eventId;
+        this.googleCalendarId = next.googleCalendarId;
+        this.summary = next.summary;
+        this.description = next.description;
+        this.startAt = next.startAt;
+        this.endAt = next.endAt;
+        return true;
+    }
+
+    /**
+     * 일시적 실패 처리. 최대 시도 횟수를 넘으면 DEAD(dead-letter)로 전환한다.
+     *
+     * @return DEAD로 전환되었으면 true
+     */
+    boolean markRetry(String error, Instant nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.claimedAt = null;
+        this.lastError = truncate(error);
+        if (this.attempts >= maxAttempts) {
+            this.status = GoogleCalendarRequestStatus.DEAD;
+            return true;
+        }
+        this.status = GoogleCalendarRequestStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        return false;
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 실패 (권한 없음 등)
+     */
+    void markDead(String error) {
+        this.attempts++;
+        this.claimedAt = null;
+        this.lastError = truncate(error);
+        this.status = GoogleCalendarRequestStatus.DEAD;
+    }
+
+    private void changeKind(GoogleCalendarRequestKind kind) {
+        this.kind = kind;
+        this.priority = kind.priority();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
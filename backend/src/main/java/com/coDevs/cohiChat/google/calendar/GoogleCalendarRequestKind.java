@@ -0,0 +1,16 @@
+package com.coDevs.cohiChat.google.calendar;
+
+/**
+ * 대기열에 넣는 Google Calendar 쓰기 요청 종류. 선언 순서가 대기열 처리 우선순위다.
+ */
+public enum GoogleCalendarRequestKind {
+    CREATE, DELETE, UPDATE;
+
+    int priority() {
+        return ordinal();
+    }
+
+    String tag() {
+        return name().toLowerCase();
+    }
+}
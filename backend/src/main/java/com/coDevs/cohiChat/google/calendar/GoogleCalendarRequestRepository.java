@@ -0,0 +1,69 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface GoogleCalendarRequestRepository extends JpaRepository<GoogleCalendarRequest, Long> {
+
+    /**
+     * 합칠 대기 요청 조회. 행을 잠가 처리 노드의 claim과 동시에 진행되지 않도록 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<GoogleCalendarRequest> findByBookingIdAndStatus(Long bookingId, GoogleCalendarRequestStatus status);
+
+    /**
+     * 처리 후보 조회 (생성 &gt; 삭제 &gt; 수정, 같은 우선순위는 먼저 들어온 순).
+     * 잠그지 않으며, 실제 처리 여부는 토큰을 얻은 뒤 {@link #claim}으로 결정한다.
+     */
+    @Query("SELECT r FROM GoogleCalendarRequest r WHERE r.status = :status AND r.nextAttemptAt <= :now "
+        + "ORDER BY r.priority, r.id")
+    List<GoogleCalendarRequest> findDispatchable(
+        @Param("status") GoogleCalendarRequestStatus status,
+        @Param("now") Instant now,
+        Pageable pageable
+    );
+
+    /**
+     * PENDING인 요청만 SENDING으로 전환한다. 다른 노드가 먼저 가져갔거나 처리 시각이 미뤄졌으면 0을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE GoogleCalendarRequest r "
+        + "SET r.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.SENDING, r.claimedAt = :now "
+        + "WHERE r.id = :id AND r.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.PENDING "
+        + "AND r.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") Instant now);
+
+    boolean existsByStatus(GoogleCalendarRequestStatus status);
+
+    long countByStatus(GoogleCalendarRequestStatus status);
+
+    long countByKindAndStatus(GoogleCalendarRequestKind kind, GoogleCalendarRequestStatus status);
+
+    @Modifying
+    @Query("DELETE FROM GoogleCalendarRequest r WHERE r.bookingId = :bookingId "
+        + "AND r.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.PENDING")
+    int deletePendingByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * 호출 도중 인스턴스가 종료되어 SENDING에 머문 행을 재시도 대상으로 되돌린다.
+     * 같은 예약의 PENDING 요청이 이미 있으면 그 요청이 처리된 뒤에 되돌린다 (예약당 PENDING 요청은 하나).
+     */
+    @Modifying
+    @Query("UPDATE GoogleCalendarRequest r "
+        + "SET r.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.PENDING, r.claimedAt = null "
+        + "WHERE r.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.SENDING "
+        + "AND r.claimedAt < :threshold "
+        + "AND NOT EXISTS (SELECT p FROM GoogleCalendarRequest p WHERE p.bookingId = r.bookingId "
+        + "AND p.status = com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestStatus.PENDING)")
+    int releaseStuck(@Param("threshold") Instant threshold);
+}
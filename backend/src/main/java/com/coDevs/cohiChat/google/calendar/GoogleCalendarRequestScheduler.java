@@ -0,0 +1,363 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.global.config.AsyncConfig;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.coDevs.cohiChat.google.calendar.GoogleApiCallGuard.CallRejectedException;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestService.EnqueueResult;
+import com.google.api.client.http.HttpResponseException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google Calendar 쿼터를 지키며 예약 이벤트 쓰기를 호출하는 스케줄러.
+ * <ul>
+ *     <li>캘린더(googleCalendarId)별 버킷과 프로젝트 버킷에서 토큰을 하나씩 얻어야 호출한다 ({@link GoogleCalendarQuota}).</li>
+ *     <li>토큰이 없거나 대기열이 비어 있지 않으면 대기열(google_calendar_request)에 넣고, 트랜잭션 커밋 후에 등록한다
+ *     (롤백된 예약은 호출하지 않는다). 대기 요청 취소도 커밋 후에 반영한다.</li>
+ *     <li>대기열은 생성 &gt; 삭제 &gt; 수정 순으로 처리하고, 같은 예약의 대기 요청은 하나로 합친다 (연속 수정은 마지막 내용으로 한 번만 호출).</li>
+ *     <li>한도 초과(429, 403 rateLimitExceeded)와 서버 오류는 대기열에서 지수 백오프로 다시 시도하고,
+ *     최대 시도 횟수를 넘거나 재시도해도 소용없는 오류는 DEAD로 남긴다.</li>
+ *     <li>동기화 같은 조정용 읽기는 대기 중인 쓰기가 없을 때만 허용한다.</li>
+ * </ul>
+ * 버킷과 대기열은 모든 노드가 공유한다. 대기열 처리는 공유 스케줄러 스레드가 아닌 전용 Executor에서 실행한다.
+ */
+@Slf4j
+@Component
+public class GoogleCalendarRequestScheduler {
+
+    private static final int NOT_FOUND = 404;
+    private static final int GONE = 410;
+
+    private final GoogleCalendarService googleCalendarService;
+    private final GoogleCalendarRequestService googleCalendarRequestService;
+    private final BookingRepository bookingRepository;
+    private final GoogleCalendarQuota quota;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final TaskExecutor drainExecutor;
+
+    public GoogleCalendarRequestScheduler(
+        GoogleCalendarService googleCalendarService,
+        GoogleCalendarRequestService googleCalendarRequestService,
+        BookingRepository bookingRepository,
+        GoogleCalendarQuota quota,
+        MeterRegistry meterRegistry,
+        Clock clock,
+        @Qualifier(AsyncConfig.GOOGLE_CALENDAR_DRAIN_EXECUTOR) TaskExecutor drainExecutor
+    ) {
+        this.googleCalendarService = googleCalendarService;
+        this.googleCalendarRequestService = googleCalendarRequestService;
+        this.bookingRepository = bookingRepository;
+        this.quota = quota;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.drainExecutor = drainExecutor;
+
+        for (GoogleCalendarRequestKind kind : GoogleCalendarRequestKind.values()) {
+            Gauge.builder("google.calendar.queue.depth", googleCalendarRequestService,
+                    service -> service.countPending(kind))
+                .tag("kind", kind.tag())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return 바로 호출했으면 생성된 이벤트 ID, 대기열에 넣었거나 실패했으면 null.
+     *     대기열에서 생성된 이벤트 ID는 처리 시점에 예약에 기록된다.
+     */
+    public String createEvent(
+        Long bookingId,
+        String summary,
+        String description,
+        Instant startDateTime,
+        Instant endDateTime,
+        String googleCalendarId
+    ) {
+        if (!googleCalendarService.isEnabled()) {
+            return null;
+        }
+        GoogleCalendarRequest request = GoogleCalendarRequest.create(bookingId, GoogleCalendarRequestKind.CREATE,
+            null, googleCalendarId, summary, description, startDateTime, endDateTime);
+        if (!tryRunNow(googleCalendarId)) {
+            submit(request, null);
+            return null;
+        }
+        record(GoogleCalendarRequestKind.CREATE, "immediate");
+        try {
+            return googleCalendarService.createEventOrThrow(
+                summary, description, startDateTime, endDateTime, googleCalendarId);
+        } catch (IOException e) {
+            deferIfRetryable(request, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return 호출에 성공했거나 대기열에 넣었으면 true
+     */
+    public boolean updateEvent(
+        Long bookingId,
+        String eventId,
+        String summary,
+        String description,
+        Instant startDateTime,
+        Instant endDateTime,
+        String googleCalendarId
+    ) {
+        if (!googleCalendarService.isEnabled()) {
+            return false;
+        }
+        GoogleCalendarRequest request = GoogleCalendarRequest.create(bookingId, GoogleCalendarRequestKind.UPDATE,
+            eventId, googleCalendarId, summary, description, startDateTime, endDateTime);
+        if (!tryRunNow(googleCalendarId)) {
+            return submit(request, null);
+        }
+        record(GoogleCalendarRequestKind.UPDATE, "immediate");
+        try {
+            return googleCalendarService.updateEventOrThrow(
+                eventId, summary, description, startDateTime, endDateTime, googleCalendarId);
+        } catch (IOException e) {
+            return deferIfRetryable(request, e);
+        }
+    }
+
+    /**
+     * @return 호출에 성공했거나 대기열에 넣었으면 true
+     */
+    public boolean deleteEvent(Long bookingId, String eventId, String googleCalendarId) {
+        if (!googleCalendarService.isEnabled()) {
+            return false;
+        }
+        GoogleCalendarRequest request = GoogleCalendarRequest.create(bookingId, GoogleCalendarRequestKind.DELETE,
+            eventId, googleCalendarId, null, null, null, null);
+        if (!tryRunNow(googleCalendarId)) {
+            return submit(request, null);
+        }
+        record(GoogleCalendarRequestKind.DELETE, "immediate");
+        try {
+            return googleCalendarService.deleteEventOrThrow(eventId, googleCalendarId);
+        } catch (IOException e) {
+            return deferIfRetryable(request, e);
+        }
+    }
+
+    /**
+     * 이벤트가 아직 만들어지지 않은 예약을 취소할 때 대기 중인 요청을 버린다.
+     * 취소가 롤백되면 요청을 남겨야 하므로 커밋 후에 반영한다.
+     */
+    public void discardPending(Long bookingId) {
+        afterCommit(() -> googleCalendarRequestService.discard(bookingId)
+            .ifPresent(kind -> record(kind, "discarded")));
+    }
+
+    /**
+     * 조정용 읽기(바쁜 시간 동기화 등)는 가장 낮은 우선순위로, 대기 중인 쓰기가 없고 토큰이 남아 있을 때만 허용한다.
+     */
+    public boolean tryAcquireRead(String googleCalendarId) {
+        return tryRunNow(googleCalendarId);
+    }
+
+    /**
+     * 대기열 처리를 전용 Executor에 맡긴다. 이전 처리가 아직 실행 중이면 이번 주기는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${app.google-calendar-quota.drain-interval-ms:500}")
+    public void triggerDrain() {
+        drainExecutor.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${app.google-calendar-quota.housekeep-interval-ms:60000}")
+    public void housekeep() {
+        googleCalendarRequestService.housekeep();
+    }
+
+    void drain() {
+        if (!googleCalendarService.isEnabled()) {
+            return;
+        }
+        for (GoogleCalendarRequest candidate : googleCalendarRequestService.findDispatchable()) {
+            if (!quota.hasProjectCapacity()) {
+                break;
+            }
+            // 토큰이 없는 캘린더는 건너뛰고 다른 캘린더 요청을 먼저 처리한다
+            if (!quota.tryAcquire(candidate.getGoogleCalendarId())) {
+                continue;
+            }
+            Optional<GoogleCalendarRequest> claimed = googleCalendarRequestService.claim(candidate.getId());
+            if (claimed.isPresent()) {
+                dispatch(claimed.get());
+            } else {
+                quota.refund(candidate.getGoogleCalendarId());
+            }
+        }
+    }
+
+    private boolean tryRunNow(String googleCalendarId) {
+        if (googleCalendarRequestService.hasPending()) {
+            return false;
+        }
+        return quota.tryAcquire(googleCalendarId);
+    }
+
+    /**
+     * 바로 호출한 요청이 한도 초과 등 일시적 오류로 실패하면 백오프 후 대기열에서 다시 시도한다.
+     *
+     * @return 대기열에 넣었으면 true
+     */
+    private boolean deferIfRetryable(GoogleCalendarRequest request, IOException e) {
+        if (!isRetryable(request.getKind(), e)) {
+            record(request.getKind(), "failed");
+            return false;
+        }
+        record(request.getKind(), "deferred");
+        return submit(request, clock.instant().plus(googleCalendarRequestService.backoff(1)));
+    }
+
+    private boolean submit(GoogleCalendarRequest request, Instant notBefore) {
+        afterCommit(() -> enqueue(request, notBefore));
+        return true;
+    }
+
+    /**
+     * afterCommit 대신 afterCompletion을 쓰는 이유: AFTER_COMMIT 이벤트 리스너(회원 탈퇴 등) 안에서 등록한
+     * 동기화는 afterCommit으로는 호출되지 않지만 afterCompletion으로는 호출된다.
+     * 이 시점의 대기열 쓰기는 새 트랜잭션(REQUIRES_NEW)으로 실행된다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void enqueue(GoogleCalendarRequest request, Instant notBefore) {
+        EnqueueResult result;
+        try {
+            result = googleCalendarRequestService.enqueue(request, notBefore);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 예약의 요청을 먼저 넣었으면 그 요청에 합친다
+            result = googleCalendarRequestService.enqueue(request, notBefore);
+        }
+        record(request.getKind(), result.tag());
+    }
+
+    private void dispatch(GoogleCalendarRequest request) {
+        GoogleCalendarRequestKind kind = request.getKind();
+        meterRegistry.timer("google.calendar.queue.wait", "kind", kind.tag())
+            .record(Duration.between(request.getEnqueuedAt(), clock.instant()));
+        try {
+            boolean success = switch (kind) {
+                case CREATE -> dispatchCreate(request);
+                case DELETE -> dispatchDelete(request);
+                case UPDATE -> googleCalendarService.updateEventOrThrow(request.getEventId(), request.getSummary(),
+                    request.getDescription(), request.getStartAt(), request.getEndAt(), request.getGoogleCalendarId());
+            };
+            if (success) {
+                googleCalendarRequestService.complete(request.getId());
+                record(kind, "dispatched");
+            } else {
+                fail(request, "no result");
+            }
+        } catch (IOException e) {
+            if (isRetryable(kind, e)) {
+                boolean dead = googleCalendarRequestService.retry(request.getId(), describe(e));
+                record(kind, dead ? "dead" : "retried");
+                logFailure(request, describe(e), true);
+            } else {
+                fail(request, describe(e));
+            }
+        } catch (RuntimeException e) {
+            fail(request, describe(e));
+        }
+    }
+
+    private boolean dispatchCreate(GoogleCalendarRequest request) throws IOException {
+        String eventId = googleCalendarService.createEventOrThrow(request.getSummary(), request.getDescription(),
+            request.getStartAt(), request.getEndAt(), request.getGoogleCalendarId());
+        if (eventId == null) {
+            return false;
+        }
+        if (bookingRepository.updateGoogleEventIdIfAbsent(request.getBookingId(), eventId) == 0) {
+            // 그 사이 예약이 사라졌거나 다른 이벤트가 연결되었으면 방금 만든 이벤트를 남기지 않는다
+            googleCalendarService.deleteEvent(eventId, request.getGoogleCalendarId());
+        }
+        return true;
+    }
+
+    private boolean dispatchDelete(GoogleCalendarRequest request) throws IOException {
+        try {
+            return googleCalendarService.deleteEventOrThrow(request.getEventId(), request.getGoogleCalendarId());
+        } catch (HttpResponseException e) {
+            // 이미 삭제된 이벤트
+            if (e.getStatusCode() == NOT_FOUND || e.getStatusCode() == GONE) {
+                return true;
+            }
+            throw e;
+        }
+    }
+
+    private void fail(GoogleCalendarRequest request, String error) {
+        googleCalendarRequestService.fail(request.getId(), error);
+        record(request.getKind(), "failed");
+        logFailure(request, error, false);
+    }
+
+    private void logFailure(GoogleCalendarRequest request, String error, boolean retryable) {
+        log.warn(StructuredLogMessage.of("google-calendar-queue", "FAILED")
+            .add("bookingId", request.getBookingId())
+            .add("kind", request.getKind().tag())
+            .add("attempt", request.getAttempts() + 1)
+            .add("retryable", retryable)
+            .add("error", error)
+            .build());
+    }
+
+    /**
+     * 한도 초과와 서버 오류, 회로 차단은 나중에 다시 시도한다. 응답을 받지 못한 네트워크 오류는
+     * 생성 요청이 실제로는 처리되었을 수 있으므로 중복 이벤트를 피하려고 생성만 재시도하지 않는다.
+     */
+    private static boolean isRetryable(GoogleCalendarRequestKind kind, IOException e) {
+        if (e instanceof HttpResponseException response) {
+            return GoogleApiCallGuard.isRetryable(response);
+        }
+        if (e instanceof CallRejectedException) {
+            return true;
+        }
+        return kind != GoogleCalendarRequestKind.CREATE;
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof HttpResponseException response) {
+            return "status=" + response.getStatusCode() + " " + response.getStatusMessage();
+        }
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    private void record(GoogleCalendarRequestKind kind, String result) {
+        meterRegistry.counter("google.calendar.requests", "kind", kind.tag(), "result", result).increment();
+    }
+}
@@ -0,0 +1,194 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * google_calendar_request 상태 전이를 담당한다. 각 메서드는 짧은 트랜잭션으로 실행되며,
+ * Google API 호출 자체는 트랜잭션 밖({@link GoogleCalendarRequestScheduler})에서 수행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GoogleCalendarRequestService {
+
+    private final GoogleCalendarRequestRepository googleCalendarRequestRepository;
+    private final GoogleCalendarQuotaProperties properties;
+    private final Clock clock;
+
+    /**
+     * 대기열에 넣는다. 같은 예약의 PENDING 요청이 있으면 합친다.
+     * 예약 트랜잭션의 afterCompletion에서 호출되므로 항상 새 트랜잭션으로 실행한다.
+     *
+     * @param notBefore 이 시각 이후에 처리 (null이면 즉시)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public EnqueueResult enqueue(GoogleCalendarRequest request, Instant notBefore) {
+        Instant now = clock.instant();
+        Optional<GoogleCalendarRequest> pending = googleCalendarRequestRepository.findByBookingIdAndStatus(
+            request.getBookingId(), GoogleCalendarRequestStatus.PENDING);
+        if (pending.isPresent()) {
+            if (!pending.get().merge(request)) {
+                googleCalendarRequestRepository.delete(pending.get());
+            }
+            return EnqueueResult.COALESCED;
+        }
+
+        long queueSize = googleCalendarRequestRepository.countByStatus(GoogleCalendarRequestStatus.PENDING);
+        if (queueSize >= properties.getMaxQueueSize()) {
+            log.warn(StructuredLogMessage.of("google-calendar-queue", "DROPPED")
+                .add("bookingId", request.getBookingId())
+                .add("kind", request.getKind().tag())
+                .add("queueSize", queueSize)
+                .build());
+            return EnqueueResult.DROPPED;
+        }
+
+        request.enqueue(now, notBefore != null ? notBefore : now);
+        googleCalendarRequestRepository.save(request);
+        return EnqueueResult.QUEUED;
+    }
+
+    /**
+     * 예약의 PENDING 요청을 버린다. 예약 트랜잭션의 afterCompletion에서 호출되므로 항상 새 트랜잭션으로 실행한다.
+     *
+     * @return 버린 요청 종류
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<GoogleCalendarRequestKind> discard(Long bookingId) {
+        Optional<GoogleCalendarRequest> pending = googleCalendarRequestRepository.findByBookingIdAndStatus(
+            bookingId, GoogleCalendarRequestStatus.PENDING);
+        pending.ifPresent(googleCalendarRequestRepository::delete);
+        return pending.map(GoogleCalendarRequest::getKind);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GoogleCalendarRequest> findDispatchable() {
+        return googleCalendarRequestRepository.findDispatchable(
+            GoogleCalendarRequestStatus.PENDING, clock.instant(), PageRequest.of(0, properties.getDrainBatchSize()));
+    }
+
+    /**
+     * 요청을 SENDING으로 전환하고 최신 내용을 반환한다. 다른 노드가 먼저 가져갔으면 빈 값을 반환한다.
+     */
+    @Transactional
+    public Optional<GoogleCalendarRequest> claim(Long id) {
+        if (googleCalendarRequestRepository.claim(id, clock.instant()) == 0) {
+            return Optional.empty();
+        }
+        return googleCalendarRequestRepository.findById(id);
+    }
+
+    @Transactional
+    public void complete(Long id) {
+        googleCalendarRequestRepository.deleteById(id);
+    }
+
+    /**
+     * 일시적 실패(한도 초과, 5xx 등)를 백오프 후 다시 처리하도록 되돌린다.
+     *
+     * @return 최대 시도 횟수를 넘어 DEAD로 전환되었으면 true
+     */
+    @Transactional
+    public boolean retry(Long id, String error) {
+        Optional<GoogleCalendarRequest> found = googleCalendarRequestRepository.findById(id);
+        if (found.isEmpty()) {
+            return false;
+        }
+        GoogleCalendarRequest request = found.get();
+        if (request.getAttempts() + 1 < properties.getMaxAttempts() && !absorbNewerPending(request)) {
+            googleCalendarRequestRepository.delete(request);
+            return false;
+        }
+        Instant nextAttemptAt = clock.instant().plus(backoff(request.getAttempts() + 1));
+        boolean dead = request.markRetry(error, nextAttemptAt, properties.getMaxAttempts());
+        if (dead) {
+            logDeadLetter(request);
+        }
+        return dead;
+    }
+
+    @Transactional
+    public void fail(Long id, String error) {
+        googleCalendarRequestRepository.findById(id).ifPresent(request -> {
+            request.markDead(error);
+            logDeadLetter(request);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasPending() {
+        return googleCalendarRequestRepository.existsByStatus(GoogleCalendarRequestStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending(GoogleCalendarRequestKind kind) {
+        return googleCalendarRequestRepository.countByKindAndStatus(kind, GoogleCalendarRequestStatus.PENDING);
+    }
+
+    @Transactional
+    public void housekeep() {
+        int released = googleCalendarRequestRepository.releaseStuck(
+            clock.instant().minusSeconds(properties.getStuckTimeoutSeconds()));
+        if (released > 0) {
+            log.warn(StructuredLogMessage.of("google-calendar-queue", "RELEASE_STUCK").add("count", released).build());
+        }
+    }
+
+    /**
+     * 지수 백오프: initial * 2^(attempt-1), 최대 maxBackoff
+     */
+    Duration backoff(int attempt) {
+        long seconds = (long) properties.getInitialBackoffSeconds() << Math.min(attempt - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxBackoffSeconds()));
+    }
+
+    /**
+     * 호출 중에 같은 예약의 새 요청이 대기열에 들어왔으면 재시도할 요청에 합친다 (예약당 PENDING 요청은 하나).
+     * 삭제를 먼저 반영해야 상태를 PENDING으로 되돌릴 때 부분 유니크 인덱스와 충돌하지 않는다.
+     *
+     * @return 재시도할 필요가 없어졌으면 false
+     */
+    private boolean absorbNewerPending(GoogleCalendarRequest request) {
+        Optional<GoogleCalendarRequest> newer = googleCalendarRequestRepository.findByBookingIdAndStatus(
+            request.getBookingId(), GoogleCalendarRequestStatus.PENDING);
+        if (newer.isEmpty()) {
+            return true;
+        }
+        boolean keep = request.merge(newer.get());
+        googleCalendarRequestRepository.delete(newer.get());
+        googleCalendarRequestRepository.flush();
+        return keep;
+    }
+
+    private void logDeadLetter(GoogleCalendarRequest request) {
+        log.error(StructuredLogMessage.of("google-calendar-queue", "DEAD_LETTER")
+            .add("requestId", request.getId())
+            .add("bookingId", request.getBookingId())
+            .add("kind", request.getKind().tag())
+            .add("attempts", request.getAttempts())
+            .add("error", request.getLastError())
+            .build());
+    }
+
+    public enum EnqueueResult {
+        QUEUED, COALESCED, DROPPED;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
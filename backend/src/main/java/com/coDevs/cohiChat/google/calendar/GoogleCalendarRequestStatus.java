@@ -0,0 +1,7 @@
+package com.coDevs.cohiChat.google.calendar;
+
+public enum GoogleCalendarRequestStatus {
+    PENDING,
+    SENDING,
+    DEAD
+}
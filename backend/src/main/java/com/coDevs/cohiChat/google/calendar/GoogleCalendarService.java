@@ -3,6 +3,9 @@ package com.coDevs.cohiChat.google.calendar;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +18,7 @@ import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
+import com.google.api.services.calendar.model.Events;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,9 +26,16 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class GoogleCalendarService {
 
+    /** cohiChat 예약으로 만든 이벤트 표시 (바쁜 시간 동기화에서 제외) */
+    public static final String BOOKING_EVENT_PROPERTY = "cohiChatBooking";
+
+    private static final int SYNC_PAGE_SIZE = 2500;
+    private static final int SYNC_TOKEN_EXPIRED = 410;
+
     private final Calendar calendar;
     private final GoogleCalendarProperties properties;
     private final GoogleCalendarConfig googleCalendarConfig;
+    private final GoogleApiCallGuard googleApiCallGuard;
 
     @Value("${observability.google-calendar.slow-call-threshold-ms:2000}")
     private long slowCallThresholdMs;
@@ -32,11 +43,13 @@ public class GoogleCalendarService {
     public GoogleCalendarService(
         @Autowired(required = false) Calendar calendar,
         GoogleCalendarProperties properties,
-        GoogleCalendarConfig googleCalendarConfig
+        GoogleCalendarConfig googleCalendarConfig,
+        GoogleApiCallGuard googleApiCallGuard
     ) {
         this.calendar = calendar;
         this.properties = properties;
         this.googleCalendarConfig = googleCalendarConfig;
+        this.googleApiCallGuard = googleApiCallGuard;
     }
 
     public String createEvent(
@@ -46,6 +59,23 @@ public class GoogleCalendarService {
         Instant endDateTime,
         String googleCalendarId
     ) {
+        try {
+            return createEventOrThrow(summary, description, startDateTime, endDateTime, googleCalendarId);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 실패 원인(상태 코드 등)으로 재시도 여부를 판단해야 하는 호출자를 위해 예외를 그대로 던진다.
+     */
+    public String createEventOrThrow(
+        String summary,
+        String description,
+        Instant startDateTime,
+        Instant endDateTime,
+        String googleCalendarId
+    ) throws IOException {
         if (calendar == null) {
             log.debug("[createEvent] [SKIP] reason=SERVICE_NOT_INITIALIZED");
             return null;
@@ -56,17 +86,17 @@ public class GoogleCalendarService {
         long startNanos = System.nanoTime();
 
         try {
-            Event createdEvent = calendar.events()
+            Event createdEvent = googleApiCallGuard.execute("createEvent", () -> calendar.events()
                 .insert(calendarId, event)
                 .setConferenceDataVersion(1)
-                .execute();
+                .execute());
 
             logCompletion("createEvent", startNanos);
             return createdEvent.getId();
         } catch (IOException e) {
             log.warn("[createEvent] [FAIL] durationMs={} cause={}",
                 elapsedMillis(startNanos), e.getClass().getSimpleName());
-            return null;
+            throw e;
         }
     }
 
@@ -78,6 +108,21 @@ public class GoogleCalendarService {
         Instant endDateTime,
         String googleCalendarId
     ) {
+        try {
+            return updateEventOrThrow(eventId, summary, description, startDateTime, endDateTime, googleCalendarId);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean updateEventOrThrow(
+        String eventId,
+        String summary,
+        String description,
+        Instant startDateTime,
+        Instant endDateTime,
+        String googleCalendarId
+    ) throws IOException {
         if (calendar == null) {
             log.debug("[updateEvent] [SKIP] reason=SERVICE_NOT_INITIALIZED");
             return false;
@@ -88,20 +133,28 @@ public class GoogleCalendarService {
         long startNanos = System.nanoTime();
 
         try {
-            calendar.events()
+            googleApiCallGuard.execute("updateEvent", () -> calendar.events()
                 .update(calendarId, eventId, event)
-                .execute();
+                .execute());
 
             logCompletion("updateEvent", startNanos);
             return true;
         } catch (IOException e) {
             log.warn("[updateEvent] [FAIL] durationMs={} cause={}",
                 elapsedMillis(startNanos), e.getClass().getSimpleName());
-            return false;
+            throw e;
         }
     }
 
     public boolean deleteEvent(String eventId, String googleCalendarId) {
+        try {
+            return deleteEventOrThrow(eventId, googleCalendarId);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean deleteEventOrThrow(String eventId, String googleCalendarId) throws IOException {
         if (calendar == null) {
             log.debug("[deleteEvent] [SKIP] reason=SERVICE_NOT_INITIALIZED");
             return false;
@@ -111,16 +164,16 @@ public class GoogleCalendarService {
         long startNanos = System.nanoTime();
 
         try {
-            calendar.events()
+            googleApiCallGuard.execute("deleteEvent", () -> calendar.events()
                 .delete(calendarId, eventId)
-                .execute();
+                .execute());
 
             logCompletion("deleteEvent", startNanos);
             return true;
         } catch (IOException e) {
             log.warn("[deleteEvent] [FAIL] durationMs={} cause={}",
                 elapsedMillis(startNanos), e.getClass().getSimpleName());
-            return false;
+            throw e;
         }
     }
 
@@ -133,9 +186,9 @@ public class GoogleCalendarService {
         String calendarId = resolveCalendarId(googleCalendarId);
 
         try {
-            Event event = calendar.events()
+            Event event = googleApiCallGuard.execute("getEvent", () -> calendar.events()
                 .get(calendarId, eventId)
-                .execute();
+                .execute());
             log.debug("[getEvent] [SUCCESS]");
             return event;
         } catch (IOException e) {
@@ -144,6 +197,62 @@ public class GoogleCalendarService {
         }
     }
 
+    public boolean isEnabled() {
+        return calendar != null;
+    }
+
+    /**
+     * 캘린더 이벤트 변경분 조회 (events.list 증분 동기화).
+     * syncToken이 없으면 전체 조회하고, 마지막 페이지의 nextSyncToken을 함께 반환한다.
+     * 반복 일정은 인스턴스 단위로 펼쳐서 받는다 (singleEvents).
+     *
+     * @return 조회 실패 시 null, syncToken 만료 시 {@link GoogleEventChanges#expired()}
+     */
+    public GoogleEventChanges listEventChanges(String googleCalendarId, String syncToken) {
+        if (calendar == null) {
+            log.debug("[listEventChanges] [SKIP] reason=SERVICE_NOT_INITIALIZED");
+            return null;
+        }
+
+        String calendarId = resolveCalendarId(googleCalendarId);
+        List<Event> events = new ArrayList<>();
+        String pageToken = null;
+        long startNanos = System.nanoTime();
+
+        try {
+            Events page;
+            do {
+                Calendar.Events.List request = calendar.events()
+                    .list(calendarId)
+                    .setSingleEvents(true)
+                    .setMaxResults(SYNC_PAGE_SIZE)
+                    .setPageToken(pageToken);
+                if (syncToken != null) {
+                    request.setSyncToken(syncToken);
+                }
+                page = googleApiCallGuard.execute("listEventChanges", request::execute);
+                if (page.getItems() != null) {
+                    events.addAll(page.getItems());
+                }
+                pageToken = page.getNextPageToken();
+            } while (pageToken != null);
+
+            logCompletion("listEventChanges", startNanos);
+            return new GoogleEventChanges(events, page.getNextSyncToken(), syncToken == null, false);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() == SYNC_TOKEN_EXPIRED) {
+                log.info("[listEventChanges] [FAIL] status={} reason=SYNC_TOKEN_EXPIRED", e.getStatusCode());
+                return GoogleEventChanges.expired();
+            }
+            log.warn("[listEventChanges] [FAIL] durationMs={} status={}", elapsedMillis(startNanos), e.getStatusCode());
+            return null;
+        } catch (IOException e) {
+            log.warn("[listEventChanges] [FAIL] durationMs={} cause={}",
+                elapsedMillis(startNanos), e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
     public String getServiceAccountEmail() {
         return googleCalendarConfig.getServiceAccountEmail();
     }
@@ -161,7 +270,8 @@ public class GoogleCalendarService {
         }
 
         try {
-            calendar.events().list(resolvedId).setMaxResults(1).execute();
+            googleApiCallGuard.execute("checkCalendarAccess",
+                () -> calendar.events().list(resolvedId).setMaxResults(1).execute());
             log.debug("[checkCalendarAccess] [SUCCESS]");
             return true;
         } catch (GoogleJsonResponseException e) {
@@ -191,10 +301,10 @@ public class GoogleCalendarService {
         }
 
         try {
-            calendar.events()
+            googleApiCallGuard.execute("validateCalendarAccess", () -> calendar.events()
                 .list(resolvedId)
                 .setMaxResults(1)
-                .execute();
+                .execute());
             log.debug("[validateCalendarAccess] [SUCCESS]");
         } catch (GoogleJsonResponseException e) {
             if (e.getStatusCode() == 403 || e.getStatusCode() == 404) {
@@ -222,6 +332,8 @@ public class GoogleCalendarService {
         Event event = new Event();
         event.setSummary(summary);
         event.setDescription(description);
+        event.setExtendedProperties(new Event.ExtendedProperties()
+            .setPrivate(Map.of(BOOKING_EVENT_PROPERTY, "true")));
 
         String timezone = properties.getTimezone();
         String resolvedTimezone = (timezone != null) ? timezone : ZoneId.systemDefault().getId();
@@ -0,0 +1,20 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import java.util.List;
+
+import com.google.api.services.calendar.model.Event;
+
+/**
+ * events.list 동기화 결과.
+ *
+ * @param events           변경된 이벤트 (증분 동기화에서는 삭제된 이벤트도 status=cancelled로 포함)
+ * @param nextSyncToken    다음 증분 동기화에 사용할 토큰
+ * @param fullSync         syncToken 없이 전체 조회한 결과인지 여부
+ * @param syncTokenExpired syncToken이 만료(410 Gone)되어 전체 동기화가 필요한지 여부
+ */
+public record GoogleEventChanges(List<Event> events, String nextSyncToken, boolean fullSync, boolean syncTokenExpired) {
+
+    public static GoogleEventChanges expired() {
+        return new GoogleEventChanges(List.of(), null, false, true);
+    }
+}
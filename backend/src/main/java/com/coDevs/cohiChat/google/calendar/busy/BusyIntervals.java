@@ -0,0 +1,121 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 호스트의 바쁜 시간 구간 집합.
+ * <p>겹치거나 맞닿은 구간을 병합한 뒤 [start0, end0, start1, end1, ...] (epoch 초) 형태의
+ * 정렬된 long 배열 하나로 보관하므로, 겹침 확인은 이진 탐색 O(log n)이고 직렬화 크기는 구간당 16바이트다.</p>
+ * <p>구간은 [start, end) 반열림 구간이다.</p>
+ */
+public final class BusyIntervals {
+
+    public static final BusyIntervals EMPTY = new BusyIntervals(new long[0]);
+
+    private final long[] bounds;
+
+    private BusyIntervals(long[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * @param intervals {start, end} epoch 초 쌍 목록 (정렬/병합 전)
+     */
+    public static BusyIntervals of(Collection<long[]> intervals) {
+        List<long[]> sorted = new ArrayList<>(intervals.size());
+        for (long[] interval : intervals) {
+            if (interval[1] > interval[0]) {
+                sorted.add(interval);
+            }
+        }
+        if (sorted.isEmpty()) {
+            return EMPTY;
+        }
+        sorted.sort(Comparator.comparingLong(interval -> interval[0]));
+
+        long[] merged = new long[sorted.size() * 2];
+        int size = 0;
+        for (long[] interval : sorted) {
+            if (size > 0 && interval[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], interval[1]);
+            } else {
+                merged[size++] = interval[0];
+                merged[size++] = interval[1];
+            }
+        }
+        return new BusyIntervals(Arrays.copyOf(merged, size));
+    }
+
+    /**
+     * [start, end) 구간이 바쁜 구간과 하나라도 겹치는지 확인
+     */
+    public boolean overlaps(Instant start, Instant end) {
+        long from = start.getEpochSecond();
+        long to = end.getEpochSecond();
+        int index = firstEndingAfter(from);
+        return index < size() && bounds[index * 2] < to;
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 바쁜 구간 목록
+     */
+    public List<Instant[]> between(Instant from, Instant to) {
+        List<Instant[]> result = new ArrayList<>();
+        long toSecond = to.getEpochSecond();
+        for (int i = firstEndingAfter(from.getEpochSecond()); i < size() && bounds[i * 2] < toSecond; i++) {
+            result.add(new Instant[] {
+                Instant.ofEpochSecond(bounds[i * 2]),
+                Instant.ofEpochSecond(bounds[i * 2 + 1])
+            });
+        }
+        return result;
+    }
+
+    public int size() {
+        return bounds.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(bounds.length * Long.BYTES);
+        buffer.asLongBuffer().put(bounds);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    public static BusyIntervals decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return EMPTY;
+        }
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        long[] bounds = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(bounds);
+        return new BusyIntervals(bounds);
+    }
+
+    /**
+     * end가 second보다 큰 첫 구간의 인덱스 (구간 끝은 오름차순이므로 이진 탐색)
+     */
+    private int firstEndingAfter(long second) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid * 2 + 1] <= second) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,31 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.google-busy-sync")
+public class GoogleBusySyncProperties {
+
+	/** 증분 동기화 상태(syncToken, 이벤트 구간)가 갱신 없이 유지되는 일수. 지나면 다음 실행에서 전체 동기화한다 */
+	@Min(1)
+	private int stateTtlDays = 7;
+
+	/** 증분 동기화로 놓친 변경을 바로잡기 위해 전체 동기화를 다시 하는 주기(시간) */
+	@Min(1)
+	private int fullSyncIntervalHours = 24;
+
+	/** 호스트별로 보관하는 최대 이벤트 수 (시작 시각이 이른 순으로 유지) */
+	@Min(1)
+	private int maxEventsPerHost = 2000;
+
+	/** 클러스터 락 만료 시간. 한 번의 실행 시간보다 충분히 길어야 한다 */
+	@Min(1)
+	private int leaseSeconds = 600;
+}
@@ -0,0 +1,119 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.CalendarSyncTarget;
+import com.coDevs.cohiChat.global.config.AsyncConfig;
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestScheduler;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 Google Calendar 바쁜 시간 동기화 배치.
+ * <ul>
+ *     <li>클러스터 락을 획득한 한 노드만 실행한다.</li>
+ *     <li>Google API를 차례로 호출하는 긴 작업이므로 공유 스케줄러 스레드가 아닌 전용 Executor에서 실행한다.
+ *     이전 동기화가 아직 실행 중이면 이번 주기는 건너뛴다.</li>
+ *     <li>호스트 하나의 동기화가 실패해도 나머지 호스트는 계속 진행하고, 실패한 호스트는 기존 구간을 유지한다.</li>
+ *     <li>예약 이벤트 쓰기가 대기 중이거나 쿼터가 부족하면 해당 호스트는 다음 실행으로 미룬다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.google-busy-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class GoogleBusySyncScheduler {
+
+    private static final String LOCK_NAME = "google-busy-sync";
+
+    private final GoogleBusyTimeSyncService googleBusyTimeSyncService;
+    private final GoogleCalendarService googleCalendarService;
+    private final GoogleCalendarRequestScheduler googleCalendarRequestScheduler;
+    private final CalendarRepository calendarRepository;
+    private final GoogleBusySyncProperties properties;
+    private final ClusterLock clusterLock;
+    private final TaskExecutor syncExecutor;
+
+    public GoogleBusySyncScheduler(
+        GoogleBusyTimeSyncService googleBusyTimeSyncService,
+        GoogleCalendarService googleCalendarService,
+        GoogleCalendarRequestScheduler googleCalendarRequestScheduler,
+        CalendarRepository calendarRepository,
+        GoogleBusySyncProperties properties,
+        ClusterLock clusterLock,
+        @Qualifier(AsyncConfig.GOOGLE_BUSY_SYNC_EXECUTOR) TaskExecutor syncExecutor
+    ) {
+        this.googleBusyTimeSyncService = googleBusyTimeSyncService;
+        this.googleCalendarService = googleCalendarService;
+        this.googleCalendarRequestScheduler = googleCalendarRequestScheduler;
+        this.calendarRepository = calendarRepository;
+        this.properties = properties;
+        this.clusterLock = clusterLock;
+        this.syncExecutor = syncExecutor;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.google-busy-sync.interval-ms:300000}",
+        initialDelayString = "${app.google-busy-sync.initial-delay-ms:60000}"
+    )
+    public void run() {
+        if (!googleCalendarService.isEnabled()) {
+            return;
+        }
+        syncExecutor.execute(this::syncIfLeader);
+    }
+
+    void syncIfLeader() {
+        boolean executed = clusterLock.runIfAcquired(
+            LOCK_NAME, Duration.ofSeconds(properties.getLeaseSeconds()), this::syncAll);
+        if (!executed) {
+            log.debug("Google busy-time sync skipped: lock held by another node");
+        }
+    }
+
+    void syncAll() {
+        long start = System.currentTimeMillis();
+        List<CalendarSyncTarget> targets = calendarRepository.findGoogleSyncTargets();
+        int synced = 0;
+        int failed = 0;
+        int deferred = 0;
+
+        for (CalendarSyncTarget target : targets) {
+            if (!googleCalendarRequestScheduler.tryAcquireRead(target.getGoogleCalendarId())) {
+                deferred++;
+                continue;
+            }
+            try {
+                if (googleBusyTimeSyncService.sync(target.getHostId(), target.getGoogleCalendarId())) {
+                    synced++;
+                } else {
+                    failed++;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.warn(StructuredLogMessage.of("google-busy-sync", "FAILED")
+                    .add("hostId", target.getHostId())
+                    .add("error", e.getMessage())
+                    .build());
+            }
+        }
+
+        log.info(StructuredLogMessage.of("google-busy-sync", "SUCCESS")
+            .add("targets", targets.size())
+            .add("synced", synced)
+            .add("failed", failed)
+            .add("deferred", deferred)
+            .add("elapsedMs", System.currentTimeMillis() - start)
+            .build());
+    }
+}
@@ -0,0 +1,110 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트별 Google Calendar 바쁜 시간 저장소 (Redis).
+ * <ul>
+ *     <li>{@code google-busy:intervals:{hostId}}: 예약 검증이 읽는 병합된 구간({@link BusyIntervals#encode()}). 요청 경로는 GET 한 번이다.</li>
+ *     <li>{@code google-busy:state:{hostId}}: 동기화 배치만 쓰는 증분 동기화 상태 (syncToken, 이벤트별 구간).</li>
+ * </ul>
+ * 두 키 모두 TTL을 두어 연동이 끊긴 호스트의 데이터는 자연히 사라지고, 다음 동기화는 전체 동기화가 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleBusyTimeStore {
+
+    private static final String INTERVALS_KEY_PREFIX = "google-busy:intervals:";
+    private static final String STATE_KEY_PREFIX = "google-busy:state:";
+    private static final String SYNC_TOKEN_FIELD = "sync-token";
+    private static final String FULL_SYNCED_AT_FIELD = "full-synced-at";
+    private static final String EVENT_FIELD_PREFIX = "e:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean isBusy(UUID hostId, Instant start, Instant end) {
+        return getIntervals(hostId).overlaps(start, end);
+    }
+
+    /**
+     * Redis 장애 시에는 바쁜 시간이 없는 것으로 보고 예약을 막지 않는다.
+     */
+    public BusyIntervals getIntervals(UUID hostId) {
+        try {
+            return BusyIntervals.decode(redisTemplate.opsForValue().get(INTERVALS_KEY_PREFIX + hostId));
+        } catch (Exception e) {
+            log.warn(StructuredLogMessage.of("google-busy", "UNAVAILABLE")
+                .add("error", e.getMessage())
+                .build());
+            return BusyIntervals.EMPTY;
+        }
+    }
+
+    SyncState loadState(UUID hostId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(STATE_KEY_PREFIX + hostId);
+        String syncToken = null;
+        Instant fullSyncedAt = null;
+        Map<String, long[]> events = new HashMap<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            String value = (String) entry.getValue();
+            if (SYNC_TOKEN_FIELD.equals(field)) {
+                syncToken = value;
+            } else if (FULL_SYNCED_AT_FIELD.equals(field)) {
+                fullSyncedAt = Instant.ofEpochSecond(Long.parseLong(value));
+            } else if (field.startsWith(EVENT_FIELD_PREFIX)) {
+                int comma = value.indexOf(',');
+                events.put(field.substring(EVENT_FIELD_PREFIX.length()), new long[] {
+                    Long.parseLong(value.substring(0, comma)),
+                    Long.parseLong(value.substring(comma + 1))
+                });
+            }
+        }
+        return new SyncState(syncToken, fullSyncedAt, events);
+    }
+
+    /**
+     * 동기화 상태를 통째로 교체하고 병합된 구간을 갱신한다.
+     * 동기화는 클러스터 락을 잡은 한 노드만 실행하므로 키 단위 원자성으로 충분하다.
+     */
+    void saveState(UUID hostId, SyncState state, Duration ttl) {
+        String stateKey = STATE_KEY_PREFIX + hostId;
+        Map<String, String> fields = new HashMap<>();
+        if (state.syncToken() != null) {
+            fields.put(SYNC_TOKEN_FIELD, state.syncToken());
+        }
+        if (state.fullSyncedAt() != null) {
+            fields.put(FULL_SYNCED_AT_FIELD, String.valueOf(state.fullSyncedAt().getEpochSecond()));
+        }
+        state.events().forEach((eventId, interval) ->
+            fields.put(EVENT_FIELD_PREFIX + eventId, interval[0] + "," + interval[1]));
+
+        redisTemplate.delete(stateKey);
+        if (!fields.isEmpty()) {
+            redisTemplate.opsForHash().putAll(stateKey, fields);
+            redisTemplate.expire(stateKey, ttl);
+        }
+        redisTemplate.opsForValue().set(
+            INTERVALS_KEY_PREFIX + hostId, BusyIntervals.of(state.events().values()).encode(), ttl);
+    }
+
+    /**
+     * @param events 이벤트 ID별 {start, end} epoch 초
+     */
+    record SyncState(String syncToken, Instant fullSyncedAt, Map<String, long[]> events) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.GoogleEventChanges;
+import com.coDevs.cohiChat.google.calendar.busy.GoogleBusyTimeStore.SyncState;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventAttendee;
+import com.google.api.services.calendar.model.EventDateTime;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호스트 Google Calendar 이벤트를 events.list 증분 동기화(syncToken)로 가져와 바쁜 시간 구간으로 저장한다.
+ * <ul>
+ *     <li>저장된 syncToken이 없거나 만료(410)되었거나 전체 동기화 주기가 지났으면 전체 동기화한다.</li>
+ *     <li>취소된 이벤트, '한가함'으로 표시된 이벤트, 호스트가 거절한 이벤트, cohiChat 예약으로 만든 이벤트는 바쁜 시간에서 뺀다.</li>
+ *     <li>이미 끝난 이벤트는 저장할 때 정리한다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class GoogleBusyTimeSyncService {
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final GoogleCalendarService googleCalendarService;
+    private final GoogleBusyTimeStore googleBusyTimeStore;
+    private final BookingRepository bookingRepository;
+    private final GoogleBusySyncProperties properties;
+    private final GoogleCalendarProperties googleCalendarProperties;
+    private final Clock clock;
+
+    private ZoneId zoneId;
+
+    @PostConstruct
+    void initZoneId() {
+        try {
+            zoneId = ZoneId.of(googleCalendarProperties.getTimezone());
+        } catch (DateTimeException | NullPointerException e) {
+            zoneId = DEFAULT_ZONE;
+        }
+    }
+
+    /**
+     * @return 동기화에 성공했으면 true (Google API 호출 실패 시 기존 상태를 유지하고 false)
+     */
+    public boolean sync(UUID hostId, String googleCalendarId) {
+        Instant now = clock.instant();
+        SyncState state = googleBusyTimeStore.loadState(hostId);
+
+        String syncToken = isFullSyncDue(state, now) ? null : state.syncToken();
+        GoogleEventChanges changes = googleCalendarService.listEventChanges(googleCalendarId, syncToken);
+        if (changes != null && changes.syncTokenExpired()) {
+            changes = googleCalendarService.listEventChanges(googleCalendarId, null);
+        }
+        if (changes == null || changes.syncTokenExpired()) {
+            return false;
+        }
+
+        Map<String, long[]> events = changes.fullSync() ? new HashMap<>() : new HashMap<>(state.events());
+        if (!changes.events().isEmpty()) {
+            Set<String> bookingEventIds = new HashSet<>(bookingRepository.findGoogleEventIdsByHostId(
+                hostId, LocalDate.ofInstant(now, zoneId).minusDays(1)));
+            for (Event event : changes.events()) {
+                long[] interval = isBookingEvent(event, bookingEventIds) ? null : toBusyInterval(event);
+                if (interval == null) {
+                    events.remove(event.getId());
+                } else {
+                    events.put(event.getId(), interval);
+                }
+            }
+        }
+
+        long nowSecond = now.getEpochSecond();
+        events.values().removeIf(interval -> interval[1] <= nowSecond);
+        Instant fullSyncedAt = changes.fullSync() ? now : state.fullSyncedAt();
+        googleBusyTimeStore.saveState(
+            hostId,
+            new SyncState(changes.nextSyncToken(), fullSyncedAt, limit(events)),
+            Duration.ofDays(properties.getStateTtlDays()));
+        return true;
+    }
+
+    private boolean isFullSyncDue(SyncState state, Instant now) {
+        return state.syncToken() == null
+            || state.fullSyncedAt() == null
+            || state.fullSyncedAt().plus(Duration.ofHours(properties.getFullSyncIntervalHours())).isBefore(now);
+    }
+
+    private boolean isBookingEvent(Event event, Set<String> bookingEventIds) {
+        if (bookingEventIds.contains(event.getId())) {
+            return true;
+        }
+        Event.ExtendedProperties extendedProperties = event.getExtendedProperties();
+        return extendedProperties != null
+            && extendedProperties.getPrivate() != null
+            && extendedProperties.getPrivate().containsKey(GoogleCalendarService.BOOKING_EVENT_PROPERTY);
+    }
+
+    /**
+     * 바쁜 시간으로 볼 수 없는 이벤트면 null
+     */
+    long[] toBusyInterval(Event event) {
+        if ("cancelled".equals(event.getStatus()) || "transparent".equals(event.getTransparency())) {
+            return null;
+        }
+        if (event.getAttendees() != null) {
+            for (EventAttendee attendee : event.getAttendees()) {
+                if (Boolean.TRUE.equals(attendee.getSelf()) && "declined".equals(attendee.getResponseStatus())) {
+                    return null;
+                }
+            }
+        }
+        Instant start = toInstant(event.getStart());
+        Instant end = toInstant(event.getEnd());
+        if (start == null || end == null || !end.isAfter(start)) {
+            return null;
+        }
+        return new long[] {start.getEpochSecond(), end.getEpochSecond()};
+    }
+
+    /**
+     * 종일 일정(date)은 서비스 타임존 기준 자정부터 종료일(미포함) 자정까지로 본다.
+     */
+    private Instant toInstant(EventDateTime eventDateTime) {
+        if (eventDateTime == null) {
+            return null;
+        }
+        if (eventDateTime.getDateTime() != null) {
+            return Instant.ofEpochMilli(eventDateTime.getDateTime().getValue());
+        }
+        if (eventDateTime.getDate() != null) {
+            return LocalDate.parse(eventDateTime.getDate().toStringRfc3339()).atStartOfDay(zoneId).toInstant();
+        }
+        return null;
+    }
+
+    /**
+     * 이벤트 수가 한도를 넘으면 시작 시각이 이른 순으로 남긴다. 잘린 이벤트는 다음 전체 동기화에서 다시 받는다.
+     */
+    private Map<String, long[]> limit(Map<String, long[]> events) {
+        if (events.size() <= properties.getMaxEventsPerHost()) {
+            return events;
+        }
+        Map<String, long[]> limited = new LinkedHashMap<>();
+        events.entrySet().stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue()[0]))
+            .limit(properties.getMaxEventsPerHost())
+            .forEach(entry -> limited.put(entry.getKey(), entry.getValue()));
+        return limited;
+    }
+}
@@ -0,0 +1,66 @@
+package com.coDevs.cohiChat.host;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.host.entity.HostBookingStat;
+
+public interface HostBookingStatRepository extends JpaRepository<HostBookingStat, Long> {
+
+	/**
+	 * 호스트의 월 범위 [fromMonth, toMonth] 통계 조회 (uq_host_booking_stat_key 앞부분 인덱스 범위 스캔)
+	 */
+	List<HostBookingStat> findByHostIdAndStatMonthBetween(UUID hostId, LocalDate fromMonth, LocalDate toMonth);
+
+	List<HostBookingStat> findByStatMonth(LocalDate statMonth);
+
+	/**
+	 * 통계 행의 예약 수를 delta만큼 증감한다. 영속성 컨텍스트의 예약 변경이 유실되지 않도록 clear하지 않는다.
+	 *
+	 * @return 변경된 행 수 (행이 없으면 0)
+	 */
+	@Modifying
+	@Query("""
+		UPDATE HostBookingStat s
+		SET s.bookingCount = s.bookingCount + :delta
+		WHERE s.hostId = :hostId
+		  AND s.statMonth = :statMonth
+		  AND s.attendanceStatus = :status
+		  AND s.topic = :topic
+		""")
+	int addBookingCount(
+		@Param("hostId") UUID hostId,
+		@Param("statMonth") LocalDate statMonth,
+		@Param("status") AttendanceStatus status,
+		@Param("topic") String topic,
+		@Param("delta") long delta
+	);
+
+	/**
+	 * 통계 행이 없을 때만 생성한다. 다른 트랜잭션이 먼저 만들었으면 예외 없이 0을 반환한다.
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO host_booking_stat (host_id, stat_month, attendance_status, topic, booking_count)
+		VALUES (:hostId, :statMonth, :status, :topic, :count)
+		ON CONFLICT DO NOTHING
+		""", nativeQuery = true)
+	int insertIfAbsent(
+		@Param("hostId") UUID hostId,
+		@Param("statMonth") LocalDate statMonth,
+		@Param("status") String status,
+		@Param("topic") String topic,
+		@Param("count") long count
+	);
+
+	@Modifying
+	@Query("DELETE FROM HostBookingStat s WHERE s.statMonth = :statMonth AND s.bookingCount = 0")
+	int deleteEmptyByStatMonth(@Param("statMonth") LocalDate statMonth);
+}
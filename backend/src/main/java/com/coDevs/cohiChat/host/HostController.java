@@ -1,7 +1,9 @@
 package com.coDevs.cohiChat.host;
 
 import java.security.Principal;
+import java.time.YearMonth;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,13 +12,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.coDevs.cohiChat.calendar.CalendarService;
 import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.calendar.response.CalendarResponseDTO;
 import com.coDevs.cohiChat.global.response.ApiResponseDTO;
+import com.coDevs.cohiChat.global.security.auth.CurrentMember;
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
+import com.coDevs.cohiChat.host.analytics.HostAnalyticsService;
 import com.coDevs.cohiChat.host.request.HostUpdateRequestDTO;
+import com.coDevs.cohiChat.host.response.HostAnalyticsResponseDTO;
 import com.coDevs.cohiChat.host.response.HostProfileResponseDTO;
 import com.coDevs.cohiChat.member.MemberService;
 import com.coDevs.cohiChat.member.entity.Member;
@@ -35,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 public class HostController {
 
 	private final HostService hostService;
+	private final HostAnalyticsService hostAnalyticsService;
 	private final CalendarService calendarService;
 	// TODO: [#220 정책 검토] MemberService 직접 의존 제거 필요성 팀 논의 필요
 	//  - 현재: connectCalendar()에서 memberService.getMember()를 직접 호출하여 Member 엔티티를 조회
@@ -114,4 +122,22 @@ public class HostController {
 		CalendarResponseDTO response = calendarService.createCalendar(member, request);
 		return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.success(response));
 	}
+
+	@Operation(summary = "호스트 통계 조회", description = "월별 예약 수, 참석률, 노쇼율, 당일 취소율과 인기 주제를 조회합니다. 기간을 지정하지 않으면 이번 달을 포함한 최근 6개월을 조회합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+		@ApiResponse(responseCode = "401", description = "인증 필요"),
+		@ApiResponse(responseCode = "403", description = "호스트 권한 필요"),
+		@ApiResponse(responseCode = "422", description = "유효하지 않은 조회 기간")
+	})
+	@GetMapping("/v1/me/analytics")
+	@PreAuthorize("hasRole('HOST')")
+	public ResponseEntity<ApiResponseDTO<HostAnalyticsResponseDTO>> getAnalytics(
+		@CurrentMember MemberPrincipal member,
+		@RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+		@RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+	) {
+		HostAnalyticsResponseDTO response = hostAnalyticsService.getAnalytics(member.getId(), from, to);
+		return ResponseEntity.ok(ApiResponseDTO.success(response));
+	}
 }
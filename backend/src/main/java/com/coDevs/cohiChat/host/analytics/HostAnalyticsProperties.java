@@ -0,0 +1,39 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.host-analytics")
+public class HostAnalyticsProperties {
+
+	/** 기간을 지정하지 않은 조회에서 이번 달을 포함해 보여주는 개월 수 */
+	@Min(1)
+	private int defaultMonths = 6;
+
+	/** 한 번에 조회할 수 있는 최대 개월 수 */
+	@Min(1)
+	private int maxMonths = 24;
+
+	/** 인기 주제로 응답하는 최대 개수 */
+	@Min(1)
+	private int topTopics = 5;
+
+	/** 보정 배치가 다시 집계하는 지난 개월 수 (이번 달 제외) */
+	@Min(0)
+	private int reconcileLookbackMonths = 12;
+
+	/** 보정 배치가 다시 집계하는 다음 개월 수 (미래 날짜 예약) */
+	@Min(0)
+	private int reconcileLookaheadMonths = 6;
+
+	/** 클러스터 락 만료 시간. 한 번의 실행 시간보다 충분히 길어야 한다 */
+	@Min(1)
+	private int leaseSeconds = 1800;
+}
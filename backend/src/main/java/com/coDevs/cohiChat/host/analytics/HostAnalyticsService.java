@@ -0,0 +1,141 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+import com.coDevs.cohiChat.host.entity.HostBookingStat;
+import com.coDevs.cohiChat.host.response.HostAnalyticsResponseDTO;
+import com.coDevs.cohiChat.host.response.HostMonthlyStatResponseDTO;
+import com.coDevs.cohiChat.host.response.HostTopicStatResponseDTO;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 호스트 통계 대시보드 조회. booking 테이블을 읽지 않고 롤업(host_booking_stat)만 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HostAnalyticsService {
+
+	private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+	private final HostBookingStatRepository hostBookingStatRepository;
+	private final HostAnalyticsProperties properties;
+	private final GoogleCalendarProperties googleCalendarProperties;
+	private final Clock clock;
+
+	private ZoneId zoneId;
+
+	@PostConstruct
+	void initZoneId() {
+		try {
+			zoneId = ZoneId.of(googleCalendarProperties.getTimezone());
+		} catch (DateTimeException | NullPointerException e) {
+			zoneId = DEFAULT_ZONE;
+		}
+	}
+
+	/**
+	 * @param from 시작 월 (null이면 to 기준 기본 개월 수 이전)
+	 * @param to 종료 월, 포함 (null이면 이번 달)
+	 */
+	@Transactional(readOnly = true)
+	public HostAnalyticsResponseDTO getAnalytics(UUID hostId, YearMonth from, YearMonth to) {
+		YearMonth toMonth = to != null ? to : YearMonth.now(clock.withZone(zoneId));
+		YearMonth fromMonth = from != null ? from : toMonth.minusMonths(properties.getDefaultMonths() - 1L);
+		validateRange(fromMonth, toMonth);
+
+		List<HostBookingStat> stats = hostBookingStatRepository.findByHostIdAndStatMonthBetween(
+			hostId, fromMonth.atDay(1), toMonth.atDay(1));
+
+		Map<YearMonth, Map<AttendanceStatus, Long>> countsByMonth = new LinkedHashMap<>();
+		for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+			countsByMonth.put(month, new EnumMap<>(AttendanceStatus.class));
+		}
+		Map<String, Long> countsByTopic = new HashMap<>();
+		for (HostBookingStat stat : stats) {
+			countsByMonth.get(YearMonth.from(stat.getStatMonth()))
+				.merge(stat.getAttendanceStatus(), stat.getBookingCount(), Long::sum);
+			if (!AttendanceStatus.getCancelledStatuses().contains(stat.getAttendanceStatus())) {
+				countsByTopic.merge(stat.getTopic(), stat.getBookingCount(), Long::sum);
+			}
+		}
+
+		List<HostMonthlyStatResponseDTO> months = new ArrayList<>(countsByMonth.size());
+		countsByMonth.forEach((month, counts) -> months.add(toMonthlyStat(month, counts)));
+
+		List<HostTopicStatResponseDTO> popularTopics = countsByTopic.entrySet().stream()
+			.filter(entry -> entry.getValue() > 0)
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.limit(properties.getTopTopics())
+			.map(entry -> HostTopicStatResponseDTO.builder()
+				.topic(entry.getKey())
+				.bookingCount(entry.getValue())
+				.build())
+			.toList();
+
+		return HostAnalyticsResponseDTO.builder()
+			.from(fromMonth.toString())
+			.to(toMonth.toString())
+			.months(months)
+			.popularTopics(popularTopics)
+			.build();
+	}
+
+	private void validateRange(YearMonth from, YearMonth to) {
+		if (from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) + 1 > properties.getMaxMonths()) {
+			throw new CustomException(ErrorCode.INVALID_YEAR_MONTH);
+		}
+	}
+
+	private HostMonthlyStatResponseDTO toMonthlyStat(YearMonth month, Map<AttendanceStatus, Long> counts) {
+		long attended = counts.getOrDefault(AttendanceStatus.ATTENDED, 0L);
+		long late = counts.getOrDefault(AttendanceStatus.LATE, 0L);
+		long noShow = counts.getOrDefault(AttendanceStatus.NO_SHOW, 0L);
+		long hostNoShow = counts.getOrDefault(AttendanceStatus.HOST_NO_SHOW, 0L);
+		long sameDayCancel = counts.getOrDefault(AttendanceStatus.SAME_DAY_CANCEL, 0L);
+		long total = counts.values().stream().mapToLong(Long::longValue).sum();
+		long held = attended + late + noShow + hostNoShow;
+
+		return HostMonthlyStatResponseDTO.builder()
+			.month(month.toString())
+			.totalBookings(total)
+			.attendedCount(attended)
+			.lateCount(late)
+			.noShowCount(noShow)
+			.hostNoShowCount(hostNoShow)
+			.cancelledCount(counts.getOrDefault(AttendanceStatus.CANCELLED, 0L))
+			.sameDayCancelCount(sameDayCancel)
+			.unreportedCount(counts.getOrDefault(AttendanceStatus.UNREPORTED, 0L))
+			.attendanceRate(rate(attended + late, held))
+			.noShowRate(rate(noShow, held))
+			.sameDayCancelRate(rate(sameDayCancel, total))
+			.build();
+	}
+
+	private double rate(long count, long total) {
+		if (total == 0) {
+			return 0.0;
+		}
+		return Math.round(count * 10000.0 / total) / 10000.0;
+	}
+}
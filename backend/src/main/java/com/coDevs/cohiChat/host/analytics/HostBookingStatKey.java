@@ -0,0 +1,32 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.coDevs.cohiChat.booking.BookingStatRow;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+
+/**
+ * 호스트 통계 롤업 한 행의 키. 월은 예약 날짜가 속한 달의 1일로 표현한다.
+ */
+public record HostBookingStatKey(UUID hostId, LocalDate statMonth, AttendanceStatus attendanceStatus, String topic) {
+
+	public static HostBookingStatKey of(Booking booking) {
+		return new HostBookingStatKey(booking.getTimeSlot().getUserId(), toStatMonth(booking.getBookingDate()),
+			booking.getAttendanceStatus(), booking.getTopic());
+	}
+
+	public static HostBookingStatKey of(BookingStatRow row) {
+		return new HostBookingStatKey(row.getHostId(), toStatMonth(row.getBookingDate()),
+			row.getAttendanceStatus(), row.getTopic());
+	}
+
+	public static LocalDate toStatMonth(LocalDate date) {
+		return date.withDayOfMonth(1);
+	}
+
+	public HostBookingStatKey withStatus(AttendanceStatus status) {
+		return new HostBookingStatKey(hostId, statMonth, status, topic);
+	}
+}
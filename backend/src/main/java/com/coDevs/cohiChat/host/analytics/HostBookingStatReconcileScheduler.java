@@ -0,0 +1,96 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 통계 롤업 야간 보정 배치.
+ * <ul>
+ *     <li>클러스터 락을 획득한 한 노드만 실행한다.</li>
+ *     <li>지난 lookback 개월부터 다음 lookahead 개월까지 한 달씩 원본 예약을 다시 집계해 롤업을 바로잡는다.
+ *     롤업 도입 이전 예약은 V4 마이그레이션이 전체 기간에 대해 채운다.</li>
+ *     <li>달마다 별도 트랜잭션이므로 한 달이 실패해도 나머지 달은 계속 보정하고, 실패한 달은 다음 실행에서 다시 보정된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.host-analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class HostBookingStatReconcileScheduler {
+
+	private static final String LOCK_NAME = "host-booking-stat-reconcile";
+	private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+	private final HostBookingStatReconcileService hostBookingStatReconcileService;
+	private final HostAnalyticsProperties properties;
+	private final ClusterLock clusterLock;
+	private final GoogleCalendarProperties googleCalendarProperties;
+	private final Clock clock;
+
+	private ZoneId zoneId;
+
+	@PostConstruct
+	void initZoneId() {
+		try {
+			zoneId = ZoneId.of(googleCalendarProperties.getTimezone());
+		} catch (DateTimeException | NullPointerException e) {
+			zoneId = DEFAULT_ZONE;
+		}
+	}
+
+	@Scheduled(cron = "${app.host-analytics.reconcile-cron:0 0 3 * * *}")
+	public void run() {
+		boolean executed = clusterLock.runIfAcquired(
+			LOCK_NAME, Duration.ofSeconds(properties.getLeaseSeconds()), this::reconcile);
+		if (!executed) {
+			log.debug("Host booking stat reconcile skipped: lock held by another node");
+		}
+	}
+
+	void reconcile() {
+		YearMonth current = YearMonth.now(clock.withZone(zoneId));
+		YearMonth from = current.minusMonths(properties.getReconcileLookbackMonths());
+		YearMonth to = current.plusMonths(properties.getReconcileLookaheadMonths());
+		long start = System.currentTimeMillis();
+		int months = 0;
+		int failedMonths = 0;
+		int corrected = 0;
+
+		for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+			try {
+				corrected += hostBookingStatReconcileService.reconcileMonth(month);
+				months++;
+			} catch (Exception e) {
+				failedMonths++;
+				log.warn(StructuredLogMessage.of("host-booking-stat-reconcile", "FAILED")
+					.add("month", month)
+					.add("error", e.getMessage())
+					.build(), e);
+			}
+		}
+
+		log.info(StructuredLogMessage.of("host-booking-stat-reconcile", "SUCCESS")
+			.add("from", from)
+			.add("to", to)
+			.add("months", months)
+			.add("failedMonths", failedMonths)
+			.add("corrected", corrected)
+			.add("elapsedMs", System.currentTimeMillis() - start)
+			.build());
+	}
+}
@@ -0,0 +1,57 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+import com.coDevs.cohiChat.host.entity.HostBookingStat;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 달치 예약을 원본 테이블에서 다시 집계해 롤업과 비교하고, 어긋난 행만 차이만큼 증감한다.
+ * 롤업을 지우고 다시 쓰지 않으므로 보정 중에도 대시보드 조회와 증분 반영이 그대로 동작한다.
+ * <p>원본 집계와 롤업 조회를 같은 스냅샷에서 하도록 REPEATABLE READ로 실행한다.
+ * 그 사이 다른 트랜잭션이 같은 롤업 행을 바꿨으면 직렬화 실패로 롤백되고, 그 달은 다음 실행에서 다시 보정한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class HostBookingStatReconcileService {
+
+	private final BookingRepository bookingRepository;
+	private final HostBookingStatRepository hostBookingStatRepository;
+	private final HostBookingStatRecorder hostBookingStatRecorder;
+
+	/**
+	 * @return 보정한 롤업 행 수
+	 */
+	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	public int reconcileMonth(YearMonth month) {
+		LocalDate statMonth = month.atDay(1);
+
+		Map<HostBookingStatKey, Long> expected = new HashMap<>();
+		bookingRepository.countStatRowsByDateRange(statMonth, statMonth.plusMonths(1))
+			.forEach(row -> expected.merge(HostBookingStatKey.of(row), row.getCount(), Long::sum));
+
+		Map<HostBookingStatKey, Long> deltas = new HashMap<>();
+		for (HostBookingStat stat : hostBookingStatRepository.findByStatMonth(statMonth)) {
+			long diff = expected.getOrDefault(stat.toKey(), 0L) - stat.getBookingCount();
+			if (diff != 0) {
+				deltas.put(stat.toKey(), diff);
+			}
+			expected.remove(stat.toKey());
+		}
+		deltas.putAll(expected);
+
+		hostBookingStatRecorder.applyAll(deltas);
+		hostBookingStatRepository.deleteEmptyByStatMonth(statMonth);
+		return deltas.size();
+	}
+}
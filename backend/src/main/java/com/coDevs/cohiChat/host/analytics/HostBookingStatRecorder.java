@@ -0,0 +1,125 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.BookingStatRow;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.event.BookingsAutoClosedEvent;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 상태 전이를 호스트 월별 통계(host_booking_stat)에 증분 반영한다.
+ * <p>호출자의 트랜잭션에 참여하므로 예약 변경과 통계 증감이 함께 커밋되거나 함께 롤백된다.
+ * 행이 없으면 {@code INSERT ... ON CONFLICT DO NOTHING}으로 만들고, 그 사이 다른 트랜잭션이 먼저 만들었으면 UPDATE를 다시 시도한다.</p>
+ * <p>호출자는 변경 전에 {@link #snapshot(Booking)}으로 키를 잡아두고, 변경 후 {@link #recordTransition}을 호출한다.
+ * 여기를 거치지 않은 변경이나 경합으로 어긋난 값은 야간 보정 배치({@link HostBookingStatReconcileService})가 바로잡는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HostBookingStatRecorder {
+
+	/** 여러 행을 증감하는 트랜잭션끼리 교착되지 않도록 행을 잠그는 순서 */
+	private static final Comparator<HostBookingStatKey> LOCK_ORDER = Comparator
+		.comparing(HostBookingStatKey::hostId)
+		.thenComparing(HostBookingStatKey::statMonth)
+		.thenComparing(HostBookingStatKey::attendanceStatus)
+		.thenComparing(HostBookingStatKey::topic);
+
+	private final HostBookingStatRepository hostBookingStatRepository;
+	private final BookingRepository bookingRepository;
+	private final MeterRegistry meterRegistry;
+
+	public HostBookingStatKey snapshot(Booking booking) {
+		return HostBookingStatKey.of(booking);
+	}
+
+	@Transactional
+	public void recordCreated(Booking booking) {
+		apply(HostBookingStatKey.of(booking), 1);
+	}
+
+	/**
+	 * 상태, 월(예약 날짜), 주제 중 하나라도 바뀌었으면 이전 행을 1 줄이고 새 행을 1 늘린다.
+	 */
+	@Transactional
+	public void recordTransition(HostBookingStatKey before, Booking booking) {
+		HostBookingStatKey after = HostBookingStatKey.of(booking);
+		if (after.equals(before)) {
+			return;
+		}
+		applyAll(Map.of(before, -1L, after, 1L));
+	}
+
+	/**
+	 * 자동 종료는 엔티티를 거치지 않는 일괄 UPDATE이므로, 같은 트랜잭션에서 발행되는 이벤트로 종료된 예약을 다시 집계해 반영한다.
+	 * 이벤트의 id는 잠근 뒤 실제로 상태를 바꾼 예약만 담으므로, 호스트가 먼저 처리한 예약은 다시 옮기지 않는다.
+	 */
+	@EventListener
+	@Transactional
+	public void handleBookingsAutoClosed(BookingsAutoClosedEvent event) {
+		List<BookingStatRow> rows = bookingRepository.countStatRowsByIds(event.getBookingIds(), event.getClosedStatus());
+		Map<HostBookingStatKey, Long> deltas = new HashMap<>();
+		long counted = 0;
+		for (BookingStatRow row : rows) {
+			HostBookingStatKey closedKey = HostBookingStatKey.of(row);
+			deltas.merge(closedKey.withStatus(AttendanceStatus.SCHEDULED), -row.getCount(), Long::sum);
+			deltas.merge(closedKey, row.getCount(), Long::sum);
+			counted += row.getCount();
+		}
+		applyAll(deltas);
+		if (counted != event.getUpdatedCount()) {
+			log.warn("[hostBookingStat] [AUTO_CLOSE_MISMATCH] updated={} counted={}", event.getUpdatedCount(), counted);
+		}
+	}
+
+	/**
+	 * 여러 행의 증감을 잠금 순서대로 반영한다.
+	 */
+	@Transactional
+	public void applyAll(Map<HostBookingStatKey, Long> deltas) {
+		deltas.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+			.forEach(entry -> apply(entry.getKey(), entry.getValue()));
+	}
+
+	@Transactional
+	public void apply(HostBookingStatKey key, long delta) {
+		if (delta == 0) {
+			return;
+		}
+		if (updateCount(key, delta) > 0) {
+			return;
+		}
+		if (delta < 0) {
+			// 롤업 도입 이전 예약 등 행이 없는 감소는 보정 배치에 맡긴다
+			meterRegistry.counter("host.analytics.stat.missing_row").increment();
+			log.debug("[hostBookingStat] [MISSING_ROW] hostId={} statMonth={} status={}",
+				key.hostId(), key.statMonth(), key.attendanceStatus());
+			return;
+		}
+		int inserted = hostBookingStatRepository.insertIfAbsent(
+			key.hostId(), key.statMonth(), key.attendanceStatus().name(), key.topic(), delta);
+		if (inserted == 0) {
+			updateCount(key, delta);
+		}
+	}
+
+	private int updateCount(HostBookingStatKey key, long delta) {
+		return hostBookingStatRepository.addBookingCount(
+			key.hostId(), key.statMonth(), key.attendanceStatus(), key.topic(), delta);
+	}
+}
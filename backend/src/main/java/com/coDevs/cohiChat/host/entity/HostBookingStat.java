@@ -0,0 +1,62 @@
+package com.coDevs.cohiChat.host.entity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatKey;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 호스트 월별 예약 통계 롤업.
+ * (호스트, 월, 상태, 주제)마다 예약 수 한 행을 두고, 예약 상태 전이 시 같은 트랜잭션에서 증감한다.
+ * 행 생성/증감은 {@link com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder}만 수행한다.
+ */
+@Entity
+@Table(name = "host_booking_stat",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_host_booking_stat_key",
+			columnNames = {"host_id", "stat_month", "attendance_status", "topic"})
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HostBookingStat {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "host_id", nullable = false, columnDefinition = "uuid")
+	private UUID hostId;
+
+	/** 예약 날짜가 속한 달의 1일 */
+	@Column(name = "stat_month", nullable = false)
+	private LocalDate statMonth;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "attendance_status", nullable = false, length = 30)
+	private AttendanceStatus attendanceStatus;
+
+	@Column(name = "topic", nullable = false, length = 255)
+	private String topic;
+
+	@Column(name = "booking_count", nullable = false)
+	private long bookingCount;
+
+	public HostBookingStatKey toKey() {
+		return new HostBookingStatKey(hostId, statMonth, attendanceStatus, topic);
+	}
+}
@@ -0,0 +1,21 @@
+package com.coDevs.cohiChat.host.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HostAnalyticsResponseDTO {
+	private String from;
+	private String to;
+	private List<HostMonthlyStatResponseDTO> months;
+	/** 취소를 제외한 예약 수 기준 인기 주제 */
+	private List<HostTopicStatResponseDTO> popularTopics;
+}
@@ -0,0 +1,31 @@
+package com.coDevs.cohiChat.host.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 호스트 월별 예약 통계.
+ * 참석률/노쇼율은 진행된 예약(참석+지각+게스트 노쇼+호스트 노쇼) 대비, 당일 취소율은 전체 예약 대비 비율(0~1)이다.
+ * 결과가 기록되지 않아 자동 종료된 예약(unreportedCount)은 참석률/노쇼율 계산에서 제외된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HostMonthlyStatResponseDTO {
+	private String month;
+	private long totalBookings;
+	private long attendedCount;
+	private long lateCount;
+	private long noShowCount;
+	private long hostNoShowCount;
+	private long cancelledCount;
+	private long sameDayCancelCount;
+	private long unreportedCount;
+	private double attendanceRate;
+	private double noShowRate;
+	private double sameDayCancelRate;
+}
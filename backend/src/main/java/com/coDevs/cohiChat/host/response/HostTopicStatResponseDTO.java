@@ -0,0 +1,16 @@
+package com.coDevs.cohiChat.host.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HostTopicStatResponseDTO {
+	private String topic;
+	private long bookingCount;
+}
@@ -1,6 +1,7 @@
 package com.coDevs.cohiChat.member;
 
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -11,7 +12,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.coDevs.cohiChat.global.exception.CustomException;
@@ -68,9 +71,10 @@ public class MemberController {
         @PostMapping("/v1/login")
         public ResponseEntity<ApiResponseDTO<SafeLoginResponseDTO>> login(
                 @Valid @RequestBody LoginRequestDTO request,
+                @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
                 HttpServletResponse response) {
 
-                LoginResponseDTO loginResponse = memberService.login(request);
+                LoginResponseDTO loginResponse = memberService.login(request, userAgent);
                 authCookieService.addLoginCookies(response, loginResponse);
                 return ResponseEntity.ok(ApiResponseDTO.success(loginResponse.toSafeResponse()));
         }
@@ -142,9 +146,14 @@ public class MemberController {
                 return ResponseEntity.ok(ApiResponseDTO.success(response));
         }
 
+        @Operation(summary = "호스트 목록 조회", description = "활성 호스트 목록을 조회합니다. topic을 지정하면 해당 주제로 커피챗을 받는 호스트만 반환합니다 (공백·대소문자 무시).")
         @GetMapping("/v1/hosts")
-        public ResponseEntity<ApiResponseDTO<List<HostResponseDTO>>> getHosts() {
-                return ResponseEntity.ok(ApiResponseDTO.success(memberService.getActiveHosts()));
+        public ResponseEntity<ApiResponseDTO<List<HostResponseDTO>>> getHosts(
+                @RequestParam(name = "topic", required = false) String topic) {
+                List<HostResponseDTO> hosts = StringUtils.hasText(topic)
+                        ? memberService.getActiveHostsByTopic(topic)
+                        : memberService.getActiveHosts();
+                return ResponseEntity.ok(ApiResponseDTO.success(hosts));
         }
 
         @Operation(summary = "호스트 프로필 수정", description = "호스트가 자신의 프로필 정보(직업, 이미지 등)를 수정합니다.")
@@ -5,9 +5,11 @@ import java.util.UUID;
 
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.Provider;
@@ -40,4 +42,23 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
 	@Query("SELECT m FROM Member m WHERE m.id = :id")
 	Optional<Member> findByIdWithLock(@Param("id") UUID id);
 
+	/**
+	 * 썸네일 변환 완료 표시. 변환 중 프로필 이미지가 교체된 경우에는 갱신하지 않는다.
+	 * 트랜잭션은 호출 측 서비스({@link ProfileImageService#markVariantsReady})에서 연다.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Member m SET m.profileImageVariantsReady = true "
+		+ "WHERE m.id = :id AND m.profileImageUrl = :profileImageUrl")
+	int markProfileImageVariantsReady(@Param("id") UUID id, @Param("profileImageUrl") String profileImageUrl);
+
+	/**
+	 * 로그인 시 재해싱한 비밀번호 저장. 그 사이 비밀번호가 바뀐 경우에는 갱신하지 않는다.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Member m SET m.hashedPassword = :newHash "
+		+ "WHERE m.id = :id AND m.hashedPassword = :currentHash")
+	int updateHashedPassword(@Param("id") UUID id, @Param("currentHash") String currentHash,
+		@Param("newHash") String newHash);
+
 }
@@ -4,16 +4,19 @@ import com.coDevs.cohiChat.booking.BookingRepository;
 import com.coDevs.cohiChat.booking.HostChatCount;
 import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
 import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.calendar.CalendarTopicCache;
 import com.coDevs.cohiChat.global.config.RateLimitServiceBase;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.global.security.jwt.JwtTokenProvider;
+import com.coDevs.cohiChat.global.security.password.PasswordHasher;
 import com.coDevs.cohiChat.global.security.jwt.TokenService;
 import com.coDevs.cohiChat.global.util.SmtpEmailValidator;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatKey;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder;
 import com.coDevs.cohiChat.member.entity.AccessTokenBlacklist;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.Provider;
-import com.coDevs.cohiChat.member.entity.RefreshToken;
 import com.coDevs.cohiChat.member.entity.Role;
 import com.coDevs.cohiChat.member.event.MemberWithdrawalEvent;
 import com.coDevs.cohiChat.member.request.LoginRequestDTO;
@@ -39,6 +42,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -48,9 +52,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -58,16 +62,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
         private final MemberRepository memberRepository;
-        private final RefreshTokenRepository refreshTokenRepository;
+        private final SessionRegistry sessionRegistry;
         private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
         private final BookingRepository bookingRepository;
-        private final PasswordEncoder passwordEncoder;
+        private final PasswordHasher passwordHasher;
         private final JwtTokenProvider jwtTokenProvider;
         private final RateLimitServiceBase rateLimitService;
         private final TokenService tokenService;
         private final ApplicationEventPublisher eventPublisher;
         private final SmtpEmailValidator smtpEmailValidator;
         private final GoogleCalendarProperties googleCalendarProperties;
+        private final CalendarTopicCache calendarTopicCache;
+        private final HostBookingStatRecorder hostBookingStatRecorder;
+        private final TransactionTemplate transactionTemplate;
 
         private volatile ZoneId calendarZoneId;
 
@@ -89,16 +96,20 @@ public class MemberService {
                 }
         }
 
-        @Transactional
+        /**
+         * 비밀번호 해싱은 전용 Executor에서 DB 트랜잭션 밖에 실행한다. 중복 검사와 저장은 각각 짧은 트랜잭션으로 처리되며,
+         * 동시 가입 경합은 DB 유니크 제약이 막는다.
+         */
         public SignupResponseDTO signup(SignupRequestDTO request){
-                validateDuplicate(request.getUsername(), request.getEmail());
+                transactionTemplate.executeWithoutResult(
+                        status -> validateDuplicate(request.getUsername(), request.getEmail()));
 
                 String displayName = (request.getDisplayName() == null || request.getDisplayName().isBlank())
                         ? request.getUsername() : request.getDisplayName();
 
                 Role role = (request.getRole() != null) ? request.getRole() : Role.GUEST;
 
-                String encodedPassword = passwordEncoder.encode(request.getPassword());
+                String encodedPassword = passwordHasher.encode(request.getPassword());
 
                 Member member = Member.create(
                         request.getUsername(),
@@ -137,23 +148,43 @@ public class MemberService {
                 }
         }
 
-        @Transactional
-        public LoginResponseDTO login(LoginRequestDTO request){
-                Member member = memberRepository.findByUsernameAndIsDeletedFalse(request.getUsername())
+        /**
+         * 회원 조회(짧은 트랜잭션)와 비밀번호 검증(전용 Executor)을 분리해 해싱 동안 DB 커넥션을 잡지 않는다.
+         * 저장된 해시가 현재 알고리즘/cost와 다르면 검증에 성공한 평문으로 다시 해싱해 저장한다.
+         */
+        public LoginResponseDTO login(LoginRequestDTO request, String userAgent){
+                Member member = transactionTemplate.execute(
+                                status -> memberRepository.findByUsernameAndIsDeletedFalse(request.getUsername()))
                         .orElseThrow(() -> new CustomException(ErrorCode.INVALID_CREDENTIALS));
 
                 if (member.getProvider() != Provider.LOCAL) {
                         log.warn("[login] [FAIL] reason=SOCIAL_LOGIN_REQUIRED");
                         throw new CustomException(ErrorCode.SOCIAL_LOGIN_REQUIRED);
                 }
-                if (!passwordEncoder.matches(request.getPassword(), member.getHashedPassword())) {
+                if (!passwordHasher.matches(request.getPassword(), member.getHashedPassword())) {
                         log.warn("[login] [FAIL] reason=PASSWORD_MISMATCH");
                         throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
                 }
+                rehashIfNeeded(member, request.getPassword());
 
                 log.info("[login] [SUCCESS] provider={}", member.getProvider());
 
-                return tokenService.issueTokens(member);
+                return tokenService.issueTokens(member, userAgent);
+        }
+
+        private void rehashIfNeeded(Member member, String rawPassword) {
+                String currentHash = member.getHashedPassword();
+                if (!passwordHasher.needsRehash(currentHash)) {
+                        return;
+                }
+                try {
+                        String newHash = passwordHasher.encode(rawPassword);
+                        int updated = memberRepository.updateHashedPassword(member.getId(), currentHash, newHash);
+                        log.info("[login] [REHASH] updated={}", updated > 0);
+                } catch (CustomException e) {
+                        // 해싱 풀이 포화 상태면 로그인은 그대로 진행하고 다음 로그인에서 다시 시도한다
+                        log.warn("[login] [REHASH_SKIPPED] reason={}", e.getErrorCode());
+                }
         }
 
         public Member getMember(String username) {      
@@ -170,7 +201,9 @@ public class MemberService {
                 return memberRepository.findByUsernameAndIsDeletedFalse(username);
         }
 
-        @Transactional
+        /**
+         * 새 비밀번호 해싱을 먼저 끝낸 뒤 조회/저장하여 해싱 동안 DB 커넥션을 잡지 않는다.
+         */
         public MemberResponseDTO updateMember(String username, UpdateMemberRequestDTO request) {
 
                 if ((request.getDisplayName() == null || request.getDisplayName().isBlank())
@@ -178,12 +211,13 @@ public class MemberService {
                         throw new CustomException(ErrorCode.NO_UPDATE_FIELDS);
                 }
 
-                Member member = getMember(username);    
-
                 String hashPw = (request.getPassword() != null && !request.getPassword().isBlank())
-                        ? passwordEncoder.encode(request.getPassword()) : null;
+                        ? passwordHasher.encode(request.getPassword()) : null;
+
+                Member member = getMember(username);    
 
                 member.updateInfo(request.getDisplayName(), hashPw);
+                memberRepository.save(member);
 
                 return MemberResponseDTO.from(member);  
         }
@@ -206,12 +240,12 @@ public class MemberService {
 
                 // 2. 예약 취소 처리
                 String cancellationReason = "회원 탈퇴로 인한 취소";
-                hostBookings.forEach(booking -> booking.forceCancel(cancellationReason));
-                guestBookings.forEach(booking -> booking.forceCancel(cancellationReason));
+                hostBookings.forEach(booking -> forceCancel(booking, cancellationReason));
+                guestBookings.forEach(booking -> forceCancel(booking, cancellationReason));
 
-                // 3. 회원 soft delete 및 refresh token 삭제
+                // 3. 회원 soft delete 및 모든 기기 세션/Access Token 무효화 (Redis 쓰기는 커밋 후)
                 member.softDelete();
-                refreshTokenRepository.deleteById(username);
+                sessionRegistry.revokeAll(username);
 
                 // 4. 트랜잭션 커밋 후 GCal 이벤트 일괄 삭제를 위한 이벤트 발행
                 eventPublisher.publishEvent(new MemberWithdrawalEvent(
@@ -252,6 +286,12 @@ public class MemberService {
                 return AffectedBookingDTO.from(booking, role, calendarZoneId);
         }
 
+        private void forceCancel(Booking booking, String reason) {
+                HostBookingStatKey statBefore = hostBookingStatRecorder.snapshot(booking);
+                booking.forceCancel(reason);
+                hostBookingStatRecorder.recordTransition(statBefore, booking);
+        }
+
         private List<Booking> findFutureHostBookings(Member member, LocalDate today) {
                 if (member.getRole() != Role.HOST) {    
                         return Collections.emptyList(); 
@@ -268,7 +308,30 @@ public class MemberService {
         @Transactional(readOnly = true)
         public List<HostResponseDTO> getActiveHosts() { 
                 List<Member> hosts = memberRepository.findByRoleAndIsDeletedFalse(Role.HOST);
-                if (hosts.isEmpty()) return List.of();  
+                return toHostResponses(hosts);
+        }
+
+        /**
+         * 주제로 호스트 검색. 주제는 예약 검증과 같은 규칙으로 정규화하여 호스트별 topic 캐시와 비교한다.
+         */
+        @Transactional(readOnly = true)
+        public List<HostResponseDTO> getActiveHostsByTopic(String topic) {
+                String normalizedTopic = CalendarTopicCache.normalize(topic);
+                if (normalizedTopic.isEmpty()) {
+                        throw new CustomException(ErrorCode.INVALID_TOPIC);
+                }
+                List<Member> hosts = memberRepository.findByRoleAndIsDeletedFalse(Role.HOST);
+                if (hosts.isEmpty()) return List.of();
+                Map<UUID, Set<String>> topicsByHost = calendarTopicCache.getTopics(
+                        hosts.stream().map(Member::getId).toList());
+                List<Member> matched = hosts.stream()
+                        .filter(h -> topicsByHost.getOrDefault(h.getId(), Set.of()).contains(normalizedTopic))
+                        .toList();
+                return toHostResponses(matched);
+        }
+
+        private List<HostResponseDTO> toHostResponses(List<Member> hosts) {
+                if (hosts.isEmpty()) return List.of();
                 List<UUID> hostIds = hosts.stream().map(Member::getId).toList();
                 Map<UUID, Long> chatCounts = bookingRepository
                         .countAttendedByHostIds(hostIds, AttendanceStatus.ATTENDED)
@@ -293,7 +356,8 @@ public class MemberService {
         }
 
         public void logout(String username, String accessToken) {
-                refreshTokenRepository.deleteById(username);
+                // 현재 기기의 세션만 삭제 (다른 기기의 로그인은 유지)
+                sessionRegistry.revoke(username, resolveSessionId(accessToken));
 
                 try {
                         long remainingSeconds = jwtTokenProvider.getExpirationSeconds(accessToken);
@@ -310,12 +374,30 @@ public class MemberService {
                 }
         }
 
+        private String resolveSessionId(String accessToken) {
+                if (accessToken == null) {
+                        return null;
+                }
+                try {
+                        return jwtTokenProvider.getSessionIdFromToken(accessToken);
+                } catch (ExpiredJwtException e) {
+                        // 만료된 토큰도 서명은 검증되었으므로 세션 ID를 꺼내 해당 기기 세션을 정리한다
+                        return e.getClaims() == null
+                                ? null
+                                : e.getClaims().get(JwtTokenProvider.SESSION_ID_CLAIM, String.class);
+                } catch (JwtException | IllegalArgumentException e) {
+                        return null;
+                }
+        }
+
         @Transactional
         public RefreshTokenResponseDTO refreshAccessToken(String refreshTokenValue) {
-                // 1. JWT 검증 + username 추출 (만료 vs 위조 구분)
+                // 1. JWT 검증 + username, 세션 ID 추출 (만료 vs 위조 구분)
                 String verifiedUsername;
+                String sessionId;
                 try {
                         verifiedUsername = jwtTokenProvider.getUsernameFromToken(refreshTokenValue);
+                        sessionId = jwtTokenProvider.getSessionIdFromToken(refreshTokenValue);
                 } catch (ExpiredJwtException e) {       
                         throw new CustomException(ErrorCode.EXPIRED_REFRESH_TOKEN);
                 } catch (JwtException | IllegalArgumentException e) {
@@ -323,32 +405,31 @@ public class MemberService {
                 }
 
                 // 2. username 유효성 확인 및 Rate Limit 체크
-                if (verifiedUsername == null || verifiedUsername.isBlank()) {
+                if (verifiedUsername == null || verifiedUsername.isBlank() || sessionId == null) {
                         throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
                 }
                 rateLimitService.checkRateLimit("refresh:" + verifiedUsername);
 
-                // 3. Redis에서 해시된 토큰으로 존재 확인 (만료된 토큰은 Redis TTL로 자동 삭제됨)
+                // 3. RT Rotation: 세션의 현재 해시 비교 + 교체 + TTL 갱신을 Redis 한 번에 원자적으로 처리
+                //    (만료된 토큰은 Redis TTL로 자동 삭제됨, 동시 요청은 한 건만 현재 토큰으로 인정)
                 String tokenHash = tokenService.hashToken(refreshTokenValue);
-                refreshTokenRepository.findByToken(tokenHash)
-                        .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+                String newRefreshTokenValue = jwtTokenProvider.createRefreshToken(verifiedUsername, sessionId);
+                long refreshTokenExpirationMs = jwtTokenProvider.getRefreshTokenExpirationMs();
+                boolean rotated = sessionRegistry.rotate(
+                        verifiedUsername, sessionId, tokenHash, tokenService.hashToken(newRefreshTokenValue),
+                        refreshTokenExpirationMs
+                );
+                if (!rotated) {
+                        throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+                }
 
                 // 4. 사용자 정보 조회
                 Member member = memberRepository.findByUsernameAndIsDeletedFalse(verifiedUsername)
                         .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-                // 5. RT Rotation: 기존 RT 삭제 + 새 RT 발급
-                refreshTokenRepository.deleteById(member.getUsername());
-                String newRefreshTokenValue = jwtTokenProvider.createRefreshToken(member.getUsername());        
-                long refreshTokenExpirationMs = jwtTokenProvider.getRefreshTokenExpirationMs();
-                RefreshToken newRefreshToken = RefreshToken.create(
-                        tokenService.hashToken(newRefreshTokenValue), member.getUsername(), refreshTokenExpirationMs
-                );
-                refreshTokenRepository.save(newRefreshToken);
-
-                // 6. 새 AT 발급
+                // 5. 새 AT 발급
                 String newAccessToken = jwtTokenProvider.createAccessToken(
-                        member.getUsername(), member.getRole().name()
+                        member.getUsername(), member.getRole().name(), sessionId, member.getId()
                 );
                 long expiredInSeconds = jwtTokenProvider.getExpirationSeconds(newAccessToken);
 
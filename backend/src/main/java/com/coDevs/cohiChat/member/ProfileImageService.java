@@ -3,6 +3,7 @@ package com.coDevs.cohiChat.member;
 import java.time.Duration;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.coDevs.cohiChat.global.common.file.S3PresignedUrlService.S3ObjectMeta
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.event.ProfileImageUploadedEvent;
 import com.coDevs.cohiChat.member.response.ProfileImageUploadResponseDTO;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ public class ProfileImageService {
     private final S3PresignedUrlService s3PresignedUrlService;
     private final ProfileImageUploadValidator validator;
     private final CloudFrontUrlService cloudFrontUrlService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Presigned URL 생성 (클라이언트 직접 업로드용)
@@ -68,6 +71,9 @@ public class ProfileImageService {
         member.updateProfile(null, profileImageUrl);
         memberRepository.save(member);
 
+        // 커밋 후 썸네일 변환본 비동기 생성
+        eventPublisher.publishEvent(new ProfileImageUploadedEvent(member.getId(), objectKey, profileImageUrl));
+
         return profileImageUrl;
     }
 
@@ -84,12 +90,20 @@ public class ProfileImageService {
         }
 
         extractObjectKeyFromUrl(profileImageUrl)
-                .ifPresent(s3PresignedUrlService::deleteObjectQuietly);
+                .ifPresent(this::deleteObjectWithVariants);
 
         member.updateProfile(null, "");
         memberRepository.save(member);
     }
 
+    /**
+     * 썸네일 변환 완료 표시. 변환 도중 프로필 이미지가 교체/삭제되었으면 false.
+     */
+    @Transactional
+    public boolean markVariantsReady(UUID memberId, String profileImageUrl) {
+        return memberRepository.markProfileImageVariantsReady(memberId, profileImageUrl) > 0;
+    }
+
     private Member findMemberByUsername(String username) {
         return memberRepository.findByUsernameAndIsDeletedFalse(username)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -104,10 +118,16 @@ public class ProfileImageService {
         var oldImageUrl = member.getProfileImageUrl();
         if (oldImageUrl != null && !oldImageUrl.isBlank()) {
             extractObjectKeyFromUrl(oldImageUrl)
-                    .ifPresent(s3PresignedUrlService::deleteObjectQuietly);
+                    .ifPresent(this::deleteObjectWithVariants);
         }
     }
 
+    private void deleteObjectWithVariants(String objectKey) {
+        s3PresignedUrlService.deleteObjectQuietly(objectKey);
+        ProfileImageVariants.variantsOf(objectKey)
+                .forEach(s3PresignedUrlService::deleteObjectQuietly);
+    }
+
     private String generateObjectKey(UUID memberId, String fileName) {
         var extension = extractExtension(fileName);
         var uniqueFileName = UUID.randomUUID().toString();
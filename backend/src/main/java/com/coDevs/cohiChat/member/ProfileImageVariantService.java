@@ -0,0 +1,157 @@
+package com.coDevs.cohiChat.member;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.UUID;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.coDevs.cohiChat.global.common.file.S3PresignedUrlService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 이미지 썸네일 변환본 생성.
+ * 원본을 정사각형으로 center-crop 한 뒤 {@link ProfileImageVariants#SIZES} 크기로 축소하여
+ * 압축 JPEG으로 원본 옆에 저장한다.
+ * 디코딩 전에 헤더의 픽셀 크기를 먼저 확인하여 상한을 넘는 이미지는 변환하지 않는다
+ * (작은 파일이라도 수만 px 이미지는 디코딩 시 수 GB를 할당할 수 있음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileImageVariantService {
+
+    private final S3PresignedUrlService s3PresignedUrlService;
+    private final ProfileImageService profileImageService;
+
+    @Value("${app.profile-image.variant.jpeg-quality:0.82}")
+    private float jpegQuality = 0.82f;
+
+    @Value("${app.profile-image.variant.max-pixels:25000000}")
+    private long maxPixels = 25_000_000L;
+
+    public void generateVariants(UUID memberId, String objectKey, String profileImageUrl) {
+        long start = System.currentTimeMillis();
+        try {
+            var original = s3PresignedUrlService.getObjectBytes(objectKey).orElse(null);
+            if (original == null) {
+                log.warn("프로필 이미지 원본 없음 - 변환 생략. memberId: {}, objectKey: {}", memberId, objectKey);
+                return;
+            }
+
+            BufferedImage source = decodeWithinLimit(original, memberId, objectKey);
+            if (source == null) {
+                // JDK ImageIO가 디코딩할 수 없는 포맷(WebP 등)은 원본으로 서빙
+                log.info("프로필 이미지 디코딩 불가 - 변환 생략. memberId: {}, objectKey: {}", memberId, objectKey);
+                return;
+            }
+
+            BufferedImage square = cropToSquare(source);
+            for (int size : ProfileImageVariants.SIZES) {
+                byte[] encoded = encodeJpeg(resize(square, size));
+                s3PresignedUrlService.putObject(
+                    ProfileImageVariants.variantOf(objectKey, size), encoded, ProfileImageVariants.CONTENT_TYPE);
+            }
+
+            if (!profileImageService.markVariantsReady(memberId, profileImageUrl)) {
+                // 변환 도중 프로필 이미지가 교체/삭제된 경우: 방금 만든 변환본 정리
+                deleteVariantsQuietly(objectKey);
+            }
+            log.info("프로필 이미지 변환 완료. memberId: {}, objectKey: {}, elapsedMs: {}",
+                memberId, objectKey, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("프로필 이미지 변환 실패 - 원본으로 서빙. memberId: {}, objectKey: {}, error: {}",
+                memberId, objectKey, e.getMessage(), e);
+        }
+    }
+
+    public void deleteVariantsQuietly(String objectKey) {
+        ProfileImageVariants.variantsOf(objectKey)
+            .forEach(s3PresignedUrlService::deleteObjectQuietly);
+    }
+
+    /**
+     * 헤더에서 가로/세로만 읽어 {@code maxPixels} 이하일 때만 디코딩한다.
+     * 디코딩할 수 없는 포맷이거나 상한을 넘으면 null.
+     */
+    private BufferedImage decodeWithinLimit(byte[] original, UUID memberId, String objectKey) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("프로필 이미지 픽셀 수 상한 초과 - 변환 생략. memberId: {}, objectKey: {}, pixels: {}, maxPixels: {}",
+                        memberId, objectKey, pixels, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cropToSquare(BufferedImage source) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+        return source.getSubimage(x, y, side, side);
+    }
+
+    private BufferedImage resize(BufferedImage square, int size) {
+        // JPEG은 알파 채널이 없으므로 흰 배경 위에 RGB로 그린다
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.drawImage(square, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,50 @@
+package com.coDevs.cohiChat.member;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 변환본(썸네일) 규칙.
+ * <p>변환본은 원본과 같은 디렉터리에 {@code {원본파일명}_{크기}w.jpg} 형태로 저장되므로,
+ * 원본 key/URL만으로 변환본 key/URL을 계산할 수 있다.</p>
+ */
+public final class ProfileImageVariants {
+
+    public static final List<Integer> SIZES = List.of(64, 128, 256);
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final String EXTENSION = ".jpg";
+
+    private ProfileImageVariants() {}
+
+    /**
+     * 원본 object key(또는 URL)로부터 특정 크기 변환본의 key(또는 URL)를 계산한다.
+     */
+    public static String variantOf(String original, int size) {
+        int lastSlash = original.lastIndexOf('/');
+        int lastDot = original.lastIndexOf('.');
+        String base = lastDot > lastSlash ? original.substring(0, lastDot) : original;
+        return base + "_" + size + "w" + EXTENSION;
+    }
+
+    public static List<String> variantsOf(String original) {
+        return SIZES.stream()
+            .map(size -> variantOf(original, size))
+            .toList();
+    }
+
+    /**
+     * srcset 구성용 (크기(px) → URL) 맵. 변환본이 아직 준비되지 않았으면 빈 맵을 반환한다.
+     */
+    public static Map<Integer, String> srcsetOf(String originalUrl, boolean variantsReady) {
+        if (!variantsReady || originalUrl == null || originalUrl.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, String> srcset = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            srcset.put(size, variantOf(originalUrl, size));
+        }
+        return srcset;
+    }
+}
@@ -0,0 +1,245 @@
+package com.coDevs.cohiChat.member;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coDevs.cohiChat.global.cache.RemoteEntityChangedEvent;
+import com.coDevs.cohiChat.member.entity.Member;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 회원별 로그인 세션(기기) 저장소.
+ * <p>회원마다 Redis 해시 하나({@code auth:sessions:{username}})에 세션 ID별로 현재 Refresh Token 해시(token),
+ * 직전 해시(previousToken), 유예 시간에 추가 발급한 해시(graceTokens), 교체 시각(rotatedAt), 마지막 사용 시각(lastUsedAt),
+ * User-Agent(userAgent)를
+ * {@code {sessionId}:{필드}} 형식의 필드로 둔다. 세션 ID는 로그인마다 새로 발급되어 AT/RT의 {@code sid} 클레임에 담긴다.</p>
+ * <p>교체는 Lua 스크립트 한 번으로 현재 해시 비교, 교체, 직전 해시 보관, TTL 갱신을 원자적으로 처리한다.
+ * 같은 토큰으로 동시에 재발급을 요청해도 한 요청만 현재 토큰으로 교체하며, 직전 토큰은 유예 시간 동안만 다시 받아준다.
+ * 유예 시간에 발급한 토큰은 현재 토큰을 대체하지 않고 함께 인정되어, 브라우저가 어느 응답의 쿠키를 남기든 다음 교체에 쓸 수 있다.
+ * 둘 중 하나로 다음 교체가 일어나면 나머지는 무효가 된다.</p>
+ * <p>전체 로그아웃(정지, 비밀번호 재설정, 탈퇴)은 세션 해시 삭제와 회원별 not-before 시각 기록으로 O(1)에 처리한다.
+ * 그 시각 이전에 발급된 Access Token은 토큰별 블랙리스트 없이 {@link #isRevoked(String, Instant)}에서 거절된다.
+ * not-before는 노드 로컬 캐시로 조회하며, 다른 노드의 변경은 회원 엔티티 무효화 메시지({@link RemoteEntityChangedEvent})로
+ * 비우고 메시지를 놓쳐도 캐시 TTL 안에 반영된다.</p>
+ */
+@Component
+public class SessionRegistry {
+
+	private static final String SESSIONS_KEY_PREFIX = "auth:sessions:";
+	private static final String NOT_BEFORE_KEY_PREFIX = "auth:not-before:";
+	private static final int MAX_CACHED_NOT_BEFORE = 100_000;
+
+	/**
+	 * ARGV: 세션 ID, 토큰 해시, User-Agent, 현재 시각(ms), TTL(ms)
+	 * 마지막 사용 후 TTL이 지난 다른 세션의 필드도 함께 정리한다.
+	 */
+	private static final DefaultRedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>(
+		"local now = tonumber(ARGV[4]) "
+			+ "local ttl = tonumber(ARGV[5]) "
+			+ "local fields = redis.call('hgetall', KEYS[1]) "
+			+ "for i = 1, #fields, 2 do "
+			+ "  local field = fields[i] "
+			+ "  if string.sub(field, -11) == ':lastUsedAt' and now - tonumber(fields[i + 1]) > ttl then "
+			+ "    local sid = string.sub(field, 1, -12) "
+			+ "    redis.call('hdel', KEYS[1], sid .. ':token', sid .. ':previousToken', sid .. ':graceTokens', "
+			+ "      sid .. ':rotatedAt', sid .. ':lastUsedAt', sid .. ':userAgent') "
+			+ "  end "
+			+ "end "
+			+ "redis.call('hset', KEYS[1], ARGV[1] .. ':token', ARGV[2], ARGV[1] .. ':lastUsedAt', ARGV[4], "
+			+ "  ARGV[1] .. ':userAgent', ARGV[3]) "
+			+ "redis.call('pexpire', KEYS[1], ttl) "
+			+ "return 1",
+		Long.class
+	);
+
+	/**
+	 * ARGV: 세션 ID, 제시된 해시, 새 해시, 현재 시각(ms), TTL(ms), 유예 시간(ms)
+	 * 반환: 1 = 현재 토큰(또는 유예 발급 토큰)으로 교체, 2 = 유예 시간 내 직전 토큰으로 추가 발급, 0 = 거절
+	 * 유예 발급 해시는 token을 덮어쓰지 않고 graceTokens(공백 구분)에 더해, 먼저 교체에 성공한 요청의 토큰도 계속 유효하게 둔다.
+	 */
+	private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+		"local sid = ARGV[1] "
+			+ "local current = redis.call('hget', KEYS[1], sid .. ':token') "
+			+ "if not current then return 0 end "
+			+ "local graceTokens = redis.call('hget', KEYS[1], sid .. ':graceTokens') "
+			+ "if current == ARGV[2] "
+			+ "  or (graceTokens and string.find(' ' .. graceTokens .. ' ', ' ' .. ARGV[2] .. ' ', 1, true)) then "
+			+ "  redis.call('hset', KEYS[1], sid .. ':token', ARGV[3], sid .. ':previousToken', ARGV[2], "
+			+ "    sid .. ':rotatedAt', ARGV[4], sid .. ':lastUsedAt', ARGV[4]) "
+			+ "  redis.call('hdel', KEYS[1], sid .. ':graceTokens') "
+			+ "  redis.call('pexpire', KEYS[1], ARGV[5]) "
+			+ "  return 1 "
+			+ "end "
+			+ "if redis.call('hget', KEYS[1], sid .. ':previousToken') == ARGV[2] then "
+			+ "  local rotatedAt = tonumber(redis.call('hget', KEYS[1], sid .. ':rotatedAt')) "
+			+ "  if rotatedAt and tonumber(ARGV[4]) - rotatedAt <= tonumber(ARGV[6]) then "
+			+ "    local issued = graceTokens and (graceTokens .. ' ' .. ARGV[3]) or ARGV[3] "
+			+ "    redis.call('hset', KEYS[1], sid .. ':graceTokens', issued, sid .. ':lastUsedAt', ARGV[4]) "
+			+ "    redis.call('pexpire', KEYS[1], ARGV[5]) "
+			+ "    return 2 "
+			+ "  end "
+			+ "end "
+			+ "return 0",
+		Long.class
+	);
+
+	/**
+	 * KEYS: 세션 해시, not-before 키 / ARGV: not-before(epoch 초), not-before 보관 시간(ms)
+	 */
+	private static final DefaultRedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('del', KEYS[1]) "
+			+ "redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[2]) "
+			+ "return 1",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final long gracePeriodMs;
+	private final long accessTokenExpirationMs;
+	private final Duration notBeforeCacheTtl;
+
+	private final Map<String, NotBeforeEntry> notBeforeCache = new ConcurrentHashMap<>();
+
+	public SessionRegistry(
+		StringRedisTemplate redisTemplate,
+		MeterRegistry meterRegistry,
+		Clock clock,
+		@Value("${jwt.refresh-token-grace-period-ms:10000}") long gracePeriodMs,
+		@Value("${jwt.access-token-expiration-ms}") long accessTokenExpirationMs,
+		@Value("${jwt.not-before-cache-ttl-ms:5000}") long notBeforeCacheTtlMs
+	) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.gracePeriodMs = gracePeriodMs;
+		this.accessTokenExpirationMs = accessTokenExpirationMs;
+		this.notBeforeCacheTtl = Duration.ofMillis(notBeforeCacheTtlMs);
+	}
+
+	/**
+	 * 로그인 시 새 세션을 등록한다. 같은 회원의 다른 기기 세션은 유지된다.
+	 */
+	public void register(String username, String sessionId, String tokenHash, String userAgent, long ttlMs) {
+		redisTemplate.execute(REGISTER_SCRIPT, List.of(SESSIONS_KEY_PREFIX + username),
+			sessionId, tokenHash, userAgent == null ? "" : userAgent, String.valueOf(clock.millis()), String.valueOf(ttlMs));
+	}
+
+	/**
+	 * 제시된 토큰 해시가 세션의 현재 토큰(유예 발급 토큰 포함, 또는 유예 시간 내 직전 토큰)이면 새 해시로 교체하고 TTL을 갱신한다.
+	 *
+	 * @return 교체했으면 true, 세션이 없거나 일치하지 않으면 false
+	 */
+	public boolean rotate(String username, String sessionId, String presentedHash, String newHash, long ttlMs) {
+		Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(SESSIONS_KEY_PREFIX + username),
+			sessionId, presentedHash, newHash, String.valueOf(clock.millis()), String.valueOf(ttlMs),
+			String.valueOf(gracePeriodMs));
+
+		String outcome = result == null || result == 0 ? "rejected" : result == 1 ? "rotated" : "grace";
+		meterRegistry.counter("auth.refresh.rotation", "result", outcome).increment();
+		return !"rejected".equals(outcome);
+	}
+
+	/**
+	 * 한 기기의 세션만 삭제한다 (로그아웃). 세션 ID가 없는 토큰이면 아무것도 하지 않는다.
+	 */
+	public void revoke(String username, String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		redisTemplate.opsForHash().delete(SESSIONS_KEY_PREFIX + username,
+			sessionId + ":token", sessionId + ":previousToken", sessionId + ":graceTokens", sessionId + ":rotatedAt",
+			sessionId + ":lastUsedAt", sessionId + ":userAgent");
+	}
+
+	/**
+	 * 모든 기기의 세션을 삭제하고, 지금 이전에 발급된 Access Token을 모두 무효화한다.
+	 * <p>JWT의 iat는 초 단위이므로 not-before도 초 단위로 내림해 기록한다.
+	 * 같은 초 안에 재로그인한 토큰이 거절되지 않도록 하기 위함이며, 그 1초 안에 먼저 발급된 토큰은 통과할 수 있다.</p>
+	 * <p>not-before는 Access Token 유효 시간만큼만 보관한다. 그 이후에는 이전 토큰이 모두 만료되었기 때문이다.</p>
+	 * <p>트랜잭션 안에서 호출하면 Redis 쓰기를 커밋 후로 미룬다. DB 커넥션을 쥔 채 Redis를 기다리지 않고,
+	 * 롤백된 정지/비밀번호 변경/탈퇴로 세션만 지워지는 일도 없게 하기 위함이다.</p>
+	 */
+	public void revokeAll(String username) {
+		afterCommit(() -> revokeAllNow(username));
+	}
+
+	private void revokeAllNow(String username) {
+		long notBefore = clock.instant().getEpochSecond();
+		redisTemplate.execute(REVOKE_ALL_SCRIPT,
+			List.of(SESSIONS_KEY_PREFIX + username, NOT_BEFORE_KEY_PREFIX + username),
+			String.valueOf(notBefore), String.valueOf(accessTokenExpirationMs));
+		notBeforeCache.put(username, new NotBeforeEntry(notBefore, clock.instant().plus(notBeforeCacheTtl)));
+		meterRegistry.counter("auth.session.revoke_all").increment();
+	}
+
+	/**
+	 * 회원의 not-before 시각 이전에 발급된 토큰이면 true.
+	 */
+	public boolean isRevoked(String username, Instant issuedAt) {
+		long notBefore = getNotBefore(username);
+		if (notBefore == 0) {
+			return false;
+		}
+		return issuedAt == null || issuedAt.getEpochSecond() < notBefore;
+	}
+
+	@EventListener
+	public void handleRemoteEntityChanged(RemoteEntityChangedEvent event) {
+		if (Member.class.getName().equals(event.getEntityName())) {
+			notBeforeCache.clear();
+		}
+	}
+
+	/**
+	 * afterCommit 대신 afterCompletion을 쓰는 이유: AFTER_COMMIT 이벤트 리스너 안에서 등록한
+	 * 동기화는 afterCommit으로는 호출되지 않지만 afterCompletion으로는 호출된다.
+	 */
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_COMMITTED) {
+						action.run();
+					}
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+
+	private long getNotBefore(String username) {
+		Instant now = clock.instant();
+		NotBeforeEntry cached = notBeforeCache.get(username);
+		if (cached != null && now.isBefore(cached.expiresAt())) {
+			return cached.notBefore();
+		}
+
+		String stored = redisTemplate.opsForValue().get(NOT_BEFORE_KEY_PREFIX + username);
+		long notBefore = stored == null ? 0 : Long.parseLong(stored);
+		if (notBeforeCache.size() >= MAX_CACHED_NOT_BEFORE) {
+			notBeforeCache.clear();
+		}
+		notBeforeCache.put(username, new NotBeforeEntry(notBefore, now.plus(notBeforeCacheTtl)));
+		return notBefore;
+	}
+
+	private record NotBeforeEntry(long notBefore, Instant expiresAt) {
+	}
+}
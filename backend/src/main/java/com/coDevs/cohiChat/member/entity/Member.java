@@ -1,12 +1,16 @@
 package com.coDevs.cohiChat.member.entity;
 
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.coDevs.cohiChat.global.cache.EntityCacheRegions;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 
@@ -33,6 +37,7 @@ import lombok.NoArgsConstructor;
 }, uniqueConstraints = {
         @UniqueConstraint(name = "uk_member_provider_provider_id", columnNames = {"provider", "provider_id"})
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MEMBER)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
@@ -99,6 +104,13 @@ public class Member {
         @Column(name = "profile_image_url", length = 500)
         private String profileImageUrl;
 
+        /**
+         * 프로필 이미지 썸네일 변환본 생성 완료 여부.
+         * 이미지가 바뀌면 false로 초기화되고, 비동기 변환 완료 후 true로 갱신된다.
+         */
+        @Column(name = "profile_image_variants_ready", nullable = false, columnDefinition = "boolean default false")
+        private boolean profileImageVariantsReady = false;
+
 
         public static Member create(
                 String username,
@@ -185,7 +197,11 @@ public class Member {
                         this.job = job.isBlank() ? null : job;
                 }
                 if (profileImageUrl != null) {
-                        this.profileImageUrl = profileImageUrl.isBlank() ? null : profileImageUrl;
+                        String newUrl = profileImageUrl.isBlank() ? null : profileImageUrl;
+                        if (!Objects.equals(this.profileImageUrl, newUrl)) {
+                                this.profileImageVariantsReady = false;
+                        }
+                        this.profileImageUrl = newUrl;
                 }
         }
 
@@ -9,7 +9,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import com.coDevs.cohiChat.booking.entity.Booking;
 import com.coDevs.cohiChat.calendar.CalendarRepository;
 import com.coDevs.cohiChat.calendar.entity.Calendar;
-import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestScheduler;
 import com.coDevs.cohiChat.member.entity.Role;
 
 import lombok.RequiredArgsConstructor;
@@ -26,7 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberWithdrawalEventListener {
 
     private final CalendarRepository calendarRepository;
-    private final GoogleCalendarService googleCalendarService;
+    private final GoogleCalendarRequestScheduler googleCalendarRequestScheduler;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMemberWithdrawal(MemberWithdrawalEvent event) {
@@ -67,13 +67,15 @@ public class MemberWithdrawalEventListener {
             return;
         }
 
-        boolean deleted = googleCalendarService.deleteEvent(
+        // 탈퇴 시 대량 삭제는 쿼터를 넘기 쉬워 초과분은 스케줄러 대기열에서 순차 처리된다
+        boolean accepted = googleCalendarRequestScheduler.deleteEvent(
+            booking.getId(),
             booking.getGoogleEventId(),
             googleCalendarId
         );
 
-        if (deleted) {
-            log.info("Google Calendar event deleted for booking: {}", booking.getId());
+        if (accepted) {
+            log.info("Google Calendar event deletion requested for booking: {}", booking.getId());
         } else {
             log.warn("Failed to delete Google Calendar event for booking: {}, eventId: {}",
                 booking.getId(), booking.getGoogleEventId());
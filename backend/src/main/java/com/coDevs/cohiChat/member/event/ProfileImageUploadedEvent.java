@@ -0,0 +1,19 @@
+package com.coDevs.cohiChat.member.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 업로드 확인 후 발행되는 이벤트.
+ * 트랜잭션 커밋 후 썸네일 변환본 생성에 사용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageUploadedEvent {
+
+    private final UUID memberId;
+    private final String objectKey;
+    private final String profileImageUrl;
+}
@@ -0,0 +1,46 @@
+package com.coDevs.cohiChat.member.event;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coDevs.cohiChat.global.config.AsyncConfig;
+import com.coDevs.cohiChat.member.ProfileImageVariantService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 이미지 업로드 이벤트 리스너.
+ * 트랜잭션 커밋 후 변환 전용 Executor에 썸네일 생성을 위임하여
+ * 업로드 확인 API의 응답 시간에 영향을 주지 않도록 함.
+ */
+@Slf4j
+@Component
+public class ProfileImageUploadedEventListener {
+
+    private final ProfileImageVariantService profileImageVariantService;
+    private final TaskExecutor variantExecutor;
+
+    public ProfileImageUploadedEventListener(
+            ProfileImageVariantService profileImageVariantService,
+            @Qualifier(AsyncConfig.PROFILE_IMAGE_VARIANT_EXECUTOR) TaskExecutor variantExecutor
+    ) {
+        this.profileImageVariantService = profileImageVariantService;
+        this.variantExecutor = variantExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProfileImageUploaded(ProfileImageUploadedEvent event) {
+        try {
+            variantExecutor.execute(() -> profileImageVariantService.generateVariants(
+                event.getMemberId(), event.getObjectKey(), event.getProfileImageUrl()));
+        } catch (TaskRejectedException e) {
+            // 큐 포화 시 변환을 건너뛰고 원본 이미지로 서빙
+            log.warn("프로필 이미지 변환 작업 거절 - 원본으로 서빙. memberId: {}, objectKey: {}",
+                event.getMemberId(), event.getObjectKey());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.coDevs.cohiChat.member.response;
 
+import java.util.Map;
 import java.util.UUID;
 
+import com.coDevs.cohiChat.member.ProfileImageVariants;
 import com.coDevs.cohiChat.member.entity.Member;
 
 import lombok.AccessLevel;
@@ -20,6 +22,8 @@ public class HostResponseDTO {
 	private String displayName;
 	private String job;
 	private String profileImageUrl;
+	/** 썸네일 크기(px) → URL. 변환본이 준비되지 않았으면 빈 맵 */
+	private Map<Integer, String> profileImageSrcset;
 	private long chatCount;
 
 	public static HostResponseDTO from(Member member, long chatCount) {
@@ -29,6 +33,8 @@ public class HostResponseDTO {
 			.displayName(member.getDisplayName())
 			.job(member.getJob())
 			.profileImageUrl(member.getProfileImageUrl())
+			.profileImageSrcset(ProfileImageVariants.srcsetOf(
+				member.getProfileImageUrl(), member.isProfileImageVariantsReady()))
 			.chatCount(chatCount)
 			.build();
 	}
@@ -1,24 +1,24 @@
 package com.coDevs.cohiChat.member.service;
 
+import com.coDevs.cohiChat.global.email.EmailTemplateRegistry;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.security.password.PasswordHasher;
 import com.coDevs.cohiChat.global.service.EmailService;
 import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.PasswordResetToken;
 import com.coDevs.cohiChat.member.repository.PasswordResetTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import org.springframework.web.util.HtmlUtils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -29,7 +29,10 @@ public class PasswordResetService {
     private final MemberRepository memberRepository;
     private final PasswordResetTokenRepository tokenRepository;
     private final EmailService emailService;
-    private final PasswordEncoder passwordEncoder;
+    private final EmailTemplateRegistry emailTemplateRegistry;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final SessionRegistry sessionRegistry;
 
     @Value("${app.password-reset.token-expiry-minutes:3}")
     private int tokenExpiryMinutes;
@@ -61,30 +64,32 @@ public class PasswordResetService {
         return tokenRepository.findById(token).isPresent();
     }
 
-    @Transactional
+    /**
+     * 새 비밀번호 해싱을 전용 Executor에서 먼저 끝낸 뒤, 토큰 확인과 회원 비밀번호 변경만 짧은 트랜잭션으로 처리한다.
+     * 해싱 동안 DB 커넥션을 잡지 않기 위함이다.
+     */
     public void resetPassword(String token, String newPassword) {
-        PasswordResetToken resetToken = tokenRepository.findById(token)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+        String encodedPassword = passwordHasher.encode(newPassword);
 
-        Member member = memberRepository.findByEmailAndIsDeletedFalse(resetToken.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        transactionTemplate.executeWithoutResult(status -> {
+            PasswordResetToken resetToken = tokenRepository.findById(token)
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
 
-        member.updatePassword(passwordEncoder.encode(newPassword));
-        tokenRepository.delete(resetToken);
+            Member member = memberRepository.findByEmailAndIsDeletedFalse(resetToken.getEmail())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+            member.updatePassword(encodedPassword);
+            tokenRepository.delete(resetToken);
+            // 기존 비밀번호로 로그인된 모든 기기의 세션과 Access Token 무효화 (커밋 후)
+            sessionRegistry.revokeAll(member.getUsername());
+        });
     }
 
     private String buildPasswordResetEmail(String displayName, String resetLink) {
-        try (InputStream is = getClass().getResourceAsStream("/templates/password-reset.html")) {
-            if (is == null) {
-                throw new RuntimeException("이메일 템플릿을 찾을 수 없습니다: /templates/password-reset.html");
-            }
-            String template = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-            return template
-                    .replace("{{baseUrl}}", baseUrl)
-                    .replace("{{displayName}}", HtmlUtils.htmlEscape(displayName))
-                    .replace("{{resetLink}}", resetLink);
-        } catch (IOException e) {
-            throw new RuntimeException("이메일 템플릿 로드 실패", e);
-        }
+        return emailTemplateRegistry.render("password-reset", Map.of(
+                "baseUrl", baseUrl,
+                "displayName", HtmlUtils.htmlEscape(displayName),
+                "resetLink", resetLink
+        ));
     }
 }
@@ -0,0 +1,128 @@
+package com.coDevs.cohiChat.oauth;
+
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.coDevs.cohiChat.global.observability.StructuredLogMessage;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google id_token 서명 검증용 공개키 캐시.
+ * <p>첫 조회 시 JWKS를 받아오고, 이후에는 주기적으로 백그라운드에서 갱신한다.
+ * 캐시에 없는 kid가 들어오면 키 교체로 보고 즉시 다시 받아오되, 최소 간격 안에서는 재조회하지 않는다.
+ * 갱신에 실패하면 기존 키를 그대로 사용한다.</p>
+ */
+@Slf4j
+@Component
+public class GoogleJwksCache {
+
+	private final RestClient restClient;
+	private final GoogleJwksProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	private volatile Map<String, Key> keys = Map.of();
+	private volatile Instant lastFetchAttemptAt;
+
+	public GoogleJwksCache(
+		RestClient restClient,
+		GoogleJwksProperties properties,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.restClient = restClient;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+	}
+
+	/**
+	 * kid에 해당하는 공개키를 반환한다. 재조회 후에도 없으면 null.
+	 */
+	public Key getKey(String kid) {
+		if (kid == null) {
+			return null;
+		}
+		Key key = keys.get(kid);
+		if (key != null) {
+			return key;
+		}
+		refetchOnMiss(kid);
+		return keys.get(kid);
+	}
+
+	@Scheduled(
+		fixedDelayString = "${oauth2.google-jwks.refresh-interval-ms:3600000}",
+		initialDelayString = "${oauth2.google-jwks.refresh-interval-ms:3600000}"
+	)
+	public void refresh() {
+		fetch("scheduled");
+	}
+
+	private synchronized void refetchOnMiss(String kid) {
+		// 대기하는 동안 다른 스레드가 이미 받아왔을 수 있다
+		if (keys.containsKey(kid)) {
+			return;
+		}
+		Instant now = clock.instant();
+		Duration minInterval = Duration.ofSeconds(properties.getMinRefetchIntervalSeconds());
+		if (lastFetchAttemptAt != null && now.isBefore(lastFetchAttemptAt.plus(minInterval))) {
+			meterRegistry.counter("oauth.google.jwks.fetch", "trigger", "kid_miss", "result", "throttled").increment();
+			return;
+		}
+		fetch("kid_miss");
+	}
+
+	private synchronized void fetch(String trigger) {
+		lastFetchAttemptAt = clock.instant();
+		try {
+			String body = restClient.get()
+				.uri(properties.getUri())
+				.retrieve()
+				.body(String.class);
+			if (body == null) {
+				throw new IllegalStateException("empty JWKS response");
+			}
+
+			JwkSet jwkSet = Jwks.setParser().build().parse(body);
+			Map<String, Key> fetched = new HashMap<>();
+			for (Jwk<?> jwk : jwkSet.getKeys()) {
+				if (jwk.getId() != null) {
+					fetched.put(jwk.getId(), jwk.toKey());
+				}
+			}
+			if (fetched.isEmpty()) {
+				throw new IllegalStateException("no keys in JWKS response");
+			}
+
+			keys = Map.copyOf(fetched);
+			meterRegistry.counter("oauth.google.jwks.fetch", "trigger", trigger, "result", "success").increment();
+			log.info(StructuredLogMessage.of("googleJwksFetch", "SUCCESS")
+				.add("trigger", trigger)
+				.add("keyCount", fetched.size())
+				.build());
+		} catch (RestClientException | JwtException | IllegalStateException e) {
+			meterRegistry.counter("oauth.google.jwks.fetch", "trigger", trigger, "result", "failure").increment();
+			log.warn(StructuredLogMessage.of("googleJwksFetch", "FAIL")
+				.add("trigger", trigger)
+				.add("cachedKeyCount", keys.size())
+				.add("cause", e.getClass().getSimpleName())
+				.build());
+		}
+	}
+}
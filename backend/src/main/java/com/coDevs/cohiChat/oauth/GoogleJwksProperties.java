@@ -0,0 +1,34 @@
+package com.coDevs.cohiChat.oauth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Google id_token 서명 검증용 공개키(JWKS) 캐시 설정.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "oauth2.google-jwks")
+public class GoogleJwksProperties {
+
+	@NotBlank
+	private String uri = "https://www.googleapis.com/oauth2/v3/certs";
+
+	/** 백그라운드 갱신 주기. Google은 키를 교체하기 전에 새 키를 미리 게시한다 */
+	@Min(60000)
+	private long refreshIntervalMs = 3600000;
+
+	/** 모르는 kid로 인한 즉시 재조회 최소 간격. 위조 토큰으로 JWKS를 반복 호출하지 못하게 한다 */
+	@Min(0)
+	private int minRefetchIntervalSeconds = 30;
+
+	/** 서버 간 시계 차이 허용 범위 (exp/iat/nbf 검증) */
+	@Min(0)
+	private int allowedClockSkewSeconds = 60;
+}
@@ -1,6 +1,10 @@
 package com.coDevs.cohiChat.oauth;
 
+import java.security.Key;
+import java.time.Clock;
+import java.util.Date;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -11,20 +15,45 @@ import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.member.entity.Provider;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+
 @Component
 public class GoogleOAuthClient implements OAuthClient {
 
 	private static final String AUTHORIZATION_URL = "https://accounts.google.com/o/oauth2/v2/auth";
 	private static final String TOKEN_URL = "https://oauth2.googleapis.com/token";
-	private static final String USERINFO_URL = "https://www.googleapis.com/oauth2/v3/userinfo";
+	private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
 	private static final String SCOPE = "openid email profile";
 
 	private final OAuthProperties.ProviderConfig config;
 	private final RestClient restClient;
-
-	public GoogleOAuthClient(OAuthProperties properties, RestClient restClient) {
+	private final JwtParser idTokenParser;
+
+	public GoogleOAuthClient(
+		OAuthProperties properties,
+		RestClient restClient,
+		GoogleJwksCache googleJwksCache,
+		GoogleJwksProperties googleJwksProperties,
+		Clock clock
+	) {
 		this.config = properties.getGoogle();
 		this.restClient = restClient;
+		this.idTokenParser = Jwts.parser()
+			.keyLocator(new LocatorAdapter<Key>() {
+				@Override
+				protected Key locate(JwsHeader header) {
+					return googleJwksCache.getKey(header.getKeyId());
+				}
+			})
+			.requireAudience(config.getClientId())
+			.clock(() -> Date.from(clock.instant()))
+			.clockSkewSeconds(googleJwksProperties.getAllowedClockSkewSeconds())
+			.build();
 	}
 
 	@Override
@@ -42,29 +71,28 @@ public class GoogleOAuthClient implements OAuthClient {
 			+ "&state=" + OAuthClientUtils.encode(state);
 	}
 
+	/**
+	 * 토큰 응답의 id_token을 캐시한 Google 공개키로 직접 검증해 사용자 정보를 얻는다.
+	 * userinfo 엔드포인트를 추가로 호출하지 않는다.
+	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public OAuthUserInfo getUserInfo(String authorizationCode) {
-		String accessToken = exchangeToken(authorizationCode);
+		String idToken = exchangeToken(authorizationCode);
 
-		Map<String, Object> userInfo;
+		Claims claims;
 		try {
-			userInfo = restClient.get()
-				.uri(USERINFO_URL)
-				.header("Authorization", "Bearer " + accessToken)
-				.retrieve()
-				.body(Map.class);
-		} catch (RestClientException e) {
+			claims = idTokenParser.parseSignedClaims(idToken).getPayload();
+		} catch (JwtException | IllegalArgumentException e) {
 			throw new CustomException(ErrorCode.OAUTH_USER_INFO_FAILED);
 		}
 
-		if (userInfo == null) {
+		if (!ISSUERS.contains(claims.getIssuer())) {
 			throw new CustomException(ErrorCode.OAUTH_USER_INFO_FAILED);
 		}
 
-		String sub = (String) userInfo.get("sub");
-		String email = (String) userInfo.get("email");
-		String name = (String) userInfo.get("name");
+		String sub = claims.getSubject();
+		String email = claims.get("email", String.class);
+		String name = claims.get("name", String.class);
 
 		if (sub == null || email == null) {
 			throw new CustomException(ErrorCode.OAUTH_USER_INFO_FAILED);
@@ -93,11 +121,11 @@ public class GoogleOAuthClient implements OAuthClient {
 			throw new CustomException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED);
 		}
 
-		if (response == null || response.get("access_token") == null) {
+		if (response == null || response.get("id_token") == null) {
 			throw new CustomException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED);
 		}
 
-		return (String) response.get("access_token");
+		return (String) response.get("id_token");
 	}
 
 }
@@ -1,24 +1,21 @@
 package com.coDevs.cohiChat.oauth;
 
-import java.time.Duration;
-
-import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
-import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class OAuthConfig {
 
+	/**
+	 * 공유 커넥션 풀을 사용한다. 연결/응답 타임아웃은 app.http-client.* 설정을 따른다.
+	 */
 	@Bean
-	public RestClient oauthRestClient() {
-		var settings = ClientHttpRequestFactorySettings.DEFAULTS
-			.withConnectTimeout(Duration.ofSeconds(5))
-			.withReadTimeout(Duration.ofSeconds(10));
-
+	public RestClient oauthRestClient(CloseableHttpClient sharedHttpClient) {
 		return RestClient.builder()
-			.requestFactory(ClientHttpRequestFactories.get(settings))
+			.requestFactory(new HttpComponentsClientHttpRequestFactory(sharedHttpClient))
 			.build();
 	}
 }
@@ -2,11 +2,13 @@ package com.coDevs.cohiChat.oauth;
 
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -43,9 +45,10 @@ public class OAuthController {
 	public ResponseEntity<ApiResponseDTO<SafeLoginResponseDTO>> socialLoginCallback(
 		@PathVariable String provider,
 		@Valid @RequestBody OAuthCallbackRequest request,
+		@RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
 		HttpServletResponse response
 	) {
-		LoginResponseDTO loginResponse = oAuthService.socialLogin(provider, request.code(), request.state());
+		LoginResponseDTO loginResponse = oAuthService.socialLogin(provider, request.code(), request.state(), userAgent);
 		authCookieService.addLoginCookies(response, loginResponse);
 		return ResponseEntity.ok(ApiResponseDTO.success(loginResponse.toSafeResponse()));
 	}
@@ -41,7 +41,7 @@ public class OAuthService {
 		return client.getAuthorizationUrl(state);
 	}
 
-	public LoginResponseDTO socialLogin(String providerName, String authorizationCode, String state) {
+	public LoginResponseDTO socialLogin(String providerName, String authorizationCode, String state, String userAgent) {
 		// 0. CSRF state 검증 및 소비
 		oAuthStateService.validateAndConsumeState(state);
 
@@ -53,7 +53,7 @@ public class OAuthService {
 		Member member = oAuthMemberService.findOrCreate(userInfo);
 
 		// 3. 토큰 발급
-		return tokenService.issueTokens(member);
+		return tokenService.issueTokens(member, userAgent);
 	}
 
 	private OAuthClient getClient(String providerName) {
@@ -0,0 +1,44 @@
+package com.coDevs.cohiChat.oauth;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "oauth2.state")
+public class OAuthStateProperties {
+
+	private static final int MIN_SIGNING_SECRET_BYTES = 32;
+
+	private Mode mode = Mode.REDIS;
+
+	@Min(60)
+	private int ttlSeconds = 600;
+
+	/** SIGNED 모드에서 state 서명에 쓰는 HMAC 키 (32바이트 이상) */
+	private String signingSecret;
+
+	@PostConstruct
+	public void validate() {
+		if (mode == Mode.SIGNED && (signingSecret == null
+			|| signingSecret.getBytes(StandardCharsets.UTF_8).length < MIN_SIGNING_SECRET_BYTES)) {
+			throw new IllegalStateException(
+				"oauth2.state.signing-secret must be at least " + MIN_SIGNING_SECRET_BYTES + " bytes in SIGNED mode");
+		}
+	}
+
+	public enum Mode {
+		/** state를 Redis에 SET EX로 저장하고 GETDEL로 소비한다 */
+		REDIS,
+		/** state 자체를 HMAC으로 서명하고, 소비할 때만 Redis에 재사용 여부를 기록한다 */
+		SIGNED
+	}
+}
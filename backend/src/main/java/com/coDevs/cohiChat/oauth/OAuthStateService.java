@@ -1,36 +1,125 @@
 package com.coDevs.cohiChat.oauth;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.UUID;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * OAuth state 발급/검증.
+ * <p>REDIS 모드: state를 {@code SET key EX ttl}로 저장하고 {@code GETDEL}로 조회와 삭제를 한 번에 처리한다.
+ * 같은 state로 동시에 콜백이 들어와도 하나만 성공한다.</p>
+ * <p>SIGNED 모드: state에 nonce와 만료 시각을 담아 HMAC으로 서명하므로 발급 시 Redis를 쓰지 않는다.
+ * 소비할 때 nonce를 {@code SET NX EX}(남은 유효시간 동안)로 기록해 재사용을 막는다.</p>
+ */
 @Service
-@RequiredArgsConstructor
 public class OAuthStateService {
 
-	private final OAuthStateRepository oAuthStateRepository;
+	private static final String STATE_KEY_PREFIX = "oauth:state:";
+	private static final String CONSUMED_NONCE_KEY_PREFIX = "oauth:state:used:";
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final int NONCE_BYTES = 16;
+
+	private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final StringRedisTemplate redisTemplate;
+	private final OAuthStateProperties properties;
+	private final Clock clock;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	public OAuthStateService(StringRedisTemplate redisTemplate, OAuthStateProperties properties, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.clock = clock;
+	}
 
 	public String generateState() {
+		if (properties.getMode() == OAuthStateProperties.Mode.SIGNED) {
+			return generateSignedState();
+		}
 		String state = UUID.randomUUID().toString();
-		oAuthStateRepository.save(OAuthState.create(state));
+		redisTemplate.opsForValue().set(STATE_KEY_PREFIX + state, "1", Duration.ofSeconds(properties.getTtlSeconds()));
 		return state;
 	}
 
 	/**
-	 * state 파라미터를 검증하고 소비(Redis에서 삭제)한다.
-	 * Redis에 존재하지 않으면 CSRF 공격으로 간주하여 예외를 던진다.
+	 * state 파라미터를 검증하고 소비한다.
+	 * 발급한 적 없거나, 만료되었거나, 이미 사용된 state면 CSRF 공격으로 간주하여 예외를 던진다.
 	 */
 	public void validateAndConsumeState(String state) {
 		if (state == null || state.isBlank()) {
 			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
 		}
-		OAuthState savedState = oAuthStateRepository.findById(state)
-			.orElseThrow(() -> new CustomException(ErrorCode.INVALID_OAUTH_STATE));
-		oAuthStateRepository.delete(savedState);
+		if (properties.getMode() == OAuthStateProperties.Mode.SIGNED) {
+			consumeSignedState(state);
+			return;
+		}
+		if (redisTemplate.opsForValue().getAndDelete(STATE_KEY_PREFIX + state) == null) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+	}
+
+	private String generateSignedState() {
+		byte[] nonce = new byte[NONCE_BYTES];
+		secureRandom.nextBytes(nonce);
+		long expiresAt = clock.instant().plusSeconds(properties.getTtlSeconds()).getEpochSecond();
+		String payload = BASE64_URL_ENCODER.encodeToString(nonce) + "." + expiresAt;
+		return payload + "." + sign(payload);
+	}
+
+	private void consumeSignedState(String state) {
+		int signatureSeparator = state.lastIndexOf('.');
+		int expirySeparator = state.indexOf('.');
+		if (expirySeparator <= 0 || signatureSeparator <= expirySeparator) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+
+		String payload = state.substring(0, signatureSeparator);
+		byte[] expectedSignature = sign(payload).getBytes(StandardCharsets.US_ASCII);
+		byte[] actualSignature = state.substring(signatureSeparator + 1).getBytes(StandardCharsets.US_ASCII);
+		if (!MessageDigest.isEqual(expectedSignature, actualSignature)) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+
+		Instant expiresAt;
+		try {
+			expiresAt = Instant.ofEpochSecond(Long.parseLong(payload.substring(expirySeparator + 1)));
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+		Duration remaining = Duration.between(clock.instant(), expiresAt);
+		if (remaining.isNegative() || remaining.isZero()) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+
+		String nonce = payload.substring(0, expirySeparator);
+		Boolean firstUse = redisTemplate.opsForValue().setIfAbsent(CONSUMED_NONCE_KEY_PREFIX + nonce, "1", remaining);
+		if (!Boolean.TRUE.equals(firstUse)) {
+			throw new CustomException(ErrorCode.INVALID_OAUTH_STATE);
+		}
+	}
+
+	private String sign(String payload) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(properties.getSigningSecret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+			return BASE64_URL_ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 서명 실패", e);
+		}
 	}
 }
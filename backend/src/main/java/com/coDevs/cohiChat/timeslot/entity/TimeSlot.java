@@ -7,10 +7,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.coDevs.cohiChat.global.cache.EntityCacheRegions;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,6 +22,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -26,7 +31,12 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "time_slot")
+@Table(name = "time_slot",
+    indexes = {
+        @Index(name = "idx_time_slot_calendar_start", columnList = "calendar_id, start_time")
+    }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TIME_SLOT)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TimeSlot {
@@ -50,6 +60,7 @@ public class TimeSlot {
     @Column(name = "end_date")
     private LocalDate endDate;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TIME_SLOT_WEEKDAYS)
     @OneToMany(mappedBy = "timeSlot", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TimeSlotWeekday> weekdayEntities = new ArrayList<>();
 
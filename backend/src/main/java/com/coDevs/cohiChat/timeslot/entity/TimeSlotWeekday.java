@@ -2,6 +2,11 @@ package com.coDevs.cohiChat.timeslot.entity;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.coDevs.cohiChat.global.cache.EntityCacheRegions;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -26,6 +31,7 @@ import lombok.NoArgsConstructor;
         @UniqueConstraint(name = "uk_time_slot_weekday", columnNames = {"time_slot_id", "weekday"})
     }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TIME_SLOT_WEEKDAY)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TimeSlotWeekday {
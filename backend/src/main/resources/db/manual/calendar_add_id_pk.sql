@@ -1,5 +1,5 @@
 -- Calendar 테이블에 독립 PK 추가 및 Member FK 설정
--- 이 파일은 수동 마이그레이션 참고용입니다 (Flyway 미사용)
+-- 수동 마이그레이션 기록용입니다 (Flyway 도입 이전에 적용 완료, 현재 스키마는 db/migration/V1__baseline_schema.sql)
 -- 실행 전 반드시 백업하세요
 
 -- 1. 새 id 컬럼 추가 (UUID, NOT NULL)
@@ -0,0 +1,147 @@
+-- 기준 스키마 (현재 엔티티 기준)
+-- 빈 DB에서는 전체 스키마를 만들고, Flyway 도입 전 ddl-auto=update로 관리되던 DB에서는
+-- (spring.flyway.baseline-version=0 이므로) 없는 테이블/컬럼/인덱스만 채운다.
+-- 따라서 모든 구문은 IF NOT EXISTS로 작성한다.
+
+-- member
+CREATE TABLE IF NOT EXISTS member (
+    id                           UUID         NOT NULL,
+    username                     VARCHAR(50)  NOT NULL,
+    display_name                 VARCHAR(50)  NOT NULL,
+    email                        VARCHAR(255),
+    hashed_password              VARCHAR(255),
+    provider                     VARCHAR(20)  NOT NULL,
+    provider_id                  VARCHAR(100),
+    role                         VARCHAR(20)  NOT NULL,
+    created_at                   TIMESTAMP(6) WITH TIME ZONE,
+    updated_at                   TIMESTAMP(6) WITH TIME ZONE,
+    host_registered_at           TIMESTAMP(6) WITH TIME ZONE,
+    is_deleted                   BOOLEAN      NOT NULL,
+    deleted_at                   TIMESTAMP(6) WITH TIME ZONE,
+    is_banned                    BOOLEAN      NOT NULL,
+    banned_at                    TIMESTAMP(6) WITH TIME ZONE,
+    job                          VARCHAR(100),
+    profile_image_url            VARCHAR(500),
+    profile_image_variants_ready BOOLEAN      NOT NULL DEFAULT false,
+    CONSTRAINT member_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_member_username UNIQUE (username),
+    CONSTRAINT uk_member_provider_provider_id UNIQUE (provider, provider_id)
+);
+
+ALTER TABLE member ADD COLUMN IF NOT EXISTS profile_image_variants_ready BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_member_email ON member (email);
+CREATE INDEX IF NOT EXISTS idx_member_username ON member (username);
+
+-- calendar
+CREATE TABLE IF NOT EXISTS calendar (
+    id                  UUID          NOT NULL,
+    user_id             UUID          NOT NULL,
+    topics              TEXT          NOT NULL,
+    description         TEXT          NOT NULL,
+    google_calendar_id  VARCHAR(1024) NOT NULL,
+    calendar_accessible BOOLEAN,
+    created_at          TIMESTAMP(6) WITH TIME ZONE,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT calendar_pkey PRIMARY KEY (id),
+    CONSTRAINT uq_calendar_user_id UNIQUE (user_id),
+    CONSTRAINT fk_calendar_member FOREIGN KEY (user_id) REFERENCES member (id) ON DELETE CASCADE
+);
+
+-- time_slot (calendar_id 컬럼에는 호스트 member id가 저장된다)
+CREATE TABLE IF NOT EXISTS time_slot (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    calendar_id UUID    NOT NULL,
+    start_time  TIME(6) NOT NULL,
+    end_time    TIME(6) NOT NULL,
+    start_date  DATE,
+    end_date    DATE,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT time_slot_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS time_slot_weekday (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    time_slot_id BIGINT  NOT NULL,
+    weekday      INTEGER NOT NULL,
+    CONSTRAINT time_slot_weekday_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_time_slot_weekday UNIQUE (time_slot_id, weekday),
+    CONSTRAINT fk_time_slot_weekday_time_slot FOREIGN KEY (time_slot_id) REFERENCES time_slot (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_time_slot_weekday ON time_slot_weekday (time_slot_id, weekday);
+
+-- booking (월 단위 파티션 전환은 V5__partition_booking_by_month.sql)
+CREATE TABLE IF NOT EXISTS booking (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    time_slot_id       BIGINT        NOT NULL,
+    guest_id           UUID          NOT NULL,
+    booking_date       DATE          NOT NULL,
+    topic              VARCHAR(255)  NOT NULL,
+    description        TEXT          NOT NULL,
+    attendance_status  VARCHAR(30)   NOT NULL,
+    google_event_id    VARCHAR(64),
+    noshow_reported_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at         TIMESTAMP(6) WITH TIME ZONE,
+    updated_at         TIMESTAMP(6) WITH TIME ZONE,
+    cancelled_reason   VARCHAR(100),
+    meeting_type       VARCHAR(20)   NOT NULL DEFAULT 'ONLINE',
+    location           VARCHAR(500),
+    meeting_link       VARCHAR(2000) DEFAULT 'https://www.cohi-chat.com',
+    CONSTRAINT booking_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_booking_time_slot FOREIGN KEY (time_slot_id) REFERENCES time_slot (id)
+);
+
+-- booking_file / noshow_history: booking 파티션 전환과 호환되도록 booking_id FK를 두지 않는다
+CREATE TABLE IF NOT EXISTS booking_file (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    booking_id         BIGINT       NOT NULL,
+    file_name          VARCHAR(255) NOT NULL,
+    original_file_name VARCHAR(255) NOT NULL,
+    file_path          VARCHAR(500) NOT NULL,
+    file_size          BIGINT       NOT NULL,
+    content_type       VARCHAR(100) NOT NULL,
+    created_at         TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT booking_file_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS noshow_history (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    booking_id  BIGINT NOT NULL,
+    host_id     UUID   NOT NULL,
+    reported_by UUID   NOT NULL,
+    reason      VARCHAR(255),
+    reported_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT noshow_history_pkey PRIMARY KEY (id),
+    CONSTRAINT uq_noshow_history_booking_id UNIQUE (booking_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_noshow_history_host_id ON noshow_history (host_id);
+
+CREATE TABLE IF NOT EXISTS booking_reminder (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    booking_id    BIGINT      NOT NULL,
+    reminder_type VARCHAR(20) NOT NULL,
+    sent_at       TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT booking_reminder_pkey PRIMARY KEY (id),
+    CONSTRAINT uq_booking_reminder_booking_type UNIQUE (booking_id, reminder_type)
+);
+
+-- email_outbox
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    recipient       VARCHAR(320) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    html_content    TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    claimed_at      TIMESTAMP(6) WITH TIME ZONE,
+    sent_at         TIMESTAMP(6) WITH TIME ZONE,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT email_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
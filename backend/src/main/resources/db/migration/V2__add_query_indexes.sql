@@ -0,0 +1,24 @@
+-- 조회 경로별 복합/부분 인덱스
+-- 운영 중인 테이블의 쓰기를 막지 않도록 CONCURRENTLY로 생성한다.
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 이 파일에는 CONCURRENTLY 구문만 둔다
+-- (Flyway가 감지하여 트랜잭션 없이 실행, spring.flyway.postgresql.transactional-lock=false 필요).
+-- 생성 도중 실패하면 INVALID 인덱스가 남으므로, 재시도 전에 해당 인덱스를 DROP INDEX CONCURRENTLY로 지운다.
+-- booking 인덱스는 여기 두지 않는다: 파티션 테이블에는 CONCURRENTLY로 인덱스를 만들 수 없고,
+-- V5가 booking을 파티션 테이블로 전환하면서 같은 인덱스를 부모 테이블에 선언한다.
+
+-- 호스트 타임슬롯 목록: calendar_id = ? ORDER BY start_time
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_time_slot_calendar_start
+    ON time_slot (calendar_id, start_time);
+
+-- 예약 파일 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_booking_file_booking_id
+    ON booking_file (booking_id);
+
+-- 탈퇴하지 않은 회원 조회 (findByUsernameAndIsDeletedFalse, findByRoleAndIsDeletedFalse)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_username_active
+    ON member (username) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_role_active
+    ON member (role) WHERE is_deleted = false;
+
+-- calendar(user_id)는 uq_calendar_user_id 유니크 인덱스가 이미 담당한다
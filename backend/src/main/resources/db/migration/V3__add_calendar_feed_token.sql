@@ -0,0 +1,2 @@
+-- ICS 구독 피드 토큰 (원문은 발급 시 한 번만 응답하고 SHA-256 해시만 저장한다)
+ALTER TABLE calendar ADD COLUMN IF NOT EXISTS feed_token_hash VARCHAR(64);
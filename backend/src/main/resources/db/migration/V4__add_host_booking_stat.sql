@@ -0,0 +1,24 @@
+-- 호스트 월별 예약 통계 롤업 (예약 상태 전이 시 증분 반영, 야간 배치로 보정)
+CREATE TABLE IF NOT EXISTS host_booking_stat (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    host_id           UUID         NOT NULL,
+    stat_month        DATE         NOT NULL,
+    attendance_status VARCHAR(30)  NOT NULL,
+    topic             VARCHAR(255) NOT NULL,
+    booking_count     BIGINT       NOT NULL,
+    CONSTRAINT host_booking_stat_pkey PRIMARY KEY (id),
+    CONSTRAINT uq_host_booking_stat_key UNIQUE (host_id, stat_month, attendance_status, topic)
+);
+
+-- 기존 예약 전체로 롤업을 채운다 (배포 직후부터 대시보드가 비거나 일부만 보이지 않도록)
+-- time_slot.calendar_id는 호스트 회원 id(TimeSlot.userId)이다.
+INSERT INTO host_booking_stat (host_id, stat_month, attendance_status, topic, booking_count)
+SELECT t.calendar_id,
+       date_trunc('month', b.booking_date)::date,
+       b.attendance_status,
+       b.topic,
+       COUNT(*)
+FROM booking b
+JOIN time_slot t ON t.id = b.time_slot_id
+GROUP BY t.calendar_id, date_trunc('month', b.booking_date)::date, b.attendance_status, b.topic
+ON CONFLICT ON CONSTRAINT uq_host_booking_stat_key DO NOTHING;
@@ -0,0 +1,167 @@
+-- booking 테이블을 booking_date 기준 월 단위 RANGE 파티션 테이블로 전환
+-- 한 트랜잭션에서 실행되며, 전환 중에는 booking 쓰기가 잠긴다 (행 수에 비례, 배포 시 점검 시간 확보).
+-- booking이 이미 파티션 테이블이면 전환은 건너뛰고 참조 무결성 트리거만 보장한다.
+--
+-- * 파티션 테이블의 PK에는 파티션 키가 포함되어야 하므로 PK는 (id, booking_date)가 된다.
+--   id는 booking_pk_seq로 계속 전역 유일하게 발급된다 (엔티티는 IDENTITY 방식 그대로 DEFAULT 값을 사용).
+-- * id 단독 컬럼은 FK 참조 대상이 될 수 없으므로 booking_file, noshow_history의 booking_id 참조 무결성은
+--   트리거로 보장한다: 자식 INSERT/UPDATE 시 예약 존재 확인(FOR KEY SHARE), 참조 중인 예약 DELETE 거부.
+-- * ddl-auto=validate가 파티션 부모 테이블을 인식하도록
+--   spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE 설정이 필요하다.
+-- * 이후 월 파티션은 BookingPartitionScheduler가 미리 만든다.
+
+DO $$
+DECLARE
+    fk          RECORD;
+    pk_name     TEXT;
+    month_start DATE;
+    last_month  DATE;
+    legacy_rows BIGINT;
+    moved_rows  BIGINT;
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM pg_partitioned_table pt
+        JOIN pg_class c ON c.oid = pt.partrelid
+        WHERE c.relname = 'booking' AND c.relnamespace = current_schema()::regnamespace
+    ) THEN
+        RAISE NOTICE 'booking is already partitioned, skipping conversion';
+        RETURN;
+    END IF;
+
+    -- 1. 기존 테이블 이름 변경 (ACCESS EXCLUSIVE 잠금: 이후 쓰기는 커밋 후 새 테이블로 진행)
+    ALTER TABLE booking RENAME TO booking_legacy;
+    -- PK 인덱스 이름은 새 테이블과 겹치므로 변경 (ddl-auto로 만든 DB는 이름이 다를 수 있어 조회해서 사용)
+    SELECT conname INTO pk_name FROM pg_constraint
+    WHERE conrelid = 'booking_legacy'::regclass AND contype = 'p';
+    IF pk_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE booking_legacy RENAME CONSTRAINT %I TO booking_legacy_pkey', pk_name);
+    END IF;
+    ALTER INDEX IF EXISTS idx_booking_date_status RENAME TO idx_booking_legacy_date_status;
+    ALTER INDEX IF EXISTS idx_booking_time_slot_date_status RENAME TO idx_booking_legacy_time_slot_date_status;
+    ALTER INDEX IF EXISTS idx_booking_guest_date RENAME TO idx_booking_legacy_guest_date;
+
+    -- 2. booking을 참조하는 FK가 남아 있으면 제거 (아래 트리거로 대체)
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND confrelid = 'booking_legacy'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+
+    -- 3. id 시퀀스 (기존 IDENTITY 최댓값 이후부터 발급)
+    CREATE SEQUENCE booking_pk_seq AS BIGINT;
+    PERFORM setval('booking_pk_seq', COALESCE((SELECT MAX(id) FROM booking_legacy), 0) + 1, false);
+
+    -- 4. 파티션 부모 테이블
+    CREATE TABLE booking (
+        id                 BIGINT        NOT NULL DEFAULT nextval('booking_pk_seq'),
+        time_slot_id       BIGINT        NOT NULL,
+        guest_id           UUID          NOT NULL,
+        booking_date       DATE          NOT NULL,
+        topic              VARCHAR(255)  NOT NULL,
+        description        TEXT          NOT NULL,
+        attendance_status  VARCHAR(30)   NOT NULL,
+        google_event_id    VARCHAR(64),
+        noshow_reported_at TIMESTAMP(6) WITH TIME ZONE,
+        created_at         TIMESTAMP(6) WITH TIME ZONE,
+        updated_at         TIMESTAMP(6) WITH TIME ZONE,
+        cancelled_reason   VARCHAR(100),
+        meeting_type       VARCHAR(20)   NOT NULL DEFAULT 'ONLINE',
+        location           VARCHAR(500),
+        meeting_link       VARCHAR(2000) DEFAULT 'https://www.cohi-chat.com',
+        CONSTRAINT booking_pkey PRIMARY KEY (id, booking_date),
+        CONSTRAINT fk_booking_time_slot FOREIGN KEY (time_slot_id) REFERENCES time_slot (id)
+    ) PARTITION BY RANGE (booking_date);
+
+    ALTER SEQUENCE booking_pk_seq OWNED BY booking.id;
+
+    -- 5. 조회 경로별 파티션 인덱스 (부모에 선언하면 모든 파티션에 생성/전파)
+    CREATE INDEX idx_booking_date_status ON booking (booking_date, attendance_status);
+    CREATE INDEX idx_booking_time_slot_date_status ON booking (time_slot_id, booking_date, attendance_status);
+    CREATE INDEX idx_booking_guest_date ON booking (guest_id, booking_date DESC);
+    -- 단건 조회(findById)와 참조 무결성 트리거는 파티션 키 없이 id만으로 조회한다
+    CREATE INDEX idx_booking_id ON booking (id);
+
+    -- 6. 월 파티션: 기존 데이터의 가장 이른 달 ~ max(가장 늦은 달, 현재 + 3개월)
+    --    범위를 벗어난 날짜는 default 파티션에 들어가며, 평소에는 비어 있어야 한다.
+    month_start := date_trunc('month', COALESCE((SELECT MIN(booking_date) FROM booking_legacy), CURRENT_DATE))::date;
+    last_month := GREATEST(
+        date_trunc('month', COALESCE((SELECT MAX(booking_date) FROM booking_legacy), CURRENT_DATE))::date,
+        (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date
+    );
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF booking FOR VALUES FROM (%L) TO (%L)',
+            'booking_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date
+        );
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+
+    CREATE TABLE booking_default PARTITION OF booking DEFAULT;
+
+    -- 7. 데이터 이관 및 검증 (불일치 시 예외로 전체 롤백)
+    INSERT INTO booking (
+        id, time_slot_id, guest_id, booking_date, topic, description, attendance_status,
+        google_event_id, noshow_reported_at, created_at, updated_at, cancelled_reason,
+        meeting_type, location, meeting_link
+    )
+    SELECT
+        id, time_slot_id, guest_id, booking_date, topic, description, attendance_status,
+        google_event_id, noshow_reported_at, created_at, updated_at, cancelled_reason,
+        meeting_type, location, meeting_link
+    FROM booking_legacy;
+
+    SELECT COUNT(*) INTO legacy_rows FROM booking_legacy;
+    SELECT COUNT(*) INTO moved_rows FROM booking;
+    IF legacy_rows <> moved_rows THEN
+        RAISE EXCEPTION 'booking partition migration row count mismatch: legacy=%, migrated=%', legacy_rows, moved_rows;
+    END IF;
+
+    DROP TABLE booking_legacy;
+END $$;
+
+-- 8. booking_id 참조 무결성 트리거 (FK 대체)
+CREATE OR REPLACE FUNCTION booking_ref_check() RETURNS trigger AS $$
+BEGIN
+    -- FK와 같은 잠금으로 예약 행을 고정하여 동시 삭제와 경합하지 않도록 한다
+    PERFORM 1 FROM booking WHERE id = NEW.booking_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'insert or update on table "%" violates booking reference: booking_id=% does not exist',
+            TG_TABLE_NAME, NEW.booking_id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END $$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION booking_restrict_delete() RETURNS trigger AS $$
+BEGIN
+    -- booking_date 변경으로 파티션을 옮기는 UPDATE는 DELETE + INSERT로 처리되므로, 같은 id가 남아 있으면 삭제가 아니다
+    IF EXISTS (SELECT 1 FROM booking WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    IF EXISTS (SELECT 1 FROM booking_file WHERE booking_id = OLD.id)
+        OR EXISTS (SELECT 1 FROM noshow_history WHERE booking_id = OLD.id) THEN
+        RAISE EXCEPTION 'delete on table "booking" violates booking reference: booking_id=% is still referenced', OLD.id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NULL;
+END $$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_booking_file_booking_ref ON booking_file;
+CREATE TRIGGER trg_booking_file_booking_ref
+    BEFORE INSERT OR UPDATE OF booking_id ON booking_file
+    FOR EACH ROW EXECUTE FUNCTION booking_ref_check();
+
+DROP TRIGGER IF EXISTS trg_noshow_history_booking_ref ON noshow_history;
+CREATE TRIGGER trg_noshow_history_booking_ref
+    BEFORE INSERT OR UPDATE OF booking_id ON noshow_history
+    FOR EACH ROW EXECUTE FUNCTION booking_ref_check();
+
+DROP TRIGGER IF EXISTS trg_booking_restrict_delete ON booking;
+CREATE TRIGGER trg_booking_restrict_delete
+    AFTER DELETE ON booking
+    FOR EACH ROW EXECUTE FUNCTION booking_restrict_delete();
@@ -0,0 +1,29 @@
+-- 쿼터를 넘어 대기 중인 Google Calendar 쓰기 요청 (노드 재시작에도 유지, 모든 노드가 공유)
+-- booking은 파티션 테이블(V5)이므로 booking_id에는 FK를 두지 않는다. 처리 시점에 예약이 없으면 호출 결과를 되돌린다.
+CREATE TABLE IF NOT EXISTS google_calendar_request (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    booking_id         BIGINT        NOT NULL,
+    kind               VARCHAR(10)   NOT NULL,
+    priority           INTEGER       NOT NULL,
+    event_id           VARCHAR(64),
+    google_calendar_id VARCHAR(1024),
+    summary            VARCHAR(255),
+    description        TEXT,
+    start_at           TIMESTAMP(6) WITH TIME ZONE,
+    end_at             TIMESTAMP(6) WITH TIME ZONE,
+    status             VARCHAR(20)   NOT NULL,
+    attempts           INTEGER       NOT NULL,
+    next_attempt_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    claimed_at         TIMESTAMP(6) WITH TIME ZONE,
+    last_error         VARCHAR(500),
+    enqueued_at        TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT google_calendar_request_pkey PRIMARY KEY (id)
+);
+
+-- 예약당 대기 요청은 하나 (새 요청은 기존 요청에 합친다). 동시에 넣으면 한쪽이 실패하고 합치기로 재시도한다.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_google_calendar_request_pending_booking
+    ON google_calendar_request (booking_id) WHERE status = 'PENDING';
+
+-- 처리 순서 조회: status = PENDING AND next_attempt_at <= now ORDER BY priority, id
+CREATE INDEX IF NOT EXISTS idx_google_calendar_request_dispatch
+    ON google_calendar_request (status, priority, next_attempt_at);
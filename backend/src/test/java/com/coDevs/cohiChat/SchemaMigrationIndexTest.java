@@ -0,0 +1,303 @@
+package com.coDevs.cohiChat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+
+/**
+ * Flyway 마이그레이션을 실제 PostgreSQL에 적용한 뒤
+ * 1) 엔티티 매핑이 스키마와 일치하는지(ddl-auto=validate),
+ * 2) 각 리포지토리 쿼리가 인덱스를 사용하는지 EXPLAIN으로 확인한다.
+ * BookingRepository는 실제 메서드를 호출해 Hibernate가 만든 SQL을 가로챈 뒤,
+ * 바인딩 값 없이 EXPLAIN (GENERIC_PLAN)으로 실행 계획을 확인한다 (PostgreSQL 16 이상).
+ * booking은 V5 이후 월 파티션 테이블이므로 실행 계획에는 파티션별 인덱스 이름
+ * (예: booking_p202601_guest_id_booking_date_idx)이 나타난다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+    "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationIndexTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String HOST_ID = "'00000000-0000-0000-0000-000000000001'::uuid";
+    private static final String GUEST_ID = "'00000000-0000-0000-0000-000000000002'::uuid";
+    private static final UUID HOST_UUID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID GUEST_UUID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+    private static final Pattern BIND_PARAMETER = Pattern.compile("\\?(\\s+is\\s+(?:not\\s+)?null)?", Pattern.CASE_INSENSITIVE);
+    private static final String BOOKING_GUEST_DATE_INDEX = "idx_booking_guest_date|booking_\\w+_guest_id_booking_date_idx";
+    private static final String BOOKING_TIME_SLOT_DATE_INDEX =
+        "idx_booking_time_slot_date_status|booking_\\w+_time_slot_id_booking_date_\\w*idx";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureHibernatePropertiesCustomizer(SqlCapture sqlCapture) {
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    /**
+     * Hibernate가 JDBC로 보내는 SQL을 기록한다.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> capture(Runnable action) {
+            statements.clear();
+            action.run();
+            return List.copyOf(statements);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 데이터가 적으면 플래너가 순차 스캔을 고르므로, 사용 가능한 인덱스가 있는지만 확인
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+            Arguments.of("MemberRepository.findByUsernameAndIsDeletedFalse",
+                "SELECT * FROM member m WHERE m.username = 'guest' AND m.is_deleted = false",
+                null),
+            Arguments.of("MemberRepository.findByRoleAndIsDeletedFalse",
+                "SELECT * FROM member m WHERE m.role = 'HOST' AND m.is_deleted = false",
+                "idx_member_role_active"),
+            Arguments.of("CalendarRepository.findByMemberId",
+                "SELECT * FROM calendar c WHERE c.user_id = " + HOST_ID,
+                "uq_calendar_user_id"),
+            Arguments.of("TimeSlotRepository.findByUserIdOrderByStartTimeAsc",
+                "SELECT * FROM time_slot t WHERE t.calendar_id = " + HOST_ID + " ORDER BY t.start_time",
+                "idx_time_slot_calendar_start"),
+            Arguments.of("BookingFileRepository.findByBookingIdOrderByCreatedAtDesc",
+                "SELECT * FROM booking_file f WHERE f.booking_id = 1 ORDER BY f.created_at DESC",
+                "idx_booking_file_booking_id"),
+            Arguments.of("BookingReminderRepository.findSentBookingIds",
+                "SELECT r.booking_id FROM booking_reminder r "
+                    + "WHERE r.reminder_type = 'DAY_BEFORE' AND r.booking_id IN (1, 2, 3)",
+                "uq_booking_reminder_booking_type"),
+            Arguments.of("HostBookingStatRepository.findByHostIdAndStatMonthBetween",
+                "SELECT * FROM host_booking_stat s WHERE s.host_id = " + HOST_ID + " "
+                    + "AND s.stat_month BETWEEN DATE '2026-01-01' AND DATE '2026-06-01'",
+                "uq_host_booking_stat_key"),
+            Arguments.of("EmailOutboxRepository.findDispatchable",
+                "SELECT * FROM email_outbox o WHERE o.status = 'PENDING' "
+                    + "AND o.next_attempt_at <= now() ORDER BY o.id LIMIT 20",
+                null),
+            Arguments.of("GoogleCalendarRequestRepository.findDispatchable",
+                "SELECT * FROM google_calendar_request r WHERE r.status = 'PENDING' "
+                    + "AND r.next_attempt_at <= now() ORDER BY r.priority, r.id LIMIT 50",
+                "idx_google_calendar_request_dispatch"),
+            Arguments.of("GoogleCalendarRequestRepository.findByBookingIdAndStatus",
+                "SELECT * FROM google_calendar_request r WHERE r.booking_id = 1 AND r.status = 'PENDING'",
+                "uq_google_calendar_request_pending_booking")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("성공: 리포지토리 쿼리는 인덱스를 사용한다")
+    void repositoryQueryUsesIndex(String query, String sql, String expectedIndex) {
+        // when
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        String joinedPlan = String.join("\n", plan);
+
+        // then
+        assertThat(joinedPlan).as(query + " 실행 계획").containsPattern("Index Scan|Index Only Scan|Bitmap Index Scan");
+        if (expectedIndex != null) {
+            assertThat(joinedPlan).as(query + " 실행 계획").containsPattern(expectedIndex);
+        }
+    }
+
+    static Stream<Arguments> bookingRepositoryQueries() {
+        return Stream.of(
+            Arguments.of("findByGuestIdOrderByBookingDateDesc",
+                (Consumer<BookingRepository>) repository ->
+                    repository.findByGuestIdOrderByBookingDateDesc(GUEST_UUID, PageRequest.of(0, 10)),
+                BOOKING_GUEST_DATE_INDEX),
+            Arguments.of("streamByGuestIdOrderByBookingDateDesc",
+                (Consumer<BookingRepository>) repository -> {
+                    try (Stream<Booking> bookings = repository.streamByGuestIdOrderByBookingDateDesc(GUEST_UUID)) {
+                        bookings.findFirst();
+                    }
+                },
+                BOOKING_GUEST_DATE_INDEX),
+            Arguments.of("findFutureBookingsByGuestId",
+                (Consumer<BookingRepository>) repository ->
+                    repository.findFutureBookingsByGuestId(GUEST_UUID, DAY, AttendanceStatus.SCHEDULED),
+                BOOKING_GUEST_DATE_INDEX),
+            Arguments.of("existsDuplicateBooking",
+                (Consumer<BookingRepository>) repository -> repository.existsDuplicateBooking(
+                    1L, DAY, List.of(AttendanceStatus.CANCELLED, AttendanceStatus.SAME_DAY_CANCEL), null),
+                BOOKING_TIME_SLOT_DATE_INDEX),
+            Arguments.of("findByHostIdAndDateRange",
+                (Consumer<BookingRepository>) repository ->
+                    repository.findByHostIdAndDateRange(HOST_UUID, DAY.withDayOfMonth(1), DAY.plusMonths(1).withDayOfMonth(1)),
+                "idx_time_slot_calendar_start"),
+            Arguments.of("findFutureBookingsByHostId",
+                (Consumer<BookingRepository>) repository ->
+                    repository.findFutureBookingsByHostId(HOST_UUID, DAY, AttendanceStatus.SCHEDULED),
+                null),
+            Arguments.of("findByDateAndStartTimeRange",
+                (Consumer<BookingRepository>) repository -> repository.findByDateAndStartTimeRange(
+                    DAY, AttendanceStatus.SCHEDULED, LocalTime.of(10, 0), LocalTime.of(10, 10), 0L, PageRequest.of(0, 200)),
+                null),
+            Arguments.of("findStaleBookingRefs",
+                (Consumer<BookingRepository>) repository -> repository.findStaleBookingRefs(
+                    DAY, AttendanceStatus.SCHEDULED, 0L, PageRequest.of(0, 500)),
+                null),
+            Arguments.of("lockIdsByStatus",
+                (Consumer<BookingRepository>) repository ->
+                    repository.lockIdsByStatus(List.of(1L, 2L, 3L), AttendanceStatus.SCHEDULED.name()),
+                null),
+            Arguments.of("countStatRowsByDateRange",
+                (Consumer<BookingRepository>) repository ->
+                    repository.countStatRowsByDateRange(DAY.withDayOfMonth(1), DAY.plusMonths(1).withDayOfMonth(1)),
+                null),
+            Arguments.of("findByIdWithTimeSlot",
+                (Consumer<BookingRepository>) repository -> repository.findByIdWithTimeSlot(1L),
+                null)
+        );
+    }
+
+    @ParameterizedTest(name = "BookingRepository.{0}")
+    @MethodSource("bookingRepositoryQueries")
+    @DisplayName("성공: BookingRepository가 실제로 실행하는 SQL은 파티션 인덱스를 사용한다")
+    void bookingRepositoryQueryUsesIndex(String query, Consumer<BookingRepository> call, String expectedIndex) {
+        // given
+        List<String> statements = sqlCapture.capture(() -> call.accept(bookingRepository));
+
+        // when
+        String joinedPlan = String.join("\n",
+            jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberBindParameters(statements.get(0)), String.class));
+
+        // then
+        assertThat(joinedPlan).as(query + " 실행 계획").containsPattern("Index Scan|Index Only Scan|Bitmap Index Scan");
+        if (expectedIndex != null) {
+            assertThat(joinedPlan).as(query + " 실행 계획").containsPattern(expectedIndex);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: booking은 booking_date 기준 파티션 테이블이며 월 범위 조회는 한 파티션만 읽는다")
+    void bookingIsPartitionedByMonth() {
+        // when
+        Integer partitioned = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+                + "WHERE c.relname = 'booking'", Integer.class);
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM booking b WHERE b.booking_date >= date_trunc('month', CURRENT_DATE)::date "
+                + "AND b.booking_date < (date_trunc('month', CURRENT_DATE) + INTERVAL '1 month')::date", String.class));
+
+        // then
+        assertThat(partitioned).isEqualTo(1);
+        assertThat(plan).containsPattern("booking_p\\d{6}").doesNotContain("booking_default");
+    }
+
+    static Stream<Arguments> bookingReferenceInserts() {
+        return Stream.of(
+            Arguments.of("booking_file",
+                "INSERT INTO booking_file (booking_id, file_name, original_file_name, file_path, file_size, content_type) "
+                    + "VALUES (999999, 'a.pdf', 'a.pdf', 'bookings/999999/a.pdf', 1, 'application/pdf')"),
+            Arguments.of("noshow_history",
+                "INSERT INTO noshow_history (booking_id, host_id, reported_by) VALUES (999999, " + HOST_ID + ", " + GUEST_ID + ")")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("bookingReferenceInserts")
+    @DisplayName("실패: 존재하지 않는 예약을 참조하는 행은 트리거가 거부한다")
+    void bookingReferenceTriggerRejectsMissingBooking(String table, String sql) {
+        // when & then
+        assertThatThrownBy(() -> jdbcTemplate.update(sql))
+            .as(table)
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * JDBC 바인딩 자리표시자(?)를 EXPLAIN (GENERIC_PLAN)이 받는 $1, $2, ... 형식으로 바꾼다.
+     * IS NULL 검사에만 쓰이는 자리표시자는 타입을 추론할 수 없으므로 text로 캐스팅한다 (인덱스 선택에는 영향 없음).
+     */
+    private static String numberBindParameters(String sql) {
+        Matcher matcher = BIND_PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            String nullCheck = matcher.group(1) == null ? "" : "::text" + matcher.group(1);
+            matcher.appendReplacement(numbered, Matcher.quoteReplacement("$" + ++index + nullCheck));
+        }
+        matcher.appendTail(numbered);
+        return numbered.toString();
+    }
+}
@@ -1,20 +1,31 @@
 package com.coDevs.cohiChat.booking;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -29,17 +40,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.export.BookingExportFormat;
+import com.coDevs.cohiChat.booking.export.BookingExportRenderer;
 import com.coDevs.cohiChat.booking.response.BookingResponseDTO;
 import com.coDevs.cohiChat.booking.response.NoShowHistoryResponseDTO;
 import com.coDevs.cohiChat.booking.response.PaginatedBookingResponseDTO;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
 import com.coDevs.cohiChat.global.security.jwt.JwtTokenProvider;
 import com.coDevs.cohiChat.member.MemberService;
 import com.coDevs.cohiChat.member.entity.Member;
@@ -51,6 +71,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @WithMockUser(username = "guest")
 class BookingControllerTest {
 
+    // @PreAuthorize는 SecurityConfig에서 켜지므로 슬라이스 테스트에서도 메서드 보안을 활성화한다
+    @TestConfiguration
+    @EnableMethodSecurity
+    static class MethodSecurityTestConfig {
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,6 +86,9 @@ class BookingControllerTest {
     @MockitoBean
     private BookingService bookingService;
 
+    @MockitoBean
+    private BookingExportRenderer bookingExportRenderer;
+
     @MockitoBean
     private MemberService memberService;
 
@@ -351,6 +380,66 @@ class BookingControllerTest {
             .andExpect(jsonPath("$.error").isEmpty());
     }
 
+    @Test
+    @WithMockUser(username = "guest", roles = "HOST")
+    @DisplayName("성공: 호스트 예약 내역 CSV 내보내기 - 첨부 파일로 스트리밍")
+    void exportMyBookingsAsHostCsv() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write("예약 ID\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1;
+        }).when(bookingExportRenderer).render(eq(GUEST_ID), eq(BookingExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/bookings/host/me/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(".csv")))
+            .andExpect(content().string("예약 ID\r\n1\r\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "guest", roles = "HOST")
+    @DisplayName("성공: format=xlsx면 XLSX 형식으로 내보낸다")
+    void exportMyBookingsAsHostXlsx() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/bookings/host/me/export").param("format", "XLSX"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(".xlsx")));
+        verify(bookingExportRenderer).render(eq(GUEST_ID), eq(BookingExportFormat.XLSX), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser(username = "guest", roles = "HOST")
+    @DisplayName("실패: 지원하지 않는 내보내기 형식 - 400")
+    void exportMyBookingsAsHostFailUnsupportedFormat() throws Exception {
+        // when & then
+        mockMvc.perform(get("/bookings/host/me/export").param("format", "pdf"))
+            .andExpect(status().isBadRequest());
+        verify(bookingExportRenderer, never()).render(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 호스트가 아닌 사용자의 예약 내역 내보내기 - 403")
+    void exportMyBookingsAsHostFailNotHost() throws Exception {
+        // when & then
+        mockMvc.perform(get("/bookings/host/me/export").param("format", "csv"))
+            .andExpect(status().isForbidden());
+        verify(bookingExportRenderer, never()).render(any(), any(), any());
+    }
+
     @Test
     @WithMockUser(username = "guest")
     @DisplayName("성공: 인증된 사용자는 본인 예약만 조회 가능")
@@ -369,6 +458,44 @@ class BookingControllerTest {
         verify(bookingService).getBookingsByGuestIdPaginated(GUEST_ID, 1, 10);
     }
 
+    @Test
+    @DisplayName("성공: 토큰에 회원 ID가 있으면 반복 요청에도 회원 조회 없이 처리")
+    void memberIdClaimSkipsMemberLookup() throws Exception {
+        // given
+        MemberPrincipal principal = new MemberPrincipal(GUEST_ID, "guest", "session-1",
+            List.of(new SimpleGrantedAuthority("ROLE_GUEST")));
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
+            principal, "access-token", principal.getAuthorities());
+        PaginatedBookingResponseDTO response = PaginatedBookingResponseDTO.of(List.of(), 0, 1, 10);
+        given(bookingService.getBookingsByGuestIdPaginated(GUEST_ID, 1, 10)).willReturn(response);
+        int requests = 50;
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get("/bookings/guest/me").with(authentication(token)))
+                .andExpect(status().isOk());
+        }
+
+        // then - 요청당 회원 조회 0회 (기존: 요청당 1회)
+        verify(bookingService, times(requests)).getBookingsByGuestIdPaginated(GUEST_ID, 1, 10);
+        verify(memberService, never()).getMember(any());
+    }
+
+    @Test
+    @DisplayName("성공: 회원 ID 클레임이 없는 이전 토큰은 회원을 조회해 ID를 채운다")
+    void missingMemberIdClaimFallsBackToLookup() throws Exception {
+        // given
+        PaginatedBookingResponseDTO response = PaginatedBookingResponseDTO.of(List.of(), 0, 1, 10);
+        given(bookingService.getBookingsByGuestIdPaginated(GUEST_ID, 1, 10)).willReturn(response);
+
+        // when
+        mockMvc.perform(get("/bookings/guest/me"))
+            .andExpect(status().isOk());
+
+        // then
+        verify(memberService).getMember("guest");
+    }
+
     // ===== 예약 일정 수정 테스트 (Issue #59) =====
 
     @Test
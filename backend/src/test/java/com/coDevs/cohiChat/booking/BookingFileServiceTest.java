@@ -8,12 +8,14 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseCookie;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,10 +37,13 @@ import com.coDevs.cohiChat.booking.request.ConfirmUploadRequestDTO;
 import com.coDevs.cohiChat.booking.response.BookingFileResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedDownloadUrlResponseDTO;
 import com.coDevs.cohiChat.booking.response.PresignedUploadUrlResponseDTO;
+import com.coDevs.cohiChat.global.common.file.CloudFrontSignedCookieService;
 import com.coDevs.cohiChat.global.common.file.CloudFrontUrlService;
 import com.coDevs.cohiChat.global.common.file.FileStorageResult;
 import com.coDevs.cohiChat.global.common.file.FileStorageService;
 import com.coDevs.cohiChat.global.common.file.S3PresignedUrlService;
+import com.coDevs.cohiChat.global.common.file.SignedUrlCache;
+import com.coDevs.cohiChat.global.common.file.SignedUrlCache.SignedUrl;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
@@ -66,6 +72,12 @@ class BookingFileServiceTest {
     @Mock
     private CloudFrontUrlService cloudFrontUrlService;
 
+    @Mock
+    private SignedUrlCache signedUrlCache;
+
+    @Mock
+    private CloudFrontSignedCookieService cloudFrontSignedCookieService;
+
     private static final Long BOOKING_ID = 1L;
     private static final Long FILE_ID = 1L;
     private static final UUID GUEST_ID = UUID.randomUUID();
@@ -366,7 +378,7 @@ class BookingFileServiceTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.url()).isEqualTo(PRESIGNED_URL);
-            assertThat(response.objectKey()).isNotNull();
+            assertThat(response.objectKey()).startsWith("bookings/" + BOOKING_ID + "/");
             assertThat(response.expiresIn()).isGreaterThan(0);
             verify(fileUploadValidator).validateFileName(FILE_NAME);
             verify(fileUploadValidator).normalizeContentType(CONTENT_TYPE);
@@ -565,7 +577,8 @@ class BookingFileServiceTest {
             // given
             given(bookingRepository.findByIdWithTimeSlot(BOOKING_ID)).willReturn(Optional.of(booking));
             given(bookingFileRepository.findById(FILE_ID)).willReturn(Optional.of(bookingFile));
-            given(s3PresignedUrlService.generateDownloadUrl(bookingFile.getFilePath()))
+            givenSignedUrlCacheMiss();
+            given(s3PresignedUrlService.generateDownloadUrl(eq(bookingFile.getFilePath()), any(Duration.class)))
                 .willReturn(PRESIGNED_URL);
             given(cloudFrontUrlService.toCloudFrontUrl(PRESIGNED_URL)).willReturn(PRESIGNED_URL);
 
@@ -586,7 +599,8 @@ class BookingFileServiceTest {
             // given
             given(bookingRepository.findByIdWithTimeSlot(BOOKING_ID)).willReturn(Optional.of(booking));
             given(bookingFileRepository.findById(FILE_ID)).willReturn(Optional.of(bookingFile));
-            given(s3PresignedUrlService.generateDownloadUrl(bookingFile.getFilePath()))
+            givenSignedUrlCacheMiss();
+            given(s3PresignedUrlService.generateDownloadUrl(eq(bookingFile.getFilePath()), any(Duration.class)))
                 .willReturn(PRESIGNED_URL);
             given(cloudFrontUrlService.toCloudFrontUrl(PRESIGNED_URL)).willReturn(PRESIGNED_URL);
 
@@ -632,6 +646,63 @@ class BookingFileServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("파일 접근 쿠키 발급")
+    class IssueFileAccessCookies {
+
+        @Test
+        @DisplayName("성공: 예약 key prefix로 쿠키를 발급하고 CDN 파일 경로 URL을 반환한다")
+        void issueFileAccessCookiesSuccess() {
+            // given
+            BookingFile cdnFile = BookingFile.create(
+                booking, "uuid-cdn.pdf", "notes.pdf", "bookings/1/2026/03/uuid-cdn.pdf", 10L, "application/pdf"
+            );
+            ReflectionTestUtils.setField(cdnFile, "id", 2L);
+            ResponseCookie cookie = ResponseCookie.from("CloudFront-Policy", "policy").build();
+
+            given(cloudFrontSignedCookieService.isEnabled()).willReturn(true);
+            given(bookingRepository.findByIdWithTimeSlot(BOOKING_ID)).willReturn(Optional.of(booking));
+            given(bookingFileRepository.findByBookingIdOrderByCreatedAtDesc(BOOKING_ID))
+                .willReturn(List.of(cdnFile, bookingFile));
+            given(cloudFrontSignedCookieService.fileUrl("bookings/1/2026/03/uuid-cdn.pdf"))
+                .willReturn("https://cdn.cohi-chat.com/files/bookings/1/2026/03/uuid-cdn.pdf");
+            given(cloudFrontSignedCookieService.createCookies("bookings/1/")).willReturn(List.of(cookie));
+            given(cloudFrontSignedCookieService.getValidity()).willReturn(Duration.ofMinutes(30));
+
+            // when
+            BookingFileService.FileAccessCookieResult result =
+                bookingFileService.issueFileAccessCookies(BOOKING_ID, GUEST_ID);
+
+            // then
+            assertThat(result.cookies()).containsExactly(cookie);
+            assertThat(result.response().fileUrls())
+                .containsOnlyKeys(2L)
+                .containsEntry(2L, "https://cdn.cohi-chat.com/files/bookings/1/2026/03/uuid-cdn.pdf");
+            assertThat(result.response().expiresIn()).isEqualTo(1800);
+        }
+
+        @Test
+        @DisplayName("실패: signed cookie 모드가 꺼져 있으면 발급 불가")
+        void issueFileAccessCookiesFailsWhenDisabled() {
+            // given
+            given(cloudFrontSignedCookieService.isEnabled()).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> bookingFileService.issueFileAccessCookies(BOOKING_ID, GUEST_ID))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FILE_ACCESS_COOKIE_DISABLED);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSignedUrlCacheMiss() {
+        given(signedUrlCache.getOrSign(eq(bookingFile.getFilePath()), any()))
+            .willAnswer(invocation -> ((Function<String, SignedUrl>) invocation.getArgument(1))
+                .apply(invocation.getArgument(0)));
+        given(signedUrlCache.expiresInSeconds(any(SignedUrl.class))).willReturn(900);
+    }
+
     @SuppressWarnings("unchecked")
     private void setPendingUpload(String objectKey, Long bookingId, UUID requesterId, String contentType) {
         Map<String, Object> pendingUploads =
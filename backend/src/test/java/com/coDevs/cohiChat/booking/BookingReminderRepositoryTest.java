@@ -0,0 +1,52 @@
+package com.coDevs.cohiChat.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coDevs.cohiChat.booking.entity.BookingReminder;
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingReminderRepositoryTest {
+
+    @Autowired
+    private BookingReminderRepository bookingReminderRepository;
+
+    @Test
+    @DisplayName("성공: 종류별로 발송된 예약 id만 조회한다")
+    void findSentBookingIdsByType() {
+        // given
+        bookingReminderRepository.saveAndFlush(BookingReminder.create(1L, ReminderType.DAY_BEFORE));
+        bookingReminderRepository.saveAndFlush(BookingReminder.create(2L, ReminderType.HOUR_BEFORE));
+
+        // when
+        List<Long> sent = bookingReminderRepository.findSentBookingIds(ReminderType.DAY_BEFORE, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(sent).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("실패: 같은 예약/종류의 sent-marker는 두 번 기록할 수 없다")
+    void duplicateMarkerIsRejected() {
+        // given
+        bookingReminderRepository.saveAndFlush(BookingReminder.create(1L, ReminderType.HOUR_BEFORE));
+
+        // when & then
+        assertThatThrownBy(() -> bookingReminderRepository.saveAndFlush(
+            BookingReminder.create(1L, ReminderType.HOUR_BEFORE)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -2,6 +2,7 @@ package com.coDevs.cohiChat.booking;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
@@ -144,4 +146,61 @@ class BookingRepositoryTest {
         // then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("성공: cutoffDate 이전의 SCHEDULED 예약만 자동 종료 대상으로 조회")
+    void findStaleBookingRefs() {
+        // given
+        Booking recent = bookingRepository.save(Booking.create(
+            savedTimeSlot, guestId, LocalDate.of(2025, 1, 27), "최근 예약", "설명", MeetingType.ONLINE, null, null));
+
+        // when
+        List<BookingHostRef> refs = bookingRepository.findStaleBookingRefs(
+            LocalDate.of(2025, 1, 25), AttendanceStatus.SCHEDULED, 0L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(refs).extracting(BookingHostRef::getBookingId)
+            .containsExactly(savedBooking.getId())
+            .doesNotContain(recent.getId());
+        assertThat(refs.get(0).getHostId()).isEqualTo(savedTimeSlot.getUserId());
+    }
+
+    @Test
+    @DisplayName("성공: id 목록 UPDATE는 아직 fromStatus인 예약만 변경")
+    void updateStatusByIdsSkipsAlreadyChanged() {
+        // given
+        Booking cancelled = Booking.create(
+            savedTimeSlot, guestId, LocalDate.of(2025, 1, 21), "취소된 예약", "설명", MeetingType.ONLINE, null, null);
+        cancelled.cancel();
+        Booking savedCancelled = bookingRepository.save(cancelled);
+
+        // when
+        int updated = bookingRepository.updateStatusByIds(
+            List.of(savedBooking.getId(), savedCancelled.getId()),
+            AttendanceStatus.SCHEDULED, AttendanceStatus.ATTENDED, Instant.parse("2025-01-25T00:00:00Z"));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(bookingRepository.findById(savedBooking.getId()).orElseThrow().getAttendanceStatus())
+            .isEqualTo(AttendanceStatus.ATTENDED);
+        assertThat(bookingRepository.findById(savedCancelled.getId()).orElseThrow().getAttendanceStatus())
+            .isEqualTo(AttendanceStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("성공: 행 잠금 조회는 아직 해당 상태인 예약 id만 반환")
+    void lockIdsByStatusReturnsOnlyMatchingRows() {
+        // given
+        Booking cancelled = Booking.create(
+            savedTimeSlot, guestId, LocalDate.of(2025, 1, 21), "취소된 예약", "설명", MeetingType.ONLINE, null, null);
+        cancelled.cancel();
+        Booking savedCancelled = bookingRepository.saveAndFlush(cancelled);
+
+        // when
+        List<Long> locked = bookingRepository.lockIdsByStatus(
+            List.of(savedBooking.getId(), savedCancelled.getId()), AttendanceStatus.SCHEDULED.name());
+
+        // then
+        assertThat(locked).containsExactly(savedBooking.getId());
+    }
 }
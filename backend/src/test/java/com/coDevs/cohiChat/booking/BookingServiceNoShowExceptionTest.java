@@ -25,7 +25,8 @@ import com.coDevs.cohiChat.booking.entity.MeetingType;
 import com.coDevs.cohiChat.booking.entity.NoShowHistory;
 import com.coDevs.cohiChat.calendar.CalendarRepository;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
-import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestScheduler;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder;
 import com.coDevs.cohiChat.timeslot.TimeSlotRepository;
 import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
 import com.coDevs.cohiChat.member.MemberRepository;
@@ -54,11 +55,14 @@ class BookingServiceNoShowExceptionTest {
     private NoShowHistoryRepository noShowHistoryRepository;
 
     @Mock
-    private GoogleCalendarService googleCalendarService;
+    private GoogleCalendarRequestScheduler googleCalendarRequestScheduler;
 
     @Mock
     private GoogleCalendarProperties googleCalendarProperties;
 
+    @Mock
+    private HostBookingStatRecorder hostBookingStatRecorder;
+
     @Mock
     private EntityManager entityManager;
 
@@ -10,6 +10,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -42,12 +43,17 @@ import com.coDevs.cohiChat.booking.request.BookingUpdateRequestDTO;
 import com.coDevs.cohiChat.booking.response.BookingResponseDTO;
 import com.coDevs.cohiChat.booking.response.NoShowHistoryResponseDTO;
 import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.CalendarTopicCache;
 import com.coDevs.cohiChat.calendar.entity.Calendar;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
-import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarRequestScheduler;
+import com.coDevs.cohiChat.google.calendar.busy.GoogleBusyTimeStore;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatKey;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder;
 import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.timeslot.TimeSlotRepository;
 import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
@@ -80,18 +86,30 @@ class BookingServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
 
+    @Mock
+    private CalendarTopicCache calendarTopicCache;
+
     @Mock
     private MemberRepository memberRepository;
 
     @Mock
-    private GoogleCalendarService googleCalendarService;
+    private GoogleCalendarRequestScheduler googleCalendarRequestScheduler;
 
     @Mock
     private GoogleCalendarProperties googleCalendarProperties;
 
+    @Mock
+    private GoogleBusyTimeStore googleBusyTimeStore;
+
     @Mock
     private NoShowHistoryRepository noShowHistoryRepository;
 
+    @Mock
+    private SessionRegistry sessionRegistry;
+
+    @Mock
+    private HostBookingStatRecorder hostBookingStatRecorder;
+
     @Mock
     private Member guestMember;
 
@@ -122,6 +140,7 @@ class BookingServiceTest {
             TEST_GOOGLE_CALENDAR_ID
         );
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(defaultCalendar));
+        given(calendarTopicCache.getTopics(HOST_ID)).willReturn(CalendarTopicCache.compile(defaultCalendar.getTopics()));
 
         requestDTO = BookingCreateRequestDTO.builder()
             .timeSlotId(TIME_SLOT_ID)
@@ -161,6 +180,31 @@ class BookingServiceTest {
         assertThat(response.getEndedAt().atZone(SERVICE_ZONE).toLocalTime()).isEqualTo(LocalTime.of(11, 0));
     }
 
+    @Test
+    @DisplayName("실패: 호스트 Google Calendar의 바쁜 시간과 겹치면 예약할 수 없다")
+    void createBookingFailWhenHostBusy() {
+        // given
+        given(guestMember.getId()).willReturn(GUEST_ID);
+        given(timeSlot.getUserId()).willReturn(HOST_ID);
+        given(timeSlot.getWeekdays()).willReturn(List.of(FUTURE_DATE.getDayOfWeek().getValue() % 7));
+        given(timeSlot.getStartTime()).willReturn(LocalTime.of(10, 0));
+        given(timeSlot.getEndTime()).willReturn(LocalTime.of(11, 0));
+        given(timeSlot.getId()).willReturn(TIME_SLOT_ID);
+        given(timeSlotRepository.findById(TIME_SLOT_ID)).willReturn(Optional.of(timeSlot));
+        given(bookingRepository.existsDuplicateBooking(
+            eq(TIME_SLOT_ID), eq(FUTURE_DATE), any(), isNull()
+        )).willReturn(false);
+        Instant start = FUTURE_DATE.atTime(10, 0).atZone(SERVICE_ZONE).toInstant();
+        Instant end = FUTURE_DATE.atTime(11, 0).atZone(SERVICE_ZONE).toInstant();
+        given(googleBusyTimeStore.isBusy(HOST_ID, start, end)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> bookingService.createBooking(guestMember, requestDTO))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOST_BUSY);
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     @DisplayName("실패: 존재하지 않는 타임슬롯에 예약할 수 없다")
     void createBookingFailWhenTimeSlotNotFound() {
@@ -814,12 +858,16 @@ class BookingServiceTest {
         LocalDate futureBookingDate = LocalDate.now().plusDays(3); // 사전 취소
         Booking booking = Booking.create(timeSlot, GUEST_ID, futureBookingDate, TEST_TOPIC, TEST_DESCRIPTION, MeetingType.ONLINE, null, null);
         given(bookingRepository.findByIdWithTimeSlot(bookingId)).willReturn(Optional.of(booking));
+        HostBookingStatKey statBefore = new HostBookingStatKey(
+            HOST_ID, futureBookingDate.withDayOfMonth(1), AttendanceStatus.SCHEDULED, TEST_TOPIC);
+        given(hostBookingStatRecorder.snapshot(booking)).willReturn(statBefore);
 
         // when
         bookingService.cancelBooking(bookingId, GUEST_ID);
 
         // then
         assertThat(booking.getAttendanceStatus()).isEqualTo(AttendanceStatus.CANCELLED);
+        verify(hostBookingStatRecorder).recordTransition(statBefore, booking);
     }
 
     @Test
@@ -1244,8 +1292,8 @@ class BookingServiceTest {
 
         Calendar calendar = Calendar.create(hostMember, List.of(TEST_TOPIC), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
-        given(googleCalendarService.createEvent(
-            anyString(), anyString(), any(), any(), eq(googleCalendarId)
+        given(googleCalendarRequestScheduler.createEvent(
+            any(), anyString(), anyString(), any(), any(), eq(googleCalendarId)
         )).willReturn(googleEventId);
 
         // when
@@ -1253,8 +1301,8 @@ class BookingServiceTest {
 
         // then
         assertThat(response.getGoogleEventId()).isEqualTo(googleEventId);
-        verify(googleCalendarService).createEvent(
-            eq("홍길동님과의 미팅"), anyString(), any(), any(), eq(googleCalendarId)
+        verify(googleCalendarRequestScheduler).createEvent(
+            any(), eq("홍길동님과의 미팅"), anyString(), any(), any(), eq(googleCalendarId)
         );
     }
 
@@ -1289,8 +1337,8 @@ class BookingServiceTest {
 
         Calendar calendar = Calendar.create(hostMember, List.of("topic"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
-        given(googleCalendarService.updateEvent(
-            eq(googleEventId), anyString(), anyString(), any(), any(), eq(googleCalendarId)
+        given(googleCalendarRequestScheduler.updateEvent(
+            any(), eq(googleEventId), anyString(), anyString(), any(), any(), eq(googleCalendarId)
         )).willReturn(true);
 
         BookingScheduleUpdateRequestDTO request = BookingScheduleUpdateRequestDTO.builder()
@@ -1302,8 +1350,8 @@ class BookingServiceTest {
         bookingService.updateBookingSchedule(bookingId, HOST_ID, request);
 
         // then
-        verify(googleCalendarService).updateEvent(
-            eq(googleEventId), eq("홍길동님과의 미팅"), anyString(), any(), any(), eq(googleCalendarId)
+        verify(googleCalendarRequestScheduler).updateEvent(
+            any(), eq(googleEventId), eq("홍길동님과의 미팅"), anyString(), any(), any(), eq(googleCalendarId)
         );
     }
 
@@ -1323,13 +1371,13 @@ class BookingServiceTest {
 
         Calendar calendar = Calendar.create(hostMember, List.of("topic"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
-        given(googleCalendarService.deleteEvent(eq(googleEventId), eq(googleCalendarId))).willReturn(true);
+        given(googleCalendarRequestScheduler.deleteEvent(any(), eq(googleEventId), eq(googleCalendarId))).willReturn(true);
 
         // when
         bookingService.cancelBooking(bookingId, GUEST_ID);
 
         // then
-        verify(googleCalendarService).deleteEvent(eq(googleEventId), eq(googleCalendarId));
+        verify(googleCalendarRequestScheduler).deleteEvent(any(), eq(googleEventId), eq(googleCalendarId));
     }
 
     @Test
@@ -1347,7 +1395,8 @@ class BookingServiceTest {
         bookingService.cancelBooking(bookingId, GUEST_ID);
 
         // then
-        verify(googleCalendarService, never()).deleteEvent(any(), any());
+        verify(googleCalendarRequestScheduler, never()).deleteEvent(any(), any(), any());
+        verify(googleCalendarRequestScheduler).discardPending(booking.getId());
     }
 
     @Test
@@ -1372,8 +1421,8 @@ class BookingServiceTest {
         Calendar calendar = Calendar.create(hostMember, List.of(TEST_TOPIC), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
         // Google Calendar API 실패 (null 반환)
-        given(googleCalendarService.createEvent(
-            anyString(), anyString(), any(), any(), eq(googleCalendarId)
+        given(googleCalendarRequestScheduler.createEvent(
+            any(), anyString(), anyString(), any(), any(), eq(googleCalendarId)
         )).willReturn(null);
 
         // when
@@ -1415,8 +1464,8 @@ class BookingServiceTest {
         Calendar calendar = Calendar.create(hostMember, List.of("topic"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
         // Google Calendar 업데이트 실패
-        given(googleCalendarService.updateEvent(
-            eq(googleEventId), anyString(), anyString(), any(), any(), eq(googleCalendarId)
+        given(googleCalendarRequestScheduler.updateEvent(
+            any(), eq(googleEventId), anyString(), anyString(), any(), any(), eq(googleCalendarId)
         )).willReturn(false);
 
         BookingScheduleUpdateRequestDTO request = BookingScheduleUpdateRequestDTO.builder()
@@ -1472,12 +1521,14 @@ class BookingServiceTest {
         given(noShowHistoryRepository.save(any(NoShowHistory.class))).willAnswer(inv -> inv.getArgument(0));
         given(noShowHistoryRepository.countByHostId(HOST_ID)).willReturn(20L);
         given(memberRepository.findByIdWithLock(HOST_ID)).willReturn(Optional.of(hostMember));
+        given(hostMember.getUsername()).willReturn("host");
 
         // when
         bookingService.reportHostNoShow(bookingId, GUEST_ID, "사유");
 
         // then
         verify(hostMember).ban();
+        verify(sessionRegistry).revokeAll("host");
     }
 
     @Test
@@ -1500,6 +1551,7 @@ class BookingServiceTest {
 
         // then
         verify(hostMember, never()).ban();
+        verify(sessionRegistry, never()).revokeAll(anyString());
     }
 
     @Test
@@ -1692,7 +1744,7 @@ class BookingServiceTest {
         Calendar calendar = Calendar.create(hostMember, List.of("topic"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
         // Google Calendar 삭제 실패
-        given(googleCalendarService.deleteEvent(eq(googleEventId), eq(googleCalendarId))).willReturn(false);
+        given(googleCalendarRequestScheduler.deleteEvent(any(), eq(googleEventId), eq(googleCalendarId))).willReturn(false);
 
         // when
         bookingService.cancelBooking(bookingId, GUEST_ID);
@@ -1725,6 +1777,7 @@ class BookingServiceTest {
         // 호스트의 캘린더에 정의된 topics
         Calendar calendar = Calendar.create(hostMember, List.of("커리어 상담", "이직 상담", "포트폴리오 리뷰"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
+        given(calendarTopicCache.getTopics(HOST_ID)).willReturn(CalendarTopicCache.compile(calendar.getTopics()));
 
         BookingCreateRequestDTO validRequest = BookingCreateRequestDTO.builder()
             .timeSlotId(TIME_SLOT_ID)
@@ -1759,6 +1812,7 @@ class BookingServiceTest {
         // 호스트의 캘린더에 정의된 topics (invalidTopic은 포함되지 않음)
         Calendar calendar = Calendar.create(hostMember, List.of("커리어 상담", "이직 상담", "포트폴리오 리뷰"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
+        given(calendarTopicCache.getTopics(HOST_ID)).willReturn(CalendarTopicCache.compile(calendar.getTopics()));
 
         BookingCreateRequestDTO invalidRequest = BookingCreateRequestDTO.builder()
             .timeSlotId(TIME_SLOT_ID)
@@ -1788,6 +1842,7 @@ class BookingServiceTest {
         )).willReturn(false);
         // 호스트 캘린더가 없음
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.empty());
+        given(calendarTopicCache.getTopics(HOST_ID)).willThrow(new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
 
         // when & then
         assertThatThrownBy(() -> bookingService.createBooking(guestMember, requestDTO))
@@ -1821,6 +1876,7 @@ class BookingServiceTest {
         // 호스트의 캘린더에 정의된 topics
         Calendar calendar = Calendar.create(hostMember, List.of("커리어 상담", "이직 상담", "포트폴리오 리뷰"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
+        given(calendarTopicCache.getTopics(HOST_ID)).willReturn(CalendarTopicCache.compile(calendar.getTopics()));
 
         BookingUpdateRequestDTO updateRequest = BookingUpdateRequestDTO.builder()
             .timeSlotId(TIME_SLOT_ID)
@@ -1861,6 +1917,7 @@ class BookingServiceTest {
         // 호스트의 캘린더에 정의된 topics (invalidTopic은 포함되지 않음)
         Calendar calendar = Calendar.create(hostMember, List.of("커리어 상담", "이직 상담", "포트폴리오 리뷰"), "desc", googleCalendarId);
         given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
+        given(calendarTopicCache.getTopics(HOST_ID)).willReturn(CalendarTopicCache.compile(calendar.getTopics()));
 
         BookingUpdateRequestDTO updateRequest = BookingUpdateRequestDTO.builder()
             .timeSlotId(TIME_SLOT_ID)
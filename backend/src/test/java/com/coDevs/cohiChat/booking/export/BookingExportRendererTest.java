@@ -0,0 +1,173 @@
+package com.coDevs.cohiChat.booking.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 커서로 흘려보낸 예약을 청크 단위로 게스트 일괄 조회하며 CSV/XLSX로 쓰는지 검증한다.
+ */
+class BookingExportRendererTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final UUID GUEST_ID = UUID.randomUUID();
+    private static final LocalDate BOOKING_DATE = LocalDate.of(2026, 3, 2);
+
+    private BookingRepository bookingRepository;
+    private MemberRepository memberRepository;
+    private EntityManager entityManager;
+    private BookingExportRenderer renderer;
+    private TimeSlot timeSlot;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        entityManager = mock(EntityManager.class);
+        renderer = new BookingExportRenderer(bookingRepository, memberRepository, new GoogleCalendarProperties(),
+            entityManager);
+        renderer.initZoneId();
+
+        timeSlot = mock(TimeSlot.class);
+        given(timeSlot.getStartTime()).willReturn(LocalTime.of(10, 0));
+        given(timeSlot.getEndTime()).willReturn(LocalTime.of(11, 0));
+
+        Member guest = mock(Member.class);
+        given(guest.getId()).willReturn(GUEST_ID);
+        given(guest.getUsername()).willReturn("guest1");
+        given(guest.getDisplayName()).willReturn("게스트, 김");
+        given(memberRepository.findAllById(anyIterable())).willReturn(List.of(guest));
+    }
+
+    private Stream<Booking> bookings(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> Booking.create(timeSlot, GUEST_ID, BOOKING_DATE.minusDays(i), "=상담 " + i, "설명",
+                MeetingType.ONLINE, null, "https://meet.google.com/abc"));
+    }
+
+    @Test
+    @DisplayName("성공: CSV는 BOM과 헤더 뒤에 예약마다 한 행을 쓰고, 청크마다 게스트를 한 번에 조회한다")
+    void rendersCsvInChunks() throws IOException {
+        // given
+        given(bookingRepository.streamByHostIdOrderByBookingDateDesc(HOST_ID)).willReturn(bookings(250));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        int rowCount = renderer.render(HOST_ID, BookingExportFormat.CSV, outputStream);
+
+        // then
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        assertThat(rowCount).isEqualTo(250);
+        assertThat(lines).hasSize(251);
+        assertThat(lines[0]).startsWith("\uFEFF예약 ID,예약일,시작 시간");
+        assertThat(lines[1]).isEqualTo(
+            ",2026-03-02,10:00,11:00,SCHEDULED,ONLINE,https://meet.google.com/abc,'=상담 0,설명,guest1,\"게스트, 김\",");
+        verify(memberRepository, times(3)).findAllById(anyIterable());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("성공: XLSX는 시트에 헤더와 예약 행을 쓰고 다시 읽을 수 있다")
+    void rendersXlsx() throws IOException {
+        // given
+        given(bookingRepository.streamByHostIdOrderByBookingDateDesc(HOST_ID)).willReturn(bookings(150));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        int rowCount = renderer.render(HOST_ID, BookingExportFormat.XLSX, outputStream);
+
+        // then
+        assertThat(rowCount).isEqualTo(150);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(150);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("예약 ID");
+            assertThat(sheet.getRow(1).getCell(1).getStringCellValue()).isEqualTo("2026-03-02");
+            assertThat(sheet.getRow(1).getCell(10).getStringCellValue()).isEqualTo("게스트, 김");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 예약 수와 관계없이 게스트 조회는 청크 크기 이하의 ID로만 한다")
+    void keepsChunkBoundedForLargeHistory() throws IOException {
+        // given
+        int bookingCount = 20_000;
+        given(bookingRepository.streamByHostIdOrderByBookingDateDesc(HOST_ID)).willReturn(bookings(bookingCount));
+        CountingOutputStream outputStream = new CountingOutputStream();
+        ArgumentCaptor<Iterable<UUID>> idsCaptor = ArgumentCaptor.forClass(Iterable.class);
+
+        // when
+        int rowCount = renderer.render(HOST_ID, BookingExportFormat.XLSX, outputStream);
+
+        // then
+        assertThat(rowCount).isEqualTo(bookingCount);
+        assertThat(outputStream.count).isPositive();
+        verify(memberRepository, times(bookingCount / BookingExportRenderer.CHUNK_SIZE)).findAllById(idsCaptor.capture());
+        List<Integer> chunkSizes = new ArrayList<>();
+        idsCaptor.getAllValues().forEach(ids -> chunkSizes.add((int) ids.spliterator().getExactSizeIfKnown()));
+        assertThat(chunkSizes).allMatch(size -> size <= BookingExportRenderer.CHUNK_SIZE);
+        verify(entityManager, times(bookingCount / BookingExportRenderer.CHUNK_SIZE)).clear();
+    }
+
+    @Test
+    @DisplayName("성공: CSV 값의 쉼표/따옴표/줄바꿈은 따옴표로 감싸고, 수식 시작 문자(탭/CR 포함)는 작은따옴표로 무력화한다")
+    void escapesCsvValues() {
+        assertThat(CsvBookingExportWriter.escape("plain")).isEqualTo("plain");
+        assertThat(CsvBookingExportWriter.escape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvBookingExportWriter.escape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(CsvBookingExportWriter.escape("line1\nline2")).isEqualTo("\"line1\nline2\"");
+        assertThat(CsvBookingExportWriter.escape("=SUM(A1:A2)")).isEqualTo("'=SUM(A1:A2)");
+        assertThat(CsvBookingExportWriter.escape("@cmd")).isEqualTo("'@cmd");
+        assertThat(CsvBookingExportWriter.escape("\t=cmd")).isEqualTo("'\t=cmd");
+        assertThat(CsvBookingExportWriter.escape("\rcmd")).isEqualTo("\"'\rcmd\"");
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.coDevs.cohiChat.booking.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.coDevs.cohiChat.booking.BookingHostRef;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.event.BookingsAutoClosedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class BookingLifecycleServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+    private static final UUID HOST_A = UUID.randomUUID();
+    private static final UUID HOST_B = UUID.randomUUID();
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookingLifecycleService bookingLifecycleService;
+
+    @BeforeEach
+    void setUp() {
+        bookingLifecycleService = new BookingLifecycleService(
+            bookingRepository, eventPublisher, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("성공: 아직 SCHEDULED인 예약만 잠가 한 번의 UPDATE로 종료하고, 그 id만 이벤트로 발행한다")
+    void closeChunkPublishesOnlyChangedIds() {
+        // given
+        List<BookingHostRef> chunk = List.of(ref(1L, HOST_A), ref(2L, HOST_B), ref(3L, HOST_A));
+        given(bookingRepository.lockIdsByStatus(List.of(1L, 2L, 3L), "SCHEDULED")).willReturn(List.of(1L, 3L));
+        given(bookingRepository.updateStatusByIds(
+            List.of(1L, 3L), AttendanceStatus.SCHEDULED, AttendanceStatus.UNREPORTED, NOW)).willReturn(2);
+
+        // when
+        int closed = bookingLifecycleService.closeChunk(chunk);
+
+        // then
+        assertThat(closed).isEqualTo(2);
+        ArgumentCaptor<BookingsAutoClosedEvent> captor = ArgumentCaptor.forClass(BookingsAutoClosedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        BookingsAutoClosedEvent event = captor.getValue();
+        assertThat(event.getBookingIds()).containsExactly(1L, 3L);
+        assertThat(event.getHostIds()).containsExactly(HOST_A);
+        assertThat(event.getClosedStatus()).isEqualTo(AttendanceStatus.UNREPORTED);
+        assertThat(event.getUpdatedCount()).isEqualTo(2);
+        assertThat(event.getClosedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("성공: 조회 이후 모두 호스트가 상태를 기록했으면 UPDATE/이벤트 없이 종료한다")
+    void closeChunkWithoutScheduledRowsSkipsUpdateAndEvent() {
+        // given
+        given(bookingRepository.lockIdsByStatus(List.of(1L), "SCHEDULED")).willReturn(List.of());
+
+        // when
+        int closed = bookingLifecycleService.closeChunk(List.of(ref(1L, HOST_A)));
+
+        // then
+        assertThat(closed).isZero();
+        verify(bookingRepository, never()).updateStatusByIds(anyCollection(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private BookingHostRef ref(Long bookingId, UUID hostId) {
+        return new BookingHostRef() {
+            @Override
+            public Long getBookingId() {
+                return bookingId;
+            }
+
+            @Override
+            public UUID getHostId() {
+                return hostId;
+            }
+        };
+    }
+}
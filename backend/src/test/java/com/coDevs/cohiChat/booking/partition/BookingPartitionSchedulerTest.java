@@ -0,0 +1,93 @@
+package com.coDevs.cohiChat.booking.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+
+@ExtendWith(MockitoExtension.class)
+class BookingPartitionSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-11-15T00:00:00Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private BookingPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        BookingPartitionProperties properties = new BookingPartitionProperties();
+        properties.setMonthsAhead(2);
+        scheduler = new BookingPartitionScheduler(jdbcTemplate, properties, clusterLock, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("성공: 월 파티션 DDL은 해당 월 1일부터 다음 달 1일 전까지를 범위로 한다")
+    void partitionDdlCoversWholeMonth() {
+        // when
+        String ddl = BookingPartitionScheduler.partitionDdl(YearMonth.of(2026, 12));
+
+        // then
+        assertThat(ddl).isEqualTo("CREATE TABLE IF NOT EXISTS booking_p202612 PARTITION OF booking"
+            + " FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+    }
+
+    @Test
+    @DisplayName("성공: 이번 달부터 months-ahead까지 없는 파티션만 생성한다")
+    void createsMissingPartitionsOnly() {
+        // given
+        given(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class), eq("booking")))
+            .willReturn(1);
+        given(jdbcTemplate.queryForObject(contains("FROM pg_class WHERE"), eq(Integer.class), eq("booking_p202611")))
+            .willReturn(1);
+        given(jdbcTemplate.queryForObject(contains("FROM pg_class WHERE"), eq(Integer.class), eq("booking_p202612")))
+            .willReturn(0);
+        given(jdbcTemplate.queryForObject(contains("FROM pg_class WHERE"), eq(Integer.class), eq("booking_p202701")))
+            .willReturn(0);
+
+        // when
+        scheduler.ensurePartitions();
+
+        // then
+        verify(jdbcTemplate, never()).execute(BookingPartitionScheduler.partitionDdl(YearMonth.of(2026, 11)));
+        verify(jdbcTemplate).execute(BookingPartitionScheduler.partitionDdl(YearMonth.of(2026, 12)));
+        verify(jdbcTemplate).execute(BookingPartitionScheduler.partitionDdl(YearMonth.of(2027, 1)));
+    }
+
+    @Test
+    @DisplayName("성공: booking이 파티션 테이블이 아니면 아무것도 하지 않는다")
+    void skipsWhenNotPartitioned() {
+        // given
+        given(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Integer.class), eq("booking")))
+            .willThrow(new DataAccessResourceFailureException("relation pg_partitioned_table does not exist"));
+
+        // when
+        scheduler.ensurePartitions();
+
+        // then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,90 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+import com.coDevs.cohiChat.global.lock.ClusterLock;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+
+class BookingReminderSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private BookingReminderService bookingReminderService;
+    private ClusterLock clusterLock;
+    private BookingReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        bookingReminderService = mock(BookingReminderService.class);
+        clusterLock = mock(ClusterLock.class);
+        scheduler = new BookingReminderScheduler(
+            bookingReminderService,
+            new BookingReminderProperties(),
+            clusterLock,
+            new GoogleCalendarProperties(),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        scheduler.initZoneId();
+    }
+
+    private ReminderTask dueTask(long bookingId) {
+        Instant startAt = NOW.plusSeconds(3600 - 60);
+        return new ReminderTask(bookingId, ReminderType.HOUR_BEFORE, startAt, NOW.minusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("성공: 리더 락이 없으면 스캔/발송하지 않는다")
+    void tickSkipsWithoutLeadership() {
+        // given
+        given(clusterLock.holdLeadership(eq("booking-reminder"), any())).willReturn(false);
+
+        // when
+        scheduler.tick();
+
+        // then
+        verifyNoInteractions(bookingReminderService);
+    }
+
+    @Test
+    @DisplayName("성공: 배치 발송 중 다른 노드가 먼저 기록한 marker와 충돌하면 건별로 다시 발송한다")
+    void dispatchRetriesIndividuallyOnDuplicateMarker() {
+        // given
+        ReminderTask alreadySent = dueTask(1L);
+        ReminderTask pending = dueTask(2L);
+        given(clusterLock.holdLeadership(eq("booking-reminder"), any())).willReturn(true);
+        given(bookingReminderService.findPendingTasks(eq(ReminderType.HOUR_BEFORE), any(), any(), eq(ZONE)))
+            .willReturn(List.of(alreadySent, pending));
+        willThrow(new DataIntegrityViolationException("uq_booking_reminder_booking_type"))
+            .given(bookingReminderService).send(List.of(alreadySent, pending), ZONE);
+        willThrow(new DataIntegrityViolationException("uq_booking_reminder_booking_type"))
+            .given(bookingReminderService).send(List.of(alreadySent), ZONE);
+        given(bookingReminderService.send(List.of(pending), ZONE)).willReturn(1);
+
+        // when
+        scheduler.tick();
+
+        // then
+        verify(bookingReminderService).send(List.of(alreadySent, pending), ZONE);
+        verify(bookingReminderService).send(List.of(alreadySent), ZONE);
+        verify(bookingReminderService).send(List.of(pending), ZONE);
+    }
+}
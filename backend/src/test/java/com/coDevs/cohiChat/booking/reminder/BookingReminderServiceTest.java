@@ -0,0 +1,200 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coDevs.cohiChat.booking.BookingReminderRepository;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.BookingReminder;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+import com.coDevs.cohiChat.global.email.EmailTemplateRegistry;
+import com.coDevs.cohiChat.global.service.EmailService;
+import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReminderServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+    private static final UUID GUEST_ID = UUID.randomUUID();
+    private static final UUID HOST_ID = UUID.randomUUID();
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingReminderRepository bookingReminderRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private EmailTemplateRegistry emailTemplateRegistry;
+
+    @Spy
+    private BookingReminderProperties properties = new BookingReminderProperties();
+
+    @InjectMocks
+    private BookingReminderService bookingReminderService;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBaseUrl("https://cohi-chat.com");
+    }
+
+    private Booking booking(long id, LocalDate date, LocalTime startTime) {
+        TimeSlot timeSlot = TimeSlot.create(HOST_ID, startTime, startTime.plusMinutes(30), List.of(0, 1, 2, 3, 4, 5, 6));
+        Booking booking = Booking.create(timeSlot, GUEST_ID, date, "커리어 상담", "설명", MeetingType.ONLINE, null, null);
+        ReflectionTestUtils.setField(booking, "id", id);
+        return booking;
+    }
+
+    private Member member(UUID id, String username) {
+        Member member = Member.create(username, username, username + "@test.com", "hashedPw", Role.GUEST);
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    @Test
+    @DisplayName("성공: 자정을 넘는 범위는 날짜별로 나누어 조회하고, 이미 발송된 예약은 제외한다")
+    void findPendingTasksSplitsRangeByDateAndSkipsSent() {
+        // given
+        Instant startFrom = DAY.atTime(23, 30).atZone(ZONE).toInstant();
+        Instant startTo = DAY.plusDays(1).atTime(0, 30).atZone(ZONE).toInstant();
+        Booking lateNight = booking(1L, DAY, LocalTime.of(23, 30));
+        Booking midnight = booking(2L, DAY.plusDays(1), LocalTime.MIDNIGHT);
+        PageRequest page = PageRequest.of(0, properties.getBatchSize());
+
+        given(bookingRepository.findByDateAndStartTimeRange(
+            DAY, AttendanceStatus.SCHEDULED, LocalTime.of(23, 30), LocalTime.MAX, 0L, page))
+            .willReturn(List.of(lateNight));
+        given(bookingRepository.findByDateAndStartTimeRange(
+            DAY.plusDays(1), AttendanceStatus.SCHEDULED, LocalTime.MIN, LocalTime.of(0, 30), 0L, page))
+            .willReturn(List.of(midnight));
+        given(bookingReminderRepository.findSentBookingIds(ReminderType.HOUR_BEFORE, List.of(1L)))
+            .willReturn(List.of());
+        given(bookingReminderRepository.findSentBookingIds(ReminderType.HOUR_BEFORE, List.of(2L)))
+            .willReturn(List.of(2L));
+
+        // when
+        List<ReminderTask> tasks = bookingReminderService.findPendingTasks(
+            ReminderType.HOUR_BEFORE, startFrom, startTo, ZONE);
+
+        // then
+        assertThat(tasks).containsExactly(
+            new ReminderTask(1L, ReminderType.HOUR_BEFORE, startFrom, startFrom.minusSeconds(3600)));
+    }
+
+    @Test
+    @DisplayName("성공: 페이지가 가득 차면 마지막 id 이후로 keyset 조회를 이어간다")
+    void findPendingTasksPagesByKeyset() {
+        // given
+        properties.setBatchSize(1);
+        Instant startFrom = DAY.atTime(10, 0).atZone(ZONE).toInstant();
+        Instant startTo = DAY.atTime(11, 0).atZone(ZONE).toInstant();
+        Booking first = booking(5L, DAY, LocalTime.of(10, 0));
+        PageRequest page = PageRequest.of(0, 1);
+
+        given(bookingRepository.findByDateAndStartTimeRange(
+            DAY, AttendanceStatus.SCHEDULED, LocalTime.of(10, 0), LocalTime.of(11, 0), 0L, page))
+            .willReturn(List.of(first));
+        given(bookingRepository.findByDateAndStartTimeRange(
+            DAY, AttendanceStatus.SCHEDULED, LocalTime.of(10, 0), LocalTime.of(11, 0), 5L, page))
+            .willReturn(List.of());
+
+        // when
+        List<ReminderTask> tasks = bookingReminderService.findPendingTasks(
+            ReminderType.DAY_BEFORE, startFrom, startTo, ZONE);
+
+        // then
+        assertThat(tasks).extracting(ReminderTask::bookingId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("성공: sent-marker를 기록하고 게스트/호스트 모두에게 리마인더 메일을 적재한다")
+    void sendRecordsMarkerAndEnqueuesBothParticipants() {
+        // given
+        Booking booking = booking(1L, DAY, LocalTime.of(14, 0));
+        Instant startAt = DAY.atTime(14, 0).atZone(ZONE).toInstant();
+        ReminderTask task = new ReminderTask(1L, ReminderType.HOUR_BEFORE, startAt, startAt.minusSeconds(3600));
+
+        given(bookingRepository.findAllById(List.of(1L))).willReturn(List.of(booking));
+        given(memberRepository.findAllById(any())).willReturn(List.of(member(GUEST_ID, "guest"), member(HOST_ID, "host")));
+        given(emailTemplateRegistry.render(eq("booking-reminder"), anyMap())).willReturn("<p>reminder</p>");
+
+        // when
+        int sent = bookingReminderService.send(List.of(task), ZONE);
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        ArgumentCaptor<BookingReminder> marker = ArgumentCaptor.forClass(BookingReminder.class);
+        verify(bookingReminderRepository).save(marker.capture());
+        assertThat(marker.getValue().getBookingId()).isEqualTo(1L);
+        assertThat(marker.getValue().getReminderType()).isEqualTo(ReminderType.HOUR_BEFORE);
+        verify(emailService).sendHtmlEmail(eq("guest@test.com"), anyString(), eq("<p>reminder</p>"));
+        verify(emailService).sendHtmlEmail(eq("host@test.com"), anyString(), eq("<p>reminder</p>"));
+
+        ArgumentCaptor<Map<String, String>> variables = ArgumentCaptor.captor();
+        verify(emailTemplateRegistry, times(2)).render(eq("booking-reminder"), variables.capture());
+        assertThat(variables.getValue()).containsEntry("baseUrl", "https://cohi-chat.com");
+    }
+
+    @Test
+    @DisplayName("성공: 휠 등록 후 취소되었거나 시작 시각이 바뀐 예약은 발송하지 않는다")
+    void sendSkipsCancelledOrRescheduledBookings() {
+        // given
+        Booking cancelled = booking(1L, DAY, LocalTime.of(14, 0));
+        ReflectionTestUtils.setField(cancelled, "attendanceStatus", AttendanceStatus.CANCELLED);
+        Booking moved = booking(2L, DAY, LocalTime.of(15, 0));
+        Instant originalStart = DAY.atTime(14, 0).atZone(ZONE).toInstant();
+
+        given(bookingRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(cancelled, moved));
+
+        // when
+        int sent = bookingReminderService.send(List.of(
+            new ReminderTask(1L, ReminderType.HOUR_BEFORE, originalStart, originalStart.minusSeconds(3600)),
+            new ReminderTask(2L, ReminderType.HOUR_BEFORE, originalStart, originalStart.minusSeconds(3600))
+        ), ZONE);
+
+        // then
+        assertThat(sent).isZero();
+        verify(bookingReminderRepository, never()).save(any());
+        verify(emailService, never()).sendHtmlEmail(anyString(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,89 @@
+package com.coDevs.cohiChat.booking.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coDevs.cohiChat.booking.entity.ReminderType;
+
+class ReminderTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10_000L;
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+    private ReminderTask task(long bookingId, Instant fireAt) {
+        return new ReminderTask(bookingId, ReminderType.HOUR_BEFORE, fireAt.plusSeconds(3600), fireAt);
+    }
+
+    @Test
+    @DisplayName("성공: 발송 시각이 된 작업만 꺼낸다")
+    void advanceReturnsOnlyDueTasks() {
+        // given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(TICK_MILLIS, 8);
+        wheel.advance(NOW);
+        wheel.schedule(task(1L, NOW.plusSeconds(20)));
+        wheel.schedule(task(2L, NOW.plusSeconds(60)));
+
+        // when
+        List<ReminderTask> firstDue = wheel.advance(NOW.plusSeconds(30));
+        List<ReminderTask> secondDue = wheel.advance(NOW.plusSeconds(60));
+
+        // then
+        assertThat(firstDue).extracting(ReminderTask::bookingId).containsExactly(1L);
+        assertThat(secondDue).extracting(ReminderTask::bookingId).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 한 바퀴보다 먼 작업은 자신의 tick에 도달해야 꺼낸다")
+    void taskBeyondOneRoundWaitsForItsTick() {
+        // given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(TICK_MILLIS, 8);
+        wheel.advance(NOW);
+        // 8 slot * 10s = 80s 한 바퀴, 100s 뒤 작업은 두 번째 바퀴
+        wheel.schedule(task(1L, NOW.plusSeconds(100)));
+
+        // when
+        List<ReminderTask> afterOneRound = wheel.advance(NOW.plusSeconds(80));
+        List<ReminderTask> afterDeadline = wheel.advance(NOW.plusSeconds(100));
+
+        // then
+        assertThat(afterOneRound).isEmpty();
+        assertThat(afterDeadline).extracting(ReminderTask::bookingId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 이미 지난 발송 시각의 작업은 다음 진행에서 바로 꺼낸다")
+    void pastDueTaskFiresOnNextAdvance() {
+        // given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(TICK_MILLIS, 8);
+        wheel.advance(NOW);
+        wheel.schedule(task(1L, NOW.minusSeconds(600)));
+
+        // when
+        List<ReminderTask> due = wheel.advance(NOW.plusSeconds(10));
+
+        // then
+        assertThat(due).extracting(ReminderTask::bookingId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 예약/종류의 작업은 중복 등록되지 않는다")
+    void duplicateTaskIsIgnored() {
+        // given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(TICK_MILLIS, 8);
+
+        // when
+        boolean first = wheel.schedule(task(1L, NOW.plusSeconds(20)));
+        boolean second = wheel.schedule(task(1L, NOW.plusSeconds(20)));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(wheel.advance(NOW.plusSeconds(20))).hasSize(1);
+    }
+}
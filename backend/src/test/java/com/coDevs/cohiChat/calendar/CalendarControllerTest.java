@@ -1,17 +1,28 @@
 package com.coDevs.cohiChat.calendar;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,8 +36,11 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.coDevs.cohiChat.booking.BookingService;
+import com.coDevs.cohiChat.calendar.feed.CalendarFeed;
+import com.coDevs.cohiChat.calendar.feed.CalendarFeedService;
 import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
 import com.coDevs.cohiChat.calendar.request.CalendarUpdateRequestDTO;
@@ -53,6 +67,9 @@ class CalendarControllerTest {
     @MockitoBean
     private CalendarService calendarService;
 
+    @MockitoBean
+    private CalendarFeedService calendarFeedService;
+
     @MockitoBean
     private BookingService bookingService;
 
@@ -465,4 +482,56 @@ class CalendarControllerTest {
             .andExpect(jsonPath("$.error.message").exists());
     }
 
+    @Test
+    @DisplayName("성공: 피드 요청 시 ETag와 함께 ICS 본문을 스트리밍한다")
+    void getCalendarFeedSuccess() throws Exception {
+        // given
+        CalendarFeed feed = new CalendarFeed(UUID.randomUUID(), "호스트", LocalDate.of(2026, 1, 1), "\"v1\"");
+        when(calendarFeedService.resolveFeed("host1", "feed-token")).thenReturn(feed);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(calendarFeedService).writeFeed(eq(feed), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/calendar/host1/feed.ics").param("token", "feed-token"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v1\""))
+            .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+            .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match가 현재 피드 버전과 같으면 304를 반환하고 본문을 렌더링하지 않는다")
+    void getCalendarFeedNotModified() throws Exception {
+        // given
+        CalendarFeed feed = new CalendarFeed(UUID.randomUUID(), "호스트", LocalDate.of(2026, 1, 1), "\"v1\"");
+        when(calendarFeedService.resolveFeed("host1", "feed-token")).thenReturn(feed);
+
+        // when & then
+        mockMvc.perform(get("/calendar/host1/feed.ics")
+                .param("token", "feed-token")
+                .header("If-None-Match", "\"v1\""))
+            .andExpect(status().isNotModified());
+
+        verify(calendarFeedService, never()).writeFeed(any(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 피드 토큰이 일치하지 않으면 404 Not Found")
+    void getCalendarFeedFailWhenTokenInvalid() throws Exception {
+        // given
+        when(calendarFeedService.resolveFeed("host1", "wrong-token"))
+            .thenThrow(new CustomException(ErrorCode.CALENDAR_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(get("/calendar/host1/feed.ics").param("token", "wrong-token"))
+            .andExpect(status().isNotFound());
+    }
 }
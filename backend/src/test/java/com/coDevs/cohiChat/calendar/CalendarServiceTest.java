@@ -3,6 +3,7 @@ package com.coDevs.cohiChat.calendar;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -19,8 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.event.CalendarTopicsChangedEvent;
 import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.calendar.request.CalendarUpdateRequestDTO;
 
@@ -49,6 +52,9 @@ class CalendarServiceTest {
     @Mock
     private GoogleCalendarService googleCalendarService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Member hostMember;
 
@@ -209,6 +215,9 @@ class CalendarServiceTest {
         assertThat(response.getTopics()).isEqualTo(updatedTopics);
         assertThat(response.getDescription()).isEqualTo(updatedDescription);
         assertThat(response.getGoogleCalendarId()).isEqualTo(updatedGoogleCalendarId);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CalendarTopicsChangedEvent changed
+            && changed.getHostId().equals(TEST_USER_ID)
+            && changed.getTopics().equals(updatedTopics)));
     }
 
     @Test
@@ -0,0 +1,159 @@
+package com.coDevs.cohiChat.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.event.CalendarTopicsChangedEvent;
+import com.coDevs.cohiChat.global.cache.RemoteEntityChangedEvent;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.member.entity.Member;
+
+class CalendarTopicCacheTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final UUID CALENDAR_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+
+    private CalendarRepository calendarRepository;
+    private Clock clock;
+    private CalendarTopicCache cache;
+
+    @BeforeEach
+    void setUp() {
+        calendarRepository = mock(CalendarRepository.class);
+        clock = mock(Clock.class);
+        given(clock.instant()).willReturn(NOW);
+        cache = new CalendarTopicCache(calendarRepository, clock, 600);
+    }
+
+    private Calendar calendar(UUID hostId, UUID calendarId, List<String> topics) {
+        Member host = mock(Member.class);
+        given(host.getId()).willReturn(hostId);
+        Calendar calendar = Calendar.create(host, topics, "desc", "calendar-id");
+        ReflectionTestUtils.setField(calendar, "id", calendarId);
+        return calendar;
+    }
+
+    @Test
+    @DisplayName("성공: 주제는 NFC, 앞뒤 공백 제거, 소문자로 정규화한다")
+    void normalizesTopics() {
+        // given
+        String decomposed = "\u1100\u1161\u11A8 Career";  // '각'을 자모로 분해한 형태 (NFD)
+
+        // when
+        Set<String> topics = CalendarTopicCache.compile(List.of("  각 CAREER ", "", "이력서 리뷰"));
+
+        // then
+        assertThat(topics).containsExactlyInAnyOrder("각 career", "이력서 리뷰");
+        assertThat(topics).contains(CalendarTopicCache.normalize(decomposed));
+    }
+
+    @Test
+    @DisplayName("성공: 첫 조회 후에는 캘린더를 다시 조회하지 않는다")
+    void loadsOnceAndServesFromCache() {
+        // given
+        given(calendarRepository.findByMemberId(HOST_ID))
+            .willReturn(Optional.of(calendar(HOST_ID, CALENDAR_ID, List.of("커리어 상담"))));
+
+        // when
+        cache.getTopics(HOST_ID);
+        Set<String> topics = cache.getTopics(HOST_ID);
+
+        // then
+        assertThat(topics).containsExactly("커리어 상담");
+        verify(calendarRepository, times(1)).findByMemberId(HOST_ID);
+    }
+
+    @Test
+    @DisplayName("실패: 캘린더가 없으면 CALENDAR_NOT_FOUND 예외")
+    void throwsWhenCalendarMissing() {
+        // given
+        given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.getTopics(HOST_ID))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CALENDAR_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("성공: 캘린더 변경 이벤트로 갱신하면 조회 없이 새 주제를 사용한다")
+    void topicsChangedEventRefreshesEntry() {
+        // when
+        cache.handleTopicsChanged(new CalendarTopicsChangedEvent(HOST_ID, CALENDAR_ID, List.of("이직 상담")));
+
+        // then
+        assertThat(cache.getTopics(HOST_ID)).containsExactly("이직 상담");
+        verify(calendarRepository, never()).findByMemberId(HOST_ID);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 캘린더 변경 메시지를 받으면 다시 조회한다")
+    void remoteCalendarChangeEvictsEntry() {
+        // given
+        cache.handleTopicsChanged(new CalendarTopicsChangedEvent(HOST_ID, CALENDAR_ID, List.of("이직 상담")));
+        given(calendarRepository.findByMemberId(HOST_ID))
+            .willReturn(Optional.of(calendar(HOST_ID, CALENDAR_ID, List.of("포트폴리오 리뷰"))));
+
+        // when
+        cache.handleRemoteEntityChanged(new RemoteEntityChangedEvent(Calendar.class.getName(), CALENDAR_ID));
+
+        // then
+        assertThat(cache.getTopics(HOST_ID)).containsExactly("포트폴리오 리뷰");
+    }
+
+    @Test
+    @DisplayName("성공: TTL이 지나면 다시 조회한다")
+    void reloadsAfterTtl() {
+        // given
+        given(calendarRepository.findByMemberId(HOST_ID))
+            .willReturn(Optional.of(calendar(HOST_ID, CALENDAR_ID, List.of("커리어 상담"))));
+        cache.getTopics(HOST_ID);
+
+        // when
+        given(clock.instant()).willReturn(NOW.plus(Duration.ofSeconds(601)));
+        cache.getTopics(HOST_ID);
+
+        // then
+        verify(calendarRepository, times(2)).findByMemberId(HOST_ID);
+    }
+
+    @Test
+    @DisplayName("성공: 여러 호스트 조회 시 캐시에 없는 호스트만 한 번에 조회하고, 캘린더 없는 호스트는 제외한다")
+    void bulkLoadsOnlyMisses() {
+        // given
+        UUID otherHostId = UUID.randomUUID();
+        UUID noCalendarHostId = UUID.randomUUID();
+        cache.handleTopicsChanged(new CalendarTopicsChangedEvent(HOST_ID, CALENDAR_ID, List.of("이직 상담")));
+        given(calendarRepository.findByMemberIdIn(List.of(otherHostId, noCalendarHostId)))
+            .willReturn(List.of(calendar(otherHostId, UUID.randomUUID(), List.of("커리어 상담"))));
+
+        // when
+        Map<UUID, Set<String>> topics = cache.getTopics(List.of(HOST_ID, otherHostId, noCalendarHostId));
+
+        // then
+        assertThat(topics).containsOnlyKeys(HOST_ID, otherHostId);
+        assertThat(topics.get(otherHostId)).containsExactly("커리어 상담");
+    }
+}
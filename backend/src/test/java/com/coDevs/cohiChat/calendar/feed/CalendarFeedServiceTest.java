@@ -0,0 +1,194 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coDevs.cohiChat.booking.BookingFeedVersion;
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.calendar.response.CalendarFeedTokenResponseDTO;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.util.TokenHashUtil;
+import com.coDevs.cohiChat.member.MemberService;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+
+class CalendarFeedServiceTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final String SLUG = "host1";
+    private static final String FEED_TOKEN = "feed-token";
+    private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+    private static final LocalDate FROM_DATE = LocalDate.of(2025, 10, 7);
+
+    private CalendarRepository calendarRepository;
+    private BookingRepository bookingRepository;
+    private MemberService memberService;
+    private CalendarFeedRenderer calendarFeedRenderer;
+    private Member host;
+    private Calendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendarRepository = mock(CalendarRepository.class);
+        bookingRepository = mock(BookingRepository.class);
+        memberService = mock(MemberService.class);
+        calendarFeedRenderer = mock(CalendarFeedRenderer.class);
+
+        host = mock(Member.class);
+        given(host.getId()).willReturn(HOST_ID);
+        given(host.getUsername()).willReturn(SLUG);
+        given(host.getDisplayName()).willReturn("호스트");
+        given(host.getRole()).willReturn(Role.HOST);
+        calendar = Calendar.create(host, List.of("커리어 상담"), "desc", "calendar-id");
+        calendar.rotateFeedTokenHash(TokenHashUtil.hash(FEED_TOKEN));
+
+        given(memberService.findMember(SLUG)).willReturn(Optional.of(host));
+        given(calendarRepository.findByMemberId(HOST_ID)).willReturn(Optional.of(calendar));
+    }
+
+    private CalendarFeedService service(int cacheMaxBytes) {
+        return new CalendarFeedService(calendarRepository, bookingRepository, memberService, calendarFeedRenderer,
+            Clock.fixed(NOW, ZoneOffset.UTC), 90, 100, cacheMaxBytes);
+    }
+
+    private void givenVersion(long bookingCount, Instant lastBookingUpdatedAt) {
+        BookingFeedVersion version = mock(BookingFeedVersion.class);
+        given(version.getBookingCount()).willReturn(bookingCount);
+        given(version.getLastBookingUpdatedAt()).willReturn(lastBookingUpdatedAt);
+        given(bookingRepository.findFeedVersionByHostId(HOST_ID, FROM_DATE)).willReturn(version);
+    }
+
+    private void givenRenderedBody(String body) throws Exception {
+        given(calendarFeedRenderer.render(eq(HOST_ID), eq("호스트"), eq(FROM_DATE), any(OutputStream.class)))
+            .willAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(3);
+                outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+                return 1;
+            });
+    }
+
+    @Test
+    @DisplayName("성공: 피드 토큰 발급 시 원문은 응답으로만 내려주고 해시를 저장한다")
+    void issueFeedTokenStoresHash() {
+        // when
+        CalendarFeedTokenResponseDTO response = service(1024).issueFeedToken(host);
+
+        // then
+        assertThat(calendar.getFeedTokenHash()).isEqualTo(TokenHashUtil.hash(response.getFeedToken()));
+        assertThat(response.getFeedPath()).isEqualTo("/calendar/host1/feed.ics?token=" + response.getFeedToken());
+    }
+
+    @Test
+    @DisplayName("실패: 게스트는 피드 토큰을 발급할 수 없다")
+    void issueFeedTokenFailWhenGuest() {
+        // given
+        given(host.getRole()).willReturn(Role.GUEST);
+
+        // when & then
+        assertThatThrownBy(() -> service(1024).issueFeedToken(host))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.GUEST_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("실패: 토큰이 일치하지 않거나 발급 전이면 캘린더 미존재와 같은 에러를 반환한다")
+    void resolveFeedFailWhenTokenInvalid() {
+        // given
+        CalendarFeedService service = service(1024);
+
+        // when & then
+        assertThatThrownBy(() -> service.resolveFeed(SLUG, "wrong-token"))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CALENDAR_NOT_FOUND);
+
+        calendar.rotateFeedTokenHash(null);
+        assertThatThrownBy(() -> service.resolveFeed(SLUG, FEED_TOKEN))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CALENDAR_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("성공: 예약 수나 마지막 수정 시각이 같으면 ETag가 같고, 바뀌면 ETag도 바뀐다")
+    void etagFollowsBookingVersion() {
+        // given
+        CalendarFeedService service = service(1024);
+        givenVersion(3, NOW.minusSeconds(60));
+        CalendarFeed first = service.resolveFeed(SLUG, FEED_TOKEN);
+        CalendarFeed same = service.resolveFeed(SLUG, FEED_TOKEN);
+
+        // when
+        givenVersion(3, NOW);
+        CalendarFeed changed = service.resolveFeed(SLUG, FEED_TOKEN);
+
+        // then
+        assertThat(first.fromDate()).isEqualTo(FROM_DATE);
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(same.etag()).isEqualTo(first.etag());
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("성공: 같은 버전은 렌더링 결과를 재사용하고, 버전이 바뀌면 다시 렌더링한다")
+    void writeFeedReusesRenderedBodyForSameVersion() throws Exception {
+        // given
+        CalendarFeedService service = service(1024);
+        givenRenderedBody("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+        CalendarFeed v1 = new CalendarFeed(HOST_ID, "호스트", FROM_DATE, "\"v1\"");
+        CalendarFeed v2 = new CalendarFeed(HOST_ID, "호스트", FROM_DATE, "\"v2\"");
+
+        // when
+        service.writeFeed(v1, new ByteArrayOutputStream());
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        service.writeFeed(v1, cached);
+        service.writeFeed(v2, new ByteArrayOutputStream());
+
+        // then
+        assertThat(cached.toString(StandardCharsets.UTF_8)).isEqualTo("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+        verify(calendarFeedRenderer, times(2)).render(eq(HOST_ID), eq("호스트"), eq(FROM_DATE), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 한도를 넘는 피드는 응답만 하고 보관하지 않는다")
+    void writeFeedSkipsCacheWhenBodyTooLarge() throws Exception {
+        // given
+        CalendarFeedService service = service(8);
+        givenRenderedBody("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+        CalendarFeed feed = new CalendarFeed(HOST_ID, "호스트", FROM_DATE, "\"v1\"");
+
+        // when
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        service.writeFeed(feed, first);
+        service.writeFeed(feed, new ByteArrayOutputStream());
+
+        // then
+        assertThat(first.toString(StandardCharsets.UTF_8)).isEqualTo("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+        verify(calendarFeedRenderer, times(2)).render(eq(HOST_ID), eq("호스트"), eq(FROM_DATE), any(OutputStream.class));
+    }
+}
@@ -0,0 +1,68 @@
+package com.coDevs.cohiChat.calendar.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IcsWriterTest {
+
+    @Test
+    @DisplayName("성공: TEXT 값의 역슬래시, 세미콜론, 쉼표, 줄바꿈을 이스케이프한다")
+    void escapesTextValue() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out);
+
+        // when
+        writer.text("DESCRIPTION", "a\\b;c,d\r\ne\nf");
+        writer.text("LOCATION", " ");
+        writer.flush();
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("DESCRIPTION:a\\\\b\\;c\\,d\\ne\\nf\r\n");
+    }
+
+    @Test
+    @DisplayName("성공: 75옥텟을 넘는 줄은 UTF-8 문자를 쪼개지 않고 접는다")
+    void foldsLongLineOnCharacterBoundary() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out);
+
+        // when
+        writer.text("SUMMARY", "커피챗".repeat(20));
+        writer.flush();
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSizeGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        for (int i = 1; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith(" ");
+        }
+        String unfolded = out.toString(StandardCharsets.UTF_8).replace("\r\n ", "");
+        assertThat(unfolded).isEqualTo("SUMMARY:" + "커피챗".repeat(20) + "\r\n");
+    }
+
+    @Test
+    @DisplayName("성공: 날짜-시간 값은 UTC 형식으로 쓴다")
+    void writesUtcDateTime() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out);
+
+        // when
+        writer.dateTime("DTSTART", Instant.parse("2026-01-05T01:30:00Z"));
+        writer.flush();
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("DTSTART:20260105T013000Z\r\n");
+    }
+}
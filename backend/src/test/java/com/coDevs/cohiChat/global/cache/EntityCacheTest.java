@@ -0,0 +1,178 @@
+package com.coDevs.cohiChat.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coDevs.cohiChat.calendar.CalendarRepository;
+import com.coDevs.cohiChat.calendar.entity.Calendar;
+import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+import com.coDevs.cohiChat.timeslot.TimeSlotRepository;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 2차 캐시는 세션(트랜잭션)이 달라야 적중하므로 테스트 트랜잭션 없이 리포지토리 호출마다 커밋한다.
+ */
+@DataJpaTest(properties = "app.entity-cache.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EntityCacheConfig.class, EntityCacheInvalidator.class})
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Member host;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        host = memberRepository.save(Member.create("cachehost", "호스트", "host@test.com", "hashedPassword", Role.HOST));
+        calendarRepository.save(Calendar.create(host, List.of("커리어"), "소개", "calendar-id"));
+
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+        clearInvocations(redisTemplate);
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeSlotRepository.deleteAll();
+        calendarRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 두 번째 Member 조회는 2차 캐시에서 읽는다")
+    void memberIsServedFromSecondLevelCache() {
+        // when
+        memberRepository.findById(host.getId());
+        memberRepository.findById(host.getId());
+
+        // then
+        Statistics statistics = sessionFactory.getStatistics();
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.MEMBER).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.MEMBER).getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: findByMemberId 결과는 쿼리 캐시에서 읽는다")
+    void calendarByMemberIsServedFromQueryCache() {
+        // when
+        Calendar first = calendarRepository.findByMemberId(host.getId()).orElseThrow();
+        Calendar second = calendarRepository.findByMemberId(host.getId()).orElseThrow();
+
+        // then
+        Statistics statistics = sessionFactory.getStatistics();
+        assertThat(second.getTopics()).isEqualTo(first.getTopics());
+        assertThat(statistics.getQueryRegionStatistics(EntityCacheRegions.CALENDAR_BY_MEMBER_QUERY).getHitCount())
+            .isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.CALENDAR).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: TimeSlot과 요일 컬렉션은 2차 캐시에서 읽는다")
+    void timeSlotWithWeekdaysIsServedFromSecondLevelCache() {
+        // given
+        TimeSlot timeSlot = timeSlotRepository.save(
+            TimeSlot.create(host.getId(), LocalTime.of(10, 0), LocalTime.of(11, 0), List.of(0, 2)));
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+
+        // when
+        List<Integer> first = inTransaction(
+            () -> timeSlotRepository.findById(timeSlot.getId()).orElseThrow().getWeekdays());
+        List<Integer> second = inTransaction(
+            () -> timeSlotRepository.findById(timeSlot.getId()).orElseThrow().getWeekdays());
+
+        // then
+        Statistics statistics = sessionFactory.getStatistics();
+        assertThat(second).containsExactlyInAnyOrderElementsOf(first);
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.TIME_SLOT).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(EntityCacheRegions.TIME_SLOT_WEEKDAYS).getHitCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 캐시 대상 엔티티 변경이 커밋되면 무효화 메시지를 보낸다")
+    void publishesInvalidationOnCommit() {
+        // given
+        Member member = memberRepository.findById(host.getId()).orElseThrow();
+        member.updateDisplayName("새이름");
+
+        // when
+        memberRepository.save(member);
+
+        // then
+        verify(redisTemplate).convertAndSend(eq("entity-cache:invalidate"),
+            argThat(message -> message.toString().contains(Member.class.getName() + "|" + host.getId())));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 무효화 메시지를 받으면 해당 엔티티를 캐시에서 제거한다")
+    void evictsEntityOnRemoteInvalidation() {
+        // given
+        memberRepository.findById(host.getId());
+        assertThat(sessionFactory.getCache().containsEntity(Member.class, host.getId())).isTrue();
+
+        // when
+        entityCacheInvalidator.evict(Member.class.getName(), host.getId().toString());
+
+        // then
+        assertThat(sessionFactory.getCache().containsEntity(Member.class, host.getId())).isFalse();
+    }
+}
@@ -0,0 +1,97 @@
+package com.coDevs.cohiChat.global.common.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coDevs.cohiChat.global.common.file.SignedUrlCache.SignedUrl;
+
+class SignedUrlCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+    private static final Duration EXPIRATION = Duration.ofMinutes(15);
+
+    private final AtomicInteger signCount = new AtomicInteger();
+    private Function<String, SignedUrl> signer;
+
+    @BeforeEach
+    void setUp() {
+        signCount.set(0);
+        signer = key -> new SignedUrl(key + "?sig=" + signCount.incrementAndGet(), NOW.plus(EXPIRATION));
+    }
+
+    @Test
+    @DisplayName("성공: 만료 여유가 충분하면 기존 서명 URL을 재사용한다")
+    void reuseSignedUrlBeforeSafetyMargin() {
+        // given
+        SignedUrlCache cache = new SignedUrlCache(Clock.fixed(NOW, ZoneOffset.UTC), 10, 60);
+
+        // when
+        SignedUrl first = cache.getOrSign("a.pdf", signer);
+        SignedUrl second = cache.getOrSign("a.pdf", signer);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(signCount.get()).isEqualTo(1);
+        assertThat(cache.expiresInSeconds(second)).isEqualTo((int) EXPIRATION.toSeconds());
+    }
+
+    @Test
+    @DisplayName("성공: 안전 마진 이내로 남으면 새로 서명한다")
+    void resignWithinSafetyMargin() {
+        // given
+        SignedUrlCache warmup = new SignedUrlCache(Clock.fixed(NOW, ZoneOffset.UTC), 10, 60);
+        SignedUrl first = warmup.getOrSign("a.pdf", signer);
+        Clock nearExpiry = Clock.fixed(first.expiresAt().minusSeconds(30), ZoneOffset.UTC);
+        SignedUrlCache cache = new SignedUrlCache(nearExpiry, 10, 60);
+        cache.getOrSign("a.pdf", key -> first);
+
+        // when
+        SignedUrl second = cache.getOrSign("a.pdf", signer);
+
+        // then
+        assertThat(second.url()).isNotEqualTo(first.url());
+        assertThat(signCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void evictLeastRecentlyUsedWhenFull() {
+        // given
+        SignedUrlCache cache = new SignedUrlCache(Clock.fixed(NOW, ZoneOffset.UTC), 2, 60);
+        cache.getOrSign("a.pdf", signer);
+        cache.getOrSign("b.pdf", signer);
+        cache.getOrSign("a.pdf", signer);
+
+        // when
+        cache.getOrSign("c.pdf", signer);
+        cache.getOrSign("b.pdf", signer);
+
+        // then
+        assertThat(signCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("성공: evict 후에는 새로 서명한다")
+    void resignAfterEvict() {
+        // given
+        SignedUrlCache cache = new SignedUrlCache(Clock.fixed(NOW, ZoneOffset.UTC), 10, 60);
+        cache.getOrSign("a.pdf", signer);
+
+        // when
+        cache.evict("a.pdf");
+        cache.getOrSign("a.pdf", signer);
+
+        // then
+        assertThat(signCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,187 @@
+package com.coDevs.cohiChat.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.http.apache.v5.Apache5HttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬 TLS Calendar API 스텁으로 공유 커넥션 풀의 keep-alive 재사용과 메트릭을 검증한다.
+ */
+class HttpClientConfigTest {
+
+    private static final String KEYSTORE_PATH = "/tls/localhost.p12";
+    private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
+    private static final String CALENDAR_ID = "host@group.calendar.google.com";
+    private static final int CALL_COUNT = 20;
+
+    private KeyStore keyStore;
+    private StubTlsCalendarApi stubApi;
+    private HttpClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = getClass().getResourceAsStream(KEYSTORE_PATH)) {
+            keyStore.load(inputStream, KEYSTORE_PASSWORD);
+        }
+        stubApi = new StubTlsCalendarApi();
+        stubApi.start(serverSslContext());
+        properties = new HttpClientProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubApi.stop();
+    }
+
+    @Test
+    @DisplayName("성공: 연속 호출은 풀의 keep-alive 커넥션을 재사용해 TLS 핸드셰이크를 한 번만 한다")
+    void reusesPooledConnection() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        try (CloseableHttpClient httpClient =
+                 HttpClientConfig.createHttpClient(properties, clientSslContext(), meterRegistry)) {
+            Calendar calendar = calendarClient(httpClient);
+
+            // when
+            for (int i = 0; i < CALL_COUNT; i++) {
+                Event event = calendar.events().get(CALENDAR_ID, "event-" + i).execute();
+                assertThat(event.getId()).isEqualTo("event-" + i);
+            }
+
+            // then
+            assertThat(stubApi.getRequestCount()).isEqualTo(CALL_COUNT);
+            assertThat(handshakeCount(meterRegistry)).isEqualTo(1);
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", HttpClientConfig.POOL_NAME, "state", "available")
+                .gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+                .gauge().value()).isEqualTo(properties.getMaxPerRoute());
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 호출마다 새 클라이언트를 만들면 호출마다 TLS 핸드셰이크를 한다 (풀 재사용과의 비교 기준)")
+    void newClientPerCallHandshakesEveryTime() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        for (int i = 0; i < CALL_COUNT; i++) {
+            try (CloseableHttpClient httpClient =
+                     HttpClientConfig.createHttpClient(properties, clientSslContext(), meterRegistry)) {
+                calendarClient(httpClient).events().get(CALENDAR_ID, "event-" + i).execute();
+            }
+        }
+
+        // then
+        assertThat(stubApi.getRequestCount()).isEqualTo(CALL_COUNT);
+        assertThat(handshakeCount(meterRegistry)).isEqualTo(CALL_COUNT);
+    }
+
+    private Calendar calendarClient(CloseableHttpClient httpClient) {
+        return new Calendar.Builder(new Apache5HttpTransport(httpClient), GsonFactory.getDefaultInstance(), null)
+            .setRootUrl("https://localhost:" + stubApi.getPort() + "/")
+            .setApplicationName("cohiChat-test")
+            .build();
+    }
+
+    private long handshakeCount(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get(HttpClientConfig.TLS_HANDSHAKE_METRIC)
+            .tags("host", "localhost", "outcome", "success")
+            .timer().count();
+    }
+
+    private SSLContext serverSslContext() throws Exception {
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        return sslContext;
+    }
+
+    /**
+     * 스텁 서버의 자체 서명 인증서만 신뢰하는 클라이언트 SSLContext.
+     */
+    private SSLContext clientSslContext() throws Exception {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("localhost", keyStore.getCertificate("localhost"));
+        TrustManagerFactory trustManagerFactory =
+            TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    /**
+     * 요청한 이벤트를 200으로 돌려주는 최소 HTTPS Calendar API 서버.
+     */
+    private static class StubTlsCalendarApi {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private HttpsServer server;
+
+        void start(SSLContext sslContext) throws IOException {
+            server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            requestCount.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            String eventId = path.substring(path.lastIndexOf('/') + 1);
+            byte[] bytes = ("{\"id\": \"" + eventId + "\", \"status\": \"confirmed\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+        int getPort() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+}
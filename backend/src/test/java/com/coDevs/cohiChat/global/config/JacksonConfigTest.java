@@ -0,0 +1,101 @@
+package com.coDevs.cohiChat.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.booking.response.BookingResponseDTO;
+import com.coDevs.cohiChat.booking.response.PaginatedBookingResponseDTO;
+import com.coDevs.cohiChat.global.response.ApiResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@code /bookings/host/me} 응답(예약 500건)을 기본 ObjectMapper와 Blackbird 등록 ObjectMapper로 직렬화해
+ * 출력이 같은지 확인하고, 응답 압축(server.compression) 효과를 gzip 전후 크기로 확인한다.
+ */
+class JacksonConfigTest {
+
+    private static final int BOOKING_COUNT = 500;
+
+    private final ObjectMapper reflectionMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper blackbirdMapper = Jackson2ObjectMapperBuilder.json()
+        .modulesToInstall(new JacksonConfig().blackbirdModule())
+        .build();
+
+    @Test
+    @DisplayName("성공: Blackbird를 등록해도 예약 목록 JSON 출력은 기본 직렬화와 같다")
+    void blackbirdProducesSameJson() throws IOException {
+        // given
+        ApiResponseDTO<PaginatedBookingResponseDTO> payload = hostBookingsPayload();
+
+        // when
+        String reflectionJson = reflectionMapper.writeValueAsString(payload);
+        String blackbirdJson = blackbirdMapper.writeValueAsString(payload);
+
+        // then
+        assertThat(blackbirdJson).isEqualTo(reflectionJson);
+        assertThat(blackbirdJson).contains("\"startedAt\":\"");
+    }
+
+    @Test
+    @DisplayName("성공: 예약 500건 응답은 gzip으로 원본의 1/3 미만으로 줄어든다")
+    void hostBookingsCompressWell() throws IOException {
+        // given
+        byte[] json = blackbirdMapper.writeValueAsBytes(hostBookingsPayload());
+
+        // when
+        byte[] gzipped = gzip(json);
+
+        // then
+        assertThat(gzipped.length).isLessThan(json.length / 3);
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private ApiResponseDTO<PaginatedBookingResponseDTO> hostBookingsPayload() {
+        UUID hostId = UUID.randomUUID();
+        Instant base = Instant.parse("2026-01-05T01:00:00Z");
+        List<BookingResponseDTO> bookings = new ArrayList<>(BOOKING_COUNT);
+        for (int i = 0; i < BOOKING_COUNT; i++) {
+            Instant startedAt = base.plusSeconds(3600L * i);
+            bookings.add(BookingResponseDTO.builder()
+                .id((long) i + 1)
+                .timeSlotId((long) (i % 20) + 1)
+                .guestId(UUID.randomUUID())
+                .hostId(hostId)
+                .startedAt(startedAt)
+                .endedAt(startedAt.plusSeconds(3600))
+                .topic("커리어 상담 " + i)
+                .description("백엔드 개발자 커리어와 이직 준비에 대한 질문")
+                .attendanceStatus(AttendanceStatus.SCHEDULED)
+                .googleEventId("event" + i)
+                .createdAt(base.minusSeconds(86_400L))
+                .hostUsername("host")
+                .hostDisplayName("호스트")
+                .guestUsername("guest" + i)
+                .guestDisplayName("게스트 " + i)
+                .meetingType(MeetingType.ONLINE)
+                .meetingLink("https://meet.google.com/abc-defg-hij")
+                .build());
+        }
+        return ApiResponseDTO.success(PaginatedBookingResponseDTO.of(bookings, BOOKING_COUNT, 1, BOOKING_COUNT));
+    }
+}
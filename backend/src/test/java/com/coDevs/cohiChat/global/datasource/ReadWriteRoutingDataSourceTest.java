@@ -0,0 +1,198 @@
+package com.coDevs.cohiChat.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary/replica로 두고 트랜잭션 readOnly 여부에 따른 라우팅을 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaDataSourceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        properties = new ReplicaDataSourceProperties();
+        properties.setLagQuery("SELECT max_lag FROM db_role");
+        properties.setMaxLagSeconds(5);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private DataSource h2(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:routing_" + role + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(20), max_lag INT)");
+        jdbcTemplate.update("INSERT INTO db_role VALUES (?, 0)", role);
+        return dataSource;
+    }
+
+    private TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private String currentRole(DataSource dataSource, boolean readOnly) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate(dataSource, readOnly)
+            .execute(status -> jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor) {
+        return DataSourceRoutingConfig.routingDataSource(primary, replica, monitor, meterRegistry);
+    }
+
+    private EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        Map<String, Object> jpaProperties = new HashMap<>();
+        DataSourceRoutingConfig.applyConnectionHandling(jpaProperties);
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReadWriteRoutingDataSourceTest.class.getPackageName());
+        factory.setJpaPropertyMap(jpaProperties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private int maxLag(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT max_lag FROM db_role", Integer.class);
+    }
+
+    @Test
+    @DisplayName("성공: 읽기 전용 트랜잭션은 replica를 사용한다")
+    void readOnlyTransactionUsesReplica() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        // when
+        String role = currentRole(dataSource, true);
+
+        // then
+        assertThat(role).isEqualTo("replica");
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read_only").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 쓰기 트랜잭션은 primary를 사용한다")
+    void readWriteTransactionUsesPrimary() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        // when
+        String role = currentRole(dataSource, false);
+
+        // then
+        assertThat(role).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("성공: 복제 지연이 한도를 넘으면 읽기 전용 트랜잭션도 primary를 사용한다")
+    void laggingReplicaFallsBackToPrimary() {
+        // given
+        new JdbcTemplate(replica).update("UPDATE db_role SET max_lag = 30");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        monitor.check();
+        DataSource dataSource = routing(monitor);
+
+        // when
+        String role = currentRole(dataSource, true);
+
+        // then
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(role).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing", "target", "primary", "reason", "replica_unavailable")
+            .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 지연 측정 쿼리가 실패하면 replica를 사용하지 않는다")
+    void failingLagQueryMarksReplicaUnavailable() {
+        // given
+        properties.setLagQuery("SELECT lag FROM missing_table");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(currentRole(routing(monitor), true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("성공: 첫 지연 측정 전에는 primary를 사용한다")
+    void replicaIsUnavailableBeforeFirstCheck() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+
+        // when
+        String role = currentRole(routing(monitor), true);
+
+        // then
+        assertThat(role).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("성공: 요청 전체에 EntityManager가 열려 있어도(OSIV) 읽기 전용 조회 뒤의 쓰기는 primary에 반영된다")
+    void writeAfterReadOnlyInSameEntityManagerUsesPrimary() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        monitor.check();
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(routing(monitor));
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+
+        try {
+            // when
+            Object readRole = readOnly.execute(status ->
+                entityManager.createNativeQuery("SELECT name FROM db_role").getSingleResult());
+            readWrite.executeWithoutResult(status ->
+                entityManager.createNativeQuery("UPDATE db_role SET max_lag = 1").executeUpdate());
+
+            // then
+            assertThat(readRole).isEqualTo("replica");
+            assertThat(maxLag(primary)).isEqualTo(1);
+            assertThat(maxLag(replica)).isZero();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+    }
+}
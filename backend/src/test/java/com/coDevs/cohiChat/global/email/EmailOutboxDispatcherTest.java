@@ -0,0 +1,133 @@
+package com.coDevs.cohiChat.global.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Spy
+    private EmailOutboxProperties properties = new EmailOutboxProperties();
+
+    @InjectMocks
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    private EmailOutbox outbox(long id, String to) {
+        EmailOutbox outbox = EmailOutbox.create(to, "subject", "<p>body</p>", Instant.now());
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("성공: 배치 전체를 한 번의 send 호출(SMTP 연결 1회)로 발송한다")
+    void dispatchSendsBatchInSingleCall() {
+        // given
+        given(mailSender.createMimeMessage()).willAnswer(inv -> new MimeMessage(Session.getInstance(new Properties())));
+        given(emailOutboxService.claimBatch())
+            .willReturn(List.of(outbox(1L, "a@test.com"), outbox(2L, "b@test.com")))
+            .willReturn(List.of());
+
+        // when
+        emailOutboxDispatcher.dispatch();
+
+        // then
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        ArgumentCaptor<Collection<Long>> sentCaptor = ArgumentCaptor.captor();
+        ArgumentCaptor<Map<Long, String>> failureCaptor = ArgumentCaptor.captor();
+        verify(emailOutboxService).complete(sentCaptor.capture(), failureCaptor.capture());
+        assertThat(sentCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(failureCaptor.getValue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 일부 메시지만 실패하면 실패한 메시지만 재시도 대상으로 넘긴다")
+    void dispatchSeparatesPartialFailures() {
+        // given
+        MimeMessage first = new MimeMessage(Session.getInstance(new Properties()));
+        MimeMessage second = new MimeMessage(Session.getInstance(new Properties()));
+        given(mailSender.createMimeMessage()).willReturn(first, second);
+        given(emailOutboxService.claimBatch())
+            .willReturn(List.of(outbox(1L, "a@test.com"), outbox(2L, "b@test.com")))
+            .willReturn(List.of());
+        willThrow(new MailSendException(Map.<Object, Exception>of(second, new RuntimeException("550 rejected"))))
+            .given(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailOutboxDispatcher.dispatch();
+
+        // then
+        ArgumentCaptor<Collection<Long>> sentCaptor = ArgumentCaptor.captor();
+        ArgumentCaptor<Map<Long, String>> failureCaptor = ArgumentCaptor.captor();
+        verify(emailOutboxService).complete(sentCaptor.capture(), failureCaptor.capture());
+        assertThat(sentCaptor.getValue()).containsExactly(1L);
+        assertThat(failureCaptor.getValue()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 대기 메일이 계속 남아 있어도 한 번의 폴링에서는 최대 배치 수까지만 발송한다")
+    void dispatchStopsAtMaxBatchesPerTick() {
+        // given
+        properties.setMaxBatchesPerTick(2);
+        given(mailSender.createMimeMessage()).willAnswer(inv -> new MimeMessage(Session.getInstance(new Properties())));
+        given(emailOutboxService.claimBatch())
+            .willReturn(List.of(outbox(1L, "a@test.com")))
+            .willReturn(List.of(outbox(2L, "b@test.com")))
+            .willReturn(List.of(outbox(3L, "c@test.com")));
+
+        // when
+        emailOutboxDispatcher.dispatch();
+
+        // then
+        verify(emailOutboxService, times(2)).claimBatch();
+        verify(mailSender, times(2)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("성공: 최대 시도 횟수에 도달하면 DEAD로 전환된다")
+    void markFailedMovesToDeadAfterMaxAttempts() {
+        // given
+        EmailOutbox outbox = outbox(1L, "a@test.com");
+        Instant next = Instant.now().plusSeconds(30);
+
+        // when
+        boolean firstDead = outbox.markFailed("timeout", next, 2);
+        boolean secondDead = outbox.markFailed("timeout", next, 2);
+
+        // then
+        assertThat(firstDead).isFalse();
+        assertThat(secondDead).isTrue();
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+    }
+}
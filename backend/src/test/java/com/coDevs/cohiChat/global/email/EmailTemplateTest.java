@@ -0,0 +1,50 @@
+package com.coDevs.cohiChat.global.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmailTemplateTest {
+
+    @Test
+    @DisplayName("성공: 모든 placeholder를 값으로 치환한다")
+    void renderReplacesAllPlaceholders() {
+        // given
+        EmailTemplate template = EmailTemplate.compile("<a href=\"{{link}}\">{{name}}</a> {{name}}");
+
+        // when
+        String rendered = template.render(Map.of("link", "https://x.com", "name", "홍길동"));
+
+        // then
+        assertThat(rendered).isEqualTo("<a href=\"https://x.com\">홍길동</a> 홍길동");
+    }
+
+    @Test
+    @DisplayName("성공: 치환된 값 안의 placeholder 문법은 다시 치환하지 않는다")
+    void renderDoesNotReinterpretValues() {
+        // given
+        EmailTemplate template = EmailTemplate.compile("{{displayName}}|{{resetLink}}");
+
+        // when
+        String rendered = template.render(Map.of("displayName", "{{resetLink}}", "resetLink", "https://reset"));
+
+        // then
+        assertThat(rendered).isEqualTo("{{resetLink}}|https://reset");
+    }
+
+    @Test
+    @DisplayName("성공: 값이 없는 placeholder는 빈 문자열, 닫히지 않은 placeholder는 그대로 둔다")
+    void renderMissingAndUnclosedPlaceholders() {
+        // given
+        EmailTemplate template = EmailTemplate.compile("a{{missing}}b{{open");
+
+        // when
+        String rendered = template.render(Map.of());
+
+        // then
+        assertThat(rendered).isEqualTo("ab{{open");
+    }
+}
@@ -0,0 +1,130 @@
+package com.coDevs.cohiChat.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterLockTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private ClusterLock clusterLock;
+
+    @Test
+    @DisplayName("성공: 락을 획득하면 작업을 실행한 뒤 자신의 토큰으로 해제한다")
+    void runIfAcquiredRunsTaskAndReleases() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE))).willReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        boolean result = clusterLock.runIfAcquired("job", LEASE, () -> ran.set(true));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(ran).isTrue();
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq("lock:job"), token.capture(), eq(LEASE));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:job")), eq(token.getValue()));
+    }
+
+    @Test
+    @DisplayName("성공: 작업이 예외로 끝나도 락은 해제된다")
+    void runIfAcquiredReleasesOnFailure() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> clusterLock.runIfAcquired("job", LEASE, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:job")), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드가 보유 중이면 작업을 실행하지 않고 해제도 하지 않는다")
+    void runIfAcquiredSkipsWhenHeldElsewhere() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE))).willReturn(false);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        boolean result = clusterLock.runIfAcquired("job", LEASE, () -> ran.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 장애 시 락 미획득으로 보고 작업을 건너뛴다")
+    void runIfAcquiredSkipsWhenRedisUnavailable() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("lock:job"), anyString(), eq(LEASE)))
+            .willThrow(new RedisConnectionFailureException("down"));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        boolean result = clusterLock.runIfAcquired("job", LEASE, () -> ran.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 리더 락은 같은 인스턴스 토큰으로 획득/갱신하며 스크립트 결과 1일 때만 리더다")
+    void holdLeadershipUsesInstanceToken() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("lock:reminder")), anyString(), eq("60000")))
+            .willReturn(1L, 0L);
+
+        // when
+        boolean first = clusterLock.holdLeadership("reminder", Duration.ofSeconds(60));
+        boolean second = clusterLock.holdLeadership("reminder", Duration.ofSeconds(60));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2))
+            .execute(any(RedisScript.class), eq(List.of("lock:reminder")), token.capture(), eq("60000"));
+        assertThat(token.getAllValues()).hasSize(2).allMatch(value -> value.equals(token.getAllValues().get(0)));
+    }
+}
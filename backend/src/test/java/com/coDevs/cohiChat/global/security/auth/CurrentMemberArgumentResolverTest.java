@@ -0,0 +1,125 @@
+package com.coDevs.cohiChat.global.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.member.MemberService;
+import com.coDevs.cohiChat.member.entity.Member;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentMemberArgumentResolverTest {
+
+	private static final UUID MEMBER_ID = UUID.randomUUID();
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_GUEST"));
+
+	@Mock
+	private MemberService memberService;
+
+	@InjectMocks
+	private CurrentMemberArgumentResolver resolver;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private void authenticate(Object principal) {
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, "token", AUTHORITIES));
+	}
+
+	@Test
+	@DisplayName("성공: 토큰에 회원 ID가 있으면 회원을 조회하지 않고 주체를 그대로 반환한다")
+	void resolvesFromClaimsWithoutLookup() {
+		// given
+		MemberPrincipal principal = new MemberPrincipal(MEMBER_ID, "guest", "session-1", AUTHORITIES);
+		authenticate(principal);
+
+		// when
+		MemberPrincipal resolved = resolver.resolveArgument(null, null, null, null);
+
+		// then
+		assertThat(resolved).isSameAs(principal);
+		verify(memberService, never()).getMember(any());
+	}
+
+	@Test
+	@DisplayName("성공: 회원 ID 클레임이 없는 토큰이면 회원을 조회해 ID와 세션 ID를 채운다")
+	void fallsBackToLookupWhenMemberIdMissing() {
+		// given
+		authenticate(new MemberPrincipal(null, "guest", "session-1", AUTHORITIES));
+		Member member = mock(Member.class);
+		given(member.getId()).willReturn(MEMBER_ID);
+		given(memberService.getMember("guest")).willReturn(member);
+
+		// when
+		MemberPrincipal resolved = resolver.resolveArgument(null, null, null, null);
+
+		// then
+		assertThat(resolved.getId()).isEqualTo(MEMBER_ID);
+		assertThat(resolved.getUsername()).isEqualTo("guest");
+		assertThat(resolved.getSessionId()).isEqualTo("session-1");
+	}
+
+	@Test
+	@DisplayName("성공: 일반 UserDetails 주체도 회원을 조회해 변환한다")
+	void convertsPlainUserDetails() {
+		// given
+		authenticate(new User("guest", "", AUTHORITIES));
+		Member member = mock(Member.class);
+		given(member.getId()).willReturn(MEMBER_ID);
+		given(memberService.getMember("guest")).willReturn(member);
+
+		// when
+		MemberPrincipal resolved = resolver.resolveArgument(null, null, null, null);
+
+		// then
+		assertThat(resolved.getId()).isEqualTo(MEMBER_ID);
+		assertThat(resolved.getSessionId()).isNull();
+	}
+
+	@Test
+	@DisplayName("실패: 인증 정보가 없으면 AUTH_NOT_PROVIDED")
+	void failsWithoutAuthentication() {
+		assertThatThrownBy(() -> resolver.resolveArgument(null, null, null, null))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_NOT_PROVIDED);
+	}
+
+	@Test
+	@DisplayName("실패: 익명 사용자면 AUTH_NOT_PROVIDED")
+	void failsForAnonymous() {
+		// given
+		SecurityContextHolder.getContext().setAuthentication(
+			new AnonymousAuthenticationToken("key", "anonymousUser", List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+
+		// when & then
+		assertThatThrownBy(() -> resolver.resolveArgument(null, null, null, null))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_NOT_PROVIDED);
+	}
+}
@@ -2,9 +2,14 @@ package com.coDevs.cohiChat.global.security.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.Collections;
+import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,10 +27,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import com.coDevs.cohiChat.global.security.auth.AuthTokenResolver;
 import com.coDevs.cohiChat.global.util.TokenHashUtil;
 import com.coDevs.cohiChat.member.AccessTokenBlacklistRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
+	private static final Instant ISSUED_AT = Instant.parse("2026-01-05T00:00:00Z");
+
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
 
@@ -35,12 +46,20 @@ class JwtAuthenticationFilterTest {
 	@Mock
 	private AuthTokenResolver authTokenResolver;
 
+	@Mock
+	private SessionRegistry sessionRegistry;
+
 	private JwtAuthenticationFilter filter;
 
 	@BeforeEach
 	void setUp() {
 		SecurityContextHolder.clearContext();
-		filter = new JwtAuthenticationFilter(jwtTokenProvider, accessTokenBlacklistRepository, authTokenResolver);
+		filter = new JwtAuthenticationFilter(jwtTokenProvider, accessTokenBlacklistRepository, authTokenResolver,
+			sessionRegistry);
+	}
+
+	private Claims claimsOf(String username) {
+		return Jwts.claims().subject(username).issuedAt(Date.from(ISSUED_AT)).build();
 	}
 
 	@Test
@@ -51,7 +70,10 @@ class JwtAuthenticationFilterTest {
 
 		given(authTokenResolver.resolveAccessToken(request)).willReturn("valid-token");
 		given(accessTokenBlacklistRepository.existsById(TokenHashUtil.hash("valid-token"))).willReturn(false);
-		given(jwtTokenProvider.getAuthentication("valid-token"))
+		Claims claims = claimsOf("user");
+		given(jwtTokenProvider.parseClaims("valid-token")).willReturn(claims);
+		given(sessionRegistry.isRevoked("user", ISSUED_AT)).willReturn(false);
+		given(jwtTokenProvider.getAuthentication(claims, "valid-token"))
 			.willReturn(new UsernamePasswordAuthenticationToken("user", null, Collections.emptyList()));
 
 		filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
@@ -97,7 +119,7 @@ class JwtAuthenticationFilterTest {
 
 		given(authTokenResolver.resolveAccessToken(request)).willReturn("invalid-token");
 		willThrow(new io.jsonwebtoken.JwtException("invalid token"))
-			.given(jwtTokenProvider).getAuthentication("invalid-token");
+			.given(jwtTokenProvider).parseClaims("invalid-token");
 
 		filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
 
@@ -120,4 +142,40 @@ class JwtAuthenticationFilterTest {
 		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 		assertThat(chain.getRequest()).isNotNull();
 	}
+
+	@Test
+	@DisplayName("전체 로그아웃 이전에 발급된 토큰: SecurityContext 미설정")
+	void revokedSessionToken_doesNotSetAuthentication() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockFilterChain chain = new MockFilterChain();
+
+		given(authTokenResolver.resolveAccessToken(request)).willReturn("revoked-token");
+		given(accessTokenBlacklistRepository.existsById(TokenHashUtil.hash("revoked-token"))).willReturn(false);
+		given(jwtTokenProvider.parseClaims("revoked-token")).willReturn(claimsOf("user"));
+		given(sessionRegistry.isRevoked("user", ISSUED_AT)).willReturn(true);
+
+		filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+		verify(jwtTokenProvider, never()).getAuthentication(any(Claims.class), any());
+	}
+
+	@Test
+	@DisplayName("not-before 조회 중 Redis 장애 시 fail-closed: SecurityContext 미설정")
+	void notBeforeLookupFailure_clearsSecurityContext() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockFilterChain chain = new MockFilterChain();
+
+		given(authTokenResolver.resolveAccessToken(request)).willReturn("valid-token");
+		given(accessTokenBlacklistRepository.existsById(TokenHashUtil.hash("valid-token"))).willReturn(false);
+		given(jwtTokenProvider.parseClaims("valid-token")).willReturn(claimsOf("user"));
+		given(sessionRegistry.isRevoked("user", ISSUED_AT))
+			.willThrow(new DataAccessResourceFailureException("Redis connection refused"));
+
+		filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+	}
 }
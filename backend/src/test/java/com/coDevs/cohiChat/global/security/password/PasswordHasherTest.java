@@ -0,0 +1,163 @@
+package com.coDevs.cohiChat.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.coDevs.cohiChat.global.config.PasswordHashingProperties;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 낮은 cost의 실제 BCrypt와 작은 Executor로 {@link PasswordHasher}의 해싱, 재해싱 판단, 포화 시 거절 동작을 검증한다.
+ */
+class PasswordHasherTest {
+
+	private static final String RAW_PASSWORD = "password123!";
+
+	private ThreadPoolTaskExecutor executor;
+	private SimpleMeterRegistry meterRegistry;
+	private PasswordHashingProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		properties = new PasswordHashingProperties();
+		properties.setBcryptStrength(4);
+		properties.setWaitTimeoutMs(500);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private PasswordHasher createHasher(int poolSize, int queueCapacity) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hash-test-");
+		executor.initialize();
+		return new PasswordHasher(encoder(properties.getBcryptStrength()), executor, meterRegistry, properties);
+	}
+
+	private PasswordEncoder encoder(int strength) {
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+			Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+		encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+		return encoder;
+	}
+
+	@Test
+	@DisplayName("성공: 전용 Executor에서 해싱한 값을 같은 평문으로 검증한다")
+	void encodeAndMatches() {
+		// given
+		PasswordHasher hasher = createHasher(2, 4);
+
+		// when
+		String encoded = hasher.encode(RAW_PASSWORD);
+
+		// then
+		assertThat(encoded).startsWith("{bcrypt}");
+		assertThat(hasher.matches(RAW_PASSWORD, encoded)).isTrue();
+		assertThat(hasher.matches("wrong-password", encoded)).isFalse();
+		assertThat(hasher.matches(RAW_PASSWORD, null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: 접두사 없는 기존 해시는 검증되고 재해싱 대상으로 판단한다")
+	void legacyHashNeedsRehash() {
+		// given
+		PasswordHasher hasher = createHasher(2, 4);
+		String legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+		// when & then
+		assertThat(hasher.matches(RAW_PASSWORD, legacyHash)).isTrue();
+		assertThat(hasher.needsRehash(legacyHash)).isTrue();
+		assertThat(hasher.needsRehash(hasher.encode(RAW_PASSWORD))).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공: cost가 현재 설정보다 낮은 해시는 재해싱 대상으로 판단한다")
+	void lowerCostHashNeedsRehash() {
+		// given
+		String oldCostHash = encoder(4).encode(RAW_PASSWORD);
+		properties.setBcryptStrength(5);
+		PasswordHasher hasher = createHasher(2, 4);
+
+		// when & then
+		assertThat(hasher.matches(RAW_PASSWORD, oldCostHash)).isTrue();
+		assertThat(hasher.needsRehash(oldCostHash)).isTrue();
+	}
+
+	@Test
+	@DisplayName("실패: 스레드와 큐가 모두 차면 대기 없이 PASSWORD_HASHING_BUSY로 거절한다")
+	void rejectsWhenSaturated() throws InterruptedException {
+		// given
+		PasswordHasher hasher = createHasher(1, 0);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		long startedAt = System.nanoTime();
+		assertThatThrownBy(() -> hasher.encode(RAW_PASSWORD))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASHING_BUSY);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(properties.getWaitTimeoutMs());
+		assertThat(meterRegistry.counter("auth.password.hash.rejected", "operation", "encode", "reason", "queue_full")
+			.count()).isEqualTo(1);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("실패: 큐에서 대기 시간을 넘기면 PASSWORD_HASHING_BUSY로 거절한다")
+	void rejectsWhenWaitTimesOut() throws InterruptedException {
+		// given
+		PasswordHasher hasher = createHasher(1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> hasher.matches(RAW_PASSWORD, "{bcrypt}$2a$04$invalid"))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASHING_BUSY);
+		assertThat(meterRegistry.counter("auth.password.hash.rejected", "operation", "matches", "reason", "timeout")
+			.count()).isEqualTo(1);
+		release.countDown();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
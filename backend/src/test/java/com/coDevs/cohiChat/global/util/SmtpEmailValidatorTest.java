@@ -0,0 +1,292 @@
+package com.coDevs.cohiChat.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coDevs.cohiChat.global.config.SmtpValidationProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SmtpEmailValidatorTest {
+
+    private static final String DOMAIN = "example.com";
+    private static final Set<String> EXISTING_MAILBOXES = Set.of("alice@example.com");
+
+    private FakeSmtpServer smtpServer;
+    private MxRecordResolver mxRecordResolver;
+    private SmtpValidationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer(EXISTING_MAILBOXES);
+        smtpServer.start();
+
+        mxRecordResolver = mock(MxRecordResolver.class);
+        given(mxRecordResolver.resolve(DOMAIN)).willReturn("127.0.0.1");
+
+        properties = new SmtpValidationProperties();
+        properties.setPort(smtpServer.getPort());
+        properties.setTimeoutMs(2000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.stop();
+    }
+
+    private SmtpEmailValidator validator(Executor executor) {
+        return validator(executor, Clock.systemUTC());
+    }
+
+    private SmtpEmailValidator validator(Executor executor, Clock clock) {
+        return new SmtpEmailValidator(executor, mxRecordResolver, properties, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("성공: RCPT TO에 250으로 응답하는 주소는 유효하다")
+    void existingMailboxIsValid() throws Exception {
+        // given
+        SmtpEmailValidator validator = validator(Runnable::run);
+
+        // when
+        boolean result = validator.validateEmailExists("alice@example.com").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: RCPT TO에 550으로 응답하는 주소는 유효하지 않다")
+    void unknownMailboxIsInvalid() throws Exception {
+        // given
+        SmtpEmailValidator validator = validator(Runnable::run);
+
+        // when
+        boolean result = validator.validateEmailExists("nobody@example.com").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 주소 재검증은 캐시를 사용하고, 같은 도메인의 MX는 한 번만 조회한다")
+    void resultAndMxAreCached() throws Exception {
+        // given
+        SmtpEmailValidator validator = validator(Runnable::run);
+
+        // when
+        validator.validateEmailExists("alice@example.com").get(5, TimeUnit.SECONDS);
+        boolean cached = validator.validateEmailExists("ALICE@example.com").get(5, TimeUnit.SECONDS);
+        validator.validateEmailExists("nobody@example.com").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(cached).isTrue();
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+        verify(mxRecordResolver, times(1)).resolve(DOMAIN);
+        assertThat(meterRegistry.counter("smtp.validation", "result", "cached").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 검증 결과 TTL이 지나면 캐시를 버리고 다시 검증한다")
+    void expiredResultIsRevalidated() throws Exception {
+        // given
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T00:00:00Z"));
+        SmtpEmailValidator validator = validator(Runnable::run, new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        });
+        validator.validateEmailExists("alice@example.com").get(5, TimeUnit.SECONDS);
+
+        // when
+        validator.validateEmailExists("alice@example.com").get(5, TimeUnit.SECONDS);
+        now.set(now.get().plus(Duration.ofSeconds(properties.getResultCacheTtlSeconds())));
+        boolean revalidated = validator.validateEmailExists("alice@example.com").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(revalidated).isTrue();
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("smtp.validation", "result", "cached").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: Executor가 포화되면 검증을 생략하고 통과 처리한다")
+    void rejectedTaskFallsBackToPass() throws Exception {
+        // given
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        SmtpEmailValidator validator = validator(saturated);
+
+        // when
+        boolean result = validator.validateEmailExists("nobody@example.com").get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(smtpServer.getConnectionCount()).isZero();
+        assertThat(meterRegistry.counter("smtp.validation", "result", "rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 도메인 동시 연결이 한도에 도달하면 연결하지 않고 통과 처리하며, 연결이 끝나면 다시 검증한다")
+    void perDomainConcurrencyIsThrottled() throws Exception {
+        // given
+        properties.setPerDomainConcurrency(1);
+        SmtpEmailValidator validator = validator(task -> new Thread(task).start());
+        smtpServer.holdRcpt();
+        CompletableFuture<Boolean> inFlight = validator.validateEmailExists("alice@example.com");
+        awaitConnections(1);
+
+        // when
+        boolean throttled = validator.validateEmailExists("nobody@example.com").get(5, TimeUnit.SECONDS);
+        smtpServer.releaseRcpt();
+        boolean first = inFlight.get(5, TimeUnit.SECONDS);
+        boolean afterRelease = validator.validateEmailExists("nobody@example.com").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(throttled).isTrue();
+        assertThat(first).isTrue();
+        assertThat(afterRelease).isFalse();
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("smtp.validation", "result", "throttled").count()).isEqualTo(1.0);
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (smtpServer.getConnectionCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(expected);
+    }
+
+    /**
+     * RCPT TO 대상이 등록된 주소면 250, 아니면 550으로 응답하는 최소 SMTP 서버.
+     */
+    private static class FakeSmtpServer {
+
+        private final Set<String> mailboxes;
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private volatile CountDownLatch rcptGate = new CountDownLatch(0);
+        private ServerSocket serverSocket;
+        private Thread acceptThread;
+
+        FakeSmtpServer(Set<String> mailboxes) {
+            this.mailboxes = mailboxes;
+        }
+
+        void start() throws IOException {
+            serverSocket = new ServerSocket(0);
+            acceptThread = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try (Socket socket = serverSocket.accept()) {
+                        connectionCount.incrementAndGet();
+                        handle(socket);
+                    } catch (IOException ignored) {
+                        // 서버 종료
+                    }
+                }
+            }, "fake-smtp");
+            acceptThread.setDaemon(true);
+            acceptThread.start();
+        }
+
+        private void handle(Socket socket) throws IOException {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+            reply(writer, "220 fake.smtp ready");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("RCPT TO:<")) {
+                    awaitGate();
+                    String address = line.substring("RCPT TO:<".length(), line.length() - 1);
+                    reply(writer, mailboxes.contains(address) ? "250 OK" : "550 No such user");
+                } else if (line.startsWith("QUIT")) {
+                    reply(writer, "221 Bye");
+                    return;
+                } else {
+                    reply(writer, "250 OK");
+                }
+            }
+        }
+
+        /** RCPT TO 응답을 releaseRcpt() 호출 전까지 보류하여 연결을 열린 상태로 유지 */
+        void holdRcpt() {
+            rcptGate = new CountDownLatch(1);
+        }
+
+        void releaseRcpt() {
+            rcptGate.countDown();
+        }
+
+        private void awaitGate() throws IOException {
+            try {
+                if (!rcptGate.await(5, TimeUnit.SECONDS)) {
+                    throw new IOException("RCPT gate not released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        private void reply(BufferedWriter writer, String response) throws IOException {
+            writer.write(response + "\r\n");
+            writer.flush();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        int getConnectionCount() {
+            return connectionCount.get();
+        }
+
+        void stop() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
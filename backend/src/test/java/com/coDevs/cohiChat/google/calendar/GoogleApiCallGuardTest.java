@@ -0,0 +1,345 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Event;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬 Calendar API 스텁 서버로 장애를 주입해 {@link GoogleApiCallGuard}의 재시도, 타임아웃, 서킷 브레이커, 벌크헤드를 검증한다.
+ */
+class GoogleApiCallGuardTest {
+
+    private static final String CALENDAR_ID = "host@group.calendar.google.com";
+
+    private StubCalendarApi stubApi;
+    private GoogleApiResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private GoogleApiCallGuard callGuard;
+    private GoogleCalendarService googleCalendarService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubApi = new StubCalendarApi();
+        stubApi.start();
+
+        properties = new GoogleApiResilienceProperties();
+        properties.setInitialBackoffMs(1);
+        properties.setMaxBackoffMs(5);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2026-01-05T00:00:00Z"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubApi.stop();
+    }
+
+    private void initService() {
+        callGuard = new GoogleApiCallGuard(properties, meterRegistry, clock);
+        Calendar calendarClient = new Calendar.Builder(
+            new NetHttpTransport(),
+            GsonFactory.getDefaultInstance(),
+            GoogleCalendarConfig.withTimeouts(null, properties)
+        )
+            .setRootUrl("http://localhost:" + stubApi.getPort() + "/")
+            .setApplicationName("cohiChat-test")
+            .build();
+        GoogleCalendarProperties calendarProperties = new GoogleCalendarProperties();
+        calendarProperties.setDefaultCalendarId(CALENDAR_ID);
+        googleCalendarService = new GoogleCalendarService(
+            calendarClient, calendarProperties, mock(GoogleCalendarConfig.class), callGuard);
+    }
+
+    @Test
+    @DisplayName("성공: 503/429 응답은 백오프 후 재시도해 결과를 반환한다")
+    void retriesTransientErrors() {
+        // given
+        initService();
+        stubApi.respondNext(503, 429);
+
+        // when
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNotNull();
+        assertThat(event.getId()).isEqualTo("event-1");
+        assertThat(stubApi.getRequestCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("google.api.retries", "action", "getEvent").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("google.api.calls", "action", "getEvent", "outcome", "success").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 4xx 응답은 재시도하지 않고 서킷 실패로도 세지 않는다")
+    void doesNotRetryClientErrors() {
+        // given
+        properties.setFailureThreshold(1);
+        initService();
+        stubApi.respondNext(404);
+
+        // when
+        Event event = googleCalendarService.getEvent("missing", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNull();
+        assertThat(stubApi.getRequestCount()).isEqualTo(1);
+        assertThat(callGuard.isCircuitOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 사용량 한도 초과 403(rateLimitExceeded)은 재시도해 결과를 반환한다")
+    void retriesRateLimitedForbidden() {
+        // given
+        initService();
+        stubApi.respondNextWithReason(403, "rateLimitExceeded");
+
+        // when
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNotNull();
+        assertThat(stubApi.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("google.api.retries", "action", "getEvent").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 사용량 한도 초과 403(userRateLimitExceeded)이 계속되면 서킷 실패로 센다")
+    void rateLimitedForbiddenCountsAsCircuitFailure() {
+        // given
+        properties.setMaxAttempts(1);
+        properties.setFailureThreshold(1);
+        initService();
+        stubApi.respondNextWithReason(403, "userRateLimitExceeded");
+
+        // when
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNull();
+        assertThat(callGuard.isCircuitOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패: 권한 없음 403(forbidden)은 재시도하지 않고 서킷 실패로도 세지 않는다")
+    void doesNotRetryPermissionForbidden() {
+        // given
+        properties.setFailureThreshold(1);
+        initService();
+        stubApi.respondNextWithReason(403, "forbidden");
+
+        // when
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNull();
+        assertThat(stubApi.getRequestCount()).isEqualTo(1);
+        assertThat(callGuard.isCircuitOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 응답이 읽기 타임아웃보다 늦으면 기다리지 않고 실패 처리한다")
+    void failsFastOnReadTimeout() {
+        // given
+        properties.setReadTimeoutMs(200);
+        initService();
+        stubApi.delayResponses(Duration.ofSeconds(3));
+
+        // when
+        long startNanos = System.nanoTime();
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+        // then
+        assertThat(event).isNull();
+        assertThat(elapsedMs).isLessThan(2000);
+        assertThat(stubApi.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 연속 실패로 서킷이 열리면 호출을 차단하고, 대기 시간이 지나면 시험 호출로 복구한다")
+    void circuitOpensAndRecovers() {
+        // given
+        properties.setMaxAttempts(1);
+        properties.setFailureThreshold(2);
+        properties.setOpenDurationSeconds(30);
+        initService();
+        stubApi.respondNext(500, 500);
+
+        // when: 연속 실패로 서킷이 열린다
+        googleCalendarService.getEvent("event-1", CALENDAR_ID);
+        googleCalendarService.getEvent("event-1", CALENDAR_ID);
+        boolean deleted = googleCalendarService.deleteEvent("event-1", CALENDAR_ID);
+
+        // then: 열린 동안에는 서버를 호출하지 않는다
+        assertThat(deleted).isFalse();
+        assertThat(callGuard.isCircuitOpen()).isTrue();
+        assertThat(stubApi.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("google.api.rejected", "action", "deleteEvent", "reason", "circuit_open")
+            .count()).isEqualTo(1);
+
+        // when: 대기 시간이 지난 뒤 시험 호출이 성공한다
+        clock.advance(Duration.ofSeconds(31));
+        Event event = googleCalendarService.getEvent("event-1", CALENDAR_ID);
+
+        // then
+        assertThat(event).isNotNull();
+        assertThat(callGuard.isCircuitOpen()).isFalse();
+        assertThat(stubApi.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패: 동시 호출 수가 한도에 도달하면 Google을 기다리지 않고 즉시 거절한다")
+    void bulkheadRejectsExcessCalls() throws Exception {
+        // given
+        properties.setMaxConcurrentCalls(1);
+        properties.setBulkheadWaitMs(0);
+        initService();
+        CountDownLatch release = new CountDownLatch(1);
+        stubApi.holdResponses(release);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Event> inFlight = CompletableFuture.supplyAsync(
+                () -> googleCalendarService.getEvent("event-1", CALENDAR_ID), executor);
+            assertThat(stubApi.awaitRequest()).isTrue();
+
+            // when
+            Event rejected = googleCalendarService.getEvent("event-2", CALENDAR_ID);
+            release.countDown();
+
+            // then
+            assertThat(rejected).isNull();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(stubApi.getRequestCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("google.api.rejected", "action", "getEvent", "reason", "bulkhead_full")
+                .count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 응답 상태 코드, 지연, 대기를 조절할 수 있는 최소 Calendar API 서버.
+     * 예약된 상태 코드를 다 쓰면 요청한 이벤트를 200으로 돌려준다.
+     */
+    private static class StubCalendarApi {
+
+        private final Deque<ScriptedError> scriptedErrors = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final Semaphore arrivals = new Semaphore(0);
+        private volatile Duration delay = Duration.ZERO;
+        private volatile CountDownLatch hold;
+        private HttpServer server;
+
+        void start() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            requestCount.incrementAndGet();
+            arrivals.release();
+            try {
+                if (hold != null) {
+                    hold.await(5, TimeUnit.SECONDS);
+                }
+                if (!delay.isZero()) {
+                    Thread.sleep(delay.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            ScriptedError error = scriptedErrors.poll();
+            if (error != null) {
+                String errors = error.reason() == null ? ""
+                    : ", \"errors\": [{\"domain\": \"usageLimits\", \"reason\": \"" + error.reason() + "\"}]";
+                respond(exchange, error.status(),
+                    "{\"error\": {\"code\": " + error.status() + ", \"message\": \"stub error\"" + errors + "}}");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String eventId = path.substring(path.lastIndexOf('/') + 1);
+            respond(exchange, 200, "{\"id\": \"" + eventId + "\", \"status\": \"confirmed\"}");
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            } catch (IOException ignored) {
+                // 타임아웃으로 클라이언트가 먼저 연결을 끊은 경우
+            }
+        }
+
+        void respondNext(Integer... statuses) {
+            List.of(statuses).forEach(status -> scriptedErrors.add(new ScriptedError(status, null)));
+        }
+
+        void respondNextWithReason(int status, String reason) {
+            scriptedErrors.add(new ScriptedError(status, reason));
+        }
+
+        void delayResponses(Duration delay) {
+            this.delay = delay;
+        }
+
+        void holdResponses(CountDownLatch hold) {
+            this.hold = hold;
+        }
+
+        boolean awaitRequest() throws InterruptedException {
+            return arrivals.tryAcquire(5, TimeUnit.SECONDS);
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+        int getPort() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private record ScriptedError(int status, String reason) {
+        }
+    }
+}
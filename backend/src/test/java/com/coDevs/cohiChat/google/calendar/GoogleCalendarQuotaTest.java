@@ -0,0 +1,101 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import redis.embedded.RedisServer;
+
+/**
+ * 여러 노드가 같은 Redis 버킷을 쓰면 프로젝트 한도를 노드 수만큼 늘리지 않고 나눠 쓰는지 검증한다.
+ */
+class GoogleCalendarQuotaTest {
+
+    private RedisServer redisServer;
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, byte[]> connection;
+    private GoogleCalendarQuotaProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = RedisServer.newRedisServer().port(port).build();
+        redisServer.start();
+        redisClient = RedisClient.create("redis://localhost:" + port);
+        connection = redisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+
+        properties = new GoogleCalendarQuotaProperties();
+        properties.setProjectBurst(2);
+        properties.setProjectRequestsPerMinute(1);
+        properties.setCalendarBurst(10);
+        properties.setCalendarRequestsPerMinute(10);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connection.close();
+        redisClient.shutdown();
+        redisServer.stop();
+    }
+
+    private GoogleCalendarQuota node() {
+        LettuceBasedProxyManager<String> proxyManager = LettuceBasedProxyManager.builderFor(connection)
+            .withExpirationStrategy(
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(90)))
+            .build();
+        return new GoogleCalendarQuota(properties, Clock.systemUTC(), proxyManager);
+    }
+
+    @Test
+    @DisplayName("성공: Redis 버킷을 쓰는 두 노드는 프로젝트 한도를 함께 소진한다")
+    void nodesShareProjectBucket() {
+        // given
+        GoogleCalendarQuota nodeA = node();
+        GoogleCalendarQuota nodeB = node();
+
+        // when
+        boolean first = nodeA.tryAcquire("a@group.calendar.google.com");
+        boolean second = nodeB.tryAcquire("b@group.calendar.google.com");
+        boolean third = nodeA.tryAcquire("c@group.calendar.google.com");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(nodeB.hasProjectCapacity()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 돌려준 토큰은 다른 노드에서 다시 쓸 수 있다")
+    void refundIsVisibleToOtherNodes() {
+        // given
+        GoogleCalendarQuota nodeA = node();
+        GoogleCalendarQuota nodeB = node();
+        nodeA.tryAcquire("a@group.calendar.google.com");
+        nodeA.tryAcquire("a@group.calendar.google.com");
+
+        // when
+        nodeA.refund("a@group.calendar.google.com");
+
+        // then
+        assertThat(nodeB.tryAcquire("b@group.calendar.google.com")).isTrue();
+    }
+}
@@ -0,0 +1,372 @@
+package com.coDevs.cohiChat.google.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 대기열은 google_calendar_request 테이블이므로 실제 리포지토리로 검증한다.
+ * 커밋 후 등록/취소를 확인하기 위해 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({GoogleCalendarRequestService.class, GoogleCalendarRequestSchedulerTest.QueueTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GoogleCalendarRequestSchedulerTest {
+
+    private static final String CALENDAR_ID = "host@group.calendar.google.com";
+    private static final Instant START = Instant.parse("2026-01-06T01:00:00Z");
+    private static final Instant END = Instant.parse("2026-01-06T02:00:00Z");
+
+    @Autowired
+    private GoogleCalendarRequestService googleCalendarRequestService;
+
+    @Autowired
+    private GoogleCalendarRequestRepository googleCalendarRequestRepository;
+
+    @Autowired
+    private GoogleCalendarQuotaProperties properties;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GoogleCalendarService googleCalendarService;
+    private BookingRepository bookingRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private GoogleCalendarRequestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        googleCalendarService = mock(GoogleCalendarService.class);
+        bookingRepository = mock(BookingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = newScheduler();
+
+        given(googleCalendarService.isEnabled()).willReturn(true);
+        given(googleCalendarService.createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID)))
+            .willReturn("created-event");
+        given(googleCalendarService.updateEventOrThrow(
+            anyString(), anyString(), anyString(), any(), any(), eq(CALENDAR_ID)))
+            .willReturn(true);
+        given(bookingRepository.updateGoogleEventIdIfAbsent(any(), anyString())).willReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        googleCalendarRequestRepository.deleteAll();
+    }
+
+    private GoogleCalendarRequestScheduler newScheduler() {
+        return new GoogleCalendarRequestScheduler(googleCalendarService, googleCalendarRequestService,
+            bookingRepository, new GoogleCalendarQuota(properties, clock, null), meterRegistry, clock, Runnable::run);
+    }
+
+    private static GoogleJsonResponseException forbidden(String reason) {
+        GoogleJsonError.ErrorInfo errorInfo = new GoogleJsonError.ErrorInfo();
+        errorInfo.setReason(reason);
+        GoogleJsonError error = new GoogleJsonError();
+        error.setCode(403);
+        error.setErrors(List.of(errorInfo));
+        return new GoogleJsonResponseException(
+            new HttpResponseException.Builder(403, "Forbidden", new HttpHeaders()), error);
+    }
+
+    @Test
+    @DisplayName("성공: 쿼터가 남아 있으면 바로 호출해 이벤트 ID를 반환한다")
+    void createsImmediatelyWithinQuota() throws Exception {
+        // when
+        String eventId = scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // then
+        assertThat(eventId).isEqualTo("created-event");
+        assertThat(googleCalendarRequestRepository.count()).isZero();
+        verify(bookingRepository, never()).updateGoogleEventIdIfAbsent(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 쿼터를 넘은 생성은 대기열에 넣고, 토큰이 충전되면 호출한 뒤 이벤트 ID를 예약에 기록한다")
+    void queuesCreateUntilQuotaRefills() throws Exception {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when
+        String queuedEventId = scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.drain();
+
+        // then: 토큰이 없어 아직 호출하지 않는다
+        assertThat(queuedEventId).isNull();
+        assertThat(googleCalendarRequestService.countPending(GoogleCalendarRequestKind.CREATE)).isEqualTo(1);
+        verify(googleCalendarService, times(1))
+            .createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID));
+
+        // when: 1분 뒤 토큰이 충전된다
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        assertThat(googleCalendarRequestRepository.count()).isZero();
+        verify(googleCalendarService, times(2))
+            .createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID));
+        verify(bookingRepository).updateGoogleEventIdIfAbsent(2L, "created-event");
+    }
+
+    @Test
+    @DisplayName("성공: 대기 중인 같은 예약의 연속 수정은 마지막 내용으로 한 번만 호출한다")
+    void coalescesConsecutiveUpdates() throws Exception {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.updateEvent(5L, "event-5", "첫 번째", "설명", START, END, CALENDAR_ID);
+        scheduler.updateEvent(5L, "event-5", "두 번째", "설명", START, END, CALENDAR_ID);
+        scheduler.updateEvent(5L, "event-5", "세 번째", "설명", START, END, CALENDAR_ID);
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        verify(googleCalendarService, times(1))
+            .updateEventOrThrow(anyString(), anyString(), anyString(), any(), any(), anyString());
+        verify(googleCalendarService).updateEventOrThrow("event-5", "세 번째", "설명", START, END, CALENDAR_ID);
+        assertThat(meterRegistry.counter("google.calendar.requests", "kind", "update", "result", "coalesced").count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 대기열은 먼저 들어온 수정보다 생성을 먼저 처리한다")
+    void prioritizesCreatesOverUpdates() throws Exception {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.updateEvent(5L, "event-5", "수정", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(6L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when: 토큰 하나만 충전된다
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        verify(bookingRepository).updateGoogleEventIdIfAbsent(6L, "created-event");
+        verify(googleCalendarService, never())
+            .updateEventOrThrow(anyString(), anyString(), anyString(), any(), any(), anyString());
+        assertThat(googleCalendarRequestService.countPending(GoogleCalendarRequestKind.UPDATE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 대기 중인 생성을 버리면 이벤트를 만들지 않고, 쓰기가 대기 중이면 조정용 읽기를 미룬다")
+    void discardPendingAndDeferReads() throws Exception {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+        clock.advance(Duration.ofMinutes(1));
+
+        // when & then: 대기 중인 쓰기가 있으면 읽기는 토큰이 있어도 거절된다
+        assertThat(scheduler.tryAcquireRead(CALENDAR_ID)).isFalse();
+
+        // when
+        scheduler.discardPending(2L);
+        scheduler.drain();
+
+        // then
+        verify(googleCalendarService, times(1))
+            .createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID));
+        assertThat(scheduler.tryAcquireRead(CALENDAR_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 예약 취소 트랜잭션이 롤백되면 대기 중인 요청을 버리지 않는다")
+    void discardPendingAppliesOnlyAfterCommit() {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            scheduler.discardPending(2L);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(googleCalendarRequestRepository.count()).isEqualTo(1);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> scheduler.discardPending(2L));
+
+        // then
+        assertThat(googleCalendarRequestRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 대기열에서 만든 이벤트를 예약에 연결하지 못하면 중복을 막기 위해 삭제한다")
+    void deletesOrphanEventWhenBookingAlreadyLinked() {
+        // given
+        given(bookingRepository.updateGoogleEventIdIfAbsent(2L, "created-event")).willReturn(0);
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        verify(googleCalendarService).deleteEvent("created-event", CALENDAR_ID);
+    }
+
+    @Test
+    @DisplayName("성공: 사용량 한도 초과 403(rateLimitExceeded)은 버리지 않고 백오프 후 다시 호출한다")
+    void requeuesRateLimitedRequestWithBackoff() throws Exception {
+        // given
+        given(googleCalendarService.createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID)))
+            .willReturn("created-event")
+            .willThrow(forbidden("rateLimitExceeded"))
+            .willReturn("created-event");
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        GoogleCalendarRequest requeued = googleCalendarRequestRepository.findAll().get(0);
+        assertThat(requeued.getStatus()).isEqualTo(GoogleCalendarRequestStatus.PENDING);
+        assertThat(requeued.getAttempts()).isEqualTo(1);
+        assertThat(requeued.getNextAttemptAt())
+            .isEqualTo(clock.instant().plusSeconds(properties.getInitialBackoffSeconds()));
+        verify(bookingRepository, never()).updateGoogleEventIdIfAbsent(any(), anyString());
+
+        // when: 토큰은 충전되었지만 백오프가 끝나지 않았다
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+
+        // then
+        verify(googleCalendarService, times(2))
+            .createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID));
+
+        // when
+        clock.advance(Duration.ofSeconds(properties.getInitialBackoffSeconds()));
+        scheduler.drain();
+
+        // then
+        assertThat(googleCalendarRequestRepository.count()).isZero();
+        verify(bookingRepository).updateGoogleEventIdIfAbsent(2L, "created-event");
+        assertThat(meterRegistry.counter("google.calendar.requests", "kind", "create", "result", "retried").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 바로 호출한 요청이 한도 초과로 실패하면 백오프 후 처리하도록 대기열에 넣는다")
+    void defersRateLimitedImmediateCall() throws Exception {
+        // given
+        given(googleCalendarService.updateEventOrThrow(
+            anyString(), anyString(), anyString(), any(), any(), eq(CALENDAR_ID)))
+            .willThrow(forbidden("userRateLimitExceeded"));
+
+        // when
+        boolean accepted = scheduler.updateEvent(5L, "event-5", "수정", "설명", START, END, CALENDAR_ID);
+
+        // then
+        assertThat(accepted).isTrue();
+        GoogleCalendarRequest deferred = googleCalendarRequestRepository.findAll().get(0);
+        assertThat(deferred.getKind()).isEqualTo(GoogleCalendarRequestKind.UPDATE);
+        assertThat(deferred.getNextAttemptAt())
+            .isEqualTo(clock.instant().plusSeconds(properties.getInitialBackoffSeconds()));
+    }
+
+    @Test
+    @DisplayName("실패: 권한 없음 403은 재시도하지 않고 DEAD로 남긴다")
+    void marksPermissionForbiddenAsDead() throws Exception {
+        // given
+        given(googleCalendarService.createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID)))
+            .willReturn("created-event")
+            .willThrow(forbidden("forbidden"));
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.drain();
+        clock.advance(Duration.ofHours(1));
+        scheduler.drain();
+
+        // then
+        GoogleCalendarRequest dead = googleCalendarRequestRepository.findAll().get(0);
+        assertThat(dead.getStatus()).isEqualTo(GoogleCalendarRequestStatus.DEAD);
+        assertThat(dead.getLastError()).contains("status=403");
+        verify(googleCalendarService, times(2))
+            .createEventOrThrow(anyString(), anyString(), any(), any(), eq(CALENDAR_ID));
+    }
+
+    @Test
+    @DisplayName("성공: 대기열은 테이블에 남아 있어 재시작한 노드가 이어서 처리한다")
+    void drainsRequestsQueuedBeforeRestart() {
+        // given
+        scheduler.createEvent(1L, "미팅", "설명", START, END, CALENDAR_ID);
+        scheduler.createEvent(2L, "미팅", "설명", START, END, CALENDAR_ID);
+
+        // when
+        newScheduler().drain();
+
+        // then
+        verify(bookingRepository).updateGoogleEventIdIfAbsent(2L, "created-event");
+        assertThat(googleCalendarRequestRepository.count()).isZero();
+    }
+
+    @TestConfiguration
+    static class QueueTestConfig {
+
+        @Bean
+        MutableClock clock() {
+            return new MutableClock(Instant.parse("2026-01-05T00:00:00Z"));
+        }
+
+        /**
+         * 캘린더당 분당 1회: 첫 호출 이후 요청은 대기열로 간다. 백오프는 토큰 충전 주기보다 길게 둔다.
+         */
+        @Bean
+        GoogleCalendarQuotaProperties googleCalendarQuotaProperties() {
+            GoogleCalendarQuotaProperties properties = new GoogleCalendarQuotaProperties();
+            properties.setCalendarBurst(1);
+            properties.setCalendarRequestsPerMinute(1);
+            properties.setInitialBackoffSeconds(120);
+            return properties;
+        }
+    }
+}
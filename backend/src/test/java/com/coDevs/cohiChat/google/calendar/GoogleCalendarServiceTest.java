@@ -7,6 +7,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -22,11 +23,14 @@ import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.Calendar.Events;
 import com.google.api.services.calendar.model.Event;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class GoogleCalendarServiceTest {
 
     private GoogleCalendarService googleCalendarService;
     private Calendar mockCalendar;
     private Events mockEvents;
+    private GoogleApiCallGuard callGuard;
 
     private static final String TEST_CALENDAR_ID = "test-calendar-id";
     private static final String TEST_TIMEZONE = "Asia/Seoul";
@@ -40,8 +44,9 @@ class GoogleCalendarServiceTest {
         GoogleCalendarProperties properties = new GoogleCalendarProperties();
         properties.setDefaultCalendarId(TEST_CALENDAR_ID);
         properties.setTimezone(TEST_TIMEZONE);
+        callGuard = new GoogleApiCallGuard(new GoogleApiResilienceProperties(), new SimpleMeterRegistry(), Clock.systemUTC());
 
-        googleCalendarService = new GoogleCalendarService(mockCalendar, properties, mock(GoogleCalendarConfig.class));
+        googleCalendarService = new GoogleCalendarService(mockCalendar, properties, mock(GoogleCalendarConfig.class), callGuard);
     }
 
     @Nested
@@ -204,7 +209,7 @@ class GoogleCalendarServiceTest {
         void createEvent_whenDisabled_returnsNull() {
             // given
             GoogleCalendarProperties properties = new GoogleCalendarProperties();
-            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class));
+            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class), callGuard);
 
             // when
             String result = disabledService.createEvent(
@@ -224,7 +229,7 @@ class GoogleCalendarServiceTest {
         void updateEvent_whenDisabled_returnsFalse() {
             // given
             GoogleCalendarProperties properties = new GoogleCalendarProperties();
-            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class));
+            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class), callGuard);
 
             // when
             boolean result = disabledService.updateEvent(
@@ -245,7 +250,7 @@ class GoogleCalendarServiceTest {
         void deleteEvent_whenDisabled_returnsFalse() {
             // given
             GoogleCalendarProperties properties = new GoogleCalendarProperties();
-            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class));
+            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class), callGuard);
 
             // when
             boolean result = disabledService.deleteEvent("event-id", null);
@@ -259,7 +264,7 @@ class GoogleCalendarServiceTest {
         void getEvent_whenDisabled_returnsNull() {
             // given
             GoogleCalendarProperties properties = new GoogleCalendarProperties();
-            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class));
+            GoogleCalendarService disabledService = new GoogleCalendarService(null, properties, mock(GoogleCalendarConfig.class), callGuard);
 
             // when
             Event result = disabledService.getEvent("event-id", null);
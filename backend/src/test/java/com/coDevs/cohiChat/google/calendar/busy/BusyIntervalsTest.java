@@ -0,0 +1,75 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BusyIntervalsTest {
+
+    private static final long BASE = Instant.parse("2026-01-05T00:00:00Z").getEpochSecond();
+
+    private static Instant at(long minutes) {
+        return Instant.ofEpochSecond(BASE + minutes * 60);
+    }
+
+    private static long[] interval(long startMinutes, long endMinutes) {
+        return new long[] {BASE + startMinutes * 60, BASE + endMinutes * 60};
+    }
+
+    @Test
+    @DisplayName("성공: 겹치거나 맞닿은 구간은 하나로 병합하고, 길이가 0인 구간은 버린다")
+    void mergesOverlappingIntervals() {
+        // when
+        BusyIntervals intervals = BusyIntervals.of(List.of(
+            interval(120, 180),
+            interval(0, 60),
+            interval(30, 90),
+            interval(90, 100),
+            interval(200, 200)
+        ));
+
+        // then
+        assertThat(intervals.size()).isEqualTo(2);
+        assertThat(intervals.between(at(0), at(1000)))
+            .extracting(range -> range[0], range -> range[1])
+            .containsExactly(
+                tuple(at(0), at(100)),
+                tuple(at(120), at(180)));
+    }
+
+    @Test
+    @DisplayName("성공: 구간은 반열림 구간이므로 끝 시각에 시작하는 예약은 겹치지 않는다")
+    void overlapsUsesHalfOpenIntervals() {
+        // given
+        BusyIntervals intervals = BusyIntervals.of(List.of(interval(60, 120), interval(240, 300)));
+
+        // when & then
+        assertThat(intervals.overlaps(at(0), at(60))).isFalse();
+        assertThat(intervals.overlaps(at(30), at(90))).isTrue();
+        assertThat(intervals.overlaps(at(120), at(180))).isFalse();
+        assertThat(intervals.overlaps(at(180), at(250))).isTrue();
+        assertThat(intervals.overlaps(at(300), at(360))).isFalse();
+        assertThat(BusyIntervals.EMPTY.overlaps(at(0), at(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 인코딩한 값을 디코딩하면 같은 구간을 복원한다")
+    void encodeAndDecode() {
+        // given
+        BusyIntervals intervals = BusyIntervals.of(List.of(interval(60, 120), interval(240, 300)));
+
+        // when
+        BusyIntervals decoded = BusyIntervals.decode(intervals.encode());
+
+        // then
+        assertThat(decoded.size()).isEqualTo(2);
+        assertThat(decoded.overlaps(at(90), at(100))).isTrue();
+        assertThat(decoded.overlaps(at(120), at(240))).isFalse();
+        assertThat(BusyIntervals.decode(null).isEmpty()).isTrue();
+    }
+}
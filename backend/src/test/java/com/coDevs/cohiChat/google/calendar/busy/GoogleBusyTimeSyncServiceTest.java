@@ -0,0 +1,286 @@
+package com.coDevs.cohiChat.google.calendar.busy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.google.calendar.GoogleApiCallGuard;
+import com.coDevs.cohiChat.google.calendar.GoogleApiResilienceProperties;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarConfig;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarService;
+import com.coDevs.cohiChat.google.calendar.busy.GoogleBusyTimeStore.SyncState;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬 Calendar API 스텁 서버를 상대로 events.list 증분 동기화를 검증한다.
+ */
+class GoogleBusyTimeSyncServiceTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final String CALENDAR_ID = "host@group.calendar.google.com";
+    private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+
+    private StubCalendarApi stubApi;
+    private GoogleBusyTimeStore store;
+    private AtomicReference<SyncState> savedState;
+    private GoogleBusyTimeSyncService syncService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubApi = new StubCalendarApi();
+        stubApi.start();
+
+        Calendar calendarClient = new Calendar.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+            .setRootUrl("http://localhost:" + stubApi.getPort() + "/")
+            .setApplicationName("cohiChat-test")
+            .build();
+        GoogleCalendarProperties calendarProperties = new GoogleCalendarProperties();
+        calendarProperties.setTimezone("Asia/Seoul");
+        GoogleApiCallGuard callGuard =
+            new GoogleApiCallGuard(new GoogleApiResilienceProperties(), new SimpleMeterRegistry(), Clock.systemUTC());
+        GoogleCalendarService googleCalendarService =
+            new GoogleCalendarService(calendarClient, calendarProperties, mock(GoogleCalendarConfig.class), callGuard);
+
+        savedState = new AtomicReference<>(new SyncState(null, null, Map.of()));
+        store = mock(GoogleBusyTimeStore.class);
+        given(store.loadState(HOST_ID)).willAnswer(invocation -> savedState.get());
+        doAnswer(invocation -> {
+            savedState.set(invocation.getArgument(1));
+            return null;
+        }).when(store).saveState(eq(HOST_ID), any(SyncState.class), any());
+
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        given(bookingRepository.findGoogleEventIdsByHostId(eq(HOST_ID), any())).willReturn(List.of("legacy-booking"));
+
+        syncService = new GoogleBusyTimeSyncService(googleCalendarService, store, bookingRepository,
+            new GoogleBusySyncProperties(), calendarProperties, Clock.fixed(NOW, ZoneOffset.UTC));
+        syncService.initZoneId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubApi.stop();
+    }
+
+    @Test
+    @DisplayName("성공: 전체 동기화는 모든 페이지를 읽고, 바쁜 시간이 아닌 이벤트는 제외한다")
+    void fullSyncStoresBusyEvents() {
+        // when
+        boolean synced = syncService.sync(HOST_ID, CALENDAR_ID);
+
+        // then
+        SyncState state = savedState.get();
+        assertThat(synced).isTrue();
+        assertThat(state.syncToken()).isEqualTo("token-1");
+        assertThat(state.fullSyncedAt()).isEqualTo(NOW);
+        assertThat(state.events()).containsOnlyKeys("meeting", "all-day");
+        assertThat(state.events().get("meeting")).containsExactly(
+            Instant.parse("2026-01-06T01:00:00Z").getEpochSecond(),
+            Instant.parse("2026-01-06T02:00:00Z").getEpochSecond());
+        // 종일 일정은 서비스 타임존(Asia/Seoul) 자정 기준
+        assertThat(state.events().get("all-day")).containsExactly(
+            Instant.parse("2026-01-06T15:00:00Z").getEpochSecond(),
+            Instant.parse("2026-01-07T15:00:00Z").getEpochSecond());
+        assertThat(stubApi.getSyncTokens()).containsExactly("", "");
+    }
+
+    @Test
+    @DisplayName("성공: 증분 동기화는 syncToken으로 변경분만 받아 기존 구간에 반영한다")
+    void incrementalSyncAppliesChanges() {
+        // given
+        syncService.sync(HOST_ID, CALENDAR_ID);
+
+        // when
+        boolean synced = syncService.sync(HOST_ID, CALENDAR_ID);
+
+        // then
+        SyncState state = savedState.get();
+        assertThat(synced).isTrue();
+        assertThat(state.syncToken()).isEqualTo("token-2");
+        assertThat(state.fullSyncedAt()).isEqualTo(NOW);
+        assertThat(state.events()).containsOnlyKeys("all-day", "new-meeting");
+        assertThat(stubApi.getSyncTokens()).containsExactly("", "", "token-1");
+    }
+
+    @Test
+    @DisplayName("성공: syncToken이 만료(410)되면 전체 동기화로 다시 받는다")
+    void expiredSyncTokenFallsBackToFullSync() {
+        // given
+        Map<String, long[]> staleEvents = new HashMap<>();
+        staleEvents.put("stale", new long[] {NOW.getEpochSecond() + 3600, NOW.getEpochSecond() + 7200});
+        savedState.set(new SyncState("stale-token", NOW, staleEvents));
+
+        // when
+        boolean synced = syncService.sync(HOST_ID, CALENDAR_ID);
+
+        // then
+        assertThat(synced).isTrue();
+        assertThat(savedState.get().syncToken()).isEqualTo("token-1");
+        assertThat(savedState.get().events()).containsOnlyKeys("meeting", "all-day");
+        assertThat(stubApi.getSyncTokens()).containsExactly("stale-token", "", "");
+    }
+
+    @Test
+    @DisplayName("실패: Calendar API 호출이 실패하면 기존 상태를 유지한다")
+    void apiFailureKeepsPreviousState() {
+        // given
+        stubApi.failNextRequests();
+
+        // when
+        boolean synced = syncService.sync(HOST_ID, CALENDAR_ID);
+
+        // then
+        assertThat(synced).isFalse();
+        verify(store, never()).saveState(eq(HOST_ID), any(SyncState.class), any());
+    }
+
+    /**
+     * events.list만 흉내 내는 최소 Calendar API 서버.
+     * <ul>
+     *     <li>syncToken 없음: 2페이지로 나눈 전체 목록, 마지막 페이지에 token-1</li>
+     *     <li>syncToken=token-1: 변경분, token-2</li>
+     *     <li>syncToken=stale-token: 410 Gone</li>
+     * </ul>
+     */
+    private static class StubCalendarApi {
+
+        private static final String FULL_SYNC_PAGE_1 = """
+            {"items": [
+              {"id": "meeting", "status": "confirmed",
+               "start": {"dateTime": "2026-01-06T10:00:00+09:00"}, "end": {"dateTime": "2026-01-06T11:00:00+09:00"}},
+              {"id": "free-time", "status": "confirmed", "transparency": "transparent",
+               "start": {"dateTime": "2026-01-06T13:00:00+09:00"}, "end": {"dateTime": "2026-01-06T14:00:00+09:00"}},
+              {"id": "finished", "status": "confirmed",
+               "start": {"dateTime": "2026-01-04T10:00:00+09:00"}, "end": {"dateTime": "2026-01-04T11:00:00+09:00"}}
+            ], "nextPageToken": "page-2"}
+            """;
+
+        private static final String FULL_SYNC_PAGE_2 = """
+            {"items": [
+              {"id": "all-day", "status": "confirmed",
+               "start": {"date": "2026-01-07"}, "end": {"date": "2026-01-08"}},
+              {"id": "cohichat-booking", "status": "confirmed",
+               "extendedProperties": {"private": {"cohiChatBooking": "true"}},
+               "start": {"dateTime": "2026-01-08T10:00:00+09:00"}, "end": {"dateTime": "2026-01-08T11:00:00+09:00"}},
+              {"id": "legacy-booking", "status": "confirmed",
+               "start": {"dateTime": "2026-01-09T10:00:00+09:00"}, "end": {"dateTime": "2026-01-09T11:00:00+09:00"}},
+              {"id": "declined", "status": "confirmed",
+               "attendees": [{"email": "host@example.com", "self": true, "responseStatus": "declined"}],
+               "start": {"dateTime": "2026-01-10T10:00:00+09:00"}, "end": {"dateTime": "2026-01-10T11:00:00+09:00"}}
+            ], "nextSyncToken": "token-1"}
+            """;
+
+        private static final String INCREMENTAL_SYNC = """
+            {"items": [
+              {"id": "meeting", "status": "cancelled"},
+              {"id": "new-meeting", "status": "confirmed",
+               "start": {"dateTime": "2026-01-12T10:00:00+09:00"}, "end": {"dateTime": "2026-01-12T11:00:00+09:00"}}
+            ], "nextSyncToken": "token-2"}
+            """;
+
+        private static final String SYNC_TOKEN_EXPIRED = """
+            {"error": {"code": 410, "message": "Sync token is no longer valid, a full sync is required.",
+              "errors": [{"domain": "calendar", "reason": "fullSyncRequired"}]}}
+            """;
+
+        private final List<String> syncTokens = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private HttpServer server;
+
+        void start() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/calendar/v3/calendars/", this::handle);
+            server.start();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+            String syncToken = params.getOrDefault("syncToken", "");
+            syncTokens.add(syncToken);
+
+            if (failing) {
+                respond(exchange, 500, "{\"error\": {\"code\": 500, \"message\": \"backend error\"}}");
+            } else if ("stale-token".equals(syncToken)) {
+                respond(exchange, 410, SYNC_TOKEN_EXPIRED);
+            } else if ("token-1".equals(syncToken)) {
+                respond(exchange, 200, INCREMENTAL_SYNC);
+            } else if ("page-2".equals(params.get("pageToken"))) {
+                respond(exchange, 200, FULL_SYNC_PAGE_2);
+            } else {
+                respond(exchange, 200, FULL_SYNC_PAGE_1);
+            }
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+
+        private static Map<String, String> queryParams(String rawQuery) {
+            Map<String, String> params = new HashMap<>();
+            if (rawQuery == null) {
+                return params;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+                }
+            }
+            return params;
+        }
+
+        void failNextRequests() {
+            failing = true;
+        }
+
+        List<String> getSyncTokens() {
+            return syncTokens;
+        }
+
+        int getPort() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.coDevs.cohiChat.host;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -10,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Instant;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -28,7 +34,12 @@ import com.coDevs.cohiChat.calendar.request.CalendarCreateRequestDTO;
 import com.coDevs.cohiChat.calendar.response.CalendarResponseDTO;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.security.auth.MemberPrincipal;
+import com.coDevs.cohiChat.host.analytics.HostAnalyticsService;
+import com.coDevs.cohiChat.host.response.HostAnalyticsResponseDTO;
+import com.coDevs.cohiChat.host.response.HostMonthlyStatResponseDTO;
 import com.coDevs.cohiChat.host.response.HostProfileResponseDTO;
+import com.coDevs.cohiChat.host.response.HostTopicStatResponseDTO;
 import com.coDevs.cohiChat.member.MemberService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -45,6 +56,9 @@ class HostControllerTest {
 	@MockitoBean
 	private HostService hostService;
 
+	@MockitoBean
+	private HostAnalyticsService hostAnalyticsService;
+
 	@MockitoBean
 	private CalendarService calendarService;
 
@@ -232,4 +246,76 @@ class HostControllerTest {
 				.andExpect(status().isConflict());
 		}
 	}
+
+	@Nested
+	@DisplayName("호스트 통계 조회 API")
+	class GetAnalytics {
+
+		private final UUID hostId = UUID.randomUUID();
+
+		private UsernamePasswordAuthenticationToken hostAuthentication() {
+			MemberPrincipal principal = new MemberPrincipal(hostId, "testuser", "session-1",
+				List.of(new SimpleGrantedAuthority("ROLE_HOST")));
+			return new UsernamePasswordAuthenticationToken(principal, "access-token", principal.getAuthorities());
+		}
+
+		@Test
+		@DisplayName("기간을 지정하면 토큰의 회원 ID와 해당 기간으로 통계를 조회해 200 반환")
+		void getAnalyticsSuccess() throws Exception {
+			HostAnalyticsResponseDTO response = HostAnalyticsResponseDTO.builder()
+				.from("2026-01")
+				.to("2026-01")
+				.months(List.of(HostMonthlyStatResponseDTO.builder()
+					.month("2026-01")
+					.totalBookings(10)
+					.attendedCount(7)
+					.noShowCount(1)
+					.attendanceRate(0.875)
+					.noShowRate(0.125)
+					.build()))
+				.popularTopics(List.of(HostTopicStatResponseDTO.builder().topic("이직 상담").bookingCount(6).build()))
+				.build();
+			when(hostAnalyticsService.getAnalytics(hostId, YearMonth.of(2026, 1), YearMonth.of(2026, 1)))
+				.thenReturn(response);
+
+			mockMvc.perform(get("/hosts/v1/me/analytics")
+					.param("from", "2026-01")
+					.param("to", "2026-01")
+					.with(authentication(hostAuthentication())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.months[0].month").value("2026-01"))
+				.andExpect(jsonPath("$.data.months[0].attendanceRate").value(0.875))
+				.andExpect(jsonPath("$.data.popularTopics[0].topic").value("이직 상담"));
+		}
+
+		@Test
+		@DisplayName("기간을 생략하면 서비스 기본 기간으로 조회")
+		void getAnalyticsWithDefaultRange() throws Exception {
+			when(hostAnalyticsService.getAnalytics(eq(hostId), isNull(), isNull()))
+				.thenReturn(HostAnalyticsResponseDTO.builder()
+					.from("2025-08")
+					.to("2026-01")
+					.months(List.of())
+					.popularTopics(List.of())
+					.build());
+
+			mockMvc.perform(get("/hosts/v1/me/analytics")
+					.with(authentication(hostAuthentication())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.from").value("2025-08"));
+		}
+
+		@Test
+		@DisplayName("조회 기간이 유효하지 않으면 422 반환")
+		void getAnalyticsInvalidRange() throws Exception {
+			when(hostAnalyticsService.getAnalytics(eq(hostId), any(), any()))
+				.thenThrow(new CustomException(ErrorCode.INVALID_YEAR_MONTH));
+
+			mockMvc.perform(get("/hosts/v1/me/analytics")
+					.param("from", "2026-06")
+					.param("to", "2026-01")
+					.with(authentication(hostAuthentication())))
+				.andExpect(status().isUnprocessableEntity());
+		}
+	}
 }
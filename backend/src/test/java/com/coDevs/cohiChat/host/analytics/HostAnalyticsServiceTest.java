@@ -0,0 +1,130 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+import com.coDevs.cohiChat.host.entity.HostBookingStat;
+import com.coDevs.cohiChat.host.response.HostAnalyticsResponseDTO;
+import com.coDevs.cohiChat.host.response.HostMonthlyStatResponseDTO;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HostAnalyticsServiceTest {
+
+	private static final UUID HOST_ID = UUID.randomUUID();
+	// Asia/Seoul 기준 2026-03-01 08:00
+	private static final Instant NOW = Instant.parse("2026-02-28T23:00:00Z");
+
+	@Mock
+	private HostBookingStatRepository hostBookingStatRepository;
+
+	@Mock
+	private GoogleCalendarProperties googleCalendarProperties;
+
+	private HostAnalyticsService hostAnalyticsService;
+
+	@BeforeEach
+	void setUp() {
+		given(googleCalendarProperties.getTimezone()).willReturn("Asia/Seoul");
+		hostAnalyticsService = new HostAnalyticsService(hostBookingStatRepository, new HostAnalyticsProperties(),
+			googleCalendarProperties, Clock.fixed(NOW, ZoneOffset.UTC));
+		hostAnalyticsService.initZoneId();
+	}
+
+	@Test
+	@DisplayName("성공: 기간을 생략하면 서비스 시간대의 이번 달까지 최근 6개월을 빈 달까지 채워 반환한다")
+	void defaultRangeFillsEmptyMonths() {
+		// given
+		given(hostBookingStatRepository.findByHostIdAndStatMonthBetween(any(), any(), any())).willReturn(List.of());
+
+		// when
+		HostAnalyticsResponseDTO response = hostAnalyticsService.getAnalytics(HOST_ID, null, null);
+
+		// then
+		assertThat(response.getFrom()).isEqualTo("2025-10");
+		assertThat(response.getTo()).isEqualTo("2026-03");
+		assertThat(response.getMonths()).extracting(HostMonthlyStatResponseDTO::getMonth)
+			.containsExactly("2025-10", "2025-11", "2025-12", "2026-01", "2026-02", "2026-03");
+		assertThat(response.getMonths()).allSatisfy(month -> assertThat(month.getTotalBookings()).isZero());
+		verify(hostBookingStatRepository).findByHostIdAndStatMonthBetween(
+			HOST_ID, LocalDate.of(2025, 10, 1), LocalDate.of(2026, 3, 1));
+	}
+
+	@Test
+	@DisplayName("성공: 롤업 행으로 월별 비율과 취소를 제외한 인기 주제를 계산한다")
+	void computesRatesAndPopularTopicsFromRollups() {
+		// given
+		LocalDate january = LocalDate.of(2026, 1, 1);
+		given(hostBookingStatRepository.findByHostIdAndStatMonthBetween(HOST_ID, january, january)).willReturn(List.of(
+			stat(january, AttendanceStatus.ATTENDED, "이직 상담", 6),
+			stat(january, AttendanceStatus.LATE, "포트폴리오 리뷰", 1),
+			stat(january, AttendanceStatus.NO_SHOW, "이직 상담", 1),
+			stat(january, AttendanceStatus.SAME_DAY_CANCEL, "커리어 상담", 2)
+		));
+
+		// when
+		HostAnalyticsResponseDTO response = hostAnalyticsService.getAnalytics(
+			HOST_ID, YearMonth.of(2026, 1), YearMonth.of(2026, 1));
+
+		// then
+		HostMonthlyStatResponseDTO month = response.getMonths().get(0);
+		assertThat(month.getTotalBookings()).isEqualTo(10);
+		assertThat(month.getAttendanceRate()).isEqualTo(0.875);
+		assertThat(month.getNoShowRate()).isEqualTo(0.125);
+		assertThat(month.getSameDayCancelRate()).isEqualTo(0.2);
+		assertThat(response.getPopularTopics())
+			.extracting("topic", "bookingCount")
+			.containsExactly(tuple("이직 상담", 7L), tuple("포트폴리오 리뷰", 1L));
+	}
+
+	@Test
+	@DisplayName("실패: 시작 월이 종료 월보다 늦거나 최대 개월 수를 넘으면 조회하지 않는다")
+	void rejectsInvalidRange() {
+		// when & then
+		assertThatThrownBy(() -> hostAnalyticsService.getAnalytics(HOST_ID, YearMonth.of(2026, 3), YearMonth.of(2026, 1)))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.INVALID_YEAR_MONTH);
+		assertThatThrownBy(() -> hostAnalyticsService.getAnalytics(HOST_ID, YearMonth.of(2024, 1), YearMonth.of(2026, 1)))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.INVALID_YEAR_MONTH);
+		verify(hostBookingStatRepository, never()).findByHostIdAndStatMonthBetween(any(), any(), any());
+	}
+
+	private HostBookingStat stat(LocalDate statMonth, AttendanceStatus status, String topic, long count) {
+		HostBookingStat stat = mock(HostBookingStat.class);
+		given(stat.getHostId()).willReturn(HOST_ID);
+		given(stat.getStatMonth()).willReturn(statMonth);
+		given(stat.getAttendanceStatus()).willReturn(status);
+		given(stat.getTopic()).willReturn(topic);
+		given(stat.getBookingCount()).willReturn(count);
+		return stat;
+	}
+}
@@ -0,0 +1,116 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.BookingStatRow;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+import com.coDevs.cohiChat.host.entity.HostBookingStat;
+
+@ExtendWith(MockitoExtension.class)
+class HostBookingStatReconcileServiceTest {
+
+	private static final UUID HOST_ID = UUID.randomUUID();
+	private static final LocalDate STAT_MONTH = LocalDate.of(2026, 2, 1);
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private HostBookingStatRepository hostBookingStatRepository;
+
+	@Mock
+	private HostBookingStatRecorder hostBookingStatRecorder;
+
+	@InjectMocks
+	private HostBookingStatReconcileService reconcileService;
+
+	@Test
+	@DisplayName("성공: 원본 집계와 다른 행만 차이만큼 보정하고 0이 된 행은 지운다")
+	@SuppressWarnings("unchecked")
+	void reconcileAppliesOnlyDifferences() {
+		// given
+		given(bookingRepository.countStatRowsByDateRange(STAT_MONTH, LocalDate.of(2026, 3, 1))).willReturn(List.of(
+			row(LocalDate.of(2026, 2, 3), AttendanceStatus.ATTENDED, "이직 상담", 2L),
+			row(LocalDate.of(2026, 2, 10), AttendanceStatus.NO_SHOW, "이직 상담", 1L),
+			row(LocalDate.of(2026, 2, 20), AttendanceStatus.CANCELLED, "커리어 상담", 4L)
+		));
+		given(hostBookingStatRepository.findByStatMonth(STAT_MONTH)).willReturn(List.of(
+			stat(AttendanceStatus.ATTENDED, "이직 상담", 3L),
+			stat(AttendanceStatus.NO_SHOW, "이직 상담", 1L),
+			stat(AttendanceStatus.SCHEDULED, "포트폴리오 리뷰", 2L)
+		));
+
+		// when
+		int corrected = reconcileService.reconcileMonth(YearMonth.of(2026, 2));
+
+		// then
+		ArgumentCaptor<Map<HostBookingStatKey, Long>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(hostBookingStatRecorder).applyAll(captor.capture());
+		assertThat(captor.getValue()).containsOnly(
+			Map.entry(key(AttendanceStatus.ATTENDED, "이직 상담"), -1L),
+			Map.entry(key(AttendanceStatus.CANCELLED, "커리어 상담"), 4L),
+			Map.entry(key(AttendanceStatus.SCHEDULED, "포트폴리오 리뷰"), -2L)
+		);
+		assertThat(corrected).isEqualTo(3);
+		verify(hostBookingStatRepository).deleteEmptyByStatMonth(STAT_MONTH);
+	}
+
+	private HostBookingStatKey key(AttendanceStatus status, String topic) {
+		return new HostBookingStatKey(HOST_ID, STAT_MONTH, status, topic);
+	}
+
+	private HostBookingStat stat(AttendanceStatus status, String topic, long count) {
+		HostBookingStat stat = mock(HostBookingStat.class);
+		given(stat.toKey()).willReturn(key(status, topic));
+		given(stat.getBookingCount()).willReturn(count);
+		return stat;
+	}
+
+	private BookingStatRow row(LocalDate bookingDate, AttendanceStatus status, String topic, Long count) {
+		return new BookingStatRow() {
+			@Override
+			public UUID getHostId() {
+				return HOST_ID;
+			}
+
+			@Override
+			public LocalDate getBookingDate() {
+				return bookingDate;
+			}
+
+			@Override
+			public AttendanceStatus getAttendanceStatus() {
+				return status;
+			}
+
+			@Override
+			public String getTopic() {
+				return topic;
+			}
+
+			@Override
+			public Long getCount() {
+				return count;
+			}
+		};
+	}
+}
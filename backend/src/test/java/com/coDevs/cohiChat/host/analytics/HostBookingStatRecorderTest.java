@@ -0,0 +1,183 @@
+package com.coDevs.cohiChat.host.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coDevs.cohiChat.booking.BookingRepository;
+import com.coDevs.cohiChat.booking.BookingStatRow;
+import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
+import com.coDevs.cohiChat.booking.entity.Booking;
+import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.booking.event.BookingsAutoClosedEvent;
+import com.coDevs.cohiChat.host.HostBookingStatRepository;
+import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class HostBookingStatRecorderTest {
+
+	private static final UUID HOST_ID = UUID.randomUUID();
+	private static final LocalDate BOOKING_DATE = LocalDate.of(2026, 3, 17);
+	private static final LocalDate STAT_MONTH = LocalDate.of(2026, 3, 1);
+	private static final String TOPIC = "이직 상담";
+
+	@Mock
+	private HostBookingStatRepository hostBookingStatRepository;
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private TimeSlot timeSlot;
+
+	private SimpleMeterRegistry meterRegistry;
+	private HostBookingStatRecorder recorder;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		recorder = new HostBookingStatRecorder(hostBookingStatRepository, bookingRepository, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("성공: 상태가 바뀌면 이전 행을 1 줄이고 새 행을 1 늘린다")
+	void recordTransitionMovesOneCount() {
+		// given
+		Booking booking = createBooking();
+		HostBookingStatKey before = recorder.snapshot(booking);
+		booking.updateStatus(AttendanceStatus.NO_SHOW);
+		given(hostBookingStatRepository.addBookingCount(any(), any(), any(), anyString(), anyLong())).willReturn(1);
+
+		// when
+		recorder.recordTransition(before, booking);
+
+		// then
+		InOrder inOrder = inOrder(hostBookingStatRepository);
+		inOrder.verify(hostBookingStatRepository)
+			.addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC, -1);
+		inOrder.verify(hostBookingStatRepository)
+			.addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.NO_SHOW, TOPIC, 1);
+		verify(hostBookingStatRepository, never()).insertIfAbsent(any(), any(), anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("성공: 통계 키가 그대로면 롤업을 건드리지 않는다")
+	void recordTransitionSkipsUnchangedKey() {
+		// given
+		Booking booking = createBooking();
+		HostBookingStatKey before = recorder.snapshot(booking);
+
+		// when
+		recorder.recordTransition(before, booking);
+
+		// then
+		verifyNoInteractions(hostBookingStatRepository);
+	}
+
+	@Test
+	@DisplayName("성공: 행이 없으면 만들고, 다른 트랜잭션이 먼저 만들었으면 UPDATE를 다시 시도한다")
+	void applyRetriesUpdateWhenConcurrentInsertWins() {
+		// given
+		HostBookingStatKey key = new HostBookingStatKey(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC);
+		given(hostBookingStatRepository.addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC, 1))
+			.willReturn(0, 1);
+		given(hostBookingStatRepository.insertIfAbsent(HOST_ID, STAT_MONTH, "SCHEDULED", TOPIC, 1)).willReturn(0);
+
+		// when
+		recorder.apply(key, 1);
+
+		// then
+		verify(hostBookingStatRepository, times(2))
+			.addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC, 1);
+	}
+
+	@Test
+	@DisplayName("성공: 없는 행을 줄이려 하면 음수 행을 만들지 않고 보정 배치에 맡긴다")
+	void applySkipsDecrementOfMissingRow() {
+		// given
+		HostBookingStatKey key = new HostBookingStatKey(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC);
+		given(hostBookingStatRepository.addBookingCount(any(), any(), any(), anyString(), anyLong())).willReturn(0);
+
+		// when
+		recorder.apply(key, -1);
+
+		// then
+		verify(hostBookingStatRepository, never()).insertIfAbsent(any(), any(), anyString(), anyString(), anyLong());
+		assertThat(meterRegistry.counter("host.analytics.stat.missing_row").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 자동 종료된 예약을 다시 집계해 SCHEDULED에서 종료 상태로 옮긴다")
+	void autoClosedEventMovesCounts() {
+		// given
+		List<Long> bookingIds = List.of(1L, 2L, 3L);
+		given(bookingRepository.countStatRowsByIds(bookingIds, AttendanceStatus.UNREPORTED))
+			.willReturn(List.of(row(BOOKING_DATE, AttendanceStatus.UNREPORTED, 3L)));
+		given(hostBookingStatRepository.addBookingCount(any(), any(), any(), anyString(), anyLong())).willReturn(1);
+
+		// when
+		recorder.handleBookingsAutoClosed(new BookingsAutoClosedEvent(
+			bookingIds, Set.of(HOST_ID), AttendanceStatus.UNREPORTED, 3, Instant.now()));
+
+		// then
+		verify(hostBookingStatRepository).addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.SCHEDULED, TOPIC, -3);
+		verify(hostBookingStatRepository).addBookingCount(HOST_ID, STAT_MONTH, AttendanceStatus.UNREPORTED, TOPIC, 3);
+	}
+
+	private Booking createBooking() {
+		given(timeSlot.getUserId()).willReturn(HOST_ID);
+		return Booking.create(timeSlot, UUID.randomUUID(), BOOKING_DATE, TOPIC, "설명", MeetingType.ONLINE, null, null);
+	}
+
+	private BookingStatRow row(LocalDate bookingDate, AttendanceStatus status, Long count) {
+		return new BookingStatRow() {
+			@Override
+			public UUID getHostId() {
+				return HOST_ID;
+			}
+
+			@Override
+			public LocalDate getBookingDate() {
+				return bookingDate;
+			}
+
+			@Override
+			public AttendanceStatus getAttendanceStatus() {
+				return status;
+			}
+
+			@Override
+			public String getTopic() {
+				return TOPIC;
+			}
+
+			@Override
+			public Long getCount() {
+				return count;
+			}
+		};
+	}
+}
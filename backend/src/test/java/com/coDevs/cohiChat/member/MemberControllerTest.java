@@ -313,7 +313,7 @@ class MemberControllerTest {
 				.displayName(TEST_DISPLAY_NAME)
 				.build();
 
-			when(memberService.login(any())).thenReturn(loginResponse);
+			when(memberService.login(any(), any())).thenReturn(loginResponse);
 
 			mockMvc.perform(post("/members/v1/login")
 					.contentType(MediaType.APPLICATION_JSON)
@@ -335,7 +335,7 @@ class MemberControllerTest {
 		@Test
 		@DisplayName("로그인 실패: 일반화된 자격증명 오류 응답 검증")
 		void loginFailWithGenericCredentialsMessage() throws Exception {
-			when(memberService.login(any())).thenThrow(new CustomException(ErrorCode.INVALID_CREDENTIALS));
+			when(memberService.login(any(), any())).thenThrow(new CustomException(ErrorCode.INVALID_CREDENTIALS));
 
 			mockMvc.perform(post("/members/v1/login")
 					.contentType(MediaType.APPLICATION_JSON)
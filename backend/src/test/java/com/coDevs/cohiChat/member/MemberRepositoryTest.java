@@ -0,0 +1,57 @@
+package com.coDevs.cohiChat.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberRepositoryTest {
+
+	private static final String PROFILE_IMAGE_URL = "https://cdn.example.com/profiles/avatar.png";
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = Member.create("variantuser", "Variant", "variant@test.com", "hashedPw", Role.GUEST);
+		member.updateProfile(null, PROFILE_IMAGE_URL);
+		member = memberRepository.saveAndFlush(member);
+	}
+
+	@Test
+	@DisplayName("성공: 프로필 이미지 URL이 그대로면 변환본 준비 완료 표시")
+	void markProfileImageVariantsReady() {
+		// when
+		int updated = memberRepository.markProfileImageVariantsReady(member.getId(), PROFILE_IMAGE_URL);
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(memberRepository.findById(member.getId()).orElseThrow().isProfileImageVariantsReady()).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공: 변환 중 프로필 이미지가 교체되었으면 갱신하지 않음")
+	void markProfileImageVariantsReadySkipsReplacedImage() {
+		// when
+		int updated = memberRepository.markProfileImageVariantsReady(
+			member.getId(), "https://cdn.example.com/profiles/old.png");
+
+		// then
+		assertThat(updated).isZero();
+		assertThat(memberRepository.findById(member.getId()).orElseThrow().isProfileImageVariantsReady()).isFalse();
+	}
+}
@@ -3,9 +3,11 @@ package com.coDevs.cohiChat.member;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -15,30 +17,35 @@ import com.coDevs.cohiChat.booking.BookingRepository;
 import com.coDevs.cohiChat.booking.entity.AttendanceStatus;
 import com.coDevs.cohiChat.booking.entity.Booking;
 import com.coDevs.cohiChat.booking.entity.MeetingType;
+import com.coDevs.cohiChat.calendar.CalendarTopicCache;
 import com.coDevs.cohiChat.global.config.RateLimitService;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.global.security.jwt.JwtTokenProvider;
 import com.coDevs.cohiChat.global.security.jwt.TokenService;
+import com.coDevs.cohiChat.global.security.password.PasswordHasher;
 import com.coDevs.cohiChat.global.util.SmtpEmailValidator;
 import com.coDevs.cohiChat.google.calendar.GoogleCalendarProperties;
+import com.coDevs.cohiChat.host.analytics.HostBookingStatRecorder;
 import com.coDevs.cohiChat.member.entity.AccessTokenBlacklist;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.Provider;
-import com.coDevs.cohiChat.member.entity.RefreshToken;
 import com.coDevs.cohiChat.member.entity.Role;
 import com.coDevs.cohiChat.member.event.MemberWithdrawalEvent;
 import com.coDevs.cohiChat.member.request.LoginRequestDTO;
 import com.coDevs.cohiChat.member.request.SignupRequestDTO;
 import com.coDevs.cohiChat.member.request.UpdateMemberRequestDTO;
+import com.coDevs.cohiChat.member.response.HostResponseDTO;
 import com.coDevs.cohiChat.member.response.LoginResponseDTO;
 import com.coDevs.cohiChat.member.response.RefreshTokenResponseDTO;
 import com.coDevs.cohiChat.member.response.SignupResponseDTO;
 import com.coDevs.cohiChat.member.response.WithdrawalCheckResponseDTO;
 import com.coDevs.cohiChat.timeslot.entity.TimeSlot;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -46,6 +53,7 @@ import java.time.ZoneId;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,9 +64,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -67,6 +77,8 @@ class MemberServiceTest {
 	private static final String TEST_EMAIL = "test@test.com";
 	private static final String TEST_PASSWORD = "testPassword123!";
 	private static final String TEST_DISPLAY_NAME = "testDisplayName";
+	private static final String TEST_SESSION_ID = "test-session-id";
+	private static final String TEST_USER_AGENT = "Mozilla/5.0 (Macintosh)";
 
 	/**
 	 * 회원가입 성공을 위한 공통 Mock 설정
@@ -74,7 +86,7 @@ class MemberServiceTest {
 	private void givenSuccessfulSignupMocks() {
 		given(memberRepository.existsByUsernameAndIsDeletedFalse(anyString())).willReturn(false);
 		given(memberRepository.existsByEmail(anyString())).willReturn(false);
-		given(passwordEncoder.encode(anyString())).willReturn("hashedPassword");
+		given(passwordHasher.encode(anyString())).willReturn("hashedPassword");
 		given(memberRepository.save(any(Member.class))).willAnswer(inv -> inv.getArgument(0));
 		given(smtpEmailValidator.validateEmailExists(anyString()))
 			.willReturn(CompletableFuture.completedFuture(true));
@@ -86,7 +98,7 @@ class MemberServiceTest {
 	private MemberRepository memberRepository;
 
 	@Mock
-	private RefreshTokenRepository refreshTokenRepository;
+	private SessionRegistry sessionRegistry;
 
 	@Mock
 	private AccessTokenBlacklistRepository accessTokenBlacklistRepository;
@@ -95,7 +107,7 @@ class MemberServiceTest {
 	private BookingRepository bookingRepository;
 
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
 
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
@@ -118,6 +130,15 @@ class MemberServiceTest {
 	@Mock
 	private GoogleCalendarProperties googleCalendarProperties;
 
+	@Mock
+	private CalendarTopicCache calendarTopicCache;
+
+	@Mock
+	private HostBookingStatRecorder hostBookingStatRecorder;
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
 	@InjectMocks
 	private MemberService memberService;
 
@@ -211,14 +232,14 @@ class MemberServiceTest {
 			.build();
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
-		given(passwordEncoder.matches(TEST_PASSWORD, "hashedPassword")).willReturn(true);
-		given(tokenService.issueTokens(member)).willReturn(mockResponse);
+		given(passwordHasher.matches(TEST_PASSWORD, "hashedPassword")).willReturn(true);
+		given(tokenService.issueTokens(member, TEST_USER_AGENT)).willReturn(mockResponse);
 
-		LoginResponseDTO response = memberService.login(loginRequestDTO);
+		LoginResponseDTO response = memberService.login(loginRequestDTO, TEST_USER_AGENT);
 
 		assertThat(response.accessToken()).isEqualTo("test-access-token");
 		assertThat(response.refreshToken()).isEqualTo("test-refresh-token");
-		verify(tokenService).issueTokens(member);
+		verify(tokenService).issueTokens(member, TEST_USER_AGENT);
 	}
 
 	@Test
@@ -231,7 +252,7 @@ class MemberServiceTest {
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse("wrongUser")).willReturn(Optional.empty());
 
-		assertThatThrownBy(() -> memberService.login(request))
+		assertThatThrownBy(() -> memberService.login(request, TEST_USER_AGENT))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 	}
@@ -249,7 +270,7 @@ class MemberServiceTest {
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(oAuthMember));
 
-		assertThatThrownBy(() -> memberService.login(request))
+		assertThatThrownBy(() -> memberService.login(request, TEST_USER_AGENT))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SOCIAL_LOGIN_REQUIRED);
 	}
@@ -264,11 +285,68 @@ class MemberServiceTest {
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
 
-		assertThatThrownBy(() -> memberService.login(request))
+		assertThatThrownBy(() -> memberService.login(request, TEST_USER_AGENT))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 	}
 
+	@Test
+	@DisplayName("성공: 저장된 해시가 현재 설정과 다르면 로그인 시 새 해시로 조건부 갱신")
+	void loginRehashesOutdatedPassword() {
+		LoginRequestDTO request = LoginRequestDTO.builder()
+			.username(TEST_USERNAME)
+			.password(TEST_PASSWORD)
+			.build();
+
+		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
+		given(passwordHasher.matches(TEST_PASSWORD, "hashedPassword")).willReturn(true);
+		given(passwordHasher.needsRehash("hashedPassword")).willReturn(true);
+		given(passwordHasher.encode(TEST_PASSWORD)).willReturn("{bcrypt}newHash");
+		given(memberRepository.updateHashedPassword(member.getId(), "hashedPassword", "{bcrypt}newHash")).willReturn(1);
+
+		memberService.login(request, TEST_USER_AGENT);
+
+		verify(memberRepository).updateHashedPassword(member.getId(), "hashedPassword", "{bcrypt}newHash");
+		verify(tokenService).issueTokens(member, TEST_USER_AGENT);
+	}
+
+	@Test
+	@DisplayName("성공: 재해싱 중 해싱 풀이 포화되어도 로그인은 성공")
+	void loginSucceedsWhenRehashIsRejected() {
+		LoginRequestDTO request = LoginRequestDTO.builder()
+			.username(TEST_USERNAME)
+			.password(TEST_PASSWORD)
+			.build();
+
+		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
+		given(passwordHasher.matches(TEST_PASSWORD, "hashedPassword")).willReturn(true);
+		given(passwordHasher.needsRehash("hashedPassword")).willReturn(true);
+		given(passwordHasher.encode(TEST_PASSWORD)).willThrow(new CustomException(ErrorCode.PASSWORD_HASHING_BUSY));
+
+		memberService.login(request, TEST_USER_AGENT);
+
+		verify(memberRepository, never()).updateHashedPassword(any(), anyString(), anyString());
+		verify(tokenService).issueTokens(member, TEST_USER_AGENT);
+	}
+
+	@Test
+	@DisplayName("실패: 비밀번호 검증 중 해싱 풀이 포화되면 PASSWORD_HASHING_BUSY 반환")
+	void loginFailWhenPasswordHashingBusy() {
+		LoginRequestDTO request = LoginRequestDTO.builder()
+			.username(TEST_USERNAME)
+			.password(TEST_PASSWORD)
+			.build();
+
+		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
+		given(passwordHasher.matches(TEST_PASSWORD, "hashedPassword"))
+			.willThrow(new CustomException(ErrorCode.PASSWORD_HASHING_BUSY));
+
+		assertThatThrownBy(() -> memberService.login(request, TEST_USER_AGENT))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASHING_BUSY);
+		verify(tokenService, never()).issueTokens(any(), any());
+	}
+
 	@Test
 	@DisplayName("성공: 존재하는 아이디로 회원 정보 조회")
 	void getMemberSuccess() {
@@ -296,7 +374,7 @@ class MemberServiceTest {
 			.build();
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
-		given(passwordEncoder.encode("newPass")).willReturn("newHash");
+		given(passwordHasher.encode("newPass")).willReturn("newHash");
 
 		memberService.updateMember(TEST_USERNAME, updateMemberRequestDTO);
 		assertThat(member.getDisplayName()).isEqualTo("newNick");
@@ -317,7 +395,7 @@ class MemberServiceTest {
 		memberService.updateMember(TEST_USERNAME, updateMemberRequestDTO);
 		assertThat(member.getDisplayName()).isEqualTo("newNick");
 		assertThat(member.getHashedPassword()).isEqualTo(oldPassword);
-		verify(passwordEncoder, never()).encode(anyString());
+		verify(passwordHasher, never()).encode(anyString());
 	}
 
 	@Test
@@ -330,7 +408,7 @@ class MemberServiceTest {
 			.build();
 
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
-		given(passwordEncoder.encode("newPass")).willReturn("newHash");
+		given(passwordHasher.encode("newPass")).willReturn("newHash");
 
 		memberService.updateMember(TEST_USERNAME, updateMemberRequestDTO);
 		assertThat(member.getDisplayName()).isEqualTo(oldNickname);
@@ -381,16 +459,16 @@ class MemberServiceTest {
 		String expectedHash = "ba518c093e1e0df01cfe01436563cd37f6a1f47697fcc620e818a2d062665083";
 		String newRefreshToken = "new-refresh-token";
 		String newHash = "new-hash-value";
-		RefreshToken storedToken = RefreshToken.create(expectedHash, TEST_USERNAME, 604800000L);
 
 		given(jwtTokenProvider.getUsernameFromToken(validRefreshToken)).willReturn(TEST_USERNAME);
+		given(jwtTokenProvider.getSessionIdFromToken(validRefreshToken)).willReturn(TEST_SESSION_ID);
 		given(tokenService.hashToken(validRefreshToken)).willReturn(expectedHash);
 		given(tokenService.hashToken(newRefreshToken)).willReturn(newHash);
-		given(refreshTokenRepository.findByToken(expectedHash)).willReturn(Optional.of(storedToken));
+		given(sessionRegistry.rotate(TEST_USERNAME, TEST_SESSION_ID, expectedHash, newHash, 604800000L)).willReturn(true);
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
-		given(jwtTokenProvider.createRefreshToken(TEST_USERNAME)).willReturn(newRefreshToken);
+		given(jwtTokenProvider.createRefreshToken(TEST_USERNAME, TEST_SESSION_ID)).willReturn(newRefreshToken);
 		given(jwtTokenProvider.getRefreshTokenExpirationMs()).willReturn(604800000L);
-		given(jwtTokenProvider.createAccessToken(TEST_USERNAME, "GUEST")).willReturn("new-access-token");
+		given(jwtTokenProvider.createAccessToken(TEST_USERNAME, "GUEST", TEST_SESSION_ID, member.getId())).willReturn("new-access-token");
 		given(jwtTokenProvider.getExpirationSeconds("new-access-token")).willReturn(3600L);
 
 		RefreshTokenResponseDTO response = memberService.refreshAccessToken(validRefreshToken);
@@ -398,7 +476,7 @@ class MemberServiceTest {
 		assertThat(response.getAccessToken()).isEqualTo("new-access-token");
 		assertThat(response.getRefreshToken()).isEqualTo(newRefreshToken);
 		assertThat(response.getExpiredInMinutes()).isEqualTo(60);
-		verify(refreshTokenRepository).save(any(RefreshToken.class));
+		verify(sessionRegistry).rotate(TEST_USERNAME, TEST_SESSION_ID, expectedHash, newHash, 604800000L);
 	}
 
 	@Test
@@ -431,14 +509,22 @@ class MemberServiceTest {
 	void refreshAccessTokenFailNotInRedis() {
 		String tokenNotInRedis = "not-in-redis-token";
 		String tokenHash = "not-in-redis-hash";
+		String newRefreshToken = "new-refresh-token";
+		String newHash = "new-hash-value";
 
 		given(jwtTokenProvider.getUsernameFromToken(tokenNotInRedis)).willReturn(TEST_USERNAME);
+		given(jwtTokenProvider.getSessionIdFromToken(tokenNotInRedis)).willReturn(TEST_SESSION_ID);
 		given(tokenService.hashToken(tokenNotInRedis)).willReturn(tokenHash);
-		given(refreshTokenRepository.findByToken(tokenHash)).willReturn(Optional.empty());
+		given(tokenService.hashToken(newRefreshToken)).willReturn(newHash);
+		given(jwtTokenProvider.createRefreshToken(TEST_USERNAME, TEST_SESSION_ID)).willReturn(newRefreshToken);
+		given(jwtTokenProvider.getRefreshTokenExpirationMs()).willReturn(604800000L);
+		given(sessionRegistry.rotate(TEST_USERNAME, TEST_SESSION_ID, tokenHash, newHash, 604800000L)).willReturn(false);
 
 		assertThatThrownBy(() -> memberService.refreshAccessToken(tokenNotInRedis))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+
+		verify(memberRepository, never()).findByUsernameAndIsDeletedFalse(anyString());
 	}
 
 	@Test
@@ -448,16 +534,16 @@ class MemberServiceTest {
 		String expectedHash = "ba518c093e1e0df01cfe01436563cd37f6a1f47697fcc620e818a2d062665083";
 		String newRefreshToken = "new-refresh-token";
 		String newHash = "new-hash-value";
-		RefreshToken storedToken = RefreshToken.create(expectedHash, TEST_USERNAME, 604800000L);
 
 		given(jwtTokenProvider.getUsernameFromToken(validRefreshToken)).willReturn(TEST_USERNAME);
+		given(jwtTokenProvider.getSessionIdFromToken(validRefreshToken)).willReturn(TEST_SESSION_ID);
 		given(tokenService.hashToken(validRefreshToken)).willReturn(expectedHash);
 		given(tokenService.hashToken(newRefreshToken)).willReturn(newHash);
-		given(refreshTokenRepository.findByToken(expectedHash)).willReturn(Optional.of(storedToken));
+		given(sessionRegistry.rotate(TEST_USERNAME, TEST_SESSION_ID, expectedHash, newHash, 604800000L)).willReturn(true);
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
-		given(jwtTokenProvider.createRefreshToken(TEST_USERNAME)).willReturn(newRefreshToken);
+		given(jwtTokenProvider.createRefreshToken(TEST_USERNAME, TEST_SESSION_ID)).willReturn(newRefreshToken);
 		given(jwtTokenProvider.getRefreshTokenExpirationMs()).willReturn(604800000L);
-		given(jwtTokenProvider.createAccessToken(TEST_USERNAME, "GUEST")).willReturn("new-access-token");
+		given(jwtTokenProvider.createAccessToken(TEST_USERNAME, "GUEST", TEST_SESSION_ID, member.getId())).willReturn("new-access-token");
 		given(jwtTokenProvider.getExpirationSeconds("new-access-token")).willReturn(3600L);
 
 		memberService.refreshAccessToken(validRefreshToken);
@@ -471,6 +557,7 @@ class MemberServiceTest {
 		String validRefreshToken = "valid-refresh-token";
 
 		given(jwtTokenProvider.getUsernameFromToken(validRefreshToken)).willReturn(TEST_USERNAME);
+		given(jwtTokenProvider.getSessionIdFromToken(validRefreshToken)).willReturn(TEST_SESSION_ID);
 		willThrow(new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED))
 			.given(rateLimitService).checkRateLimit("refresh:" + TEST_USERNAME);
 
@@ -494,11 +581,27 @@ class MemberServiceTest {
 	}
 
 	@Test
-	@DisplayName("성공: 로그아웃 시 Refresh Token 삭제 및 Access Token 블랙리스트 등록")
+	@DisplayName("실패: 세션 ID가 없는 Refresh Token은 INVALID_REFRESH_TOKEN 예외")
+	void refreshAccessToken_failWhenSessionIdMissing() {
+		String tokenWithoutSession = "token-without-session";
+
+		given(jwtTokenProvider.getUsernameFromToken(tokenWithoutSession)).willReturn(TEST_USERNAME);
+		given(jwtTokenProvider.getSessionIdFromToken(tokenWithoutSession)).willReturn(null);
+
+		assertThatThrownBy(() -> memberService.refreshAccessToken(tokenWithoutSession))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+
+		verify(sessionRegistry, never()).rotate(anyString(), anyString(), anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("성공: 로그아웃 시 현재 기기 세션 삭제 및 Access Token 블랙리스트 등록")
 	void logoutSuccess() {
 		// given
 		String accessToken = "test-access-token";
 		String hashedToken = "hashed-access-token";
+		given(jwtTokenProvider.getSessionIdFromToken(accessToken)).willReturn(TEST_SESSION_ID);
 		given(jwtTokenProvider.getExpirationSeconds(accessToken)).willReturn(1800L);
 		given(tokenService.hashToken(accessToken)).willReturn(hashedToken);
 
@@ -506,7 +609,7 @@ class MemberServiceTest {
 		memberService.logout(TEST_USERNAME, accessToken);
 
 		// then
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revoke(TEST_USERNAME, TEST_SESSION_ID);
 
 		ArgumentCaptor<AccessTokenBlacklist> captor = ArgumentCaptor.forClass(AccessTokenBlacklist.class);
 		verify(accessTokenBlacklistRepository).save(captor.capture());
@@ -521,6 +624,7 @@ class MemberServiceTest {
 		// given
 		String accessToken = "near-expired-token";
 		String hashedToken = "hashed-near-expired-token";
+		given(jwtTokenProvider.getSessionIdFromToken(accessToken)).willReturn(TEST_SESSION_ID);
 		given(jwtTokenProvider.getExpirationSeconds(accessToken)).willReturn(1L);
 		given(tokenService.hashToken(accessToken)).willReturn(hashedToken);
 
@@ -528,7 +632,7 @@ class MemberServiceTest {
 		memberService.logout(TEST_USERNAME, accessToken);
 
 		// then
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revoke(TEST_USERNAME, TEST_SESSION_ID);
 		
 		ArgumentCaptor<AccessTokenBlacklist> captor = ArgumentCaptor.forClass(AccessTokenBlacklist.class);
 		verify(accessTokenBlacklistRepository).save(captor.capture());
@@ -537,13 +641,13 @@ class MemberServiceTest {
 	}
 
 	@Test
-	@DisplayName("성공: accessToken이 null이면 블랙리스트 등록 없이 Refresh Token만 삭제")
+	@DisplayName("성공: accessToken이 null이면 세션을 특정할 수 없으므로 블랙리스트 등록 없이 종료")
 	void logoutWithNullAccessToken() {
 		// when
 		memberService.logout(TEST_USERNAME, null);
 
 		// then
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revoke(TEST_USERNAME, null);
 		verify(accessTokenBlacklistRepository, never()).save(any(AccessTokenBlacklist.class));
 	}
 
@@ -552,14 +656,17 @@ class MemberServiceTest {
 	void logoutWithExpiredToken() {
 		// given
 		String accessToken = "expired-token";
-		willThrow(new ExpiredJwtException(null, null, "expired"))
+		Claims expiredClaims = Jwts.claims().subject(TEST_USERNAME).add("sid", TEST_SESSION_ID).build();
+		willThrow(new ExpiredJwtException(null, expiredClaims, "expired"))
+			.given(jwtTokenProvider).getSessionIdFromToken(accessToken);
+		willThrow(new ExpiredJwtException(null, expiredClaims, "expired"))
 			.given(jwtTokenProvider).getExpirationSeconds(accessToken);
 
 		// when
 		memberService.logout(TEST_USERNAME, accessToken);
 
 		// then
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revoke(TEST_USERNAME, TEST_SESSION_ID);
 		verify(accessTokenBlacklistRepository, never()).save(any(AccessTokenBlacklist.class));
 	}
 
@@ -568,13 +675,14 @@ class MemberServiceTest {
 	void logoutWithZeroTtlToken() {
 		// given
 		String accessToken = "zero-ttl-token";
+		given(jwtTokenProvider.getSessionIdFromToken(accessToken)).willReturn(TEST_SESSION_ID);
 		given(jwtTokenProvider.getExpirationSeconds(accessToken)).willReturn(0L);
 
 		// when
 		memberService.logout(TEST_USERNAME, accessToken);
 
 		// then
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revoke(TEST_USERNAME, TEST_SESSION_ID);
 		verify(accessTokenBlacklistRepository, never()).save(any(AccessTokenBlacklist.class));
 	}
 
@@ -661,7 +769,7 @@ class MemberServiceTest {
 	}
 
 	@Test
-	@DisplayName("성공: 예약이 없는 회원 탈퇴 시 Soft Delete, Refresh Token 삭제 및 이벤트 발행")
+	@DisplayName("성공: 예약이 없는 회원 탈퇴 시 Soft Delete, 모든 기기 세션 무효화 및 이벤트 발행")
 	void deleteMemberWithNoBookingsSuccess() {
 		// given
 		given(memberRepository.findByUsernameAndIsDeletedFalse(TEST_USERNAME)).willReturn(Optional.of(member));
@@ -674,7 +782,7 @@ class MemberServiceTest {
 		// then
 		assertThat(member.isDeleted()).isTrue();
 		assertThat(member.getDeletedAt()).isNotNull();
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revokeAll(TEST_USERNAME);
 		verify(eventPublisher).publishEvent(any(MemberWithdrawalEvent.class));
 	}
 
@@ -700,7 +808,7 @@ class MemberServiceTest {
 		assertThat(member.isDeleted()).isTrue();
 		assertThat(mockBooking.getAttendanceStatus()).isEqualTo(AttendanceStatus.CANCELLED);
 		assertThat(mockBooking.getCancelledReason()).isEqualTo("회원 탈퇴로 인한 취소");
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revokeAll(TEST_USERNAME);
 
 		// GCal 삭제를 위한 이벤트 발행 검증
 		ArgumentCaptor<MemberWithdrawalEvent> eventCaptor = ArgumentCaptor.forClass(MemberWithdrawalEvent.class);
@@ -735,7 +843,7 @@ class MemberServiceTest {
 		assertThat(hostMember.isDeleted()).isTrue();
 		assertThat(hostBooking.getAttendanceStatus()).isEqualTo(AttendanceStatus.CANCELLED);
 		assertThat(hostBooking.getCancelledReason()).isEqualTo("회원 탈퇴로 인한 취소");
-		verify(refreshTokenRepository).deleteById(TEST_USERNAME);
+		verify(sessionRegistry).revokeAll(TEST_USERNAME);
 
 		// GCal 삭제를 위한 이벤트 발행 검증
 		ArgumentCaptor<MemberWithdrawalEvent> eventCaptor = ArgumentCaptor.forClass(MemberWithdrawalEvent.class);
@@ -745,6 +853,40 @@ class MemberServiceTest {
 		assertThat(publishedEvent.getMemberRole()).isEqualTo(Role.HOST);
 	}
 
+	@Test
+	@DisplayName("성공: 주제로 호스트 검색 시 정규화된 주제를 가진 호스트만 반환")
+	void getActiveHostsByTopicFiltersByNormalizedTopic() {
+		// given
+		UUID careerHostId = UUID.randomUUID();
+		UUID resumeHostId = UUID.randomUUID();
+		Member careerHost = mock(Member.class);
+		Member resumeHost = mock(Member.class);
+		given(careerHost.getId()).willReturn(careerHostId);
+		given(careerHost.getUsername()).willReturn("careerhost");
+		given(resumeHost.getId()).willReturn(resumeHostId);
+		given(memberRepository.findByRoleAndIsDeletedFalse(Role.HOST)).willReturn(List.of(careerHost, resumeHost));
+		given(calendarTopicCache.getTopics(List.of(careerHostId, resumeHostId))).willReturn(Map.of(
+			careerHostId, CalendarTopicCache.compile(List.of("Career 상담")),
+			resumeHostId, CalendarTopicCache.compile(List.of("이력서 리뷰"))
+		));
+		given(bookingRepository.countAttendedByHostIds(List.of(careerHostId), AttendanceStatus.ATTENDED))
+			.willReturn(List.of());
+
+		// when
+		List<HostResponseDTO> hosts = memberService.getActiveHostsByTopic("  career 상담 ");
+
+		// then
+		assertThat(hosts).extracting(HostResponseDTO::getUsername).containsExactly("careerhost");
+	}
+
+	@Test
+	@DisplayName("실패: 공백 주제로 호스트 검색 시 INVALID_TOPIC 예외")
+	void getActiveHostsByBlankTopicFails() {
+		assertThatThrownBy(() -> memberService.getActiveHostsByTopic("   "))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOPIC);
+	}
+
 	private TimeSlot createMockTimeSlot(UUID userId) {
 		return TimeSlot.create(
 			userId,
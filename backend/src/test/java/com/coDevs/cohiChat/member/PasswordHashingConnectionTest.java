@@ -0,0 +1,163 @@
+package com.coDevs.cohiChat.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coDevs.cohiChat.config.EmbeddedRedisConfig;
+import com.coDevs.cohiChat.global.security.password.PasswordHasher;
+import com.coDevs.cohiChat.global.util.SmtpEmailValidator;
+import com.coDevs.cohiChat.member.entity.Member;
+import com.coDevs.cohiChat.member.entity.Role;
+import com.coDevs.cohiChat.member.request.LoginRequestDTO;
+import com.coDevs.cohiChat.member.request.SignupRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Open Session In View 요청 안에서도 비밀번호 해싱 동안 DB 커넥션을 잡고 있지 않는지 검증한다.
+ * 해싱 직전(요청 스레드)에 요청 세션의 물리 커넥션 보유 여부와 Hikari 활성 커넥션 수를 기록한다.
+ * 다른 DB 작업이 끼어들지 않도록 이메일 outbox 폴링은 끈다.
+ */
+@SpringBootTest(properties = "app.email.outbox.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class PasswordHashingConnectionTest {
+
+	private static final String USERNAME = "hashconn";
+	private static final String NEW_USERNAME = "hashsignup";
+	private static final String PASSWORD = "password123!";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@MockitoSpyBean
+	private PasswordHasher passwordHasher;
+
+	@MockitoBean
+	private SmtpEmailValidator smtpEmailValidator;
+
+	private final List<ConnectionState> states = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		given(smtpEmailValidator.validateEmailExists(anyString())).willReturn(CompletableFuture.completedFuture(true));
+		doAnswer(recordConnectionState()).when(passwordHasher).matches(anyString(), anyString());
+		doAnswer(recordConnectionState()).when(passwordHasher).encode(anyString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.findByUsernameAndIsDeletedFalse(USERNAME).ifPresent(memberRepository::delete);
+		memberRepository.findByUsernameAndIsDeletedFalse(NEW_USERNAME).ifPresent(memberRepository::delete);
+	}
+
+	@Test
+	@DisplayName("성공: 로그인은 회원 조회 후 커넥션을 반납한 상태에서 비밀번호를 검증한다")
+	void loginReleasesConnectionBeforeHashing() throws Exception {
+		// given
+		memberRepository.save(
+			Member.create(USERNAME, "해시", "hashconn@test.com", passwordEncoder.encode(PASSWORD), Role.GUEST));
+		LoginRequestDTO request = LoginRequestDTO.builder().username(USERNAME).password(PASSWORD).build();
+
+		// when
+		mockMvc.perform(post("/members/v1/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk());
+
+		// then
+		assertThat(states).isNotEmpty().allSatisfy(this::assertReleased);
+	}
+
+	@Test
+	@DisplayName("성공: 회원가입은 중복 검사 후 커넥션을 반납한 상태에서 비밀번호를 해싱한다")
+	void signupReleasesConnectionBeforeHashing() throws Exception {
+		// given
+		SignupRequestDTO request = SignupRequestDTO.builder()
+			.username(NEW_USERNAME)
+			.password(PASSWORD)
+			.email("hashsignup@test.com")
+			.displayName("가입자")
+			.build();
+
+		// when
+		mockMvc.perform(post("/members/v1/signup")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().is2xxSuccessful());
+
+		// then
+		assertThat(states).isNotEmpty().allSatisfy(this::assertReleased);
+	}
+
+	private void assertReleased(ConnectionState state) {
+		assertThat(state.openSessionInView()).as("OSIV 세션이 열린 요청에서 해싱").isTrue();
+		assertThat(state.physicallyConnected()).as("요청 세션의 물리 커넥션 보유").isFalse();
+		assertThat(state.activeConnections()).as("Hikari 활성 커넥션 수").isZero();
+	}
+
+	private Answer<Object> recordConnectionState() {
+		return invocation -> {
+			EntityManagerHolder holder =
+				(EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+			boolean physicallyConnected = holder != null && holder.getEntityManager()
+				.unwrap(SessionImplementor.class)
+				.getJdbcCoordinator()
+				.getLogicalConnection()
+				.isPhysicallyConnected();
+			int activeConnections = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+			states.add(new ConnectionState(holder != null, physicallyConnected, activeConnections));
+			return invocation.callRealMethod();
+		};
+	}
+
+	private record ConnectionState(boolean openSessionInView, boolean physicallyConnected, int activeConnections) {
+	}
+}
@@ -2,6 +2,7 @@ package com.coDevs.cohiChat.member;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.coDevs.cohiChat.global.common.file.CloudFrontUrlService;
@@ -24,6 +26,7 @@ import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.Role;
+import com.coDevs.cohiChat.member.event.ProfileImageUploadedEvent;
 
 @ExtendWith(MockitoExtension.class)
 class ProfileImageServiceTest {
@@ -40,6 +43,9 @@ class ProfileImageServiceTest {
     @Mock
     private CloudFrontUrlService cloudFrontUrlService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProfileImageService profileImageService;
 
@@ -92,5 +98,6 @@ class ProfileImageServiceTest {
         verify(s3PresignedUrlService).getObjectMetadata(ownObjectKey);
         verify(cloudFrontUrlService).generatePublicUrl(ownObjectKey);
         verify(memberRepository).save(member);
+        verify(eventPublisher).publishEvent(any(ProfileImageUploadedEvent.class));
     }
 }
@@ -0,0 +1,119 @@
+package com.coDevs.cohiChat.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coDevs.cohiChat.global.common.file.S3PresignedUrlService;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileImageVariantServiceTest {
+
+    @Mock
+    private S3PresignedUrlService s3PresignedUrlService;
+
+    @Mock
+    private ProfileImageService profileImageService;
+
+    @InjectMocks
+    private ProfileImageVariantService profileImageVariantService;
+
+    private static final UUID MEMBER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final String OBJECT_KEY = "profiles/" + MEMBER_ID + "/avatar.png";
+    private static final String PROFILE_IMAGE_URL = "https://cdn.example.com/" + OBJECT_KEY;
+
+    @Test
+    @DisplayName("성공: 크기별 정사각형 JPEG 변환본 업로드 후 준비 완료 표시")
+    void generateVariantsUploadsEachSize() throws IOException {
+        // given
+        given(s3PresignedUrlService.getObjectBytes(OBJECT_KEY)).willReturn(Optional.of(png(300, 200)));
+        given(profileImageService.markVariantsReady(MEMBER_ID, PROFILE_IMAGE_URL)).willReturn(true);
+
+        // when
+        profileImageVariantService.generateVariants(MEMBER_ID, OBJECT_KEY, PROFILE_IMAGE_URL);
+
+        // then
+        for (int size : ProfileImageVariants.SIZES) {
+            ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+            verify(s3PresignedUrlService).putObject(
+                eq(ProfileImageVariants.variantOf(OBJECT_KEY, size)), bytes.capture(), eq(ProfileImageVariants.CONTENT_TYPE));
+            BufferedImage variant = ImageIO.read(new ByteArrayInputStream(bytes.getValue()));
+            assertThat(variant.getWidth()).isEqualTo(size);
+            assertThat(variant.getHeight()).isEqualTo(size);
+        }
+        verify(s3PresignedUrlService, never()).deleteObjectQuietly(anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 변환 중 프로필 이미지가 교체되면 변환본 정리")
+    void generateVariantsCleansUpWhenImageReplaced() throws IOException {
+        // given
+        given(s3PresignedUrlService.getObjectBytes(OBJECT_KEY)).willReturn(Optional.of(png(100, 100)));
+        given(profileImageService.markVariantsReady(MEMBER_ID, PROFILE_IMAGE_URL)).willReturn(false);
+
+        // when
+        profileImageVariantService.generateVariants(MEMBER_ID, OBJECT_KEY, PROFILE_IMAGE_URL);
+
+        // then
+        ProfileImageVariants.variantsOf(OBJECT_KEY)
+            .forEach(key -> verify(s3PresignedUrlService).deleteObjectQuietly(key));
+    }
+
+    @Test
+    @DisplayName("성공: 픽셀 수 상한 초과 이미지는 디코딩하지 않고 원본으로 서빙")
+    void generateVariantsSkipsOversizedImage() throws IOException {
+        // given
+        ReflectionTestUtils.setField(profileImageVariantService, "maxPixels", 100L * 100L);
+        given(s3PresignedUrlService.getObjectBytes(OBJECT_KEY)).willReturn(Optional.of(png(101, 100)));
+
+        // when
+        profileImageVariantService.generateVariants(MEMBER_ID, OBJECT_KEY, PROFILE_IMAGE_URL);
+
+        // then
+        verify(s3PresignedUrlService, never()).putObject(anyString(), any(), anyString());
+        verify(profileImageService, never()).markVariantsReady(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 디코딩할 수 없는 포맷은 변환 생략")
+    void generateVariantsSkipsUndecodableImage() {
+        // given
+        given(s3PresignedUrlService.getObjectBytes(OBJECT_KEY)).willReturn(Optional.of(new byte[] {'R', 'I', 'F', 'F'}));
+
+        // when
+        profileImageVariantService.generateVariants(MEMBER_ID, OBJECT_KEY, PROFILE_IMAGE_URL);
+
+        // then
+        verify(s3PresignedUrlService, never()).putObject(anyString(), any(), anyString());
+        verify(profileImageService, never()).markVariantsReady(any(), any());
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,44 @@
+package com.coDevs.cohiChat.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProfileImageVariantsTest {
+
+    private static final String ORIGINAL_URL = "https://cdn.example.com/profiles/member-1/avatar.png";
+
+    @Test
+    @DisplayName("성공: 확장자를 떼고 크기 접미사와 .jpg를 붙인다")
+    void variantOfReplacesExtension() {
+        assertThat(ProfileImageVariants.variantOf("profiles/member-1/avatar.png", 64))
+            .isEqualTo("profiles/member-1/avatar_64w.jpg");
+    }
+
+    @Test
+    @DisplayName("성공: 디렉터리 이름의 점은 확장자로 보지 않는다")
+    void variantOfIgnoresDotInDirectory() {
+        assertThat(ProfileImageVariants.variantOf("profiles/v1.2/avatar", 128))
+            .isEqualTo("profiles/v1.2/avatar_128w.jpg");
+    }
+
+    @Test
+    @DisplayName("성공: 변환본 준비 시 크기 오름차순 srcset 반환")
+    void srcsetOfReady() {
+        assertThat(ProfileImageVariants.srcsetOf(ORIGINAL_URL, true))
+            .containsExactly(
+                entry(64, "https://cdn.example.com/profiles/member-1/avatar_64w.jpg"),
+                entry(128, "https://cdn.example.com/profiles/member-1/avatar_128w.jpg"),
+                entry(256, "https://cdn.example.com/profiles/member-1/avatar_256w.jpg"));
+    }
+
+    @Test
+    @DisplayName("성공: 변환본 미준비 또는 URL 없음이면 빈 srcset")
+    void srcsetOfNotReady() {
+        assertThat(ProfileImageVariants.srcsetOf(ORIGINAL_URL, false)).isEmpty();
+        assertThat(ProfileImageVariants.srcsetOf(null, true)).isEmpty();
+        assertThat(ProfileImageVariants.srcsetOf(" ", true)).isEmpty();
+    }
+}
@@ -0,0 +1,332 @@
+package com.coDevs.cohiChat.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coDevs.cohiChat.config.EmbeddedRedisConfig;
+import com.coDevs.cohiChat.global.cache.RemoteEntityChangedEvent;
+import com.coDevs.cohiChat.member.entity.Member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(EmbeddedRedisConfig.class)
+class SessionRegistryTest {
+
+    private static final String USERNAME = "testuser";
+    private static final String KEY = "auth:sessions:" + USERNAME;
+    private static final String NOT_BEFORE_KEY = "auth:not-before:" + USERNAME;
+    private static final String LAPTOP = "session-laptop";
+    private static final String PHONE = "session-phone";
+    private static final long TTL_MS = 604800000L;
+    private static final long GRACE_MS = 10000L;
+    private static final long ACCESS_TOKEN_TTL_MS = 3600000L;
+    private static final long NOT_BEFORE_CACHE_TTL_MS = 5000L;
+    private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(KEY, NOT_BEFORE_KEY));
+    }
+
+    private List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private SessionRegistry registryAt(Instant now, long gracePeriodMs) {
+        return new SessionRegistry(redisTemplate, meterRegistry, Clock.fixed(now, ZoneOffset.UTC),
+            gracePeriodMs, ACCESS_TOKEN_TTL_MS, NOT_BEFORE_CACHE_TTL_MS);
+    }
+
+    @Test
+    @DisplayName("성공: 기기별로 세션을 등록하고 한 기기의 교체는 다른 기기 세션에 영향을 주지 않는다")
+    void rotateKeepsOtherDeviceSessions() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", "Mozilla/5.0 (Macintosh)", 60000L);
+        registry.register(USERNAME, PHONE, "phone-1", "Mozilla/5.0 (iPhone)", 60000L);
+
+        // when
+        boolean rotated = registry.rotate(USERNAME, LAPTOP, "laptop-1", "laptop-2", TTL_MS);
+
+        // then
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(KEY);
+        assertThat(rotated).isTrue();
+        assertThat(stored).containsEntry(LAPTOP + ":token", "laptop-2")
+            .containsEntry(LAPTOP + ":previousToken", "laptop-1")
+            .containsEntry(LAPTOP + ":rotatedAt", String.valueOf(NOW.toEpochMilli()))
+            .containsEntry(LAPTOP + ":userAgent", "Mozilla/5.0 (Macintosh)")
+            .containsEntry(PHONE + ":token", "phone-1")
+            .containsEntry(PHONE + ":userAgent", "Mozilla/5.0 (iPhone)");
+        assertThat(redisTemplate.getExpire(KEY)).isGreaterThan(60L);
+    }
+
+    @Test
+    @DisplayName("실패: 다른 기기의 세션 ID나 저장되지 않은 토큰으로는 교체하지 않는다")
+    void rejectUnknownToken() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+
+        // when & then
+        assertThat(registry.rotate(USERNAME, LAPTOP, "laptop-1", "laptop-2", TTL_MS)).isFalse();
+
+        registry.register(USERNAME, LAPTOP, "laptop-1", null, TTL_MS);
+        assertThat(registry.rotate(USERNAME, LAPTOP, "forged-hash", "laptop-2", TTL_MS)).isFalse();
+        assertThat(registry.rotate(USERNAME, PHONE, "laptop-1", "laptop-2", TTL_MS)).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":token")).isEqualTo("laptop-1");
+    }
+
+    @Test
+    @DisplayName("성공: 직전 토큰은 유예 시간 안에서만 다시 받아준다")
+    void acceptPreviousTokenWithinGracePeriod() {
+        // given
+        registryAt(NOW, GRACE_MS).register(USERNAME, LAPTOP, "hash-1", null, TTL_MS);
+        registryAt(NOW, GRACE_MS).rotate(USERNAME, LAPTOP, "hash-1", "hash-2", TTL_MS);
+
+        // when
+        boolean withinGrace = registryAt(NOW.plusSeconds(5), GRACE_MS).rotate(USERNAME, LAPTOP, "hash-1", "hash-3", TTL_MS);
+        boolean afterGrace = registryAt(NOW.plusSeconds(30), GRACE_MS).rotate(USERNAME, LAPTOP, "hash-1", "hash-4", TTL_MS);
+
+        // then
+        assertThat(withinGrace).isTrue();
+        assertThat(afterGrace).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":token")).isEqualTo("hash-2");
+        assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":graceTokens")).isEqualTo("hash-3");
+        assertThat(meterRegistry.counter("auth.refresh.rotation", "result", "grace").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 동시 재발급 후에는 먼저 교체된 토큰과 유예 발급 토큰 모두로 다시 재발급할 수 있다")
+    void bothTokensRefreshAfterConcurrentRotation() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", null, TTL_MS);
+        registry.register(USERNAME, PHONE, "phone-1", null, TTL_MS);
+        registry.rotate(USERNAME, LAPTOP, "laptop-1", "laptop-2", TTL_MS);
+        registry.rotate(USERNAME, PHONE, "phone-1", "phone-2", TTL_MS);
+
+        SessionRegistry withinGrace = registryAt(NOW.plusSeconds(1), GRACE_MS);
+        assertThat(withinGrace.rotate(USERNAME, LAPTOP, "laptop-1", "laptop-3", TTL_MS)).isTrue();
+        assertThat(withinGrace.rotate(USERNAME, PHONE, "phone-1", "phone-3", TTL_MS)).isTrue();
+        assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":token")).isEqualTo("laptop-2");
+
+        // when
+        SessionRegistry later = registryAt(NOW.plusSeconds(600), GRACE_MS);
+        boolean winnerRefreshed = later.rotate(USERNAME, LAPTOP, "laptop-2", "laptop-4", TTL_MS);
+        boolean graceRefreshed = later.rotate(USERNAME, PHONE, "phone-3", "phone-4", TTL_MS);
+
+        // then
+        assertThat(winnerRefreshed).isTrue();
+        assertThat(graceRefreshed).isTrue();
+        assertThat(later.rotate(USERNAME, LAPTOP, "laptop-3", "laptop-5", TTL_MS)).isFalse();
+        assertThat(later.rotate(USERNAME, PHONE, "phone-2", "phone-5", TTL_MS)).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":graceTokens")).isNull();
+        assertThat(redisTemplate.opsForHash().get(KEY, PHONE + ":token")).isEqualTo("phone-4");
+    }
+
+    @Test
+    @DisplayName("성공: 같은 토큰으로 동시에 재발급을 요청하면 한 요청만 교체에 성공한다")
+    void concurrentRotationAllowsSingleWinner() throws Exception {
+        // given
+        SessionRegistry registry = registryAt(NOW, 0);
+        registry.register(USERNAME, LAPTOP, "hash-1", null, TTL_MS);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String newHash = "new-hash-" + i;
+                Callable<Boolean> rotate = () -> {
+                    start.await();
+                    return registry.rotate(USERNAME, LAPTOP, "hash-1", newHash, TTL_MS);
+                };
+                results.add(executor.submit(rotate));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+
+            // then
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(redisTemplate.opsForHash().get(KEY, LAPTOP + ":previousToken")).isEqualTo("hash-1");
+            assertThat((String) redisTemplate.opsForHash().get(KEY, LAPTOP + ":token")).startsWith("new-hash-");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 로그아웃은 해당 기기의 세션 필드만 삭제한다")
+    void revokeRemovesSingleDevice() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", "laptop-agent", TTL_MS);
+        registry.register(USERNAME, PHONE, "phone-1", "phone-agent", TTL_MS);
+        registry.rotate(USERNAME, LAPTOP, "laptop-1", "laptop-2", TTL_MS);
+
+        // when
+        registry.revoke(USERNAME, LAPTOP);
+
+        // then
+        assertThat(redisTemplate.opsForHash().keys(KEY))
+            .containsExactlyInAnyOrder(PHONE + ":token", PHONE + ":lastUsedAt", PHONE + ":userAgent");
+        assertThat(registry.rotate(USERNAME, LAPTOP, "laptop-2", "laptop-3", TTL_MS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 새 로그인 시 마지막 사용 후 TTL이 지난 세션을 정리한다")
+    void registerPrunesStaleSessions() {
+        // given
+        registryAt(NOW, GRACE_MS).register(USERNAME, LAPTOP, "laptop-1", null, 60000L);
+
+        // when
+        registryAt(NOW.plusSeconds(120), GRACE_MS).register(USERNAME, PHONE, "phone-1", null, 60000L);
+
+        // then
+        assertThat(redisTemplate.opsForHash().keys(KEY))
+            .containsExactlyInAnyOrder(PHONE + ":token", PHONE + ":lastUsedAt", PHONE + ":userAgent");
+    }
+
+    @Test
+    @DisplayName("성공: 전체 로그아웃은 모든 세션을 지우고 이전에 발급된 Access Token만 거절한다")
+    void revokeAllRejectsEarlierTokens() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", null, TTL_MS);
+        registry.register(USERNAME, PHONE, "phone-1", null, TTL_MS);
+        assertThat(registry.isRevoked(USERNAME, NOW.minusSeconds(60))).isFalse();
+
+        // when
+        registry.revokeAll(USERNAME);
+
+        // then
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(NOT_BEFORE_KEY)).isEqualTo(String.valueOf(NOW.getEpochSecond()));
+        assertThat(redisTemplate.getExpire(NOT_BEFORE_KEY)).isBetween(1L, ACCESS_TOKEN_TTL_MS / 1000);
+        assertThat(registry.isRevoked(USERNAME, NOW.minusSeconds(60))).isTrue();
+        assertThat(registry.isRevoked(USERNAME, NOW)).isFalse();
+        assertThat(registry.isRevoked(USERNAME, NOW.plusSeconds(1))).isFalse();
+        assertThat(registry.rotate(USERNAME, PHONE, "phone-1", "phone-2", TTL_MS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 트랜잭션 안의 전체 로그아웃은 커밋된 뒤에만 세션을 지운다")
+    void revokeAllWaitsForCommit() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", null, TTL_MS);
+
+        // when
+        List<TransactionSynchronization> committed = inTransaction(() -> registry.revokeAll(USERNAME));
+        boolean keptBeforeCommit = redisTemplate.hasKey(KEY);
+        committed.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(keptBeforeCommit).isTrue();
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(NOT_BEFORE_KEY)).isEqualTo(String.valueOf(NOW.getEpochSecond()));
+    }
+
+    @Test
+    @DisplayName("성공: 롤백된 트랜잭션의 전체 로그아웃은 세션을 그대로 둔다")
+    void revokeAllSkippedOnRollback() {
+        // given
+        SessionRegistry registry = registryAt(NOW, GRACE_MS);
+        registry.register(USERNAME, LAPTOP, "laptop-1", null, TTL_MS);
+
+        // when
+        List<TransactionSynchronization> rolledBack = inTransaction(() -> registry.revokeAll(USERNAME));
+        rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(redisTemplate.hasKey(KEY)).isTrue();
+        assertThat(redisTemplate.hasKey(NOT_BEFORE_KEY)).isFalse();
+        assertThat(registry.isRevoked(USERNAME, NOW.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 전체 로그아웃은 회원 엔티티 무효화 메시지 또는 캐시 TTL 경과 후 반영된다")
+    void notBeforeCacheFollowsRemoteRevocation() {
+        // given
+        SessionRegistry otherNode = registryAt(NOW, GRACE_MS);
+        SessionRegistry thisNode = registryAt(NOW, GRACE_MS);
+        Instant issuedAt = NOW.minusSeconds(60);
+        assertThat(thisNode.isRevoked(USERNAME, issuedAt)).isFalse();
+
+        // when
+        otherNode.revokeAll(USERNAME);
+
+        // then
+        assertThat(thisNode.isRevoked(USERNAME, issuedAt)).isFalse();
+        assertThat(registryAt(NOW.plusMillis(NOT_BEFORE_CACHE_TTL_MS), GRACE_MS).isRevoked(USERNAME, issuedAt)).isTrue();
+
+        thisNode.handleRemoteEntityChanged(new RemoteEntityChangedEvent(Member.class.getName(), UUID.randomUUID()));
+        assertThat(thisNode.isRevoked(USERNAME, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: not-before 확인은 캐시 TTL 안에서 요청마다 Redis를 조회하지 않는다")
+    void notBeforeCheckReadsRedisOncePerCacheTtl() {
+        // given
+        int requests = 100;
+        registryAt(NOW, GRACE_MS).revokeAll(USERNAME);
+        StringRedisTemplate countingTemplate = spy(redisTemplate);
+        SessionRegistry registry = new SessionRegistry(countingTemplate, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC),
+            GRACE_MS, ACCESS_TOKEN_TTL_MS, NOT_BEFORE_CACHE_TTL_MS);
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            assertThat(registry.isRevoked(USERNAME, NOW)).isFalse();
+            assertThat(registry.isRevoked(USERNAME, NOW.minusSeconds(60))).isTrue();
+        }
+
+        // then
+        verify(countingTemplate, times(1)).opsForValue();
+    }
+}
@@ -3,29 +3,38 @@ package com.coDevs.cohiChat.member.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.coDevs.cohiChat.global.email.EmailTemplateRegistry;
 import com.coDevs.cohiChat.global.exception.CustomException;
 import com.coDevs.cohiChat.global.exception.ErrorCode;
+import com.coDevs.cohiChat.global.security.password.PasswordHasher;
 import com.coDevs.cohiChat.global.service.EmailService;
 import com.coDevs.cohiChat.member.MemberRepository;
+import com.coDevs.cohiChat.member.SessionRegistry;
 import com.coDevs.cohiChat.member.entity.Member;
 import com.coDevs.cohiChat.member.entity.PasswordResetToken;
 import com.coDevs.cohiChat.member.entity.Role;
@@ -49,7 +58,16 @@ class PasswordResetServiceTest {
 	private EmailService emailService;
 
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private EmailTemplateRegistry emailTemplateRegistry;
+
+	@Mock
+	private SessionRegistry sessionRegistry;
 
 	@InjectMocks
 	private PasswordResetService passwordResetService;
@@ -67,6 +85,7 @@ class PasswordResetServiceTest {
 		Member member = Member.create("testuser", TEST_DISPLAY_NAME, TEST_EMAIL, "hashedPassword", Role.GUEST);
 		given(memberRepository.findByEmailAndIsDeletedFalse(TEST_EMAIL)).willReturn(Optional.of(member));
 		given(tokenRepository.findByEmail(TEST_EMAIL)).willReturn(Optional.empty());
+		given(emailTemplateRegistry.render(eq("password-reset"), anyMap())).willReturn("<html>reset</html>");
 
 		// when
 		passwordResetService.requestPasswordReset(TEST_EMAIL);
@@ -149,7 +168,7 @@ class PasswordResetServiceTest {
 	}
 
 	@Test
-	@DisplayName("성공: 유효한 토큰으로 비밀번호 재설정 시 비밀번호 변경 및 토큰 삭제")
+	@DisplayName("성공: 유효한 토큰으로 비밀번호 재설정 시 비밀번호 변경, 토큰 삭제 및 모든 기기 세션 무효화")
 	void resetPassword_validToken_changesPasswordAndDeletesToken() {
 		// given
 		PasswordResetToken resetToken = PasswordResetToken.builder()
@@ -161,7 +180,8 @@ class PasswordResetServiceTest {
 
 		given(tokenRepository.findById(TEST_TOKEN)).willReturn(Optional.of(resetToken));
 		given(memberRepository.findByEmailAndIsDeletedFalse(TEST_EMAIL)).willReturn(Optional.of(member));
-		given(passwordEncoder.encode(TEST_NEW_PASSWORD)).willReturn("newHashedPassword");
+		given(passwordHasher.encode(TEST_NEW_PASSWORD)).willReturn("newHashedPassword");
+		runTransactionCallback();
 
 		// when
 		passwordResetService.resetPassword(TEST_TOKEN, TEST_NEW_PASSWORD);
@@ -169,6 +189,11 @@ class PasswordResetServiceTest {
 		// then
 		assertThat(member.getHashedPassword()).isEqualTo("newHashedPassword");
 		verify(tokenRepository).delete(resetToken);
+		verify(sessionRegistry).revokeAll("testuser");
+		InOrder inOrder = inOrder(passwordHasher, transactionTemplate, tokenRepository);
+		inOrder.verify(passwordHasher).encode(TEST_NEW_PASSWORD);
+		inOrder.verify(transactionTemplate).executeWithoutResult(any());
+		inOrder.verify(tokenRepository).findById(TEST_TOKEN);
 	}
 
 	@Test
@@ -176,10 +201,19 @@ class PasswordResetServiceTest {
 	void resetPassword_nonExistentToken_throwsInvalidTokenException() {
 		// given
 		given(tokenRepository.findById("non-existent-token")).willReturn(Optional.empty());
+		runTransactionCallback();
 
 		// when & then
 		assertThatThrownBy(() -> passwordResetService.resetPassword("non-existent-token", TEST_NEW_PASSWORD))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
 	}
+
+	private void runTransactionCallback() {
+		willAnswer(invocation -> {
+			Consumer<TransactionStatus> callback = invocation.getArgument(0);
+			callback.accept(null);
+			return null;
+		}).given(transactionTemplate).executeWithoutResult(any());
+	}
 }
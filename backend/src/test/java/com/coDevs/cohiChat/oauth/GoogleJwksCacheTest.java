@@ -0,0 +1,204 @@
+package com.coDevs.cohiChat.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로컬에서 만든 키쌍을 게시하는 JWKS 스텁 서버로 {@link GoogleJwksCache}의 캐시, kid 미스 재조회, 실패 시 유지 동작을 검증한다.
+ */
+class GoogleJwksCacheTest {
+
+	private static final KeyPair FIRST_KEY_PAIR = Jwts.SIG.RS256.keyPair().build();
+	private static final KeyPair ROTATED_KEY_PAIR = Jwts.SIG.RS256.keyPair().build();
+
+	private StubJwksEndpoint stubJwks;
+	private GoogleJwksProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubJwks = new StubJwksEndpoint();
+		stubJwks.start();
+		stubJwks.publish(Map.of("key-1", FIRST_KEY_PAIR));
+
+		properties = new GoogleJwksProperties();
+		properties.setUri("http://localhost:" + stubJwks.getPort() + "/oauth2/v3/certs");
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubJwks.stop();
+	}
+
+	private GoogleJwksCache createCache() {
+		return new GoogleJwksCache(RestClient.create(), properties, meterRegistry, Clock.systemUTC());
+	}
+
+	@Test
+	@DisplayName("성공: 첫 조회에서 JWKS를 받아오고 이후에는 캐시한 키를 반환한다")
+	void cachesKeysAfterFirstFetch() {
+		// given
+		GoogleJwksCache cache = createCache();
+
+		// when
+		cache.getKey("key-1");
+		cache.getKey("key-1");
+
+		// then
+		assertThat(cache.getKey("key-1")).isEqualTo(FIRST_KEY_PAIR.getPublic());
+		assertThat(stubJwks.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공: 캐시에 없는 kid가 들어오면 즉시 다시 받아와 교체된 키를 찾는다")
+	void refetchesOnUnknownKid() {
+		// given
+		properties.setMinRefetchIntervalSeconds(0);
+		GoogleJwksCache cache = createCache();
+		cache.getKey("key-1");
+		stubJwks.publish(Map.of("key-1", FIRST_KEY_PAIR, "key-2", ROTATED_KEY_PAIR));
+
+		// when
+		var rotatedKey = cache.getKey("key-2");
+
+		// then
+		assertThat(rotatedKey).isEqualTo(ROTATED_KEY_PAIR.getPublic());
+		assertThat(stubJwks.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("성공: 모르는 kid로 인한 재조회는 최소 간격 안에서 반복하지 않는다")
+	void throttlesRefetchForUnknownKid() {
+		// given
+		GoogleJwksCache cache = createCache();
+		cache.getKey("key-1");
+
+		// when
+		var first = cache.getKey("forged-kid");
+		var second = cache.getKey("forged-kid");
+
+		// then
+		assertThat(first).isNull();
+		assertThat(second).isNull();
+		assertThat(stubJwks.getRequestCount()).isEqualTo(1);
+		assertThat(meterRegistry.counter("oauth.google.jwks.fetch", "trigger", "kid_miss", "result", "throttled")
+			.count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("실패: 백그라운드 갱신이 실패하면 기존 키를 그대로 사용한다")
+	void keepsKeysWhenRefreshFails() {
+		// given
+		GoogleJwksCache cache = createCache();
+		cache.getKey("key-1");
+		stubJwks.failWith(500);
+
+		// when
+		cache.refresh();
+
+		// then
+		assertThat(cache.getKey("key-1")).isEqualTo(FIRST_KEY_PAIR.getPublic());
+		assertThat(stubJwks.getRequestCount()).isEqualTo(2);
+		assertThat(meterRegistry.counter("oauth.google.jwks.fetch", "trigger", "scheduled", "result", "failure")
+			.count()).isEqualTo(1);
+	}
+
+	/**
+	 * Google 인증서 엔드포인트와 같은 형식(RSA n/e)으로 공개키를 게시하는 최소 JWKS 서버.
+	 */
+	private static class StubJwksEndpoint {
+
+		private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+		private final AtomicInteger requestCount = new AtomicInteger();
+		private volatile String body;
+		private volatile int failureStatus;
+		private HttpServer server;
+
+		void start() throws IOException {
+			server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.createContext("/oauth2/v3/certs", this::handle);
+			server.start();
+		}
+
+		private void handle(HttpExchange exchange) throws IOException {
+			requestCount.incrementAndGet();
+			int status = failureStatus == 0 ? 200 : failureStatus;
+			byte[] bytes = (failureStatus == 0 ? body : "{}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(bytes);
+			}
+		}
+
+		void publish(Map<String, KeyPair> keyPairs) throws IOException {
+			List<Map<String, String>> keys = keyPairs.entrySet().stream()
+				.map(entry -> toJwk(entry.getKey(), (RSAPublicKey) entry.getValue().getPublic()))
+				.toList();
+			body = OBJECT_MAPPER.writeValueAsString(Map.of("keys", keys));
+		}
+
+		void failWith(int status) {
+			this.failureStatus = status;
+		}
+
+		private Map<String, String> toJwk(String kid, RSAPublicKey publicKey) {
+			return Map.of(
+				"kty", "RSA",
+				"alg", "RS256",
+				"use", "sig",
+				"kid", kid,
+				"n", base64Url(publicKey.getModulus()),
+				"e", base64Url(publicKey.getPublicExponent())
+			);
+		}
+
+		private String base64Url(BigInteger value) {
+			byte[] bytes = value.toByteArray();
+			if (bytes.length > 1 && bytes[0] == 0) {
+				bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+			}
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		}
+
+		int getRequestCount() {
+			return requestCount.get();
+		}
+
+		int getPort() {
+			return server.getAddress().getPort();
+		}
+
+		void stop() {
+			server.stop(0);
+		}
+	}
+}
@@ -1,10 +1,17 @@
 package com.coDevs.cohiChat.oauth;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +23,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.RestClient;
 
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
 import com.coDevs.cohiChat.member.entity.Provider;
 
+import io.jsonwebtoken.Jwts;
+
 @ExtendWith(MockitoExtension.class)
 class GoogleOAuthClientTest {
 
+	private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+	private static final String KEY_ID = "google-key-1";
+	private static final KeyPair SIGNING_KEY_PAIR = Jwts.SIG.RS256.keyPair().build();
+
 	private GoogleOAuthClient googleOAuthClient;
 
+	@Mock
+	private GoogleJwksCache googleJwksCache;
+
 	@Mock
 	private RestClient restClient;
 
@@ -35,15 +53,6 @@ class GoogleOAuthClientTest {
 	@Mock
 	private RestClient.ResponseSpec tokenResponseSpec;
 
-	@Mock
-	private RestClient.ResponseSpec userInfoResponseSpec;
-
-	@Mock
-	private RestClient.RequestHeadersUriSpec<?> requestHeadersUriSpec;
-
-	@Mock
-	private RestClient.RequestHeadersSpec<?> requestHeadersSpec;
-
 	@BeforeEach
 	void setUp() {
 		OAuthProperties.ProviderConfig config = new OAuthProperties.ProviderConfig();
@@ -54,7 +63,8 @@ class GoogleOAuthClientTest {
 		OAuthProperties properties = new OAuthProperties();
 		properties.setGoogle(config);
 
-		googleOAuthClient = new GoogleOAuthClient(properties, restClient);
+		googleOAuthClient = new GoogleOAuthClient(
+			properties, restClient, googleJwksCache, new GoogleJwksProperties(), Clock.fixed(NOW, ZoneOffset.UTC));
 	}
 
 	@Test
@@ -76,30 +86,12 @@ class GoogleOAuthClientTest {
 		assertThat(url).contains("state=test-state-value");
 	}
 
-	@SuppressWarnings("unchecked")
 	@Test
-	@DisplayName("인가코드로 사용자 정보를 정상 조회한다")
+	@DisplayName("인가코드로 받은 id_token을 로컬에서 검증해 사용자 정보를 조회한다")
 	void getUserInfoSuccess() {
-		// token exchange mock
-		Map<String, Object> tokenResponse = Map.of("access_token", "mock-access-token");
-		given(restClient.post()).willReturn(requestBodyUriSpec);
-		given(requestBodyUriSpec.uri("https://oauth2.googleapis.com/token")).willReturn(requestBodySpec);
-		given(requestBodySpec.contentType(MediaType.APPLICATION_FORM_URLENCODED)).willReturn(requestBodySpec);
-		given(requestBodySpec.body(any(String.class))).willReturn(requestBodySpec);
-		given(requestBodySpec.retrieve()).willReturn(tokenResponseSpec);
-		given(tokenResponseSpec.body(eq(Map.class))).willReturn(tokenResponse);
-
-		// userinfo mock
-		Map<String, Object> userInfoResponse = Map.of(
-			"sub", "google-user-id-123",
-			"email", "user@gmail.com",
-			"name", "Test User"
-		);
-		given(restClient.get()).willReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
-		given(requestHeadersUriSpec.uri("https://www.googleapis.com/oauth2/v3/userinfo")).willReturn((RestClient.RequestHeadersSpec) requestHeadersSpec);
-		given(requestHeadersSpec.header(eq("Authorization"), eq("Bearer mock-access-token"))).willReturn((RestClient.RequestHeadersSpec) requestHeadersSpec);
-		given(requestHeadersSpec.retrieve()).willReturn(userInfoResponseSpec);
-		given(userInfoResponseSpec.body(eq(Map.class))).willReturn(userInfoResponse);
+		String idToken = signedIdToken("test-client-id", NOW.plus(Duration.ofHours(1)));
+		givenTokenResponse(Map.of("access_token", "mock-access-token", "id_token", idToken));
+		given(googleJwksCache.getKey(KEY_ID)).willReturn(SIGNING_KEY_PAIR.getPublic());
 
 		OAuthUserInfo userInfo = googleOAuthClient.getUserInfo("test-auth-code");
 
@@ -108,4 +100,74 @@ class GoogleOAuthClientTest {
 		assertThat(userInfo.getEmail()).isEqualTo("user@gmail.com");
 		assertThat(userInfo.getDisplayName()).isEqualTo("Test User");
 	}
+
+	@Test
+	@DisplayName("다른 클라이언트용으로 발급된 id_token은 거부한다")
+	void rejectsIdTokenForOtherAudience() {
+		String idToken = signedIdToken("other-client-id", NOW.plus(Duration.ofHours(1)));
+		givenTokenResponse(Map.of("access_token", "mock-access-token", "id_token", idToken));
+		given(googleJwksCache.getKey(KEY_ID)).willReturn(SIGNING_KEY_PAIR.getPublic());
+
+		assertThatThrownBy(() -> googleOAuthClient.getUserInfo("test-auth-code"))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH_USER_INFO_FAILED);
+	}
+
+	@Test
+	@DisplayName("만료된 id_token은 거부한다")
+	void rejectsExpiredIdToken() {
+		String idToken = signedIdToken("test-client-id", NOW.minus(Duration.ofMinutes(5)));
+		givenTokenResponse(Map.of("access_token", "mock-access-token", "id_token", idToken));
+		given(googleJwksCache.getKey(KEY_ID)).willReturn(SIGNING_KEY_PAIR.getPublic());
+
+		assertThatThrownBy(() -> googleOAuthClient.getUserInfo("test-auth-code"))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH_USER_INFO_FAILED);
+	}
+
+	@Test
+	@DisplayName("Google 공개키로 검증되지 않는 서명은 거부한다")
+	void rejectsIdTokenWithUnknownSignature() {
+		String idToken = signedIdToken("test-client-id", NOW.plus(Duration.ofHours(1)));
+		givenTokenResponse(Map.of("access_token", "mock-access-token", "id_token", idToken));
+		given(googleJwksCache.getKey(KEY_ID)).willReturn(Jwts.SIG.RS256.keyPair().build().getPublic());
+
+		assertThatThrownBy(() -> googleOAuthClient.getUserInfo("test-auth-code"))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH_USER_INFO_FAILED);
+	}
+
+	@Test
+	@DisplayName("토큰 응답에 id_token이 없으면 토큰 교환 실패로 처리한다")
+	void failsWhenIdTokenMissing() {
+		givenTokenResponse(Map.of("access_token", "mock-access-token"));
+
+		assertThatThrownBy(() -> googleOAuthClient.getUserInfo("test-auth-code"))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILED);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenTokenResponse(Map<String, Object> tokenResponse) {
+		given(restClient.post()).willReturn(requestBodyUriSpec);
+		given(requestBodyUriSpec.uri("https://oauth2.googleapis.com/token")).willReturn(requestBodySpec);
+		given(requestBodySpec.contentType(MediaType.APPLICATION_FORM_URLENCODED)).willReturn(requestBodySpec);
+		given(requestBodySpec.body(any(String.class))).willReturn(requestBodySpec);
+		given(requestBodySpec.retrieve()).willReturn(tokenResponseSpec);
+		given(tokenResponseSpec.body(eq(Map.class))).willReturn(tokenResponse);
+	}
+
+	private String signedIdToken(String audience, Instant expiresAt) {
+		return Jwts.builder()
+			.header().keyId(KEY_ID).and()
+			.issuer("https://accounts.google.com")
+			.subject("google-user-id-123")
+			.audience().add(audience).and()
+			.claim("email", "user@gmail.com")
+			.claim("name", "Test User")
+			.issuedAt(Date.from(expiresAt.minus(Duration.ofHours(1))))
+			.expiration(Date.from(expiresAt))
+			.signWith(SIGNING_KEY_PAIR.getPrivate())
+			.compact();
+	}
 }
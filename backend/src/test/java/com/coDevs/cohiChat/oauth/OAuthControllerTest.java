@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -64,10 +65,11 @@ class OAuthControllerTest {
 			.displayName("TestUser")
 			.build();
 
-		given(oAuthService.socialLogin("google", "test-auth-code", "test-state")).willReturn(loginResponse);
+		given(oAuthService.socialLogin("google", "test-auth-code", "test-state", "test-agent")).willReturn(loginResponse);
 
 		mockMvc.perform(post("/oauth/v1/google/callback")
 				.contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.USER_AGENT, "test-agent")
 				.content("{\"code\": \"test-auth-code\", \"state\": \"test-state\"}"))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.success").value(true))
@@ -115,7 +117,7 @@ class OAuthControllerTest {
 	@DisplayName("POST /oauth/v1/{provider}/callback - 지원하지 않는 provider 시 400")
 	void socialLoginCallback_unsupportedProvider() throws Exception {
 		willThrow(new CustomException(ErrorCode.INVALID_PROVIDER))
-			.given(oAuthService).socialLogin("github", "test-auth-code", "test-state");
+			.given(oAuthService).socialLogin("github", "test-auth-code", "test-state", null);
 
 		mockMvc.perform(post("/oauth/v1/github/callback")
 				.contentType(MediaType.APPLICATION_JSON)
@@ -91,9 +91,9 @@ class OAuthServiceTest {
 
 		given(googleOAuthClient.getUserInfo("auth-code")).willReturn(userInfo);
 		given(oAuthMemberService.findOrCreate(userInfo)).willReturn(newMember);
-		given(tokenService.issueTokens(newMember)).willReturn(expectedResponse);
+		given(tokenService.issueTokens(newMember, "test-agent")).willReturn(expectedResponse);
 
-		LoginResponseDTO response = oAuthService.socialLogin("google", "auth-code", "valid-state");
+		LoginResponseDTO response = oAuthService.socialLogin("google", "auth-code", "valid-state", "test-agent");
 
 		assertThat(response.accessToken()).isEqualTo("test-access-token");
 		assertThat(response.refreshToken()).isEqualTo("test-refresh-token");
@@ -116,9 +116,9 @@ class OAuthServiceTest {
 
 		given(googleOAuthClient.getUserInfo("auth-code")).willReturn(userInfo);
 		given(oAuthMemberService.findOrCreate(userInfo)).willReturn(existingMember);
-		given(tokenService.issueTokens(existingMember)).willReturn(expectedResponse);
+		given(tokenService.issueTokens(existingMember, "test-agent")).willReturn(expectedResponse);
 
-		LoginResponseDTO response = oAuthService.socialLogin("google", "auth-code", "valid-state");
+		LoginResponseDTO response = oAuthService.socialLogin("google", "auth-code", "valid-state", "test-agent");
 
 		assertThat(response.accessToken()).isEqualTo("test-access-token");
 		assertThat(response.username()).isEqualTo("google_existing");
@@ -131,7 +131,7 @@ class OAuthServiceTest {
 		org.mockito.BDDMockito.willThrow(new CustomException(ErrorCode.INVALID_OAUTH_STATE))
 			.given(oAuthStateService).validateAndConsumeState("invalid-state");
 
-		assertThatThrownBy(() -> oAuthService.socialLogin("google", "auth-code", "invalid-state"))
+		assertThatThrownBy(() -> oAuthService.socialLogin("google", "auth-code", "invalid-state", "test-agent"))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH_STATE);
 	}
@@ -139,7 +139,7 @@ class OAuthServiceTest {
 	@Test
 	@DisplayName("소셜 로그인 - 지원하지 않는 provider 시 예외")
 	void socialLogin_unsupportedProvider() {
-		assertThatThrownBy(() -> oAuthService.socialLogin("github", "auth-code", "valid-state"))
+		assertThatThrownBy(() -> oAuthService.socialLogin("github", "auth-code", "valid-state", "test-agent"))
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PROVIDER);
 	}
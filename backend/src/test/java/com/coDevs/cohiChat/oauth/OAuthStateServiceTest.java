@@ -0,0 +1,219 @@
+package com.coDevs.cohiChat.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.coDevs.cohiChat.global.exception.CustomException;
+import com.coDevs.cohiChat.global.exception.ErrorCode;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 임베디드 Redis로 두 state 저장 방식(REDIS, SIGNED)의 일회성 소비와 재사용 차단을 검증한다.
+ */
+class OAuthStateServiceTest {
+
+	private static final String SIGNING_SECRET = "test-oauth-state-signing-secret-32bytes!";
+	private static final Instant NOW = Instant.parse("2026-01-05T00:00:00Z");
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = RedisServer.newRedisServer()
+			.port(port)
+			.setting("maxmemory 128M")
+			.build();
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void flush() {
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.serverCommands().flushAll();
+		}
+	}
+
+	private OAuthStateService createService(OAuthStateProperties.Mode mode, Clock clock) {
+		OAuthStateProperties properties = new OAuthStateProperties();
+		properties.setMode(mode);
+		properties.setSigningSecret(SIGNING_SECRET);
+		properties.validate();
+		return new OAuthStateService(redisTemplate, properties, clock);
+	}
+
+	@Test
+	@DisplayName("성공: REDIS 모드 state는 한 번만 소비할 수 있다")
+	void redisStateIsConsumedOnce() {
+		// given
+		OAuthStateService service = createService(OAuthStateProperties.Mode.REDIS, Clock.systemUTC());
+		String state = service.generateState();
+
+		// when
+		service.validateAndConsumeState(state);
+
+		// then
+		assertThat(redisTemplate.hasKey("oauth:state:" + state)).isFalse();
+		assertThatThrownBy(() -> service.validateAndConsumeState(state))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH_STATE);
+	}
+
+	@Test
+	@DisplayName("성공: REDIS 모드 state는 만료 시간과 함께 단일 키로 저장된다")
+	void redisStateIsStoredWithTtl() {
+		// given
+		OAuthStateService service = createService(OAuthStateProperties.Mode.REDIS, Clock.systemUTC());
+
+		// when
+		String state = service.generateState();
+
+		// then
+		assertThat(redisTemplate.keys("*")).containsExactly("oauth:state:" + state);
+		assertThat(redisTemplate.getExpire("oauth:state:" + state)).isBetween(1L, 600L);
+	}
+
+	@Test
+	@DisplayName("성공: 같은 state로 동시에 콜백이 들어와도 한 요청만 통과한다")
+	void concurrentReplayIsRejected() throws Exception {
+		for (OAuthStateProperties.Mode mode : OAuthStateProperties.Mode.values()) {
+			// given
+			OAuthStateService service = createService(mode, Clock.systemUTC());
+			String state = service.generateState();
+
+			// when
+			int succeeded = consumeConcurrently(service, state, 8);
+
+			// then
+			assertThat(succeeded).as("mode=%s", mode).isEqualTo(1);
+		}
+	}
+
+	@Test
+	@DisplayName("성공: SIGNED 모드는 발급 시 Redis에 쓰지 않고, 소비 후에는 재사용을 막는다")
+	void signedStateIsStatelessUntilConsumed() {
+		// given
+		OAuthStateService service = createService(OAuthStateProperties.Mode.SIGNED, Clock.systemUTC());
+
+		// when
+		String state = service.generateState();
+
+		// then
+		assertThat(redisTemplate.keys("*")).isEmpty();
+		service.validateAndConsumeState(state);
+		assertThatThrownBy(() -> service.validateAndConsumeState(state))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH_STATE);
+	}
+
+	@Test
+	@DisplayName("실패: SIGNED 모드에서 서명이 변조된 state는 거부한다")
+	void rejectsTamperedSignedState() {
+		// given
+		OAuthStateService service = createService(OAuthStateProperties.Mode.SIGNED, Clock.systemUTC());
+		String state = service.generateState();
+		String[] parts = state.split("\\.");
+		String tampered = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2];
+
+		// when & then
+		assertThatThrownBy(() -> service.validateAndConsumeState(tampered))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH_STATE);
+	}
+
+	@Test
+	@DisplayName("실패: SIGNED 모드에서 만료된 state는 거부한다")
+	void rejectsExpiredSignedState() {
+		// given
+		String state = createService(OAuthStateProperties.Mode.SIGNED, Clock.fixed(NOW, ZoneOffset.UTC))
+			.generateState();
+		OAuthStateService later = createService(
+			OAuthStateProperties.Mode.SIGNED, Clock.fixed(NOW.plus(Duration.ofMinutes(11)), ZoneOffset.UTC));
+
+		// when & then
+		assertThatThrownBy(() -> later.validateAndConsumeState(state))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_OAUTH_STATE);
+	}
+
+	@Test
+	@DisplayName("실패: SIGNED 모드에서 서명 키가 짧으면 시작 시 예외가 발생한다")
+	void rejectsShortSigningSecret() {
+		OAuthStateProperties properties = new OAuthStateProperties();
+		properties.setMode(OAuthStateProperties.Mode.SIGNED);
+		properties.setSigningSecret("short");
+
+		assertThatThrownBy(properties::validate).isInstanceOf(IllegalStateException.class);
+	}
+
+	private int consumeConcurrently(OAuthStateService service, String state, int threads) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				Callable<Boolean> consume = () -> {
+					start.await();
+					try {
+						service.validateAndConsumeState(state);
+						return true;
+					} catch (CustomException e) {
+						return false;
+					}
+				};
+				results.add(executor.submit(consume));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get()) {
+					succeeded++;
+				}
+			}
+			return succeeded;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
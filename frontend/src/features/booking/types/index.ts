@@ -8,7 +8,8 @@ export type AttendanceStatus =
     | 'HOST_NO_SHOW'
     | 'CANCELLED'
     | 'SAME_DAY_CANCEL'
-    | 'LATE';
+    | 'LATE'
+    | 'UNREPORTED';
 
 export const STATUS_LABELS: Record<AttendanceStatus, string> = {
     SCHEDULED: '예약됨',
@@ -18,6 +19,7 @@ export const STATUS_LABELS: Record<AttendanceStatus, string> = {
     CANCELLED: '취소됨',
     SAME_DAY_CANCEL: '당일 취소',
     LATE: '지각',
+    UNREPORTED: '종료 (결과 미기록)',
 };
 
 export type MeetingType = 'ONLINE' | 'OFFLINE';